@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+/**
+ * The bounded queue for the multiple producers and the single consumer, the producers claim the slots by CAS on the
+ * producer index and publish the elements by the ordered stores, the consumer is wait-free except for the slots
+ * claimed but not yet published.
+ *
+ * @param <E> the type of elements
+ * @see AbstractArrayQueue
+ * @since 1.0.0
+ */
+public class MpscArrayQueue<E> extends AbstractArrayQueue<E> {
+
+    /**
+     * The cached limit of producer index, it's shared by the producers and padded to avoid the false sharing
+     */
+    private final Sequence producerLimit;
+
+    /**
+     * @param capacity the capacity of queue, it will be rounded up to the power of 2
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or exceeds {@link #MAXIMUM_CAPACITY}
+     */
+    public MpscArrayQueue(int capacity) throws IllegalArgumentException {
+        super(capacity);
+        this.producerLimit = new Sequence(capacity());
+    }
+
+    /**
+     * Insert the element, which is thread-safe for the producers
+     *
+     * @param element the element
+     * @return <code>true</code> if inserted, <code>false</code> if the queue is full
+     * @throws NullPointerException if <code>element</code> is <code>null</code>
+     */
+    @Override
+    public boolean offer(E element) throws NullPointerException {
+        checkElement(element);
+        long limit = producerLimit.get();
+        long position;
+        do {
+            position = producerIndex.get();
+            if (position >= limit) {
+                limit = consumerIndex.get() + capacity();
+                if (position >= limit) { // full
+                    return false;
+                }
+                producerLimit.set(limit);
+            }
+        } while (!producerIndex.compareAndSet(position, position + 1));
+        storeElement(index(position), element);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long position = consumerIndex.getPlain();
+        int index = index(position);
+        E element = loadElement(index);
+        if (element == null) {
+            if (position == producerIndex.get()) { // empty
+                return null;
+            }
+            // the slot is claimed by a producer but not yet published
+            do {
+                element = loadElement(index);
+            } while (element == null);
+        }
+        storeElement(index, null);
+        consumerIndex.set(position + 1);
+        return element;
+    }
+
+    @Override
+    public E peek() {
+        long position = consumerIndex.getPlain();
+        int index = index(position);
+        E element = loadElement(index);
+        if (element == null && position != producerIndex.get()) {
+            do {
+                element = loadElement(index);
+            } while (element == null);
+        }
+        return element;
+    }
+}
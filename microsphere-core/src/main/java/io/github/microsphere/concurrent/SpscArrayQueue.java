@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+/**
+ * The bounded queue for the single producer and the single consumer, the producer caches the limit of the consumer
+ * index, so that the consumer index is only read when the cached limit is reached.
+ *
+ * @param <E> the type of elements
+ * @see AbstractArrayQueue
+ * @since 1.0.0
+ */
+public class SpscArrayQueue<E> extends AbstractArrayQueue<E> {
+
+    /**
+     * The cached limit of producer index, it's only accessed by the producer thread
+     */
+    private long producerLimit;
+
+    /**
+     * @param capacity the capacity of queue, it will be rounded up to the power of 2
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or exceeds {@link #MAXIMUM_CAPACITY}
+     */
+    public SpscArrayQueue(int capacity) throws IllegalArgumentException {
+        super(capacity);
+        this.producerLimit = capacity();
+    }
+
+    /**
+     * Insert the element, which must only be invoked by the producer thread
+     *
+     * @param element the element
+     * @return <code>true</code> if inserted, <code>false</code> if the queue is full
+     * @throws NullPointerException if <code>element</code> is <code>null</code>
+     */
+    @Override
+    public boolean offer(E element) throws NullPointerException {
+        checkElement(element);
+        long position = producerIndex.getPlain();
+        if (position >= producerLimit) {
+            producerLimit = consumerIndex.get() + capacity();
+            if (position >= producerLimit) { // full
+                return false;
+            }
+        }
+        storeElement(index(position), element);
+        producerIndex.set(position + 1);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long position = consumerIndex.getPlain();
+        int index = index(position);
+        E element = loadElement(index);
+        if (element == null) {
+            return null;
+        }
+        storeElement(index, null);
+        consumerIndex.set(position + 1);
+        return element;
+    }
+
+    @Override
+    public E peek() {
+        return loadElement(index(consumerIndex.getPlain()));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import io.github.microsphere.text.AsciiSequence;
+
+/**
+ * The abstract class of {@link Converter} parses the US-ASCII (or UTF-8) encoded <code>byte[]</code> directly,
+ * without decoding the intermediate {@link String}.
+ *
+ * @param <T> The target type
+ * @see AsciiSequence
+ * @since 1.0.0
+ */
+public abstract class ByteArrayConverter<T> implements Converter<byte[], T> {
+
+    @Override
+    public final T convert(byte[] source) {
+        return source == null ? null : convert(source, 0, source.length);
+    }
+
+    /**
+     * Convert the range of bytes
+     *
+     * @param source the bytes
+     * @param offset the start offset
+     * @param length the length of range
+     * @return <code>null</code> if the range is empty
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public T convert(byte[] source, int offset, int length) throws IndexOutOfBoundsException {
+        AsciiSequence sequence = AsciiSequence.of(source, offset, length);
+        return length == 0 ? null : parse(sequence);
+    }
+
+    /**
+     * Parse the whole bytes presented by {@link CharSequence}
+     *
+     * @param source the non-empty source
+     * @return the target value
+     */
+    protected abstract T parse(CharSequence source);
+
+    @Override
+    public Class<byte[]> getSourceType() {
+        return byte[].class;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+/**
+ * The class to convert the US-ASCII <code>byte[]</code> to the constant of the specified enum type, the instances are not loaded
+ * by the SPI, they should be {@link ConverterRegistry#register(Converter) registered} for the enum types.
+ *
+ * @param <E> The enum type
+ * @since 1.0.0
+ */
+public class ByteArrayToEnumConverter<E extends Enum<E>> extends ByteArrayConverter<E> {
+
+    private final EnumNames<E> enumNames;
+
+    /**
+     * @param enumType the enum type
+     * @throws IllegalArgumentException if <code>enumType</code> is not an enum
+     */
+    public ByteArrayToEnumConverter(Class<E> enumType) throws IllegalArgumentException {
+        this.enumNames = EnumNames.of(enumType);
+    }
+
+    @Override
+    protected E parse(CharSequence source) {
+        return enumNames.valueOf(source, 0, source.length(), false);
+    }
+
+    @Override
+    public Class<E> getTargetType() {
+        return enumNames.getEnumType();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import io.github.microsphere.text.AsciiSequence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The abstract class of {@link Converter} parses the remaining US-ASCII (or UTF-8) encoded bytes of heap or direct
+ * {@link ByteBuffer} directly, without decoding the intermediate {@link String}. The position of source buffer is
+ * not changed.
+ *
+ * @param <T> The target type
+ * @see AsciiSequence
+ * @since 1.0.0
+ */
+public abstract class ByteBufferConverter<T> implements Converter<ByteBuffer, T> {
+
+    @Override
+    public final T convert(ByteBuffer source) {
+        return source == null || !source.hasRemaining() ? null : parse(AsciiSequence.of(source));
+    }
+
+    /**
+     * Parse the remaining bytes presented by {@link CharSequence}
+     *
+     * @param source the non-empty source
+     * @return the target value
+     */
+    protected abstract T parse(CharSequence source);
+
+    @Override
+    public Class<ByteBuffer> getSourceType() {
+        return ByteBuffer.class;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The {@link Converter} fuses the {@link Converter converters} of a conversion path into one, the output of each
+ * converter is the input of next one.
+ *
+ * @param <S> The source type
+ * @param <T> The target type
+ * @see ConversionGraph
+ * @since 1.0.0
+ */
+public class CompositeConverter<S, T> implements Converter<S, T> {
+
+    private final Class<S> sourceType;
+
+    private final Class<T> targetType;
+
+    private final Converter[] converters;
+
+    /**
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @param converters the {@link Converter converters} of conversion path in order
+     * @throws IllegalArgumentException if any argument is <code>null</code> or <code>converters</code> is empty
+     */
+    public CompositeConverter(Class<S> sourceType, Class<T> targetType, Converter... converters) throws IllegalArgumentException {
+        if (sourceType == null || targetType == null) {
+            throw new IllegalArgumentException("The source type and target type must not be null");
+        }
+        if (converters == null || converters.length == 0) {
+            throw new IllegalArgumentException("The converters must not be empty");
+        }
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.converters = converters.clone();
+    }
+
+    /**
+     * Convert the source-typed value through the conversion path
+     *
+     * @param source the source-typed value
+     * @return <code>null</code> if any converter in the path returns <code>null</code>
+     */
+    @Override
+    public T convert(S source) {
+        Object value = source;
+        for (Converter converter : converters) {
+            if (value == null) {
+                return null;
+            }
+            value = converter.convert(value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    @Override
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return the read-only {@link Converter converters} of conversion path in order
+     */
+    public List<Converter> getConverters() {
+        return unmodifiableList(asList(converters));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CompositeConverter{");
+        builder.append(sourceType.getName());
+        for (Converter converter : converters) {
+            builder.append(" -> ").append(converter.getTargetType().getName());
+        }
+        return builder.append('}').toString();
+    }
+}
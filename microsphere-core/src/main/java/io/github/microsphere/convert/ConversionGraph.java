@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import io.github.microsphere.convert.multiple.MultiValueConverter;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import static io.github.microsphere.util.ClassUtils.isAssignableFrom;
+
+/**
+ * The graph of conversions whose vertices are types and edges are {@link Converter converters}, it finds the
+ * shortest conversion path between two types, and compiles it into a single {@link CompositeConverter}.
+ * <p>
+ * The path with the fewest hops wins, the ties are broken by the {@link Converter#getPriority() priorities} of
+ * converters. If the target type is an array, the {@link MultiValueConverter multi-value converters} are the
+ * candidates of last hop with the component type as the element type.
+ *
+ * @see CompositeConverter
+ * @see ConverterRegistry#getTransitiveConverter(Class, Class)
+ * @since 1.0.0
+ */
+public class ConversionGraph {
+
+    /**
+     * The default max number of hops in a conversion path
+     */
+    public static final int DEFAULT_MAX_HOPS = 4;
+
+    private final List<Converter> converters;
+
+    private final List<MultiValueConverter> multiValueConverters;
+
+    private final int maxHops;
+
+    /**
+     * @param converters           the sorted {@link Converter converters}
+     * @param multiValueConverters the sorted {@link MultiValueConverter multi-value converters}
+     */
+    public ConversionGraph(List<Converter> converters, List<MultiValueConverter> multiValueConverters) {
+        this(converters, multiValueConverters, DEFAULT_MAX_HOPS);
+    }
+
+    /**
+     * @param converters           the sorted {@link Converter converters}
+     * @param multiValueConverters the sorted {@link MultiValueConverter multi-value converters}
+     * @param maxHops              the max number of hops in a conversion path
+     * @throws IllegalArgumentException if <code>maxHops</code> is not positive
+     */
+    public ConversionGraph(List<Converter> converters, List<MultiValueConverter> multiValueConverters, int maxHops)
+            throws IllegalArgumentException {
+        if (maxHops < 1) {
+            throw new IllegalArgumentException("The max hops must be positive : " + maxHops);
+        }
+        this.converters = converters;
+        this.multiValueConverters = multiValueConverters;
+        this.maxHops = maxHops;
+    }
+
+    /**
+     * Find the shortest conversion path from the source type to the target type
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return the {@link Converter} if the path has only one hop, or the {@link CompositeConverter},
+     * <code>null</code> if not found
+     */
+    public <S, T> Converter<S, T> findConverter(Class<S> sourceType, Class<T> targetType) {
+        if (sourceType == null || targetType == null) {
+            return null;
+        }
+        Set<Class<?>> visitedTypes = new HashSet<>();
+        visitedTypes.add(sourceType);
+        List<Hop> hops = new LinkedList<>();
+        hops.add(new Hop(sourceType, null, null));
+        for (int i = 0; i < maxHops && !hops.isEmpty(); i++) {
+            List<Hop> nextHops = new LinkedList<>();
+            for (Hop hop : hops) {
+                Hop lastHop = findMultiValueHop(hop, targetType);
+                if (lastHop != null) {
+                    return compile(sourceType, targetType, lastHop);
+                }
+                for (Converter converter : converters) {
+                    if (!isAssignableFrom(converter.getSourceType(), hop.type)) {
+                        continue;
+                    }
+                    Class<?> type = converter.getTargetType();
+                    if (isAssignableFrom(targetType, type)) {
+                        return compile(sourceType, targetType, new Hop(type, converter, hop));
+                    }
+                    if (visitedTypes.add(type)) {
+                        nextHops.add(new Hop(type, converter, hop));
+                    }
+                }
+            }
+            hops = nextHops;
+        }
+        return null;
+    }
+
+    private Hop findMultiValueHop(Hop hop, Class<?> targetType) {
+        if (!targetType.isArray()) {
+            return null;
+        }
+        for (MultiValueConverter converter : multiValueConverters) {
+            if (isAssignableFrom(converter.getSourceType(), hop.type) && converter.accept(hop.type, targetType)) {
+                return new Hop(targetType, new MultiValueConverterAdapter(converter, targetType), hop);
+            }
+        }
+        return null;
+    }
+
+    private <S, T> Converter<S, T> compile(Class<S> sourceType, Class<T> targetType, Hop lastHop) {
+        LinkedList<Converter> path = new LinkedList<>();
+        for (Hop hop = lastHop; hop.converter != null; hop = hop.previous) {
+            path.addFirst(hop.converter);
+        }
+        if (path.size() == 1 && !(path.getFirst() instanceof MultiValueConverterAdapter)) {
+            return path.getFirst();
+        }
+        return new CompositeConverter<>(sourceType, targetType, path.toArray(new Converter[0]));
+    }
+
+    /**
+     * @return the max number of hops in a conversion path
+     */
+    public int getMaxHops() {
+        return maxHops;
+    }
+
+    /**
+     * The hop of conversion path, which is linked to the previous one
+     */
+    private static class Hop {
+
+        private final Class<?> type;
+
+        private final Converter converter;
+
+        private final Hop previous;
+
+        private Hop(Class<?> type, Converter converter, Hop previous) {
+            this.type = type;
+            this.converter = converter;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * The {@link Converter} adapts the {@link MultiValueConverter} with the fixed array type
+     */
+    private static class MultiValueConverterAdapter implements Converter<Object, Object> {
+
+        private final MultiValueConverter converter;
+
+        private final Class<?> multiValueType;
+
+        private MultiValueConverterAdapter(MultiValueConverter converter, Class<?> multiValueType) {
+            this.converter = converter;
+            this.multiValueType = multiValueType;
+        }
+
+        @Override
+        public Object convert(Object source) {
+            return converter.convert(source, multiValueType, multiValueType.getComponentType());
+        }
+
+        @Override
+        public Class<Object> getSourceType() {
+            return converter.getSourceType();
+        }
+
+        @Override
+        public Class<Object> getTargetType() {
+            return (Class<Object>) multiValueType;
+        }
+
+        @Override
+        public int getPriority() {
+            return converter.getPriority();
+        }
+    }
+}
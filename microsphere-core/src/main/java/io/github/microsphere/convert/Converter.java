@@ -17,11 +17,11 @@
 package io.github.microsphere.convert;
 
 import io.github.microsphere.lang.Prioritized;
-import io.github.microsphere.util.ClassLoaderUtils;
 
 import java.util.ServiceLoader;
 
 import static io.github.microsphere.reflect.TypeUtils.findActualTypeArgument;
+import static io.github.microsphere.util.ClassLoaderUtils.getClassLoader;
 import static io.github.microsphere.util.ClassUtils.isAssignableFrom;
 import static io.github.microsphere.util.ServiceLoaderUtils.loadServicesList;
 
@@ -73,24 +73,30 @@ public interface Converter<S, T> extends Prioritized {
     }
 
     /**
-     * Get the Converter instance from {@link ServiceLoader} with the specified source and target type
+     * Get the Converter instance from {@link ServiceLoader} with the specified source and target type, the result
+     * is memoized by the {@link ConverterRegistry} of current {@link ClassLoader}
      *
      * @param sourceType the source type
      * @param targetType the target type
-     * @return
+     * @return <code>null</code> if not found
+     * @throws IllegalArgumentException if no implementation is defined in the configuration file of
+     *                                  {@link ServiceLoader}
+     * @see ConverterRegistry#getConverter(Class, Class)
      */
-    static <S, T> Converter<S, T> getConverter(Class<S> sourceType, Class<T> targetType) {
-        ClassLoader classLoader = ClassLoaderUtils.getClassLoader();
-        return loadServicesList(classLoader, Converter.class)
-                .stream()
-                .sorted()
-                .filter(converter -> converter.accept(sourceType, targetType))
-                .findFirst()
-                .orElse(null);
+    static <S, T> Converter<S, T> getConverter(Class<S> sourceType, Class<T> targetType)
+            throws IllegalArgumentException {
+        ClassLoader classLoader = getClassLoader();
+        ConverterRegistry registry = ConverterRegistry.getInstance(classLoader);
+        if (registry.getConverters().isEmpty()) {
+            // throws IllegalArgumentException if no implementation is defined
+            loadServicesList(classLoader, Converter.class);
+        }
+        return registry.getConverter(sourceType, targetType);
     }
 
     /**
-     * Convert the value of source to target-type value if possible
+     * Convert the value of source to target-type value if possible, the conversion may go through multiple
+     * {@link Converter converters}
      *
      * @param source     the value of source
      * @param targetType the target type
@@ -98,7 +104,7 @@ public interface Converter<S, T> extends Prioritized {
      * @return <code>null</code> if can't be converted
      */
     static <T> T convertIfPossible(Object source, Class<T> targetType) {
-        Converter converter = getConverter(source.getClass(), targetType);
+        Converter converter = ConverterRegistry.getInstance().getTransitiveConverter(source.getClass(), targetType);
         if (converter != null) {
             return (T) converter.convert(source);
         }
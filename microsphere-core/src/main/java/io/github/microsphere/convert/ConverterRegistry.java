@@ -0,0 +1,320 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import io.github.microsphere.convert.multiple.MultiValueConverter;
+import io.github.microsphere.util.ClassLoaderUtils;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static io.github.microsphere.util.ServiceLoaderUtils.loadServicesList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The registry of {@link Converter converters} and {@link MultiValueConverter multi-value converters} per
+ * {@link ClassLoader}, the SPI implementations are loaded from {@link ServiceLoader} once, and the resolved
+ * converter of each pair of source and target types is memoized, including the absent one.
+ * <p>
+ * If there is no direct converter, the {@link #getTransitiveConverter(Class, Class) transitive one} could be
+ * compiled from the {@link ConversionGraph}. The {@link StringToEnumConverter} of any enum type is created on demand
+ * unless another one is registered.
+ * <p>
+ * The memoized results will be invalidated once a converter is {@link #register(Converter) registered}, or
+ * {@link #invalidate() explicitly}. The registry of {@link ClassLoader} should be {@link #invalidate(ClassLoader)
+ * removed} when it's discarded if it defines its own converters.
+ * <p>
+ * The shared registry references the converters defined by its {@link ClassLoader}, so it's held strongly only if
+ * the {@link ClassLoader} can't be unloaded before this class, i.e. the {@link ClassLoader} of this class or its'
+ * ancestors, otherwise, it's held by {@link SoftReference}, which does not prevent the {@link ClassLoader} from being
+ * unloaded, and it will be created again if cleared under the memory pressure, the converters
+ * {@link #register(Converter) registered} into it should be registered again.
+ *
+ * @see Converter
+ * @see MultiValueConverter
+ * @since 1.0.0
+ */
+public class ConverterRegistry {
+
+    /**
+     * The {@link ClassLoader} as the weak key, the holder of registry as the value, which must not strongly reference
+     * the registry of the {@link ClassLoader} that could be unloaded, otherwise, the key is never cleared
+     */
+    private static final Map<ClassLoader, Supplier<ConverterRegistry>> registries = new WeakHashMap<>();
+
+    private volatile List<Converter> converters;
+
+    private volatile List<MultiValueConverter> multiValueConverters;
+
+    private volatile ClassValue<ConcurrentMap<Class<?>, Optional<Converter>>> convertersCache = newCache();
+
+    private volatile ClassValue<ConcurrentMap<Class<?>, Optional<MultiValueConverter>>> multiValueConvertersCache = newCache();
+
+    private volatile ClassValue<ConcurrentMap<Class<?>, Optional<Converter>>> transitiveConvertersCache = newCache();
+
+    /**
+     * Create an empty registry without the SPI implementations
+     */
+    public ConverterRegistry() {
+        this.converters = emptyList();
+        this.multiValueConverters = emptyList();
+    }
+
+    /**
+     * Create a registry with the SPI implementations from the specified {@link ClassLoader}
+     *
+     * @param classLoader {@link ClassLoader}
+     */
+    public ConverterRegistry(ClassLoader classLoader) {
+        this.converters = sort(loadServices(classLoader, Converter.class));
+        this.multiValueConverters = sort(loadServices(classLoader, MultiValueConverter.class));
+    }
+
+    /**
+     * Get the registry of current {@link ClassLoader}
+     *
+     * @return non-null
+     * @see ClassLoaderUtils#getClassLoader()
+     */
+    public static ConverterRegistry getInstance() {
+        return getInstance(ClassLoaderUtils.getClassLoader());
+    }
+
+    /**
+     * Get the registry of the specified {@link ClassLoader}, it will be created once
+     *
+     * @param classLoader {@link ClassLoader}
+     * @return non-null
+     */
+    public static ConverterRegistry getInstance(ClassLoader classLoader) {
+        synchronized (registries) {
+            Supplier<ConverterRegistry> holder = registries.get(classLoader);
+            ConverterRegistry registry = holder == null ? null : holder.get();
+            if (registry == null) {
+                registry = new ConverterRegistry(classLoader);
+                registries.put(classLoader, newHolder(classLoader, registry));
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Remove the registry of the specified {@link ClassLoader}, it will be created again on next
+     * {@link #getInstance(ClassLoader) lookup}.
+     *
+     * @param classLoader {@link ClassLoader}
+     * @return the removed registry if present
+     */
+    public static ConverterRegistry invalidate(ClassLoader classLoader) {
+        synchronized (registries) {
+            Supplier<ConverterRegistry> holder = registries.remove(classLoader);
+            return holder == null ? null : holder.get();
+        }
+    }
+
+    /**
+     * Get the {@link Converter} with the specified source and target type
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return <code>null</code> if not found
+     */
+    public <S, T> Converter<S, T> getConverter(Class<S> sourceType, Class<T> targetType) {
+        if (sourceType == null || targetType == null) {
+            return null;
+        }
+        return convertersCache.get(sourceType)
+                .computeIfAbsent(targetType, type -> Optional.ofNullable(findConverter(sourceType, type)))
+                .orElse(null);
+    }
+
+    /**
+     * Get the {@link Converter} with the specified source and target type, if there is no direct one, the shortest
+     * conversion path in the {@link ConversionGraph} will be compiled into a {@link CompositeConverter}.
+     *
+     * @param sourceType the source type
+     * @param targetType the target type
+     * @return <code>null</code> if not found
+     * @see ConversionGraph
+     */
+    public <S, T> Converter<S, T> getTransitiveConverter(Class<S> sourceType, Class<T> targetType) {
+        Converter<S, T> converter = getConverter(sourceType, targetType);
+        if (converter != null) {
+            return converter;
+        }
+        if (sourceType == null || targetType == null) {
+            return null;
+        }
+        return transitiveConvertersCache.get(sourceType)
+                .computeIfAbsent(targetType, type -> Optional.ofNullable(getConversionGraph().findConverter(sourceType, type)))
+                .orElse(null);
+    }
+
+    /**
+     * @return the {@link ConversionGraph} of current registered converters
+     */
+    public ConversionGraph getConversionGraph() {
+        return new ConversionGraph(converters, multiValueConverters);
+    }
+
+    /**
+     * Get the {@link MultiValueConverter} with the specified source and multi-value type
+     *
+     * @param sourceType     the source type
+     * @param multiValueType the multi-value type
+     * @return <code>null</code> if not found
+     */
+    public MultiValueConverter<?> getMultiValueConverter(Class<?> sourceType, Class<?> multiValueType) {
+        if (sourceType == null || multiValueType == null) {
+            return null;
+        }
+        return multiValueConvertersCache.get(sourceType)
+                .computeIfAbsent(multiValueType, type -> Optional.ofNullable(findMultiValueConverter(sourceType, type)))
+                .orElse(null);
+    }
+
+    /**
+     * Register the {@link Converter}, the memoized results will be invalidated
+     *
+     * @param converter {@link Converter}
+     * @throws IllegalArgumentException if <code>converter</code> is <code>null</code>
+     */
+    public synchronized void register(Converter<?, ?> converter) throws IllegalArgumentException {
+        if (converter == null) {
+            throw new IllegalArgumentException("The converter must not be null");
+        }
+        List<Converter> converters = new ArrayList<>(this.converters);
+        converters.add(converter);
+        this.converters = sort(converters);
+        invalidate();
+    }
+
+    /**
+     * Register the {@link MultiValueConverter}, the memoized results will be invalidated
+     *
+     * @param converter {@link MultiValueConverter}
+     * @throws IllegalArgumentException if <code>converter</code> is <code>null</code>
+     */
+    public synchronized void register(MultiValueConverter<?> converter) throws IllegalArgumentException {
+        if (converter == null) {
+            throw new IllegalArgumentException("The converter must not be null");
+        }
+        List<MultiValueConverter> converters = new ArrayList<>(this.multiValueConverters);
+        converters.add(converter);
+        this.multiValueConverters = sort(converters);
+        invalidate();
+    }
+
+    /**
+     * Invalidate the memoized results
+     */
+    public void invalidate() {
+        this.convertersCache = newCache();
+        this.multiValueConvertersCache = newCache();
+        this.transitiveConvertersCache = newCache();
+    }
+
+    /**
+     * @return the sorted {@link Converter converters}
+     */
+    public List<Converter> getConverters() {
+        return converters;
+    }
+
+    /**
+     * @return the sorted {@link MultiValueConverter multi-value converters}
+     */
+    public List<MultiValueConverter> getMultiValueConverters() {
+        return multiValueConverters;
+    }
+
+    private Converter findConverter(Class<?> sourceType, Class<?> targetType) {
+        for (Converter converter : converters) {
+            if (converter.accept(sourceType, targetType)) {
+                return converter;
+            }
+        }
+        if (String.class.equals(sourceType) && targetType.isEnum()) {
+            return new StringToEnumConverter(targetType);
+        }
+        return null;
+    }
+
+    private MultiValueConverter findMultiValueConverter(Class<?> sourceType, Class<?> multiValueType) {
+        for (MultiValueConverter converter : multiValueConverters) {
+            if (converter.accept(sourceType, multiValueType)) {
+                return converter;
+            }
+        }
+        return null;
+    }
+
+    private static Supplier<ConverterRegistry> newHolder(ClassLoader classLoader, ConverterRegistry registry) {
+        if (isUnloadable(classLoader)) {
+            return new SoftReference<>(registry)::get;
+        }
+        return () -> registry;
+    }
+
+    /**
+     * @return <code>true</code> if the {@link ClassLoader} may be unloaded before this class
+     */
+    private static boolean isUnloadable(ClassLoader classLoader) {
+        if (classLoader == null) { // Bootstrap ClassLoader
+            return false;
+        }
+        for (ClassLoader loader = ConverterRegistry.class.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == classLoader) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> List<T> loadServices(ClassLoader classLoader, Class<T> serviceType) {
+        try {
+            return new ArrayList<>(loadServicesList(classLoader, serviceType));
+        } catch (IllegalArgumentException e) {
+            // No implementation was defined
+            return new ArrayList<>();
+        }
+    }
+
+    private static <T extends Comparable> List<T> sort(List<T> services) {
+        Collections.sort(services);
+        return unmodifiableList(services);
+    }
+
+    private static <V> ClassValue<ConcurrentMap<Class<?>, V>> newCache() {
+        return new ClassValue<ConcurrentMap<Class<?>, V>>() {
+            @Override
+            protected ConcurrentMap<Class<?>, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+}
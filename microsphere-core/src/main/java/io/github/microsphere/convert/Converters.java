@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static io.github.microsphere.util.ClassUtils.isAssignableFrom;
+
+/**
+ * The utility class converts the columns of {@link String} values in bulk, the {@link Converter} is resolved and
+ * the types are checked once per column rather than per value. The column is split into ranges that are converted
+ * in the {@link ForkJoinPool} if its length exceeds the threshold.
+ *
+ * @see Converter
+ * @see ToIntConverter
+ * @see ToLongConverter
+ * @see ToDoubleConverter
+ * @since 1.0.0
+ */
+public abstract class Converters {
+
+    /**
+     * The default min length of column to be converted in parallel
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Convert the column to the array of target type in the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param column     the column of values
+     * @param targetType the target type
+     * @param <T>        the target type
+     * @return the converted array with the same length of column
+     * @throws IllegalArgumentException if no {@link Converter} is found
+     */
+    public static <T> T[] convertAll(String[] column, Class<T> targetType) throws IllegalArgumentException {
+        return convertAll(column, targetType, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Convert the column to the array of target type
+     *
+     * @param column            the column of values
+     * @param targetType        the target type
+     * @param pool              the {@link ForkJoinPool} to convert in parallel
+     * @param parallelThreshold the min length of column to be converted in parallel
+     * @param <T>               the target type
+     * @return the converted array with the same length of column
+     * @throws IllegalArgumentException if any argument is illegal or no {@link Converter} is found
+     */
+    public static <T> T[] convertAll(String[] column, Class<T> targetType, ForkJoinPool pool, int parallelThreshold)
+            throws IllegalArgumentException {
+        assertArguments(column, pool, parallelThreshold);
+        if (targetType == null || targetType.isPrimitive()) {
+            throw new IllegalArgumentException("The target type must be a non-primitive type : " + targetType);
+        }
+        Converter<String, T> converter = ConverterRegistry.getInstance().getTransitiveConverter(String.class, targetType);
+        if (converter == null || !isAssignableFrom(targetType, converter.getTargetType())) {
+            throw new IllegalArgumentException("No Converter was found from String to " + targetType.getName());
+        }
+        T[] values = (T[]) Array.newInstance(targetType, column.length);
+        forEachRange(column.length, pool, parallelThreshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                String value = column[i];
+                values[i] = value == null ? null : converter.convert(value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Convert the column into the <code>int</code> array in the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param column the column of values
+     * @param values the <code>int</code> array whose length is not less than the column
+     * @throws IllegalArgumentException if any argument is illegal or no {@link ToIntConverter} is found
+     * @throws NumberFormatException    if any value of column can't be converted
+     */
+    public static void convertAll(String[] column, int[] values) throws IllegalArgumentException, NumberFormatException {
+        convertAll(column, values, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Convert the column into the <code>int</code> array
+     *
+     * @param column            the column of values
+     * @param values            the <code>int</code> array whose length is not less than the column
+     * @param pool              the {@link ForkJoinPool} to convert in parallel
+     * @param parallelThreshold the min length of column to be converted in parallel
+     * @throws IllegalArgumentException if any argument is illegal or no {@link ToIntConverter} is found
+     * @throws NumberFormatException    if any value of column can't be converted
+     */
+    public static void convertAll(String[] column, int[] values, ForkJoinPool pool, int parallelThreshold)
+            throws IllegalArgumentException, NumberFormatException {
+        assertArguments(column, pool, parallelThreshold);
+        assertLength(column, values == null ? -1 : values.length);
+        ToIntConverter converter = getPrimitiveConverter(Integer.class, ToIntConverter.class);
+        forEachRange(column.length, pool, parallelThreshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                values[i] = converter.convertToInt(column[i]);
+            }
+        });
+    }
+
+    /**
+     * Convert the column into the <code>long</code> array in the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param column the column of values
+     * @param values the <code>long</code> array whose length is not less than the column
+     * @throws IllegalArgumentException if any argument is illegal or no {@link ToLongConverter} is found
+     * @throws NumberFormatException    if any value of column can't be converted
+     */
+    public static void convertAll(String[] column, long[] values) throws IllegalArgumentException, NumberFormatException {
+        convertAll(column, values, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Convert the column into the <code>long</code> array
+     *
+     * @param column            the column of values
+     * @param values            the <code>long</code> array whose length is not less than the column
+     * @param pool              the {@link ForkJoinPool} to convert in parallel
+     * @param parallelThreshold the min length of column to be converted in parallel
+     * @throws IllegalArgumentException if any argument is illegal or no {@link ToLongConverter} is found
+     * @throws NumberFormatException    if any value of column can't be converted
+     */
+    public static void convertAll(String[] column, long[] values, ForkJoinPool pool, int parallelThreshold)
+            throws IllegalArgumentException, NumberFormatException {
+        assertArguments(column, pool, parallelThreshold);
+        assertLength(column, values == null ? -1 : values.length);
+        ToLongConverter converter = getPrimitiveConverter(Long.class, ToLongConverter.class);
+        forEachRange(column.length, pool, parallelThreshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                values[i] = converter.convertToLong(column[i]);
+            }
+        });
+    }
+
+    /**
+     * Convert the column into the <code>double</code> array in the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param column the column of values
+     * @param values the <code>double</code> array whose length is not less than the column
+     * @throws IllegalArgumentException if any argument is illegal or no {@link ToDoubleConverter} is found
+     * @throws NumberFormatException    if any value of column can't be converted
+     */
+    public static void convertAll(String[] column, double[] values) throws IllegalArgumentException, NumberFormatException {
+        convertAll(column, values, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Convert the column into the <code>double</code> array
+     *
+     * @param column            the column of values
+     * @param values            the <code>double</code> array whose length is not less than the column
+     * @param pool              the {@link ForkJoinPool} to convert in parallel
+     * @param parallelThreshold the min length of column to be converted in parallel
+     * @throws IllegalArgumentException if any argument is illegal or no {@link ToDoubleConverter} is found
+     * @throws NumberFormatException    if any value of column can't be converted
+     */
+    public static void convertAll(String[] column, double[] values, ForkJoinPool pool, int parallelThreshold)
+            throws IllegalArgumentException, NumberFormatException {
+        assertArguments(column, pool, parallelThreshold);
+        assertLength(column, values == null ? -1 : values.length);
+        ToDoubleConverter converter = getPrimitiveConverter(Double.class, ToDoubleConverter.class);
+        forEachRange(column.length, pool, parallelThreshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                values[i] = converter.convertToDouble(column[i]);
+            }
+        });
+    }
+
+    private static <C> C getPrimitiveConverter(Class<?> wrapperType, Class<C> converterType) {
+        Converter<String, ?> converter = ConverterRegistry.getInstance().getConverter(String.class, wrapperType);
+        if (!converterType.isInstance(converter)) {
+            throw new IllegalArgumentException("No " + converterType.getSimpleName() + " was found from String to "
+                    + wrapperType.getName());
+        }
+        return converterType.cast(converter);
+    }
+
+    private static void assertArguments(String[] column, ForkJoinPool pool, int parallelThreshold) {
+        if (column == null) {
+            throw new IllegalArgumentException("The column must not be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("The pool must not be null");
+        }
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("The parallel threshold must be positive : " + parallelThreshold);
+        }
+    }
+
+    private static void assertLength(String[] column, int length) {
+        if (length < column.length) {
+            throw new IllegalArgumentException("The length of values[" + length + "] is less than the column's : "
+                    + column.length);
+        }
+    }
+
+    private static void forEachRange(int size, ForkJoinPool pool, int parallelThreshold, RangeTask task) {
+        if (size <= parallelThreshold || pool.getParallelism() < 2) {
+            task.run(0, size);
+        } else {
+            pool.invoke(new RangeAction(task, 0, size, parallelThreshold));
+        }
+    }
+
+    /**
+     * The task of range
+     */
+    @FunctionalInterface
+    private interface RangeTask {
+
+        void run(int from, int to);
+    }
+
+    /**
+     * The {@link RecursiveAction} splits the range into halves until the threshold is reached
+     */
+    private static class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 5127694532168370741L;
+
+        /**
+         * The task is not serializable, the action is only executed in the local {@link ForkJoinPool}
+         */
+        private final transient RangeTask task;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        private RangeAction(RangeTask task, int from, int to, int threshold) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                task.run(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeAction(task, from, middle, threshold), new RangeAction(task, middle, to, threshold));
+            }
+        }
+    }
+}
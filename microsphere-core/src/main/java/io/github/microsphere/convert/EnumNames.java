@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The names of enum constants looks up the constant from the range of {@link CharSequence} without creating the
+ * intermediate {@link String}.
+ * <p>
+ * The names of constants and the aliases are compiled into a collision-free (perfect) hash table with two levels.
+ * Like the keyword tables of gperf, only the length and the characters at a few positions, those distinguish all
+ * names, are hashed, and the characters are hashed with the case folded, so that the case-insensitive lookup does
+ * not lower the case of input. Each lookup compares the content of only one slot. The table without aliases is
+ * built once per enum type, see {@link #of(Class)}.
+ *
+ * @param <E> The enum type
+ * @since 1.0.0
+ */
+final class EnumNames<E extends Enum<E>> {
+
+    private static final ClassValue<EnumNames<?>> cache = new ClassValue<EnumNames<?>>() {
+        @Override
+        protected EnumNames<?> computeValue(Class<?> type) {
+            return new EnumNames(type, Collections.emptyMap());
+        }
+    };
+
+    /**
+     * The max attempts to find the seed of bucket, the keys of bucket are chained if their hash codes collide.
+     */
+    private static final int MAX_SEED_ATTEMPTS = 1024;
+
+    private static final int MISMATCH = 0;
+
+    private static final int CASE_INSENSITIVE_MATCH = 1;
+
+    private static final int EXACT_MATCH = 2;
+
+    private final Class<E> enumType;
+
+    /**
+     * The positions of characters to be hashed
+     */
+    private final int[] positions;
+
+    /**
+     * The multipliers of characters at the positions
+     */
+    private final long[] multipliers;
+
+    private final int bucketMask;
+
+    /**
+     * The offset in slots, the mask and the seed of each bucket
+     */
+    private final int[] buckets;
+
+    private final Entry<E>[] slots;
+
+    EnumNames(Class<E> enumType, Map<String, E> aliases) throws IllegalArgumentException {
+        if (enumType == null || !enumType.isEnum()) {
+            throw new IllegalArgumentException("The type must be an enum : " + enumType);
+        }
+        this.enumType = enumType;
+        Map<String, E> names = new LinkedHashMap<>();
+        for (E constant : enumType.getEnumConstants()) {
+            names.put(constant.name(), constant);
+        }
+        for (Map.Entry<String, E> alias : aliases.entrySet()) {
+            String name = alias.getKey();
+            E constant = alias.getValue();
+            if (name == null || name.isEmpty() || constant == null) {
+                throw new IllegalArgumentException("The alias must not be empty : " + alias);
+            }
+            E previous = names.putIfAbsent(name, constant);
+            if (previous != null && previous != constant) {
+                throw new IllegalArgumentException("The alias '" + name + "' has been mapped to " + previous);
+            }
+        }
+
+        // group the names which are equal ignoring case, the groups are the keys of table
+        Map<String, Entry<E>> groups = new LinkedHashMap<>();
+        for (Map.Entry<String, E> name : names.entrySet()) {
+            Entry<E> entry = new Entry<>(name.getKey(), name.getValue());
+            String foldedName = new String(entry.chars, entry.name.length(), entry.name.length());
+            Entry<E> group = groups.putIfAbsent(foldedName, entry);
+            if (group != null) {
+                group.last().next = entry;
+            }
+        }
+        List<String> keys = new ArrayList<>(groups.keySet());
+        this.positions = selectPositions(keys);
+        this.multipliers = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            // the distinct odd multipliers
+            multipliers[i] = mix(i + 1) | 1L;
+        }
+        for (Entry<E> group : groups.values()) {
+            long hash = hash(group.name, 0, group.name.length());
+            for (Entry<E> entry = group; entry != null; entry = entry.next) {
+                entry.hash = hash;
+            }
+        }
+
+        int bucketCount = keys.isEmpty() ? 1 : Integer.highestOneBit(keys.size() * 2 - 1);
+        List<Entry<E>>[] bucketKeys = new List[bucketCount];
+        for (Entry<E> group : groups.values()) {
+            int index = bucket(group.hash, bucketCount - 1);
+            if (bucketKeys[index] == null) {
+                bucketKeys[index] = new ArrayList<>(2);
+            }
+            bucketKeys[index].add(group);
+        }
+
+        this.bucketMask = bucketCount - 1;
+        this.buckets = new int[bucketCount * 3];
+        List<Entry<E>> slots = new ArrayList<>(keys.size() * 2);
+        for (int i = 0; i < bucketCount; i++) {
+            List<Entry<E>> bucket = bucketKeys[i];
+            if (bucket == null) {
+                buckets[i * 3 + 1] = -1;
+                continue;
+            }
+            // the table of size k^2 for k keys has no collision at probability greater than 1/2
+            int size = Integer.highestOneBit(bucket.size() * bucket.size() * 2 - 1);
+            Entry<E>[] table = new Entry[size];
+            int seed = findSeed(bucket, table);
+            if (seed < 0) {
+                // the hash codes collide, chain the keys in the single slot
+                table = new Entry[]{chain(bucket)};
+                seed = 0;
+            }
+            buckets[i * 3] = slots.size();
+            buckets[i * 3 + 1] = table.length - 1;
+            buckets[i * 3 + 2] = seed;
+            Collections.addAll(slots, table);
+        }
+        this.slots = slots.toArray(new Entry[0]);
+    }
+
+    /**
+     * Get the cached instance of enum type without aliases
+     *
+     * @param enumType the enum type
+     * @param <E>      The enum type
+     * @return non-null
+     * @throws IllegalArgumentException if <code>enumType</code> is not an enum
+     */
+    static <E extends Enum<E>> EnumNames<E> of(Class<E> enumType) throws IllegalArgumentException {
+        if (enumType == null || !enumType.isEnum()) {
+            throw new IllegalArgumentException("The type must be an enum : " + enumType);
+        }
+        return (EnumNames<E>) cache.get(enumType);
+    }
+
+    /**
+     * Get the enum constant whose name or alias is equal to the range of source, the exact match takes precedence
+     * over the case-insensitive one.
+     *
+     * @param source     the source
+     * @param start      the start index, inclusive
+     * @param end        the end index, exclusive
+     * @param ignoreCase whether to ignore case
+     * @return <code>null</code> if not found
+     */
+    E find(CharSequence source, int start, int end, boolean ignoreCase) {
+        long hash = hash(source, start, end);
+        int bucket = bucket(hash, bucketMask) * 3;
+        int mask = buckets[bucket + 1];
+        if (mask < 0) {
+            return null;
+        }
+        Entry<E> entry = slots[buckets[bucket] + index(hash, buckets[bucket + 2], mask)];
+        E candidate = null;
+        for (; entry != null; entry = entry.next) {
+            if (entry.hash != hash) {
+                continue;
+            }
+            int matches = matches(entry, source, start, end);
+            if (matches == EXACT_MATCH) {
+                return entry.constant;
+            }
+            if (ignoreCase && candidate == null && matches == CASE_INSENSITIVE_MATCH) {
+                candidate = entry.constant;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Get the enum constant as {@link #find(CharSequence, int, int, boolean)} does
+     *
+     * @throws IllegalArgumentException if no constant matches
+     */
+    E valueOf(CharSequence source, int start, int end, boolean ignoreCase) throws IllegalArgumentException {
+        E constant = find(source, start, end, ignoreCase);
+        if (constant == null) {
+            throw new IllegalArgumentException("No enum constant " + enumType.getCanonicalName() + "."
+                    + source.subSequence(start, end));
+        }
+        return constant;
+    }
+
+    Class<E> getEnumType() {
+        return enumType;
+    }
+
+    /**
+     * Hash the length and the case-folded characters at the selected positions, the absent characters of shorter
+     * ones are skipped. The characters are multiplied independently rather than chained, so that the multiplications
+     * could be executed in parallel.
+     */
+    private long hash(CharSequence source, int start, int end) {
+        int length = end - start;
+        int[] positions = this.positions;
+        long[] multipliers = this.multipliers;
+        long hash = length;
+        for (int i = 0; i < positions.length; i++) {
+            int position = positions[i];
+            if (position < length) {
+                hash += foldCase(source.charAt(start + position)) * multipliers[i];
+            }
+        }
+        return (hash ^ (hash >>> 32)) * 0x9e3779b97f4a7c15L;
+    }
+
+    /**
+     * The finalizer of SplitMix64
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Select the positions greedily, each one distinguishes the most keys, until all keys are distinguished by
+     * their lengths and the characters at the selected positions.
+     */
+    private static int[] selectPositions(List<String> keys) {
+        int maxLength = 0;
+        for (String key : keys) {
+            maxLength = Math.max(maxLength, key.length());
+        }
+        int[] positions = new int[0];
+        int distinct = countDistinct(keys, positions);
+        while (distinct < keys.size()) {
+            int[] best = null;
+            for (int position = 0; position < maxLength; position++) {
+                int[] candidate = Arrays.copyOf(positions, positions.length + 1);
+                candidate[positions.length] = position;
+                int count = countDistinct(keys, candidate);
+                if (count > distinct) {
+                    distinct = count;
+                    best = candidate;
+                }
+            }
+            if (best == null) {
+                // the hash codes collide, the colliding keys will be chained
+                break;
+            }
+            positions = best;
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    private static int countDistinct(List<String> keys, int[] positions) {
+        Set<Long> signatures = new HashSet<>(keys.size() * 2);
+        for (String key : keys) {
+            long signature = key.length();
+            for (int position : positions) {
+                if (position < key.length()) {
+                    signature = (signature ^ key.charAt(position)) * 0x100000001b3L;
+                }
+            }
+            signatures.add(signature);
+        }
+        return signatures.size();
+    }
+
+    private static <E extends Enum<E>> int findSeed(List<Entry<E>> keys, Entry<E>[] table) {
+        int mask = table.length - 1;
+        attempt:
+        for (int seed = 0; seed < MAX_SEED_ATTEMPTS; seed++) {
+            for (Entry<E> key : keys) {
+                int index = index(key.hash, seed, mask);
+                if (table[index] != null) {
+                    Arrays.fill(table, null);
+                    continue attempt;
+                }
+                table[index] = key;
+            }
+            return seed;
+        }
+        return -1;
+    }
+
+    private static <E extends Enum<E>> Entry<E> chain(List<Entry<E>> keys) {
+        Entry<E> head = keys.get(0);
+        for (int i = 1; i < keys.size(); i++) {
+            head.last().next = keys.get(i);
+        }
+        return head;
+    }
+
+    /**
+     * The bucket of hash code, the high bits of multiplicative hashing are used
+     */
+    private static int bucket(long hash, int mask) {
+        return (int) (hash >>> 32) & mask;
+    }
+
+    /**
+     * The index in the table of bucket, the hash code is hashed again with the seed of bucket
+     */
+    private static int index(long hash, int seed, int mask) {
+        return (int) (((hash ^ seed) * 0x9e3779b97f4a7c15L) >>> 40) & mask;
+    }
+
+    /**
+     * The characters of name followed by the case-folded ones
+     */
+    private static char[] toChars(String name) {
+        int length = name.length();
+        char[] chars = new char[length * 2];
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            chars[i] = c;
+            chars[length + i] = (char) foldCase(c);
+        }
+        return chars;
+    }
+
+    private static int foldCase(char c) {
+        if (c < 0x80) {
+            // branch-free : add 0x20 to 'A' - 'Z' only
+            int offset = c - 'A';
+            return c + ((((offset - 26) & ~offset) >>> 31) << 5);
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int matches(Entry<?> entry, CharSequence source, int start, int end) {
+        char[] chars = entry.chars;
+        int length = entry.name.length();
+        if (length != end - start) {
+            return MISMATCH;
+        }
+        if (source instanceof String) {
+            String string = (String) source;
+            // String#equals is intrinsic
+            if (start == 0 && end == string.length() ? entry.name.equals(string)
+                    : entry.name.regionMatches(0, string, start, length)) {
+                return EXACT_MATCH;
+            }
+        }
+        int result = EXACT_MATCH;
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(start + i);
+            if (c != chars[i]) {
+                if (foldCase(c) != chars[length + i]) {
+                    return MISMATCH;
+                }
+                result = CASE_INSENSITIVE_MATCH;
+            }
+        }
+        return result;
+    }
+
+    private static final class Entry<E> {
+
+        private final String name;
+
+        /**
+         * The characters of name followed by the case-folded ones
+         */
+        private final char[] chars;
+
+        private final E constant;
+
+        /**
+         * The hash code of case-folded name
+         */
+        private long hash;
+
+        /**
+         * The next entry of the same group or the following groups whose hash codes collide
+         */
+        private Entry<E> next;
+
+        private Entry(String name, E constant) {
+            this.name = name;
+            this.chars = toChars(name);
+            this.constant = constant;
+        }
+
+        private Entry<E> last() {
+            Entry<E> entry = this;
+            while (entry.next != null) {
+                entry = entry.next;
+            }
+            return entry;
+        }
+    }
+}
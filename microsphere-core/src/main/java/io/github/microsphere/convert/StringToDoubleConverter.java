@@ -16,6 +16,7 @@
  */
 package io.github.microsphere.convert;
 
+import static io.github.microsphere.text.ParseUtils.parseDouble;
 import static java.lang.Double.valueOf;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
@@ -24,7 +25,7 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  *
  * @since 1.0.0
  */
-public class StringToDoubleConverter implements StringConverter<Double> {
+public class StringToDoubleConverter implements StringConverter<Double>, ToDoubleConverter {
 
     @Override
     public Double convert(String source) {
@@ -36,4 +37,9 @@ public class StringToDoubleConverter implements StringConverter<Double> {
     public int getPriority() {
         return NORMAL_PRIORITY + 3;
     }
+
+    @Override
+    public double convertToDouble(CharSequence source, int start, int end) throws NumberFormatException, IndexOutOfBoundsException {
+        return parseDouble(source, start, end);
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * The class to convert {@link String} or the range of {@link CharSequence} to the constant of the specified enum
+ * type by its name or the configured aliases, the case-insensitive matching is enabled by default while the exact
+ * match takes precedence.
+ * <p>
+ * The names are looked up from a collision-free hash table that is built once per enum type, the lookup neither
+ * lowers the case of input nor creates the intermediate {@link String}. The converter of the enum type without
+ * aliases will be created by {@link ConverterRegistry} on demand.
+ *
+ * @param <E> The enum type
+ * @since 1.0.0
+ */
+public class StringToEnumConverter<E extends Enum<E>> implements StringConverter<E> {
+
+    private final EnumNames<E> enumNames;
+
+    private final boolean ignoreCase;
+
+    /**
+     * @param enumType the enum type
+     * @throws IllegalArgumentException if <code>enumType</code> is not an enum
+     */
+    public StringToEnumConverter(Class<E> enumType) throws IllegalArgumentException {
+        this(enumType, true);
+    }
+
+    /**
+     * @param enumType   the enum type
+     * @param ignoreCase whether to ignore case
+     * @throws IllegalArgumentException if <code>enumType</code> is not an enum
+     */
+    public StringToEnumConverter(Class<E> enumType, boolean ignoreCase) throws IllegalArgumentException {
+        this(enumType, ignoreCase, emptyMap());
+    }
+
+    /**
+     * @param enumType   the enum type
+     * @param ignoreCase whether to ignore case
+     * @param aliases    the constants by their aliases
+     * @throws IllegalArgumentException if <code>enumType</code> is not an enum, or any alias is empty or conflicts
+     *                                  with the name of another constant
+     */
+    public StringToEnumConverter(Class<E> enumType, boolean ignoreCase, Map<String, E> aliases)
+            throws IllegalArgumentException {
+        if (aliases == null) {
+            throw new IllegalArgumentException("The aliases must not be null");
+        }
+        this.enumNames = aliases.isEmpty() ? EnumNames.of(enumType) : new EnumNames<>(enumType, aliases);
+        this.ignoreCase = ignoreCase;
+    }
+
+    @Override
+    public E convert(String source) {
+        return source == null || source.isEmpty() ? null : convert(source, 0, source.length());
+    }
+
+    /**
+     * Convert the range of {@link CharSequence}
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the enum constant
+     * @throws IllegalArgumentException  if no constant matches
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public E convert(CharSequence source, int start, int end) throws IllegalArgumentException,
+            IndexOutOfBoundsException {
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+        }
+        return enumNames.valueOf(source, start, end, ignoreCase);
+    }
+
+    /**
+     * Find the constant from the range of {@link CharSequence}
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return <code>null</code> if no constant matches
+     */
+    public E find(CharSequence source, int start, int end) {
+        return enumNames.find(source, start, end, ignoreCase);
+    }
+
+    @Override
+    public Class<E> getTargetType() {
+        return enumNames.getEnumType();
+    }
+}
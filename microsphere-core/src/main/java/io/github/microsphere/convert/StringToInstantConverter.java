@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static io.github.microsphere.text.DateTimeParseUtils.getFormatter;
+import static io.github.microsphere.text.DateTimeParseUtils.parseEpochMillis;
+import static io.github.microsphere.text.DateTimeParseUtils.parseInstant;
+import static io.github.microsphere.text.ParseUtils.parseLong;
+import static java.time.ZoneOffset.UTC;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * The class to convert {@link String} to {@link Instant}, by default the text is either the milliseconds from the
+ * epoch or the date-time parsed as {@link DateTimeFormatter#ISO_INSTANT} does, otherwise it's parsed by the formatter
+ * of the specified pattern.
+ *
+ * @see io.github.microsphere.text.DateTimeParseUtils#parseInstant(CharSequence, int, int)
+ * @since 1.0.0
+ */
+public class StringToInstantConverter implements StringConverter<Instant>, ToEpochMillisConverter {
+
+    private final DateTimeFormatter formatter;
+
+    public StringToInstantConverter() {
+        this.formatter = null;
+    }
+
+    /**
+     * @param pattern the pattern of {@link DateTimeFormatter}, the date-time without offset is at UTC
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public StringToInstantConverter(String pattern) throws IllegalArgumentException {
+        this(pattern, UTC);
+    }
+
+    /**
+     * @param pattern the pattern of {@link DateTimeFormatter}
+     * @param zone    the zone of date-time without offset
+     * @throws IllegalArgumentException if the pattern is invalid or the zone is <code>null</code>
+     */
+    public StringToInstantConverter(String pattern, ZoneId zone) throws IllegalArgumentException {
+        if (zone == null) {
+            throw new IllegalArgumentException("The zone must not be null");
+        }
+        this.formatter = getFormatter(pattern).withZone(zone);
+    }
+
+    @Override
+    public Instant convert(String source) {
+        if (isEmpty(source)) {
+            return null;
+        }
+        if (formatter != null) {
+            return formatter.parse(source, Instant::from);
+        }
+        int length = source.length();
+        if (isEpochMillis(source, 0, length)) {
+            return Instant.ofEpochMilli(convertToEpochMillis(source, 0, length));
+        }
+        return parseInstant(source, 0, length);
+    }
+
+    @Override
+    public long convertToEpochMillis(CharSequence source, int start, int end) throws DateTimeParseException,
+            IndexOutOfBoundsException {
+        if (formatter != null) {
+            return formatter.parse(source.subSequence(start, end), Instant::from).toEpochMilli();
+        }
+        if (isEpochMillis(source, start, end)) {
+            try {
+                return parseLong(source, start, end);
+            } catch (NumberFormatException e) {
+                throw new DateTimeParseException(e.getMessage(), source.subSequence(start, end), 0, e);
+            }
+        }
+        return parseEpochMillis(source, start, end);
+    }
+
+    /**
+     * Is the range of source an optionally negative integer ?
+     */
+    private static boolean isEpochMillis(CharSequence source, int start, int end) {
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+        }
+        int index = start < end && source.charAt(start) == '-' ? start + 1 : start;
+        if (index == end) {
+            return false;
+        }
+        for (; index < end; index++) {
+            char c = source.charAt(index);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
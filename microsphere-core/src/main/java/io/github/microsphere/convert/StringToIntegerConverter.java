@@ -16,6 +16,7 @@
  */
 package io.github.microsphere.convert;
 
+import static io.github.microsphere.text.ParseUtils.parseInt;
 import static java.lang.Integer.valueOf;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
@@ -24,7 +25,7 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  *
  * @since 1.0.0
  */
-public class StringToIntegerConverter implements StringConverter<Integer> {
+public class StringToIntegerConverter implements StringConverter<Integer>, ToIntConverter {
 
     @Override
     public Integer convert(String source) {
@@ -35,4 +36,9 @@ public class StringToIntegerConverter implements StringConverter<Integer> {
     public int getPriority() {
         return NORMAL_PRIORITY;
     }
+
+    @Override
+    public int convertToInt(CharSequence source, int start, int end) throws NumberFormatException, IndexOutOfBoundsException {
+        return parseInt(source, start, end);
+    }
 }
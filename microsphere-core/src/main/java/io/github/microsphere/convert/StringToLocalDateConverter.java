@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static io.github.microsphere.text.DateTimeParseUtils.getFormatter;
+import static io.github.microsphere.text.DateTimeParseUtils.parseLocalDate;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * The class to convert {@link String} to {@link LocalDate}, the text is parsed as {@link DateTimeFormatter#ISO_LOCAL_DATE} does by
+ * default, or by the formatter of the specified pattern.
+ *
+ * @see io.github.microsphere.text.DateTimeParseUtils#parseLocalDate(CharSequence, int, int)
+ * @since 1.0.0
+ */
+public class StringToLocalDateConverter implements StringConverter<LocalDate> {
+
+    private final DateTimeFormatter formatter;
+
+    public StringToLocalDateConverter() {
+        this.formatter = null;
+    }
+
+    /**
+     * @param pattern the pattern of {@link DateTimeFormatter}
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public StringToLocalDateConverter(String pattern) throws IllegalArgumentException {
+        this.formatter = getFormatter(pattern);
+    }
+
+    @Override
+    public LocalDate convert(String source) {
+        if (isEmpty(source)) {
+            return null;
+        }
+        return formatter == null ? parseLocalDate(source, 0, source.length()) : LocalDate.parse(source, formatter);
+    }
+}
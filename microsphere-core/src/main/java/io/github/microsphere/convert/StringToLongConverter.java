@@ -16,6 +16,7 @@
  */
 package io.github.microsphere.convert;
 
+import static io.github.microsphere.text.ParseUtils.parseLong;
 import static java.lang.Long.valueOf;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
@@ -24,7 +25,7 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  *
  * @since 1.0.0
  */
-public class StringToLongConverter implements StringConverter<Long> {
+public class StringToLongConverter implements StringConverter<Long>, ToLongConverter {
 
     @Override
     public Long convert(String source) {
@@ -35,4 +36,9 @@ public class StringToLongConverter implements StringConverter<Long> {
     public int getPriority() {
         return NORMAL_PRIORITY + 1;
     }
+
+    @Override
+    public long convertToLong(CharSequence source, int start, int end) throws NumberFormatException, IndexOutOfBoundsException {
+        return parseLong(source, start, end);
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+/**
+ * A class to convert the range of {@link CharSequence} to the primitive <code>long</code> value without the
+ * intermediate {@link String} or boxed {@link Long}
+ *
+ * @see Converter
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ToLongConverter {
+
+    /**
+     * Convert the range of source to the <code>long</code> value
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the <code>long</code> value
+     * @throws NumberFormatException     if the range can't be converted
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    long convertToLong(CharSequence source, int start, int end) throws NumberFormatException, IndexOutOfBoundsException;
+
+    /**
+     * Convert the whole source to the <code>long</code> value
+     *
+     * @param source the source
+     * @return the <code>long</code> value
+     * @throws NumberFormatException if the source can't be converted
+     */
+    default long convertToLong(CharSequence source) throws NumberFormatException {
+        if (source == null) {
+            throw new NumberFormatException("null");
+        }
+        return convertToLong(source, 0, source.length());
+    }
+}
@@ -16,13 +16,14 @@
  */
 package io.github.microsphere.convert.multiple;
 
+import io.github.microsphere.convert.ConverterRegistry;
 import io.github.microsphere.lang.Prioritized;
-import io.github.microsphere.util.ClassLoaderUtils;
 
 import java.util.Collection;
 import java.util.ServiceLoader;
 
 import static io.github.microsphere.reflect.TypeUtils.findActualTypeArgument;
+import static io.github.microsphere.util.ClassLoaderUtils.getClassLoader;
 import static io.github.microsphere.util.ServiceLoaderUtils.loadServicesList;
 
 /**
@@ -64,20 +65,24 @@ public interface MultiValueConverter<S> extends Prioritized {
     }
 
     /**
-     * Find the {@link MultiValueConverter} instance from {@link ServiceLoader} with the specified source and target type
+     * Find the {@link MultiValueConverter} instance from {@link ServiceLoader} with the specified source and target
+     * type, the result is memoized by the {@link ConverterRegistry} of current {@link ClassLoader}
      *
      * @param sourceType the source type
      * @param targetType the target type
      * @return <code>null</code> if not found
+     * @throws IllegalArgumentException if no implementation is defined in the configuration file of
+     *                                  {@link ServiceLoader}
+     * @see ConverterRegistry#getMultiValueConverter(Class, Class)
      */
-    static MultiValueConverter<?> find(Class<?> sourceType, Class<?> targetType) {
-        ClassLoader classLoader = ClassLoaderUtils.getClassLoader();
-        return loadServicesList(classLoader, MultiValueConverter.class)
-                .stream()
-                .sorted()
-                .filter(converter -> converter.accept(sourceType, targetType))
-                .findFirst()
-                .orElse(null);
+    static MultiValueConverter<?> find(Class<?> sourceType, Class<?> targetType) throws IllegalArgumentException {
+        ClassLoader classLoader = getClassLoader();
+        ConverterRegistry registry = ConverterRegistry.getInstance(classLoader);
+        if (registry.getMultiValueConverters().isEmpty()) {
+            // throws IllegalArgumentException if no implementation is defined
+            loadServicesList(classLoader, MultiValueConverter.class);
+        }
+        return registry.getMultiValueConverter(sourceType, targetType);
     }
 
     static <T> T convertIfPossible(Object source, Class<?> multiValueType, Class<?> elementType) {
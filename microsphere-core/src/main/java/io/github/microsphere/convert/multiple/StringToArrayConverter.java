@@ -18,14 +18,25 @@ package io.github.microsphere.convert.multiple;
 
 
 import io.github.microsphere.convert.Converter;
+import io.github.microsphere.convert.ToDoubleConverter;
+import io.github.microsphere.convert.ToIntConverter;
+import io.github.microsphere.convert.ToLongConverter;
+import io.github.microsphere.text.Tokenizer;
 
 import java.lang.reflect.Array;
 
 import static java.lang.reflect.Array.newInstance;
+import static org.apache.commons.lang3.ClassUtils.primitiveToWrapper;
 
 /**
- * The class to convert {@link String} to array-type object
+ * The class to convert {@link String} to array-type object, the arrays of <code>int</code>, <code>long</code> and
+ * <code>double</code> are filled by the primitive-specialized converters without boxing. The tokens are converted
+ * as they are found by the {@link Tokenizer} into the presized array.
  *
+ * @see Tokenizer
+ * @see ToIntConverter
+ * @see ToLongConverter
+ * @see ToDoubleConverter
  * @since 1.0.0
  */
 public class StringToArrayConverter implements StringToMultiValueConverter {
@@ -37,12 +48,91 @@ public class StringToArrayConverter implements StringToMultiValueConverter {
         return false;
     }
 
+    @Override
+    public Object convert(CharSequence source, Tokenizer tokenizer, Class<?> targetType, Class<?> elementType) {
+
+        int size = tokenizer.count(source);
+
+        if (size == 0) { // If no token, create an array with only one element
+            return convert(new String[]{source.toString()}, 1, targetType, elementType);
+        }
+
+        Class<?> componentType = targetType.getComponentType();
+
+        Class<?> wrapperType = primitiveToWrapper(componentType);
+
+        // The primitive component type is converted by its wrapper type
+        Converter converter = Converter.getConverter(String.class, wrapperType);
+
+        if (converter == null) {
+            return null;
+        }
+
+        if (int.class.equals(componentType) && converter instanceof ToIntConverter) {
+            ToIntConverter toIntConverter = (ToIntConverter) converter;
+            int[] array = new int[size];
+            tokenizer.tokenize(source, new Tokenizer.TokenHandler() {
+                private int index;
+
+                @Override
+                public void onToken(CharSequence source, int start, int end) {
+                    array[index++] = toIntConverter.convertToInt(source, start, end);
+                }
+            });
+            return array;
+        } else if (long.class.equals(componentType) && converter instanceof ToLongConverter) {
+            ToLongConverter toLongConverter = (ToLongConverter) converter;
+            long[] array = new long[size];
+            tokenizer.tokenize(source, new Tokenizer.TokenHandler() {
+                private int index;
+
+                @Override
+                public void onToken(CharSequence source, int start, int end) {
+                    array[index++] = toLongConverter.convertToLong(source, start, end);
+                }
+            });
+            return array;
+        } else if (double.class.equals(componentType) && converter instanceof ToDoubleConverter) {
+            ToDoubleConverter toDoubleConverter = (ToDoubleConverter) converter;
+            double[] array = new double[size];
+            tokenizer.tokenize(source, new Tokenizer.TokenHandler() {
+                private int index;
+
+                @Override
+                public void onToken(CharSequence source, int start, int end) {
+                    array[index++] = toDoubleConverter.convertToDouble(source, start, end);
+                }
+            });
+            return array;
+        }
+
+        Object array = newInstance(componentType, size);
+
+        tokenizer.tokenize(source, new TokenConverter(converter, wrapperType) {
+            @Override
+            protected void onElement(int index, Object element) {
+                Array.set(array, index, element);
+            }
+        });
+
+        return array;
+    }
+
     @Override
     public Object convert(String[] segments, int size, Class<?> targetType, Class<?> elementType) {
 
         Class<?> componentType = targetType.getComponentType();
 
-        Converter converter = Converter.getConverter(String.class, componentType);
+        // The primitive component type is converted by its wrapper type
+        Converter converter = Converter.getConverter(String.class, primitiveToWrapper(componentType));
+
+        if (int.class.equals(componentType) && converter instanceof ToIntConverter) {
+            return convertToIntArray(segments, size, (ToIntConverter) converter);
+        } else if (long.class.equals(componentType) && converter instanceof ToLongConverter) {
+            return convertToLongArray(segments, size, (ToLongConverter) converter);
+        } else if (double.class.equals(componentType) && converter instanceof ToDoubleConverter) {
+            return convertToDoubleArray(segments, size, (ToDoubleConverter) converter);
+        }
 
         Object array = newInstance(componentType, size);
 
@@ -53,6 +143,29 @@ public class StringToArrayConverter implements StringToMultiValueConverter {
         return array;
     }
 
+    private int[] convertToIntArray(String[] segments, int size, ToIntConverter converter) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = converter.convertToInt(segments[i]);
+        }
+        return array;
+    }
+
+    private long[] convertToLongArray(String[] segments, int size, ToLongConverter converter) {
+        long[] array = new long[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = converter.convertToLong(segments[i]);
+        }
+        return array;
+    }
+
+    private double[] convertToDoubleArray(String[] segments, int size, ToDoubleConverter converter) {
+        double[] array = new double[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = converter.convertToDouble(segments[i]);
+        }
+        return array;
+    }
 
     @Override
     public int getPriority() {
@@ -17,6 +17,7 @@
 package io.github.microsphere.convert.multiple;
 
 import io.github.microsphere.convert.StringConverter;
+import io.github.microsphere.text.Tokenizer;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -27,8 +28,10 @@ import static io.github.microsphere.util.ClassUtils.getAllInterfaces;
 import static io.github.microsphere.util.ClassUtils.isAssignableFrom;
 
 /**
- * The class to convert {@link String} to {@link Iterable}-based value
+ * The class to convert {@link String} to {@link Iterable}-based value, the multi-value is presized by the number of
+ * tokens, which are converted as they are found by the {@link Tokenizer}.
  *
+ * @see Tokenizer
  * @since 1.0.0
  */
 public abstract class StringToIterableConverter<T extends Iterable> implements StringToMultiValueConverter {
@@ -37,6 +40,36 @@ public abstract class StringToIterableConverter<T extends Iterable> implements S
         return isAssignableFrom(getSupportedType(), multiValueType);
     }
 
+    @Override
+    public final Object convert(CharSequence source, Tokenizer tokenizer, Class<?> multiValueType, Class<?> elementType) {
+
+        int size = tokenizer.count(source);
+
+        if (size == 0) { // If no token, create the multi-value with only one element
+            return convert(new String[]{source.toString()}, 1, multiValueType, elementType);
+        }
+
+        Optional<StringConverter> stringConverter = getStringConverter(elementType);
+
+        return stringConverter.map(converter -> {
+
+            T convertedObject = createMultiValue(size, multiValueType);
+
+            if (convertedObject instanceof Collection) {
+                Collection collection = (Collection) convertedObject;
+                tokenizer.tokenize(source, new TokenConverter(converter, elementType) {
+                    @Override
+                    protected void onElement(int index, Object element) {
+                        collection.add(element);
+                    }
+                });
+                return collection;
+            }
+
+            return convertedObject;
+        }).orElse(null);
+    }
+
     @Override
     public final Object convert(String[] segments, int size, Class<?> multiValueType, Class<?> elementType) {
 
@@ -16,15 +16,15 @@
  */
 package io.github.microsphere.convert.multiple;
 
-import org.apache.commons.lang3.ArrayUtils;
+import io.github.microsphere.text.Tokenizer;
 
 import static org.apache.commons.lang3.StringUtils.isEmpty;
-import static org.apache.commons.lang3.StringUtils.split;
 
 /**
  * The class to convert {@link String} to multiple value object
  *
  * @see MultiValueConverter
+ * @see Tokenizer
  * @since 1.0.0
  */
 public interface StringToMultiValueConverter extends MultiValueConverter<String> {
@@ -36,11 +36,28 @@ public interface StringToMultiValueConverter extends MultiValueConverter<String>
             return null;
         }
 
-        // split by the comma
-        String[] segments = split(source, ',');
+        return convert(source, getTokenizer(), multiValueType, elementType);
+    }
+
+    /**
+     * Convert the source to multiple value object, the tokens are split by the specified {@link Tokenizer}. If
+     * there is no token, the whole source is the only one.
+     * <p>
+     * The default implementation materializes the tokens into the {@link String} array, the sub-classes could
+     * override it in order to convert the tokens as they are found.
+     *
+     * @param source         the source
+     * @param tokenizer      {@link Tokenizer}
+     * @param multiValueType the multi-value type
+     * @param elementType    the element type
+     * @return multiple value object
+     */
+    default Object convert(CharSequence source, Tokenizer tokenizer, Class<?> multiValueType, Class<?> elementType) {
 
-        if (ArrayUtils.isEmpty(segments)) { // If empty array, create an array with only one element
-            segments = new String[]{source};
+        String[] segments = tokenizer.split(source);
+
+        if (segments.length == 0) { // If empty array, create an array with only one element
+            segments = new String[]{source.toString()};
         }
 
         int size = segments.length;
@@ -48,6 +65,15 @@ public interface StringToMultiValueConverter extends MultiValueConverter<String>
         return convert(segments, size, multiValueType, elementType);
     }
 
+    /**
+     * Get the {@link Tokenizer} to split the source
+     *
+     * @return {@link Tokenizer#DEFAULT} as default
+     */
+    default Tokenizer getTokenizer() {
+        return Tokenizer.DEFAULT;
+    }
+
     /**
      * Convert the segments to multiple value object
      *
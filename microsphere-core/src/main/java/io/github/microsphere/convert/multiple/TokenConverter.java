@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert.multiple;
+
+import io.github.microsphere.convert.Converter;
+import io.github.microsphere.convert.ToDoubleConverter;
+import io.github.microsphere.convert.ToIntConverter;
+import io.github.microsphere.convert.ToLongConverter;
+import io.github.microsphere.text.Tokenizer;
+
+/**
+ * The {@link Tokenizer.TokenHandler} converts the tokens into the elements, the numeric elements are parsed from
+ * the ranges of source by the primitive-specialized converters, the others are converted from the substrings.
+ *
+ * @see Tokenizer
+ * @since 1.0.0
+ */
+abstract class TokenConverter implements Tokenizer.TokenHandler {
+
+    private final Converter converter;
+
+    private final Class<?> elementType;
+
+    private int index;
+
+    TokenConverter(Converter converter, Class<?> elementType) {
+        this.converter = converter;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public final void onToken(CharSequence source, int start, int end) {
+        onElement(index++, convert(source, start, end));
+    }
+
+    /**
+     * Handle the converted element
+     *
+     * @param index   the index of element
+     * @param element the converted element
+     */
+    protected abstract void onElement(int index, Object element);
+
+    protected final Object convert(CharSequence source, int start, int end) {
+        if (start < end) {
+            if (Integer.class.equals(elementType) && converter instanceof ToIntConverter) {
+                return ((ToIntConverter) converter).convertToInt(source, start, end);
+            } else if (Long.class.equals(elementType) && converter instanceof ToLongConverter) {
+                return ((ToLongConverter) converter).convertToLong(source, start, end);
+            } else if (Double.class.equals(elementType) && converter instanceof ToDoubleConverter) {
+                return ((ToDoubleConverter) converter).convertToDouble(source, start, end);
+            }
+        }
+        return converter.convert(source.subSequence(start, end).toString());
+    }
+}
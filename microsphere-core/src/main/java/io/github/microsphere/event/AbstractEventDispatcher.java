@@ -16,7 +16,9 @@
  */
 package io.github.microsphere.event;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -24,12 +26,15 @@ import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static io.github.microsphere.event.EventListener.findEventType;
 import static io.github.microsphere.util.ServiceLoaderUtils.loadServicesList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.sort;
 import static java.util.Collections.unmodifiableList;
 
@@ -49,8 +54,24 @@ public abstract class AbstractEventDispatcher implements EventDispatcher {
 
     private final ConcurrentMap<Class<? extends Event>, List<EventListener>> listenersCache = new ConcurrentHashMap<>();
 
+    /**
+     * The copy-on-write dispatch index : the concrete {@link Event} class as the key, the resolved and sorted
+     * {@link DispatchEntry} as the value, it will be reset once any {@link EventListener} is added or removed.
+     */
+    private volatile Map<Class<?>, DispatchEntry> dispatchIndex = emptyMap();
+
     private final Executor executor;
 
+    /**
+     * The number of the dispatched events that are waiting for the execution, it's only counted if observed.
+     */
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+
+    /**
+     * The optional {@link EventDispatchObserver}, <code>null</code> means the instrumentation is disabled
+     */
+    private volatile EventDispatchObserver eventDispatchObserver;
+
     /**
      * Constructor with an instance of {@link Executor}
      *
@@ -112,23 +133,100 @@ public abstract class AbstractEventDispatcher implements EventDispatcher {
 
     @Override
     public void dispatch(Event event) {
+        DispatchEntry entry = getDispatchEntry(event.getClass());
+        if (entry.isEmpty()) {
+            return;
+        }
 
         Executor executor = getExecutor();
+        EventDispatchObserver observer = this.eventDispatchObserver;
 
         // execute in sequential or parallel execution model
-        executor.execute(() -> {
-            sortedListeners(entry -> entry.getKey().isAssignableFrom(event.getClass()))
-                    .forEach(listener -> {
-                        if (listener instanceof ConditionalEventListener) {
-                            ConditionalEventListener predicateEventListener = (ConditionalEventListener) listener;
-                            if (!predicateEventListener.accept(event)) { // No accept
-                                return;
-                            }
-                        }
-                        // Handle the event
-                        listener.onEvent(event);
-                    });
-        });
+        if (observer != null) {
+            long dispatchTime = System.nanoTime();
+            pendingEvents.incrementAndGet();
+            executor.execute(() -> {
+                pendingEvents.decrementAndGet();
+                entry.invoke(event, observer, System.nanoTime() - dispatchTime);
+            });
+        } else if (executor == DIRECT_EXECUTOR) {
+            entry.invoke(event);
+        } else {
+            executor.execute(() -> entry.invoke(event));
+        }
+    }
+
+    /**
+     * Invoke the matched {@link EventListener event listeners} in the current thread, the sub-class could reuse it
+     * to handle the {@link Event} in its own execution model.
+     *
+     * @param event {@link Event event}
+     */
+    protected void invokeEventListeners(Event event) {
+        DispatchEntry entry = getDispatchEntry(event.getClass());
+        EventDispatchObserver observer = this.eventDispatchObserver;
+        if (observer == null) {
+            entry.invoke(event);
+        } else if (!entry.isEmpty()) {
+            long delayMillis = System.currentTimeMillis() - event.getTimestamp();
+            entry.invoke(event, observer, TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis)));
+        }
+    }
+
+    /**
+     * Get the number of the dispatched events that are waiting for the execution
+     *
+     * @return the approximate number, it's counted only if the {@link EventDispatchObserver} is set, the sub-class
+     * should override it if the events are queued in its own execution model
+     */
+    public int getPendingEvents() {
+        return pendingEvents.get();
+    }
+
+    /**
+     * Set the {@link EventDispatchObserver} to instrument current dispatcher
+     *
+     * @param eventDispatchObserver {@link EventDispatchObserver}, <code>null</code> to disable the instrumentation
+     */
+    public void setEventDispatchObserver(EventDispatchObserver eventDispatchObserver) {
+        this.eventDispatchObserver = eventDispatchObserver;
+    }
+
+    /**
+     * @return the {@link EventDispatchObserver} if set, or <code>null</code>
+     */
+    public EventDispatchObserver getEventDispatchObserver() {
+        return eventDispatchObserver;
+    }
+
+    private DispatchEntry getDispatchEntry(Class<?> eventClass) {
+        DispatchEntry entry = dispatchIndex.get(eventClass);
+        if (entry == null) {
+            entry = resolveDispatchEntry(eventClass);
+        }
+        return entry;
+    }
+
+    private DispatchEntry resolveDispatchEntry(Class<?> eventClass) {
+        synchronized (mutex) {
+            Map<Class<?>, DispatchEntry> index = this.dispatchIndex;
+            DispatchEntry entry = index.get(eventClass);
+            if (entry == null) {
+                List<EventListener> listeners = new ArrayList<>();
+                listenersCache.forEach((eventType, eventListeners) -> {
+                    if (eventType.isAssignableFrom(eventClass)) {
+                        listeners.addAll(eventListeners);
+                    }
+                });
+                sort(listeners);
+                entry = new DispatchEntry(listeners.toArray(new EventListener[0]));
+                // copy-on-write
+                Map<Class<?>, DispatchEntry> newIndex = new HashMap<>(index);
+                newIndex.put(eventClass, entry);
+                this.dispatchIndex = newIndex;
+            }
+            return entry;
+        }
     }
 
     /**
@@ -148,6 +246,8 @@ public abstract class AbstractEventDispatcher implements EventDispatcher {
                 consumer.accept(listeners);
                 // sort
                 sort(listeners);
+                // reset the dispatch index
+                dispatchIndex = emptyMap();
             }
         }
     }
@@ -167,4 +267,83 @@ public abstract class AbstractEventDispatcher implements EventDispatcher {
                 .sorted()
                 .forEach(this::addEventListener);
     }
+
+    /**
+     * Wait for the specified threads to die, if current thread is interrupted, it will stop waiting and
+     * restore the interrupted status.
+     *
+     * @param threads the threads to join
+     */
+    static void join(Thread... threads) {
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The pre-resolved {@link EventListener event listeners} for a concrete {@link Event} class
+     */
+    private static final class DispatchEntry {
+
+        private final EventListener[] listeners;
+
+        private final boolean[] conditionals;
+
+        DispatchEntry(EventListener[] listeners) {
+            int size = listeners.length;
+            this.listeners = listeners;
+            this.conditionals = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                conditionals[i] = listeners[i] instanceof ConditionalEventListener;
+            }
+        }
+
+        boolean isEmpty() {
+            return listeners.length == 0;
+        }
+
+        void invoke(Event event) {
+            EventListener[] listeners = this.listeners;
+            boolean[] conditionals = this.conditionals;
+            for (int i = 0; i < listeners.length; i++) {
+                EventListener listener = listeners[i];
+                if (conditionals[i] && !((ConditionalEventListener) listener).accept(event)) { // No accept
+                    continue;
+                }
+                // Handle the event
+                listener.onEvent(event);
+            }
+        }
+
+        void invoke(Event event, EventDispatchObserver observer, long delayNanos) {
+            observer.onExecute(event, delayNanos);
+            try {
+                EventListener[] listeners = this.listeners;
+                boolean[] conditionals = this.conditionals;
+                for (int i = 0; i < listeners.length; i++) {
+                    EventListener listener = listeners[i];
+                    if (conditionals[i] && !((ConditionalEventListener) listener).accept(event)) { // No accept
+                        continue;
+                    }
+                    long startTime = System.nanoTime();
+                    Throwable failure = null;
+                    try {
+                        // Handle the event
+                        listener.onEvent(event);
+                    } catch (Throwable e) {
+                        failure = e;
+                        throw e;
+                    } finally {
+                        observer.onListenerInvoked(listener, event, System.nanoTime() - startTime, failure);
+                    }
+                }
+            } finally {
+                observer.onComplete(event);
+            }
+        }
+    }
 }
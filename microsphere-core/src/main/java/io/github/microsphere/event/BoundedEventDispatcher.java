@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous {@link EventDispatcher} implementation with a bounded queue and the dedicated worker threads, the
+ * {@link OverflowPolicy} decides how to handle the {@link Event event} if the queue is full, thus the backlog of slow
+ * {@link EventListener event listeners} could not exhaust the heap.
+ * <p>
+ * With {@link OverflowPolicy#COALESCE}, the pending {@link Partitionable partitionable} events with the same key
+ * are coalesced, only the latest one will be handled.
+ *
+ * @see OverflowPolicy
+ * @see ParallelEventDispatcher
+ * @since 1.0.0
+ */
+public class BoundedEventDispatcher extends AbstractEventDispatcher implements AutoCloseable {
+
+    /**
+     * The default capacity of queue
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedEventDispatcher.class);
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final BlockingQueue<Event> queue;
+
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * The latest pending events for {@link OverflowPolicy#COALESCE}
+     */
+    private final ConcurrentMap<Object, Event> pendingEvents;
+
+    private final Thread[] workers;
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private final AtomicLong coalescedEvents = new AtomicLong();
+
+    /**
+     * The number of publishers being in {@link #dispatch(Event)}, the workers won't exit until it's zero
+     */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public BoundedEventDispatcher() {
+        this(DEFAULT_CAPACITY, Runtime.getRuntime().availableProcessors(), OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param capacity       the capacity of queue
+     * @param workers        the number of worker threads
+     * @param overflowPolicy {@link OverflowPolicy}
+     * @throws IllegalArgumentException if any argument is illegal
+     */
+    public BoundedEventDispatcher(int capacity, int workers, OverflowPolicy overflowPolicy) throws IllegalArgumentException {
+        super(DIRECT_EXECUTOR);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive : " + capacity);
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("The number of workers must be positive : " + workers);
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("The overflow policy must not be null");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.pendingEvents = overflowPolicy == OverflowPolicy.COALESCE ? new ConcurrentHashMap<>() : null;
+        this.workers = startWorkers(workers);
+    }
+
+    private Thread[] startWorkers(int size) {
+        Thread[] workers = new Thread[size];
+        for (int i = 0; i < size; i++) {
+            Thread worker = new Thread(this::work, getClass().getSimpleName() + "-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers[i] = worker;
+        }
+        return workers;
+    }
+
+    /**
+     * Enqueue the {@link Event event}, or handle it by {@link OverflowPolicy} if the queue is full
+     *
+     * @param event {@link Event event}
+     * @throws IllegalStateException if current dispatcher was closed, or the queue is full with
+     *                               {@link OverflowPolicy#ABORT}
+     */
+    @Override
+    public void dispatch(Event event) throws IllegalStateException {
+        producers.incrementAndGet();
+        try {
+            doDispatch(event);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    private void doDispatch(Event event) throws IllegalStateException {
+        if (!running) {
+            throw new IllegalStateException(getClass().getSimpleName() + " was closed");
+        }
+
+        Object coalescingKey = pendingEvents == null ? null : getCoalescingKey(event);
+        if (coalescingKey != null && pendingEvents.put(coalescingKey, event) != null) {
+            // the pending one has not been taken by the worker, which will handle current event instead
+            coalescedEvents.incrementAndGet();
+            return;
+        }
+
+        boolean enqueued = false;
+        try {
+            enqueued = enqueue(event);
+        } finally {
+            if (!enqueued && coalescingKey != null) {
+                // release the key, otherwise the later events with the same key would be coalesced into nothing
+                pendingEvents.remove(coalescingKey);
+            }
+        }
+    }
+
+    /**
+     * Enqueue the {@link Event event}, or handle it by {@link OverflowPolicy} if the queue is full
+     *
+     * @param event {@link Event event}
+     * @return <code>true</code> if the event was enqueued
+     * @throws IllegalStateException if the queue is full with {@link OverflowPolicy#ABORT}
+     */
+    private boolean enqueue(Event event) throws IllegalStateException {
+        if (queue.offer(event)) {
+            return true;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedEvents.incrementAndGet();
+                return false;
+            case DROP_OLDEST:
+                do {
+                    if (queue.poll() != null) {
+                        droppedEvents.incrementAndGet();
+                    }
+                } while (!queue.offer(event));
+                return true;
+            case ABORT:
+                throw new IllegalStateException("The queue of " + getClass().getSimpleName() + " is full : " + queue.size());
+            case CALLER_RUNS:
+                handleEvent(event);
+                return false;
+            default: // BLOCK or COALESCE
+                return put(event);
+        }
+    }
+
+    private boolean put(Event event) {
+        try {
+            queue.put(event);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedEvents.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * Get the coalescing key of {@link Event event} for {@link OverflowPolicy#COALESCE}
+     *
+     * @param event {@link Event event}
+     * @return <code>null</code> if the event can't be coalesced
+     */
+    protected Object getCoalescingKey(Event event) {
+        return event instanceof Partitionable ? ((Partitionable) event).getPartitionKey() : null;
+    }
+
+    /**
+     * @return the approximate number of pending events in the queue
+     */
+    @Override
+    public int getPendingEvents() {
+        return queue.size();
+    }
+
+    /**
+     * @return the total number of dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return the total number of coalesced events
+     */
+    public long getCoalescedEvents() {
+        return coalescedEvents.get();
+    }
+
+    /**
+     * @return the {@link OverflowPolicy}
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Stop accepting the new {@link Event events} and wait for the workers handling the pending ones, including
+     * the ones being published concurrently.
+     * <p>
+     * If current thread is interrupted, it will stop waiting and restore the interrupted status.
+     */
+    @Override
+    public void close() {
+        running = false;
+        join(workers);
+    }
+
+    private void work() {
+        for (; ; ) {
+            Event event;
+            try {
+                event = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (event == null) {
+                if (running || producers.get() > 0 || !queue.isEmpty()) {
+                    continue;
+                }
+                break;
+            }
+            if (pendingEvents != null) {
+                Object key = getCoalescingKey(event);
+                if (key != null) {
+                    // take the latest event of the key, or skip if it has been handled
+                    event = pendingEvents.remove(key);
+                    if (event == null) {
+                        continue;
+                    }
+                }
+            }
+            handleEvent(event);
+        }
+    }
+
+    private void handleEvent(Event event) {
+        try {
+            invokeEventListeners(event);
+        } catch (Throwable e) {
+            logger.error("Failed to handle the event : {}", event, e);
+        }
+    }
+}
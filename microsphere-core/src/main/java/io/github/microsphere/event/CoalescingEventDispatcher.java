@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * The decorator of {@link EventDispatcher} coalesces the idempotent {@link Event events} that have the same
+ * coalescing key within a time or size window, only the latest or the merged event per key will be delivered to the
+ * delegate {@link EventDispatcher}.
+ * <p>
+ * The coalescing key of {@link Event event} is resolved by the key resolver, the {@link Partitionable#getPartitionKey()
+ * partition key} by default. The events without the key are dispatched immediately.
+ * <p>
+ * The window is flushed periodically, or once the number of pending keys reaches the max size.
+ *
+ * @see EventDispatcher
+ * @see Partitionable
+ * @since 1.0.0
+ */
+public class CoalescingEventDispatcher implements EventDispatcher, AutoCloseable {
+
+    /**
+     * The default max number of pending keys in the window
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final EventDispatcher delegate;
+
+    private final int maxSize;
+
+    private final Function<Event, Object> keyResolver;
+
+    private final BinaryOperator<Event> merger;
+
+    private final ConcurrentMap<Object, Event> pendingEvents = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder coalescedEvents = new LongAdder();
+
+    private volatile boolean running = true;
+
+    /**
+     * @param delegate the delegate {@link EventDispatcher}
+     * @param window   the time window
+     * @param unit     the {@link TimeUnit} of time window
+     * @throws IllegalArgumentException if any argument is illegal
+     */
+    public CoalescingEventDispatcher(EventDispatcher delegate, long window, TimeUnit unit) throws IllegalArgumentException {
+        this(delegate, window, unit, DEFAULT_MAX_SIZE, CoalescingEventDispatcher::getPartitionKey, (previous, latest) -> latest);
+    }
+
+    /**
+     * @param delegate    the delegate {@link EventDispatcher}
+     * @param window      the time window
+     * @param unit        the {@link TimeUnit} of time window
+     * @param maxSize     the max number of pending keys in the window
+     * @param keyResolver the resolver of coalescing key, the event won't be coalesced if the key is <code>null</code>
+     * @param merger      the merger of the pending event and the latest one with the same key
+     * @throws IllegalArgumentException if any argument is illegal
+     */
+    public CoalescingEventDispatcher(EventDispatcher delegate, long window, TimeUnit unit, int maxSize,
+                                     Function<Event, Object> keyResolver, BinaryOperator<Event> merger) throws IllegalArgumentException {
+        if (delegate == null) {
+            throw new IllegalArgumentException("The delegate must not be null");
+        }
+        if (window < 1 || unit == null) {
+            throw new IllegalArgumentException("The time window must be positive : " + window + " " + unit);
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The max size must be positive : " + maxSize);
+        }
+        if (keyResolver == null || merger == null) {
+            throw new IllegalArgumentException("The key resolver and merger must not be null");
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.keyResolver = keyResolver;
+        this.merger = merger;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, getClass().getSimpleName() + "-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, window, window, unit);
+    }
+
+    /**
+     * Dispatch the {@link Event event} without the coalescing key immediately, or put it into the window
+     *
+     * @param event {@link Event event}
+     * @throws IllegalStateException if current dispatcher was closed
+     */
+    @Override
+    public void dispatch(Event event) throws IllegalStateException {
+        if (!running) {
+            throw new IllegalStateException(getClass().getSimpleName() + " was closed");
+        }
+
+        Object key = keyResolver.apply(event);
+        if (key == null) {
+            delegate.dispatch(event);
+            return;
+        }
+
+        pendingEvents.compute(key, (k, previous) -> {
+            if (previous == null) {
+                return event;
+            }
+            coalescedEvents.increment();
+            return merger.apply(previous, event);
+        });
+
+        // flush by itself if current dispatcher was closed concurrently, or the event may be missed by close()
+        if (!running || pendingEvents.size() >= maxSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Flush the pending {@link Event events} to the delegate {@link EventDispatcher}
+     */
+    public void flush() {
+        Iterator<Map.Entry<Object, Event>> iterator = pendingEvents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Event> entry = iterator.next();
+            Event event = entry.getValue();
+            // remove the event only if it is not changed, or it will be flushed in the next time
+            if (pendingEvents.remove(entry.getKey(), event)) {
+                delegate.dispatch(event);
+            }
+        }
+    }
+
+    /**
+     * @return the number of pending keys in the window
+     */
+    public int getPendingEvents() {
+        return pendingEvents.size();
+    }
+
+    /**
+     * @return the total number of events coalesced into the pending ones
+     */
+    public long getCoalescedEvents() {
+        return coalescedEvents.sum();
+    }
+
+    /**
+     * @return the delegate {@link EventDispatcher}
+     */
+    public EventDispatcher getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return delegate.getExecutor();
+    }
+
+    @Override
+    public void addEventListener(EventListener<?> listener) throws NullPointerException, IllegalArgumentException {
+        delegate.addEventListener(listener);
+    }
+
+    @Override
+    public void removeEventListener(EventListener<?> listener) throws NullPointerException, IllegalArgumentException {
+        delegate.removeEventListener(listener);
+    }
+
+    @Override
+    public List<EventListener<?>> getAllEventListeners() {
+        return delegate.getAllEventListeners();
+    }
+
+    /**
+     * Stop accepting the new {@link Event events} and the periodic flushing, wait for the flushing in progress, and
+     * then flush the pending {@link Event events}.
+     * <p>
+     * If current thread is interrupted, it will stop waiting and restore the interrupted status.
+     */
+    @Override
+    public void close() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private static Object getPartitionKey(Event event) {
+        return event instanceof Partitionable ? ((Partitionable) event).getPartitionKey() : null;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static io.github.microsphere.event.EventDispatcher.DIRECT_EXECUTOR;
+
+/**
+ * The task of {@link TimingWheel} dispatches the {@link Event event} when expired, it only hands off the dispatching
+ * to the {@link EventDispatcher#getExecutor() executor of dispatcher} in the ticker thread, or to the shared
+ * dedicated thread if the dispatcher runs in the caller thread, thus the slow {@link EventListener listeners} or the
+ * blocked {@link EventDispatcher#dispatch(Event) dispatching} could not delay the other timeouts of the wheel.
+ *
+ * @see EventDispatcher#dispatch(Event, long, java.util.concurrent.TimeUnit)
+ * @see EventDispatcher#dispatchAtFixedRate(Supplier, long, long, java.util.concurrent.TimeUnit)
+ * @since 1.0.0
+ */
+final class DelayedDispatchTask implements Runnable {
+
+    private final EventDispatcher dispatcher;
+
+    private final Supplier<? extends Event> eventSupplier;
+
+    DelayedDispatchTask(EventDispatcher dispatcher, Supplier<? extends Event> eventSupplier) {
+        this.dispatcher = dispatcher;
+        this.eventSupplier = eventSupplier;
+    }
+
+    @Override
+    public void run() {
+        Executor executor = dispatcher.getExecutor();
+        if (executor == null || executor == DIRECT_EXECUTOR) {
+            executor = DefaultExecutorHolder.INSTANCE;
+        }
+        executor.execute(() -> dispatcher.dispatch(eventSupplier.get()));
+    }
+
+    private static class DefaultExecutorHolder {
+
+        private static final ExecutorService INSTANCE = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "EventDispatcher-delayed");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -46,4 +46,13 @@ public abstract class Event extends EventObject {
     public long getTimestamp() {
         return timestamp;
     }
+
+    /**
+     * Restore the transient {@link EventObject#source source} after the event is decoded by {@link EventCodec}
+     *
+     * @param source the source of event
+     */
+    void setSource(Object source) {
+        this.source = source;
+    }
 }
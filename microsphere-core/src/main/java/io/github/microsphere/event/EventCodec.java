@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The codec of {@link Event} encodes the event into the {@link ByteBuffer} directly, e.g. the memory-mapped buffer,
+ * and decodes it from the {@link ByteBuffer}.
+ *
+ * @see SerializableEventCodec
+ * @see EventJournal
+ * @since 1.0.0
+ */
+public interface EventCodec {
+
+    /**
+     * Encode the {@link Event event} into the buffer from its position
+     *
+     * @param event  {@link Event event}
+     * @param buffer the target {@link ByteBuffer}, whose position will be advanced
+     * @throws IOException             if failed to encode
+     * @throws BufferOverflowException if the buffer has no enough space
+     */
+    void encode(Event event, ByteBuffer buffer) throws IOException, BufferOverflowException;
+
+    /**
+     * Decode the {@link Event event} from the remaining content of buffer
+     *
+     * @param buffer the source {@link ByteBuffer}
+     * @return non-null
+     * @throws IOException if failed to decode
+     */
+    Event decode(ByteBuffer buffer) throws IOException;
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+/**
+ * The observer of {@link AbstractEventDispatcher} is notified when the {@link Event events} are executed and the
+ * {@link EventListener event listeners} are invoked, which could be used to record the metrics.
+ * <p>
+ * The callbacks are invoked in the thread that executes the event, thus the implementation should be thread-safe
+ * and low-overhead.
+ *
+ * @see AbstractEventDispatcher#setEventDispatchObserver(EventDispatchObserver)
+ * @since 1.0.0
+ */
+public interface EventDispatchObserver {
+
+    /**
+     * Callback before the {@link EventListener event listeners} are invoked for the {@link Event event}
+     *
+     * @param event      {@link Event event}
+     * @param delayNanos the delay in nanoseconds from dispatching to execution, it's measured from the
+     *                   {@link Event#getTimestamp() timestamp of event} if the event was queued by the sub-class
+     */
+    default void onExecute(Event event, long delayNanos) {
+    }
+
+    /**
+     * Callback after an {@link EventListener event listener} handled the {@link Event event}
+     *
+     * @param listener      {@link EventListener event listener}
+     * @param event         {@link Event event}
+     * @param durationNanos the duration in nanoseconds of handling
+     * @param failure       the failure was thrown by the listener, or <code>null</code> if successful
+     */
+    default void onListenerInvoked(EventListener<?> listener, Event event, long durationNanos, Throwable failure) {
+    }
+
+    /**
+     * Callback after all {@link EventListener event listeners} were invoked for the {@link Event event}
+     *
+     * @param event {@link Event event}
+     */
+    default void onComplete(Event event) {
+    }
+}
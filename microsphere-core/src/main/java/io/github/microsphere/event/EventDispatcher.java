@@ -17,6 +17,8 @@
 package io.github.microsphere.event;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * {@link Event Dubbo Event} Dispatcher
@@ -40,6 +42,37 @@ public interface EventDispatcher extends Listenable<EventListener<?>> {
      */
     void dispatch(Event event);
 
+    /**
+     * Dispatch a Dubbo event after the delay, it's scheduled by the {@link TimingWheel#getDefault() default}
+     * {@link TimingWheel}, and dispatched by the {@link #getExecutor() executor} when expired, or by a shared
+     * dedicated thread if the executor is {@link #DIRECT_EXECUTOR direct}
+     *
+     * @param event a {@link Event Dubbo event}
+     * @param delay the delay
+     * @param unit  the {@link TimeUnit} of delay
+     * @return the {@link TimingWheel.Timeout} could be cancelled
+     */
+    default TimingWheel.Timeout dispatch(Event event, long delay, TimeUnit unit) {
+        return TimingWheel.getDefault().schedule(new DelayedDispatchTask(this, () -> event), delay, unit);
+    }
+
+    /**
+     * Dispatch the Dubbo events periodically, it's scheduled by the {@link TimingWheel#getDefault() default}
+     * {@link TimingWheel}, and dispatched by the {@link #getExecutor() executor} for each period, or by a shared
+     * dedicated thread if the executor is {@link #DIRECT_EXECUTOR direct}
+     *
+     * @param eventSupplier the {@link Supplier} of {@link Event Dubbo event} for each period
+     * @param initialDelay  the initial delay
+     * @param period        the period
+     * @param unit          the {@link TimeUnit} of delay and period
+     * @return the {@link TimingWheel.Timeout} could be cancelled to stop the repetition
+     */
+    default TimingWheel.Timeout dispatchAtFixedRate(Supplier<? extends Event> eventSupplier, long initialDelay,
+                                                    long period, TimeUnit unit) {
+        return TimingWheel.getDefault().scheduleAtFixedRate(new DelayedDispatchTask(this, eventSupplier), initialDelay,
+                period, unit);
+    }
+
     /**
      * The {@link Executor} to dispatch a {@link Event Dubbo event}
      *
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * The append-only journal of {@link Event events} is stored in the segmented and memory-mapped files, the events are
+ * encoded by {@link EventCodec} into the {@link MappedByteBuffer} directly and read sequentially when replaying.
+ * <p>
+ * Each record is laid out as <code>[length : int][crc32 : int][payload : byte[length]]</code>, the length is written
+ * at last as the commit mark, so the torn record is ignored when the journal is reopened. The offset of record is the
+ * logical position across all segments, the segment file is named by its base offset.
+ * <p>
+ * The mapped buffers are {@link MappedByteBuffer#force() forced} to the storage device in batches, by the number of
+ * records or periodically on the dedicated flusher thread, or by {@link #flush()}.
+ *
+ * @see EventCodec
+ * @see JournalingEventDispatcher
+ * @since 1.0.0
+ */
+public class EventJournal implements AutoCloseable {
+
+    /**
+     * The default size of segment file in bytes
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default number of records per flushing
+     */
+    public static final int DEFAULT_FLUSH_RECORDS = 1024;
+
+    /**
+     * The suffix of segment file
+     */
+    public static final String SEGMENT_FILE_SUFFIX = ".journal";
+
+    private static final int HEADER_SIZE = 8;
+
+    private final File directory;
+
+    private final int segmentSize;
+
+    private final EventCodec codec;
+
+    private final int flushRecords;
+
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private final CRC32 crc32 = new CRC32();
+
+    /**
+     * The flusher of periodic flushing, or <code>null</code> if disabled
+     */
+    private final ScheduledExecutorService flusher;
+
+    private Segment current;
+
+    private boolean closed;
+
+    private int unflushedRecords;
+
+    private volatile long nextOffset;
+
+    /**
+     * The events are encoded by {@link SerializableEventCodec#INSTANCE}, whose default filter only accepts the classes
+     * of {@link SerializableEventCodec#DEFAULT_CLASS_NAME_FILTER the framework and the common value types}, the
+     * journal of application events should be created with the {@link SerializableEventCodec} of custom filter.
+     *
+     * @param directory the directory of segment files
+     * @throws IOException if failed to open the journal
+     */
+    public EventJournal(File directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, SerializableEventCodec.INSTANCE, DEFAULT_FLUSH_RECORDS, 0L);
+    }
+
+    /**
+     * @param directory          the directory of segment files
+     * @param segmentSize        the size of segment file in bytes
+     * @param codec              {@link EventCodec}
+     * @param flushRecords       the number of records per flushing
+     * @param flushIntervalMills the interval of periodic flushing in milliseconds, <code>0</code> to disable
+     * @throws IllegalArgumentException if any argument is illegal
+     * @throws IOException              if failed to open the journal
+     */
+    public EventJournal(File directory, int segmentSize, EventCodec codec, int flushRecords, long flushIntervalMills)
+            throws IllegalArgumentException, IOException {
+        if (directory == null || codec == null) {
+            throw new IllegalArgumentException("The directory and codec must not be null");
+        }
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("The segment size is too small : " + segmentSize);
+        }
+        if (flushRecords < 1) {
+            throw new IllegalArgumentException("The number of records per flushing must be positive : " + flushRecords);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("The directory can't be created : " + directory);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.codec = codec;
+        this.flushRecords = flushRecords;
+        recover();
+        if (flushIntervalMills > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, getClass().getSimpleName() + "-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleAtFixedRate(this::flush, flushIntervalMills, flushIntervalMills, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Append the {@link Event event} into the journal
+     *
+     * @param event {@link Event event}
+     * @return the offset of record
+     * @throws IllegalArgumentException if the encoded event exceeds the segment size
+     * @throws IllegalStateException    if the journal was closed
+     * @throws IOException              if failed to encode or create the segment file, the journal is unchanged if
+     *                                  failed to encode, e.g. the class is not accepted by {@link EventCodec}
+     */
+    public synchronized long append(Event event) throws IllegalArgumentException, IllegalStateException, IOException {
+        if (closed) {
+            throw new IllegalStateException(getClass().getSimpleName() + " was closed : " + directory);
+        }
+        Segment segment = this.current;
+        if (segmentSize - segment.buffer.position() <= HEADER_SIZE) {
+            segment = roll();
+        }
+        int position = segment.buffer.position();
+        if (!encode(event, segment.buffer)) {
+            if (position == 0) {
+                throw new IllegalArgumentException("The encoded event exceeds the segment size : " + segmentSize);
+            }
+            segment = roll();
+            position = 0;
+            if (!encode(event, segment.buffer)) {
+                throw new IllegalArgumentException("The encoded event exceeds the segment size : " + segmentSize);
+            }
+        }
+        nextOffset = segment.baseOffset + segment.buffer.position();
+        if (++unflushedRecords >= flushRecords) {
+            flush();
+        }
+        return segment.baseOffset + position;
+    }
+
+    /**
+     * Replay the {@link Event events} from the offset, the records are verified by the checksum as same as the
+     * recovery, the rest of segment is skipped since the torn or corrupted record.
+     *
+     * @param fromOffset the offset of record that was returned by {@link #append(Event)} or this method
+     * @param consumer   the {@link Consumer} of {@link Event events}
+     * @return the offset of next record to replay
+     * @throws IOException if failed to decode the event
+     */
+    public long replay(long fromOffset, Consumer<? super Event> consumer) throws IOException {
+        long endOffset = this.nextOffset;
+        long offset = Math.max(fromOffset, getFirstOffset());
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        if (entry == null) {
+            return offset;
+        }
+        CRC32 crc32 = new CRC32();
+        for (Segment segment : segments.tailMap(entry.getKey(), true).values()) {
+            long baseOffset = segment.baseOffset;
+            if (baseOffset >= endOffset) {
+                break;
+            }
+            int limit = (int) Math.min(segment.limit, endOffset - baseOffset);
+            int position = (int) Math.max(0, offset - baseOffset);
+            ByteBuffer buffer = segment.buffer.duplicate();
+            while (position + HEADER_SIZE <= limit) {
+                int length = buffer.getInt(position);
+                int start = position + HEADER_SIZE;
+                if (!isValid(buffer, crc32, length, start, limit)) {
+                    break;
+                }
+                buffer.limit(start + length).position(start);
+                Event event = codec.decode(buffer);
+                buffer.limit(buffer.capacity());
+                position = start + length;
+                offset = baseOffset + position;
+                consumer.accept(event);
+            }
+            offset = Math.max(offset, baseOffset + limit);
+        }
+        return offset;
+    }
+
+    /**
+     * Force the appended records to the storage device
+     */
+    public synchronized void flush() {
+        if (!closed && unflushedRecords > 0) {
+            current.buffer.force();
+            unflushedRecords = 0;
+        }
+    }
+
+    /**
+     * @return the offset of the first record
+     */
+    public long getFirstOffset() {
+        return segments.isEmpty() ? 0L : segments.firstKey();
+    }
+
+    /**
+     * @return the offset of the next record to append
+     */
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * @return the directory of segment files
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Flush the appended records and close the segment files
+     *
+     * @throws IOException if failed to close
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+        closed = true;
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+    }
+
+    private boolean encode(Event event, MappedByteBuffer buffer) throws IOException {
+        int position = buffer.position();
+        int start = position + HEADER_SIZE;
+        try {
+            buffer.position(start);
+            codec.encode(event, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(position);
+            return false;
+        } catch (IOException | RuntimeException e) {
+            // discard the partial record
+            buffer.position(position);
+            throw e;
+        }
+        int end = buffer.position();
+        int length = end - start;
+        buffer.putInt(position + 4, checksum(buffer, crc32, start, length));
+        // commit
+        buffer.putInt(position, length);
+        return true;
+    }
+
+    private static int checksum(ByteBuffer buffer, CRC32 crc32, int start, int length) {
+        ByteBuffer payload = buffer.duplicate();
+        payload.limit(start + length).position(start);
+        crc32.reset();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+
+    private Segment roll() throws IOException {
+        Segment segment = this.current;
+        segment.limit = segment.buffer.position();
+        segment.buffer.force();
+        unflushedRecords = 0;
+        return this.current = openSegment(segment.baseOffset + segment.limit);
+    }
+
+    private void recover() throws IOException {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_FILE_SUFFIX));
+        if (files == null || files.length == 0) {
+            this.current = openSegment(0L);
+            return;
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            String name = file.getName();
+            long baseOffset = Long.parseLong(name.substring(0, name.length() - SEGMENT_FILE_SUFFIX.length()));
+            Segment segment = openSegment(baseOffset);
+            segment.limit = scan(segment.buffer);
+            this.current = segment;
+        }
+        current.buffer.position(current.limit);
+        current.limit = segmentSize;
+        this.nextOffset = current.baseOffset + current.buffer.position();
+    }
+
+    /**
+     * Scan the valid records
+     *
+     * @return the end position of valid records
+     */
+    private int scan(ByteBuffer buffer) {
+        int position = 0;
+        while (position + HEADER_SIZE <= segmentSize) {
+            int length = buffer.getInt(position);
+            int start = position + HEADER_SIZE;
+            if (!isValid(buffer, crc32, length, start, segmentSize)) {
+                break;
+            }
+            position = start + length;
+        }
+        return position;
+    }
+
+    /**
+     * Verify the record by its length and checksum
+     *
+     * @return <code>false</code> if the record is torn or corrupted
+     */
+    private static boolean isValid(ByteBuffer buffer, CRC32 crc32, int length, int start, int limit) {
+        if (length <= 0 || length > limit - start) {
+            return false;
+        }
+        return buffer.getInt(start - 4) == checksum(buffer, crc32, start, length);
+    }
+
+    private Segment openSegment(long baseOffset) throws IOException {
+        File file = new File(directory, format("%020d%s", baseOffset, SEGMENT_FILE_SUFFIX));
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        FileChannel channel = randomAccessFile.getChannel();
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        Segment segment = new Segment(baseOffset, channel, buffer);
+        segments.put(baseOffset, segment);
+        return segment;
+    }
+
+    private class Segment {
+
+        private final long baseOffset;
+
+        private final FileChannel channel;
+
+        private final MappedByteBuffer buffer;
+
+        /**
+         * The end position of records for the sealed segment, or the segment size for the current one
+         */
+        private volatile int limit;
+
+        Segment(long baseOffset, FileChannel channel, MappedByteBuffer buffer) {
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.limit = segmentSize;
+        }
+    }
+}
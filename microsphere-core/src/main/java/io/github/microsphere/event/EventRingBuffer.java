@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import io.github.microsphere.concurrent.Sequence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * The pre-allocated and bounded ring buffer of {@link Event events} supports multiple producers and consumers,
+ * each slot is claimed by the sequence rather than locks.
+ *
+ * @see RingBufferEventDispatcher
+ * @since 1.0.0
+ */
+class EventRingBuffer {
+
+    /**
+     * The maximum capacity of ring buffer
+     */
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final int mask;
+
+    private final Event[] events;
+
+    /**
+     * The sequence of slot, it's equal to the position if the slot is writable,
+     * equal to <code>position + 1</code> if the slot is readable.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The producer and consumer sequences are padded, so that they do not share the same cache line
+     */
+    private final Sequence producerSequence = new Sequence();
+
+    private final Sequence consumerSequence = new Sequence();
+
+    /**
+     * @param capacity the capacity of ring buffer, it will be rounded up to the power of 2
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or exceeds {@link #MAXIMUM_CAPACITY}
+     */
+    EventRingBuffer(int capacity) throws IllegalArgumentException {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be in [1, " + MAXIMUM_CAPACITY + "] : " + capacity);
+        }
+        int size = roundUpToPowerOfTwo(capacity);
+        this.mask = size - 1;
+        this.events = new Event[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Try to publish the {@link Event event}
+     *
+     * @param event {@link Event event}
+     * @return <code>true</code> if published, <code>false</code> if the ring buffer is full
+     */
+    boolean offer(Event event) {
+        long position;
+        int index;
+        for (; ; ) {
+            position = producerSequence.get();
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerSequence.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) { // full
+                return false;
+            }
+        }
+        events[index] = event;
+        // publish
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Drain the available {@link Event events} in batch
+     *
+     * @param consumer the {@link Consumer} of {@link Event event}
+     * @param limit    the max number of events to be drained
+     * @return the number of drained events
+     */
+    int drain(Consumer<Event> consumer, int limit) {
+        int count = 0;
+        while (count < limit) {
+            long position = consumerSequence.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (consumerSequence.compareAndSet(position, position + 1)) {
+                    Event event = events[index];
+                    events[index] = null;
+                    // release the slot for the next round
+                    sequences.lazySet(index, position + mask + 1);
+                    count++;
+                    consumer.accept(event);
+                }
+            } else if (difference < 0) { // empty
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the approximate number of events in the ring buffer
+     */
+    int size() {
+        long size = producerSequence.get() - consumerSequence.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * @return the capacity of ring buffer
+     */
+    int capacity() {
+        return mask + 1;
+    }
+
+    static int roundUpToPowerOfTwo(int value) {
+        int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+}
@@ -16,17 +16,21 @@
  */
 package io.github.microsphere.event;
 
-import io.github.microsphere.lang.function.ThrowableConsumer;
-
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.github.microsphere.lang.function.ThrowableFunction.execute;
-import static java.util.Collections.emptySet;
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.stream.Stream.of;
 
 /**
@@ -41,6 +45,12 @@ import static java.util.stream.Stream.of;
  * <li>no {@link Exception exception} declaration</li>
  * <li>only one {@link Event} type argument</li>
  * </ul>
+ * <p>
+ * The handle methods are bound into {@link MethodHandle MethodHandles} once per listener class, and the handle methods
+ * for an {@link Event event} class, including the ones declared for its super-classes and interfaces, are resolved
+ * once and cached in the map of the listener class, which is held by a {@link ClassValue} keyed by the listener
+ * class only, so that no class value of the event classes references the listener classes and pins their
+ * {@link ClassLoader ClassLoaders}.
  *
  * @see Event
  * @see EventListener
@@ -48,81 +58,139 @@ import static java.util.stream.Stream.of;
  */
 public abstract class GenericEventListener implements EventListener<Event> {
 
-    private final Method onEventMethod;
+    private static final ClassValue<HandleEventMethods> handleEventMethodsCache = new ClassValue<HandleEventMethods>() {
+        @Override
+        protected HandleEventMethods computeValue(Class<?> listenerClass) {
+            return new HandleEventMethods(listenerClass);
+        }
+    };
 
-    private final Map<Class<?>, Set<Method>> handleEventMethods;
+    private final HandleEventMethods handleEventMethods;
 
     protected GenericEventListener() {
-        this.onEventMethod = findOnEventMethod();
-        this.handleEventMethods = findHandleEventMethods();
-    }
-
-    private Method findOnEventMethod() {
-        return execute(getClass(), listenerClass -> listenerClass.getMethod("onEvent", Event.class));
-    }
-
-    private Map<Class<?>, Set<Method>> findHandleEventMethods() {
-        // Event class for key, the eventMethods' Set as value
-        Map<Class<?>, Set<Method>> eventMethods = new HashMap<>();
-        of(getClass().getMethods()).filter(this::isHandleEventMethod).forEach(method -> {
-            Class<?> paramType = method.getParameterTypes()[0];
-            Set<Method> methods = eventMethods.computeIfAbsent(paramType, key -> new LinkedHashSet<>());
-            methods.add(method);
-        });
-        return eventMethods;
+        this.handleEventMethods = handleEventMethodsCache.get(getClass());
     }
 
     public final void onEvent(Event event) {
-        Class<?> eventClass = event.getClass();
-        handleEventMethods.getOrDefault(eventClass, emptySet()).forEach(method -> {
-            ThrowableConsumer.execute(method, m -> {
-                m.invoke(this, event);
-            });
-        });
+        MethodHandle[] methodHandles = handleEventMethods.get(event.getClass());
+        for (int i = 0; i < methodHandles.length; i++) {
+            try {
+                methodHandles[i].invokeExact(this, event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) { // never happen, the handle methods declare no exception
+                throw new IllegalStateException(e);
+            }
+        }
     }
 
     /**
-     * The {@link Event event} handle methods must meet following conditions:
-     * <ul>
-     * <li>not {@link #onEvent(Event)} method</li>
-     * <li><code>public</code> accessibility</li>
-     * <li><code>void</code> return type</li>
-     * <li>no {@link Exception exception} declaration</li>
-     * <li>only one {@link Event} type argument</li>
-     * </ul>
-     *
-     * @param method
-     * @return
+     * The {@link Event event} handle methods of a listener class
      */
-    private boolean isHandleEventMethod(Method method) {
+    private static final class HandleEventMethods {
 
-        if (onEventMethod.equals(method)) { // not {@link #onEvent(Event)} method
-            return false;
-        }
+        private static final MethodType HANDLE_EVENT_METHOD_TYPE = methodType(void.class, GenericEventListener.class, Event.class);
 
-        if (!Modifier.isPublic(method.getModifiers())) { // not public
-            return false;
-        }
+        private static final MethodHandle[] NO_METHOD_HANDLES = new MethodHandle[0];
+
+        /**
+         * The parameter type of handle methods as the key, the {@link MethodHandle MethodHandles} as the value
+         */
+        private final Map<Class<?>, List<MethodHandle>> methodHandles;
+
+        /**
+         * The {@link Event event} class as the key, the resolved {@link MethodHandle MethodHandles} as the value
+         */
+        private final ConcurrentMap<Class<?>, MethodHandle[]> eventMethodHandles = new ConcurrentHashMap<>();
 
-        if (!void.class.equals(method.getReturnType())) { // void return type
-            return false;
+        HandleEventMethods(Class<?> listenerClass) {
+            this.methodHandles = findHandleEventMethods(listenerClass);
         }
 
-        Class[] exceptionTypes = method.getExceptionTypes();
+        MethodHandle[] get(Class<?> eventClass) {
+            MethodHandle[] handles = eventMethodHandles.get(eventClass);
+            if (handles == null) {
+                handles = eventMethodHandles.computeIfAbsent(eventClass, this::resolve);
+            }
+            return handles;
+        }
 
-        if (exceptionTypes.length > 0) { // no exception declaration
-            return false;
+        private MethodHandle[] resolve(Class<?> eventClass) {
+            List<MethodHandle> handles = new ArrayList<>();
+            methodHandles.forEach((paramType, methodHandles) -> {
+                if (paramType.isAssignableFrom(eventClass)) {
+                    handles.addAll(methodHandles);
+                }
+            });
+            return handles.isEmpty() ? NO_METHOD_HANDLES : handles.toArray(NO_METHOD_HANDLES);
         }
 
-        Class[] paramTypes = method.getParameterTypes();
-        if (paramTypes.length != 1) { // not only one argument
-            return false;
+        private static Map<Class<?>, List<MethodHandle>> findHandleEventMethods(Class<?> listenerClass) {
+            Method onEventMethod = execute(listenerClass, type -> type.getMethod("onEvent", Event.class));
+            // Event class for key, the MethodHandles' List as value
+            Map<Class<?>, List<MethodHandle>> eventMethods = new LinkedHashMap<>();
+            of(listenerClass.getMethods()).filter(method -> isHandleEventMethod(onEventMethod, method)).forEach(method -> {
+                Class<?> paramType = method.getParameterTypes()[0];
+                List<MethodHandle> methodHandles = eventMethods.computeIfAbsent(paramType, key -> new ArrayList<>());
+                methodHandles.add(toMethodHandle(method));
+            });
+            return eventMethods;
         }
 
-        if (!Event.class.isAssignableFrom(paramTypes[0])) { // not Event type argument
-            return false;
+        private static MethodHandle toMethodHandle(Method method) {
+            // the declaring class may be not public
+            method.setAccessible(true);
+            MethodHandle methodHandle = execute(method, lookup()::unreflect);
+            if (Modifier.isStatic(method.getModifiers())) { // no receiver for the static method
+                methodHandle = dropArguments(methodHandle, 0, GenericEventListener.class);
+            }
+            return methodHandle.asType(HANDLE_EVENT_METHOD_TYPE);
         }
 
-        return true;
+        /**
+         * The {@link Event event} handle methods must meet following conditions:
+         * <ul>
+         * <li>not {@link #onEvent(Event)} method</li>
+         * <li><code>public</code> accessibility</li>
+         * <li><code>void</code> return type</li>
+         * <li>no {@link Exception exception} declaration</li>
+         * <li>only one {@link Event} type argument</li>
+         * </ul>
+         *
+         * @param onEventMethod {@link #onEvent(Event)} method
+         * @param method        the candidate method
+         * @return <code>true</code> if the method is a handle method
+         */
+        private static boolean isHandleEventMethod(Method onEventMethod, Method method) {
+
+            if (onEventMethod.equals(method)) { // not {@link #onEvent(Event)} method
+                return false;
+            }
+
+            if (!Modifier.isPublic(method.getModifiers())) { // not public
+                return false;
+            }
+
+            if (!void.class.equals(method.getReturnType())) { // void return type
+                return false;
+            }
+
+            Class[] exceptionTypes = method.getExceptionTypes();
+
+            if (exceptionTypes.length > 0) { // no exception declaration
+                return false;
+            }
+
+            Class[] paramTypes = method.getParameterTypes();
+            if (paramTypes.length != 1) { // not only one argument
+                return false;
+            }
+
+            if (!Event.class.isAssignableFrom(paramTypes[0])) { // not Event type argument
+                return false;
+            }
+
+            return true;
+        }
     }
 }
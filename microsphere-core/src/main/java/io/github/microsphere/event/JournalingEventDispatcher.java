@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static io.github.microsphere.event.EventListener.findEventType;
+
+/**
+ * The decorator of {@link EventDispatcher} appends the {@link Event events} into the {@link EventJournal} before
+ * dispatching, the journaled events could be {@link #replay(long, EventListener) replayed} into any
+ * {@link EventListener} after restart.
+ *
+ * @see EventJournal
+ * @see EventDispatcher
+ * @since 1.0.0
+ */
+public class JournalingEventDispatcher implements EventDispatcher, AutoCloseable {
+
+    private final EventDispatcher delegate;
+
+    private final EventJournal journal;
+
+    /**
+     * @param delegate the delegate {@link EventDispatcher}
+     * @param journal  {@link EventJournal}
+     * @throws IllegalArgumentException if any argument is <code>null</code>
+     */
+    public JournalingEventDispatcher(EventDispatcher delegate, EventJournal journal) throws IllegalArgumentException {
+        if (delegate == null || journal == null) {
+            throw new IllegalArgumentException("The delegate and journal must not be null");
+        }
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    /**
+     * Append the {@link Event event} into the journal, and then dispatch it
+     *
+     * @param event a {@link Event event}
+     * @throws UncheckedIOException  if failed to append
+     * @throws IllegalStateException if the journal was closed
+     */
+    @Override
+    public void dispatch(Event event) throws UncheckedIOException, IllegalStateException {
+        try {
+            journal.append(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append the event : " + event, e);
+        }
+        delegate.dispatch(event);
+    }
+
+    /**
+     * Replay the journaled {@link Event events} from the offset into the {@link EventListener}, only the events
+     * matching the type of listener will be handled.
+     *
+     * @param fromOffset the offset of record
+     * @param listener   {@link EventListener}
+     * @return the offset of next record to replay
+     * @throws UncheckedIOException if failed to read the journal
+     */
+    public long replay(long fromOffset, EventListener<?> listener) throws UncheckedIOException {
+        Listenable.assertListener(listener);
+        Class<? extends Event> eventType = findEventType(listener);
+        EventListener eventListener = listener;
+        try {
+            return journal.replay(fromOffset, event -> {
+                if (eventType == null || !eventType.isInstance(event)) {
+                    return;
+                }
+                if (eventListener instanceof ConditionalEventListener
+                        && !((ConditionalEventListener) eventListener).accept(event)) {
+                    return;
+                }
+                eventListener.onEvent(event);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay the events from the offset : " + fromOffset, e);
+        }
+    }
+
+    /**
+     * @return {@link EventJournal}
+     */
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * @return the delegate {@link EventDispatcher}
+     */
+    public EventDispatcher getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return delegate.getExecutor();
+    }
+
+    @Override
+    public void addEventListener(EventListener<?> listener) throws NullPointerException, IllegalArgumentException {
+        delegate.addEventListener(listener);
+    }
+
+    @Override
+    public void removeEventListener(EventListener<?> listener) throws NullPointerException, IllegalArgumentException {
+        delegate.removeEventListener(listener);
+    }
+
+    @Override
+    public List<EventListener<?>> getAllEventListeners() {
+        return delegate.getAllEventListeners();
+    }
+
+    /**
+     * Flush and close the {@link EventJournal}
+     *
+     * @throws IOException if failed to close
+     */
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+/**
+ * The policy of handling the {@link Event event} when the bounded queue of {@link EventDispatcher} is full
+ *
+ * @see BoundedEventDispatcher
+ * @see PartitionedEventDispatcher
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Block the publisher until the queue has free space
+     */
+    BLOCK,
+
+    /**
+     * Drop the newest event that is being published
+     */
+    DROP_NEWEST,
+
+    /**
+     * Drop the oldest event in the queue, and then enqueue the newest one
+     */
+    DROP_OLDEST,
+
+    /**
+     * Reject the event that is being published by throwing {@link IllegalStateException}
+     */
+    ABORT,
+
+    /**
+     * Handle the event in the publisher thread
+     */
+    CALLER_RUNS,
+
+    /**
+     * Coalesce the event into the pending one that has the same {@link Partitionable#getPartitionKey() key}, only
+     * the latest one will be handled, otherwise block the publisher until the queue has free space
+     */
+    COALESCE
+}
@@ -16,12 +16,15 @@
  */
 package io.github.microsphere.event;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 
 /**
  * Parallel {@link EventDispatcher} implementation uses {@link ForkJoinPool#commonPool() JDK common thread pool}
+ * by default, or the dedicated {@link Executor}
  *
  * @see ForkJoinPool#commonPool()
+ * @see BoundedEventDispatcher
  * @since 1.0.0
  */
 public class ParallelEventDispatcher extends AbstractEventDispatcher {
@@ -29,4 +32,12 @@ public class ParallelEventDispatcher extends AbstractEventDispatcher {
     public ParallelEventDispatcher() {
         super(ForkJoinPool.commonPool());
     }
+
+    /**
+     * @param executor the dedicated {@link Executor}
+     * @throws NullPointerException <code>executor</code> is <code>null</code>
+     */
+    public ParallelEventDispatcher(Executor executor) throws NullPointerException {
+        super(executor);
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+/**
+ * The {@link Event event} is {@link Partitionable} if it exposes a partition key, the events with the same key will be
+ * handled in order by {@link PartitionedEventDispatcher}.
+ *
+ * @see PartitionedEventDispatcher
+ * @since 1.0.0
+ */
+public interface Partitionable {
+
+    /**
+     * Get the partition key
+     *
+     * @return the partition key, the events without key(<code>null</code>) will be partitioned by their sources
+     */
+    Object getPartitionKey();
+}
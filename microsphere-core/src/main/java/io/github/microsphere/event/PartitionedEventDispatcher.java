@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link EventDispatcher} implementation partitions the {@link Event events} by their keys into multiple
+ * single-threaded lanes, the events with the same key are always handled in one lane with the publishing order,
+ * the unrelated keys are handled in parallel across the lanes.
+ * <p>
+ * The key of {@link Event event} is {@link Partitionable#getPartitionKey() provided} if the event is
+ * {@link Partitionable}, or its {@link Event#getSource() source}. The mapping from key to lane is consistent, thus
+ * the hot keys could be detected by {@link #getLane(Object)} and {@link #getQueueDepths()}.
+ * <p>
+ * Each lane has a bounded queue, the {@link OverflowPolicy} decides how to handle the event if the queue is full.
+ *
+ * @see Partitionable
+ * @see OverflowPolicy
+ * @since 1.0.0
+ */
+public class PartitionedEventDispatcher extends AbstractEventDispatcher implements AutoCloseable {
+
+    /**
+     * The default capacity of each lane
+     */
+    public static final int DEFAULT_LANE_CAPACITY = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedEventDispatcher.class);
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+    private final Lane[] lanes;
+
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * The number of publishers being in {@link #dispatch(Event)}, the lanes won't exit until it's zero
+     */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public PartitionedEventDispatcher() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param lanes the number of lanes
+     * @throws IllegalArgumentException if <code>lanes</code> is not positive
+     */
+    public PartitionedEventDispatcher(int lanes) throws IllegalArgumentException {
+        this(lanes, DEFAULT_LANE_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * @param lanes          the number of lanes
+     * @param laneCapacity   the capacity of each lane
+     * @param overflowPolicy {@link OverflowPolicy}, {@link OverflowPolicy#CALLER_RUNS} and
+     *                       {@link OverflowPolicy#COALESCE} are not supported because of breaking the order
+     * @throws IllegalArgumentException if any argument is illegal
+     */
+    public PartitionedEventDispatcher(int lanes, int laneCapacity, OverflowPolicy overflowPolicy) throws IllegalArgumentException {
+        super(DIRECT_EXECUTOR);
+        if (lanes < 1) {
+            throw new IllegalArgumentException("The number of lanes must be positive : " + lanes);
+        }
+        if (laneCapacity < 1) {
+            throw new IllegalArgumentException("The capacity of lane must be positive : " + laneCapacity);
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("The overflow policy must not be null");
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS || overflowPolicy == OverflowPolicy.COALESCE) {
+            throw new IllegalArgumentException("The overflow policy is not supported : " + overflowPolicy);
+        }
+        this.overflowPolicy = overflowPolicy;
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            Lane lane = new Lane(laneCapacity);
+            Thread thread = new Thread(lane, getClass().getSimpleName() + "-lane-" + i);
+            thread.setDaemon(true);
+            lane.thread = thread;
+            this.lanes[i] = lane;
+            thread.start();
+        }
+    }
+
+    /**
+     * Dispatch the {@link Event event} into the lane that its key is mapped
+     *
+     * @param event {@link Event event}
+     * @throws IllegalStateException if current dispatcher was closed, or the lane is full with
+     *                               {@link OverflowPolicy#ABORT}
+     */
+    @Override
+    public void dispatch(Event event) throws IllegalStateException {
+        producers.incrementAndGet();
+        try {
+            if (!running) {
+                throw new IllegalStateException(getClass().getSimpleName() + " was closed");
+            }
+            Lane lane = lanes[getLane(getPartitionKey(event))];
+            lane.publish(event, overflowPolicy);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Get the index of lane that the specified key is mapped
+     *
+     * @param key the partition key
+     * @return the index of lane in <code>[0, lanes)</code>
+     */
+    public int getLane(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        // spread the higher bits
+        hash ^= (hash >>> 16);
+        return (hash & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    /**
+     * @return the number of lanes
+     */
+    public int getLanes() {
+        return lanes.length;
+    }
+
+    /**
+     * @param lane the index of lane
+     * @return the number of pending events in the specified lane
+     */
+    public int getQueueDepth(int lane) {
+        return lanes[lane].queue.size();
+    }
+
+    /**
+     * @return the number of pending events in each lane
+     */
+    public int[] getQueueDepths() {
+        int size = lanes.length;
+        int[] depths = new int[size];
+        for (int i = 0; i < size; i++) {
+            depths[i] = getQueueDepth(i);
+        }
+        return depths;
+    }
+
+    /**
+     * @return the approximate number of pending events in all lanes
+     */
+    @Override
+    public int getPendingEvents() {
+        int pendingEvents = 0;
+        for (Lane lane : lanes) {
+            pendingEvents += lane.queue.size();
+        }
+        return pendingEvents;
+    }
+
+    /**
+     * @param lane the index of lane
+     * @return the total number of events dispatched into the specified lane
+     */
+    public long getDispatchedEvents(int lane) {
+        return lanes[lane].dispatched.get();
+    }
+
+    /**
+     * @param lane the index of lane
+     * @return the total number of events dropped by the specified lane
+     */
+    public long getDroppedEvents(int lane) {
+        return lanes[lane].dropped.get();
+    }
+
+    /**
+     * @return the {@link OverflowPolicy}
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Stop accepting the new {@link Event events} and wait for all lanes handling the pending ones, including
+     * the ones being published concurrently.
+     * <p>
+     * If current thread is interrupted, it will stop waiting and restore the interrupted status.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread[] threads = new Thread[lanes.length];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = lanes[i].thread;
+        }
+        join(threads);
+    }
+
+    protected Object getPartitionKey(Event event) {
+        Object key = null;
+        if (event instanceof Partitionable) {
+            key = ((Partitionable) event).getPartitionKey();
+        }
+        return key == null ? event.getSource() : key;
+    }
+
+    private class Lane implements Runnable {
+
+        private final BlockingQueue<Event> queue;
+
+        private final int capacity;
+
+        private final AtomicLong dispatched = new AtomicLong();
+
+        private final AtomicLong dropped = new AtomicLong();
+
+        private Thread thread;
+
+        Lane(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.capacity = capacity;
+        }
+
+        void publish(Event event, OverflowPolicy overflowPolicy) throws IllegalStateException {
+            if (!queue.offer(event)) {
+                switch (overflowPolicy) {
+                    case BLOCK:
+                        try {
+                            queue.put(event);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            dropped.incrementAndGet();
+                            return;
+                        }
+                        break;
+                    case DROP_NEWEST:
+                        dropped.incrementAndGet();
+                        return;
+                    case DROP_OLDEST:
+                        do {
+                            if (queue.poll() != null) {
+                                dropped.incrementAndGet();
+                            }
+                        } while (!queue.offer(event));
+                        break;
+                    default:
+                        throw new IllegalStateException("The lane[" + thread.getName() + "] is full : " + capacity);
+                }
+            }
+            dispatched.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            List<Event> batch = new ArrayList<>(capacity);
+            for (; ; ) {
+                try {
+                    Event event = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        if (running || producers.get() > 0 || !queue.isEmpty()) {
+                            continue;
+                        }
+                        break;
+                    }
+                    handleEvent(event);
+                    queue.drainTo(batch);
+                    for (int i = 0, size = batch.size(); i < size; i++) {
+                        handleEvent(batch.get(i));
+                    }
+                    batch.clear();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        private void handleEvent(Event event) {
+            try {
+                invokeEventListeners(event);
+            } catch (Throwable e) {
+                logger.error("Failed to handle the event : {}", event, e);
+            }
+        }
+    }
+}
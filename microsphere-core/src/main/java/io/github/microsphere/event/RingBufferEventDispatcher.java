@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@link EventDispatcher} implementation is backed by a pre-allocated multi-producer ring buffer, the publishers
+ * claim the slots by the sequence without locks, the dedicated consumer threads drain the {@link Event events} in
+ * batches and invoke the sorted {@link EventListener event listeners}.
+ * <p>
+ * If the ring buffer is full, the publisher will wait for the free slot according to the {@link WaitStrategy},
+ * thus the memory is bounded under the bursty publishers.
+ * <p>
+ * The consumer threads will be started once constructed, and {@link #close() stopped} after all published
+ * {@link Event events} are handled.
+ *
+ * @see WaitStrategy
+ * @see ParallelEventDispatcher
+ * @since 1.0.0
+ */
+public class RingBufferEventDispatcher extends AbstractEventDispatcher implements AutoCloseable {
+
+    /**
+     * The default size of ring buffer
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * The default max number of events handled by a consumer in one batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferEventDispatcher.class);
+
+    private final EventRingBuffer ringBuffer;
+
+    private final WaitStrategy waitStrategy;
+
+    private final int batchSize;
+
+    private final Consumer<Event> eventHandler = this::handleEvent;
+
+    private final Thread[] consumers;
+
+    /**
+     * The number of publishers being in {@link #dispatch(Event)}, the consumers won't exit until it's zero
+     */
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    public RingBufferEventDispatcher() {
+        this(DEFAULT_BUFFER_SIZE, 1, WaitStrategy.PARK);
+    }
+
+    /**
+     * @param bufferSize   the size of ring buffer, it will be rounded up to the power of 2
+     * @param consumers    the number of consumer threads
+     * @param waitStrategy {@link WaitStrategy}
+     * @throws IllegalArgumentException if any argument is illegal
+     */
+    public RingBufferEventDispatcher(int bufferSize, int consumers, WaitStrategy waitStrategy) throws IllegalArgumentException {
+        this(bufferSize, consumers, waitStrategy, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param bufferSize   the size of ring buffer, it will be rounded up to the power of 2
+     * @param consumers    the number of consumer threads
+     * @param waitStrategy {@link WaitStrategy}
+     * @param batchSize    the max number of events handled by a consumer in one batch
+     * @throws IllegalArgumentException if any argument is illegal
+     */
+    public RingBufferEventDispatcher(int bufferSize, int consumers, WaitStrategy waitStrategy, int batchSize)
+            throws IllegalArgumentException {
+        super(DIRECT_EXECUTOR);
+        if (consumers < 1) {
+            throw new IllegalArgumentException("The number of consumers must be positive : " + consumers);
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("The wait strategy must not be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive : " + batchSize);
+        }
+        this.ringBuffer = new EventRingBuffer(bufferSize);
+        this.waitStrategy = waitStrategy;
+        this.batchSize = batchSize;
+        this.consumers = startConsumers(consumers);
+    }
+
+    private Thread[] startConsumers(int size) {
+        Thread[] consumers = new Thread[size];
+        for (int i = 0; i < size; i++) {
+            Thread consumer = new Thread(this::consume, getClass().getSimpleName() + "-consumer-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers[i] = consumer;
+        }
+        return consumers;
+    }
+
+    /**
+     * Publish the {@link Event event} into the ring buffer, the current thread will wait for the free slot
+     * if the ring buffer is full.
+     *
+     * @param event {@link Event event}
+     * @throws IllegalStateException if current dispatcher was closed
+     */
+    @Override
+    public void dispatch(Event event) throws IllegalStateException {
+        producers.incrementAndGet();
+        try {
+            assertRunning();
+            int counter = 0;
+            while (!ringBuffer.offer(event)) {
+                assertRunning();
+                counter = waitStrategy.idle(counter);
+            }
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the approximate number of pending events in the ring buffer
+     */
+    @Override
+    public int getPendingEvents() {
+        return ringBuffer.size();
+    }
+
+    /**
+     * @return the capacity of ring buffer
+     */
+    public int getBufferSize() {
+        return ringBuffer.capacity();
+    }
+
+    /**
+     * @return the {@link WaitStrategy}
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Stop accepting the new {@link Event events} and wait for the consumer threads handling the pending ones,
+     * including the ones being published concurrently.
+     * <p>
+     * If current thread is interrupted, it will stop waiting and restore the interrupted status.
+     */
+    @Override
+    public void close() {
+        running = false;
+        join(consumers);
+    }
+
+    private void consume() {
+        EventRingBuffer ringBuffer = this.ringBuffer;
+        Consumer<Event> eventHandler = this.eventHandler;
+        int batchSize = this.batchSize;
+        int counter = 0;
+        for (; ; ) {
+            if (ringBuffer.drain(eventHandler, batchSize) > 0) {
+                counter = 0;
+            } else if (running || producers.get() > 0) {
+                counter = waitStrategy.idle(counter);
+            } else if (ringBuffer.size() == 0) {
+                break;
+            }
+        }
+    }
+
+    private void handleEvent(Event event) {
+        try {
+            invokeEventListeners(event);
+        } catch (Throwable e) {
+            logger.error("Failed to handle the event : {}", event, e);
+        }
+    }
+
+    private void assertRunning() throws IllegalStateException {
+        if (!running) {
+            throw new IllegalStateException(getClass().getSimpleName() + " was closed");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import io.github.microsphere.filter.Filter;
+import io.github.microsphere.filter.PackageNameClassNameFilter;
+import io.github.microsphere.io.ByteBufferInputStream;
+import io.github.microsphere.io.ByteBufferOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static io.github.microsphere.filter.FilterOperator.OR;
+
+/**
+ * {@link EventCodec} implementation based on Java Serialization, the {@link Event#getSource() source} of event
+ * must be {@link java.io.Serializable}. The source is transient in {@link java.util.EventObject}, so it's written
+ * after the event explicitly, the serialized form of {@link Event} itself is not changed.
+ * <p>
+ * The bytes to decode may come from the other processes, e.g. the shared memory, so only the classes accepted by the
+ * allow-list {@link Filter filter} of class names could be deserialized, the {@link #DEFAULT_CLASS_NAME_FILTER default}
+ * one accepts the classes in the packages of the {@link Event events} and the common value types, the application
+ * events in the other packages require the custom filter. The filter is applied by overriding
+ * {@link ObjectInputStream#resolveClass(ObjectStreamClass)} rather than <code>ObjectInputFilter</code>, which is
+ * absent before Java 8u121.
+ * <p>
+ * The same filter is applied when encoding by overriding {@link ObjectOutputStream#annotateClass(Class)}, so the event
+ * that could not be decoded fails fast when it's encoded, rather than when it's replayed or received.
+ *
+ * @see EventCodec
+ * @see java.io.Serializable
+ * @since 1.0.0
+ */
+public class SerializableEventCodec implements EventCodec {
+
+    /**
+     * The default allow-list {@link Filter filter} of class names, which accepts the classes in the packages :
+     * <ul>
+     *     <li><code>java.lang</code>, <code>java.util</code>, <code>java.math</code> and <code>java.time</code>
+     *     excluding their sub-packages</li>
+     *     <li><code>io.github.microsphere.event</code> including its' sub-packages</li>
+     * </ul>
+     */
+    public static final Filter<String> DEFAULT_CLASS_NAME_FILTER = new Filter<String>() {
+
+        @SuppressWarnings("unchecked")
+        private final Filter<String>[] filters = new Filter[]{
+                new PackageNameClassNameFilter("java.lang", false),
+                new PackageNameClassNameFilter("java.util", false),
+                new PackageNameClassNameFilter("java.math", false),
+                new PackageNameClassNameFilter("java.time", false),
+                new PackageNameClassNameFilter("io.github.microsphere.event", true)
+        };
+
+        @Override
+        public boolean accept(String className) {
+            return OR.accept(className, filters);
+        }
+    };
+
+    /**
+     * The shared instance with the {@link #DEFAULT_CLASS_NAME_FILTER default filter}
+     */
+    public static final SerializableEventCodec INSTANCE = new SerializableEventCodec();
+
+    private final Filter<String> classNameFilter;
+
+    public SerializableEventCodec() {
+        this(DEFAULT_CLASS_NAME_FILTER);
+    }
+
+    /**
+     * @param classNameFilter the allow-list {@link Filter filter} of the class names to deserialize, the element type
+     *                        is filtered for the array of objects, and the arrays of primitives are always accepted
+     * @throws IllegalArgumentException if the filter is <code>null</code>
+     */
+    public SerializableEventCodec(Filter<String> classNameFilter) throws IllegalArgumentException {
+        if (classNameFilter == null) {
+            throw new IllegalArgumentException("The filter of class names must not be null");
+        }
+        this.classNameFilter = classNameFilter;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws InvalidClassException if any class to serialize is not accepted by the filter of class names
+     */
+    @Override
+    public void encode(Event event, ByteBuffer buffer) throws IOException, BufferOverflowException {
+        ObjectOutputStream outputStream = new FilteringObjectOutputStream(new ByteBufferOutputStream(buffer));
+        outputStream.writeObject(event);
+        outputStream.writeObject(event.getSource());
+        outputStream.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws InvalidClassException if any class to deserialize is not accepted by the filter of class names
+     */
+    @Override
+    public Event decode(ByteBuffer buffer) throws IOException {
+        ObjectInputStream inputStream = new FilteringObjectInputStream(new ByteBufferInputStream(buffer));
+        try {
+            Event event = (Event) inputStream.readObject();
+            event.setSource(inputStream.readObject());
+            return event;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Failed to decode the event", e);
+        }
+    }
+
+    private boolean isAccepted(String className) {
+        int dimensions = 0;
+        while (className.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        if (dimensions > 0) {
+            if (className.charAt(dimensions) != 'L') { // the array of primitives
+                return true;
+            }
+            // the array of objects : "[Lthe.element.Type;"
+            className = className.substring(dimensions + 1, className.length() - 1);
+        }
+        return classNameFilter.accept(className);
+    }
+
+    private class FilteringObjectOutputStream extends ObjectOutputStream {
+
+        FilteringObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl) throws IOException {
+            String className = cl.getName();
+            if (!isAccepted(className)) {
+                throw new InvalidClassException(className, "The class is not allowed to deserialize");
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> cl) throws IOException {
+            throw new InvalidClassException(cl.getName(), "The proxy class is not allowed to deserialize");
+        }
+    }
+
+    private class FilteringObjectInputStream extends ObjectInputStream {
+
+        FilteringObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String className = desc.getName();
+            if (!isAccepted(className)) {
+                throw new InvalidClassException(className, "The class is not allowed to deserialize");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            throw new InvalidClassException("The proxy class is not allowed to deserialize");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The {@link EventListener} publishes the {@link Event events} of local {@link EventDispatcher} into a shared
+ * memory-mapped ring file, the other processes on the same host could consume them by
+ * {@link SharedMemoryEventSubscriber}.
+ * <p>
+ * There is only one publisher of a ring file across the processes, which is guarded by the file lock. The publisher
+ * never waits for the slow subscribers, they will be overrun and skip the lost {@link Event events}.
+ * <p>
+ * Usage :
+ * <pre>
+ * SharedMemoryEventPublisher publisher = new SharedMemoryEventPublisher(file);
+ * eventDispatcher.addEventListener(publisher);
+ * </pre>
+ *
+ * @see SharedMemoryEventSubscriber
+ * @see EventCodec
+ * @since 1.0.0
+ */
+public class SharedMemoryEventPublisher implements EventListener<Event>, AutoCloseable {
+
+    /**
+     * The default number of slots in the ring
+     */
+    public static final int DEFAULT_SLOTS = 1024;
+
+    /**
+     * The default size of slot in bytes
+     */
+    public static final int DEFAULT_SLOT_SIZE = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedMemoryEventPublisher.class);
+
+    private final SharedMemoryEventRing ring;
+
+    private final EventCodec codec;
+
+    private long sequence;
+
+    private long skippedEvents;
+
+    /**
+     * @param file the shared ring file
+     * @throws IllegalStateException if another publisher has opened the ring file
+     * @throws IOException           if failed to map the file
+     */
+    public SharedMemoryEventPublisher(File file) throws IllegalStateException, IOException {
+        this(file, DEFAULT_SLOTS, DEFAULT_SLOT_SIZE, SerializableEventCodec.INSTANCE);
+    }
+
+    /**
+     * @param file     the shared ring file, it will be created if absent
+     * @param slots    the number of slots, it will be rounded up to the power of 2
+     * @param slotSize the size of slot in bytes, including 12 bytes header of record
+     * @param codec    {@link EventCodec}
+     * @throws IllegalArgumentException if any argument is illegal or mismatches the existed ring file
+     * @throws IllegalStateException    if another publisher has opened the ring file
+     * @throws IOException              if failed to map the file
+     */
+    public SharedMemoryEventPublisher(File file, int slots, int slotSize, EventCodec codec)
+            throws IllegalArgumentException, IllegalStateException, IOException {
+        if (codec == null) {
+            throw new IllegalArgumentException("The codec must not be null");
+        }
+        this.ring = SharedMemoryEventRing.openWriter(file, slots, slotSize);
+        this.codec = codec;
+        this.sequence = ring.getCursor();
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        publish(event);
+    }
+
+    /**
+     * Publish the {@link Event event} into the ring, the oldest {@link Event event} will be overwritten.
+     *
+     * @param event {@link Event event}
+     * @return <code>true</code> if published, <code>false</code> if the encoded event exceeds the slot size
+     * @throws UncheckedIOException if failed to encode
+     */
+    public synchronized boolean publish(Event event) throws UncheckedIOException {
+        boolean published;
+        try {
+            published = ring.publish(sequence++, event, codec);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode the event : " + event, e);
+        }
+        if (!published) {
+            skippedEvents++;
+            logger.warn("The event exceeds the slot size[{}] and is skipped : {}", ring.getSlotSize(), event);
+        }
+        return published;
+    }
+
+    /**
+     * @return the sequence of next {@link Event event} to be published
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the number of {@link Event events} skipped since they exceed the slot size
+     */
+    public synchronized long getSkippedEvents() {
+        return skippedEvents;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        ring.close();
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+
+import static io.github.microsphere.event.EventRingBuffer.roundUpToPowerOfTwo;
+import static io.github.microsphere.misc.UnsafeUtils.loadFence;
+import static io.github.microsphere.misc.UnsafeUtils.storeFence;
+
+/**
+ * The ring of {@link Event events} over a memory-mapped file which is shared by the processes on the same host,
+ * there is only one writer and many readers, each reader tracks its own sequence.
+ * <p>
+ * The layout of file :
+ * <pre>
+ * header : [magic : int][slots : int][slot size : int][padding][cursor : long][padding]
+ * slot   : [sequence + 1 : long][length : int][payload]
+ * </pre>
+ * The writer invalidates the sequence of slot before overwriting the payload and publishes the sequence after
+ * that, thus the reader verifies the sequence again after decoding in order to detect being overrun.
+ *
+ * @see SharedMemoryEventPublisher
+ * @see SharedMemoryEventSubscriber
+ * @since 1.0.0
+ */
+class SharedMemoryEventRing implements AutoCloseable {
+
+    static final int MAGIC = 0x4D534552;
+
+    static final int HEADER_SIZE = 128;
+
+    static final int SLOT_HEADER_SIZE = 12;
+
+    private static final int SLOTS_OFFSET = 4;
+
+    private static final int SLOT_SIZE_OFFSET = 8;
+
+    /**
+     * The cursor is placed in its own cache line
+     */
+    private static final int CURSOR_OFFSET = 64;
+
+    /**
+     * The length of record that is too large to be encoded
+     */
+    static final int SKIPPED_LENGTH = -1;
+
+    private final RandomAccessFile file;
+
+    private final FileLock lock;
+
+    private final MappedByteBuffer buffer;
+
+    private final int slots;
+
+    private final int mask;
+
+    private final int slotSize;
+
+    /**
+     * The payload views of slots
+     */
+    private final ByteBuffer[] payloads;
+
+    private SharedMemoryEventRing(RandomAccessFile file, FileLock lock, MappedByteBuffer buffer, int slots,
+                                  int slotSize) {
+        this.file = file;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.slots = slots;
+        this.mask = slots - 1;
+        this.slotSize = slotSize;
+        this.payloads = new ByteBuffer[slots];
+        for (int i = 0; i < slots; i++) {
+            ByteBuffer payload = buffer.duplicate();
+            int offset = slotOffset(i) + SLOT_HEADER_SIZE;
+            payload.limit(offset + slotSize - SLOT_HEADER_SIZE).position(offset);
+            payloads[i] = payload.slice();
+        }
+    }
+
+    /**
+     * Open the ring as the single writer, the file will be created if absent.
+     *
+     * @param ringFile the shared file
+     * @param slots    the number of slots, it will be rounded up to the power of 2
+     * @param slotSize the size of slot in bytes, it will be rounded up to the multiple of 8
+     * @return non-null
+     * @throws IllegalArgumentException if the arguments are illegal or mismatch the existed file
+     * @throws IllegalStateException    if another writer has opened the ring
+     * @throws IOException              if failed to map the file
+     */
+    static SharedMemoryEventRing openWriter(File ringFile, int slots, int slotSize) throws IllegalArgumentException,
+            IllegalStateException, IOException {
+        if (slots < 1 || slots > EventRingBuffer.MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The slots must be in [1, " + EventRingBuffer.MAXIMUM_CAPACITY + "] : " + slots);
+        }
+        if (slotSize <= SLOT_HEADER_SIZE) {
+            throw new IllegalArgumentException("The slot size must be greater than " + SLOT_HEADER_SIZE + " : " + slotSize);
+        }
+        slots = roundUpToPowerOfTwo(slots);
+        slotSize = (slotSize + 7) & ~7;
+        long length = HEADER_SIZE + (long) slots * slotSize;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The size of ring exceeds " + Integer.MAX_VALUE + " : " + length);
+        }
+        RandomAccessFile file = new RandomAccessFile(ringFile, "rw");
+        try {
+            FileLock lock = tryLock(file, ringFile);
+            MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            if (buffer.getInt(0) == MAGIC) {
+                if (buffer.getInt(SLOTS_OFFSET) != slots || buffer.getInt(SLOT_SIZE_OFFSET) != slotSize) {
+                    throw new IllegalArgumentException("The slots[" + slots + "] and slot size[" + slotSize
+                            + "] mismatch the existed ring file : " + ringFile);
+                }
+            } else {
+                buffer.putInt(SLOTS_OFFSET, slots);
+                buffer.putInt(SLOT_SIZE_OFFSET, slotSize);
+                buffer.putLong(CURSOR_OFFSET, 0L);
+                storeFence();
+                buffer.putInt(0, MAGIC);
+            }
+            return new SharedMemoryEventRing(file, lock, buffer, slots, slotSize);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open the ring as a reader
+     *
+     * @param ringFile the shared file that was initialized by the writer
+     * @return non-null
+     * @throws IOException if the file is absent or not initialized
+     */
+    static SharedMemoryEventRing openReader(File ringFile) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(ringFile, "r");
+        try {
+            if (file.length() < HEADER_SIZE) {
+                throw new IOException("The ring file is not initialized : " + ringFile);
+            }
+            MappedByteBuffer header = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("The ring file is not initialized : " + ringFile);
+            }
+            loadFence();
+            int slots = header.getInt(SLOTS_OFFSET);
+            int slotSize = header.getInt(SLOT_SIZE_OFFSET);
+            MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+                    HEADER_SIZE + (long) slots * slotSize);
+            return new SharedMemoryEventRing(file, null, buffer, slots, slotSize);
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    private static FileLock tryLock(RandomAccessFile file, File ringFile) throws IOException {
+        FileLock lock;
+        try {
+            lock = file.getChannel().tryLock(0, HEADER_SIZE, false);
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            throw new IllegalStateException("The ring file has been opened by another writer : " + ringFile);
+        }
+        return lock;
+    }
+
+    /**
+     * Publish the {@link Event event} into the slot of sequence, the caller must be the single writer.
+     *
+     * @param sequence the sequence of writer
+     * @param event    {@link Event event}
+     * @param codec    {@link EventCodec}
+     * @return <code>true</code> if published, <code>false</code> if the encoded event exceeds the slot size, and the
+     * sequence is still consumed by a skipped record
+     * @throws IOException if failed to encode
+     */
+    boolean publish(long sequence, Event event, EventCodec codec) throws IOException {
+        int index = (int) sequence & mask;
+        int offset = slotOffset(index);
+        // invalidate the slot before overwriting, the readers would detect being overrun
+        buffer.putLong(offset, 0L);
+        storeFence();
+        ByteBuffer payload = payloads[index];
+        payload.clear();
+        int length;
+        try {
+            codec.encode(event, payload);
+            length = payload.position();
+        } catch (BufferOverflowException e) {
+            length = SKIPPED_LENGTH;
+        }
+        buffer.putInt(offset + 8, length);
+        storeFence();
+        buffer.putLong(offset, sequence + 1);
+        buffer.putLong(CURSOR_OFFSET, sequence + 1);
+        return length != SKIPPED_LENGTH;
+    }
+
+    /**
+     * @return the sequence of next event to be published
+     */
+    long getCursor() {
+        long cursor = buffer.getLong(CURSOR_OFFSET);
+        loadFence();
+        return cursor;
+    }
+
+    /**
+     * Read the published sequence of slot
+     *
+     * @param sequence the expected sequence
+     * @return <code>true</code> if the slot holds the sequence
+     */
+    boolean isPublished(long sequence) {
+        // the loads of payload before must not be reordered after the sequence is verified again
+        loadFence();
+        boolean published = buffer.getLong(slotOffset((int) sequence & mask)) == sequence + 1;
+        loadFence();
+        return published;
+    }
+
+    /**
+     * Read the length of record in the slot of sequence
+     *
+     * @param sequence the published sequence
+     * @return the length of payload or {@link #SKIPPED_LENGTH}
+     */
+    int getLength(long sequence) {
+        return buffer.getInt(slotOffset((int) sequence & mask) + 8);
+    }
+
+    /**
+     * Get a view of payload in the slot of sequence, the view is shared by the caller thread.
+     *
+     * @param sequence the published sequence
+     * @param length   the length of payload
+     * @return non-null
+     * @throws IOException if the length exceeds the capacity of slot, e.g. the slot is corrupted or being overwritten
+     */
+    ByteBuffer getPayload(long sequence, int length) throws IOException {
+        ByteBuffer payload = payloads[(int) sequence & mask];
+        if (length < 0 || length > payload.capacity()) {
+            throw new IOException("The length of record is out of the slot[capacity : " + payload.capacity() + "] : "
+                    + length);
+        }
+        payload.limit(length).position(0);
+        return payload;
+    }
+
+    int getSlots() {
+        return slots;
+    }
+
+    int getSlotSize() {
+        return slotSize;
+    }
+
+    private int slotOffset(int index) {
+        return HEADER_SIZE + index * slotSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (lock != null) {
+            lock.release();
+        }
+        file.close();
+    }
+}
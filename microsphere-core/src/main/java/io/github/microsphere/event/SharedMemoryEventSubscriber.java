@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The subscriber consumes the {@link Event events} from a shared memory-mapped ring file that is published by
+ * {@link SharedMemoryEventPublisher} in another process, and dispatches them into the local {@link EventDispatcher}.
+ * <p>
+ * Each subscriber tracks its own sequence in a dedicated thread, it starts from the latest published
+ * {@link Event event}. If the subscriber falls behind more than the slots of ring, it will be overrun and skip to
+ * the oldest available {@link Event event}, the number of lost events is {@link #getLostEvents() counted}.
+ *
+ * @see SharedMemoryEventPublisher
+ * @see WaitStrategy
+ * @since 1.0.0
+ */
+public class SharedMemoryEventSubscriber implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedMemoryEventSubscriber.class);
+
+    private final SharedMemoryEventRing ring;
+
+    private final EventDispatcher eventDispatcher;
+
+    private final EventCodec codec;
+
+    private final WaitStrategy waitStrategy;
+
+    private final AtomicLong sequence;
+
+    private final AtomicLong lostEvents = new AtomicLong();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param file            the shared ring file
+     * @param eventDispatcher the local {@link EventDispatcher}
+     * @throws IllegalArgumentException if the event dispatcher is <code>null</code>
+     * @throws IOException              if the ring file is absent or not initialized
+     */
+    public SharedMemoryEventSubscriber(File file, EventDispatcher eventDispatcher) throws IllegalArgumentException,
+            IOException {
+        this(file, eventDispatcher, SerializableEventCodec.INSTANCE, WaitStrategy.PARK);
+    }
+
+    /**
+     * @param file            the shared ring file
+     * @param eventDispatcher the local {@link EventDispatcher}
+     * @param codec           {@link EventCodec}
+     * @param waitStrategy    {@link WaitStrategy} when there is no published {@link Event event}
+     * @throws IllegalArgumentException if any argument is <code>null</code>
+     * @throws IOException              if the ring file is absent or not initialized
+     */
+    public SharedMemoryEventSubscriber(File file, EventDispatcher eventDispatcher, EventCodec codec,
+                                       WaitStrategy waitStrategy) throws IllegalArgumentException, IOException {
+        if (eventDispatcher == null || codec == null || waitStrategy == null) {
+            throw new IllegalArgumentException("The event dispatcher, codec and wait strategy must not be null");
+        }
+        this.ring = SharedMemoryEventRing.openReader(file);
+        this.eventDispatcher = eventDispatcher;
+        this.codec = codec;
+        this.waitStrategy = waitStrategy;
+        this.sequence = new AtomicLong(ring.getCursor());
+        this.worker = new Thread(this::consume, getClass().getSimpleName() + "-worker");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    private void consume() {
+        int counter = 0;
+        while (running) {
+            if (poll()) {
+                counter = 0;
+            } else {
+                counter = waitStrategy.idle(counter);
+            }
+        }
+    }
+
+    /**
+     * Poll the {@link Event event} of next sequence and dispatch it
+     *
+     * @return <code>true</code> if the sequence was consumed
+     */
+    private boolean poll() {
+        long next = sequence.get();
+        if (!ring.isPublished(next)) {
+            long cursor = ring.getCursor();
+            if (next >= cursor) {
+                return false;
+            }
+            skip(next, cursor);
+            return true;
+        }
+        int length = ring.getLength(next);
+        Event event = null;
+        Throwable failure = null;
+        if (length != SharedMemoryEventRing.SKIPPED_LENGTH) {
+            try {
+                event = codec.decode(ring.getPayload(next, length));
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+        if (!ring.isPublished(next)) {
+            // the slot was overwritten during decoding
+            skip(next, ring.getCursor());
+            return true;
+        }
+        sequence.set(next + 1);
+        if (failure != null) {
+            logger.error("Failed to decode the event of sequence : {}", next, failure);
+        } else if (event != null) {
+            try {
+                eventDispatcher.dispatch(event);
+            } catch (Throwable e) {
+                logger.error("Failed to dispatch the event : {}", event, e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Skip to the oldest available sequence, the slot of the oldest sequence may be being overwritten.
+     */
+    private void skip(long next, long cursor) {
+        long oldest = cursor - ring.getSlots() + 1;
+        if (oldest > next) {
+            lostEvents.addAndGet(oldest - next);
+            sequence.set(oldest);
+        }
+    }
+
+    /**
+     * @return the sequence of next {@link Event event} to be consumed
+     */
+    public long getSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * @return the number of {@link Event events} lost since this subscriber was overrun
+     */
+    public long getLostEvents() {
+        return lostEvents.get();
+    }
+
+    /**
+     * @return the local {@link EventDispatcher}
+     */
+    public EventDispatcher getEventDispatcher() {
+        return eventDispatcher;
+    }
+
+    /**
+     * Stop consuming and close the ring file
+     *
+     * @throws IOException if failed to close
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ring.close();
+    }
+}
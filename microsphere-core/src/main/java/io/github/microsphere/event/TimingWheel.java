@@ -0,0 +1,445 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The hashed hierarchical timing wheel schedules the delayed and periodic tasks, e.g. the delayed
+ * {@link EventDispatcher#dispatch(Event, long, TimeUnit) dispatching}, with O(1) scheduling and cancellation rather
+ * than the heap of {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+ * <p>
+ * The wheel has {@link #LEVELS} levels, each level has {@link #WHEEL_SIZE} buckets, the bucket of the lowest level
+ * spans one tick, and the bucket of the higher level spans the whole lower level. The tasks in the higher level are
+ * cascaded into the lower levels as the time goes, and finally expired in the lowest level. The tasks beyond the
+ * range of wheel are kept in the highest level and cascaded repeatedly until expired.
+ * <p>
+ * All buckets are only accessed by the ticker thread, the tasks are scheduled and cancelled by the lock-free queues,
+ * and expired in the ticker thread, thus the task should be short or hand off to another {@link java.util.concurrent.Executor}.
+ *
+ * @see EventDispatcher#dispatch(Event, long, TimeUnit)
+ * @since 1.0.0
+ */
+public class TimingWheel implements AutoCloseable {
+
+    /**
+     * The number of bits of bucket index per level
+     */
+    public static final int WHEEL_BITS = 6;
+
+    /**
+     * The number of buckets per level
+     */
+    public static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+
+    /**
+     * The number of levels
+     */
+    public static final int LEVELS = 4;
+
+    /**
+     * The default duration of tick in milliseconds
+     */
+    public static final long DEFAULT_TICK_MILLIS = 1L;
+
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    /**
+     * The max number of ticks that the wheel could hold without re-cascading
+     */
+    private static final long MAX_TICKS = 1L << (WHEEL_BITS * LEVELS);
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheel.class);
+
+    private final long tickNanos;
+
+    private final long startTime;
+
+    private final Bucket[][] wheels;
+
+    private final Queue<Task> scheduledTasks = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Task> cancelledTasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+
+    private final Thread ticker;
+
+    /**
+     * The current tick that is only accessed by the ticker thread
+     */
+    private long currentTick;
+
+    private volatile boolean running = true;
+
+    public TimingWheel() {
+        this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param tickDuration the duration of tick
+     * @param unit         the {@link TimeUnit} of tick duration
+     * @throws IllegalArgumentException if the tick duration is not positive
+     */
+    public TimingWheel(long tickDuration, TimeUnit unit) throws IllegalArgumentException {
+        if (tickDuration < 1 || unit == null) {
+            throw new IllegalArgumentException("The tick duration must be positive : " + tickDuration + " " + unit);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheels = new Bucket[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int index = 0; index < WHEEL_SIZE; index++) {
+                wheels[level][index] = new Bucket();
+            }
+        }
+        this.startTime = System.nanoTime();
+        this.ticker = new Thread(this::tick, getClass().getSimpleName() + "-ticker");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * Schedule the one-shot task
+     *
+     * @param task  the task
+     * @param delay the delay
+     * @param unit  the {@link TimeUnit} of delay
+     * @return the {@link Timeout} of task
+     * @throws IllegalStateException if current timing wheel was closed
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) throws IllegalStateException {
+        return schedule(task, delay, 0L, unit);
+    }
+
+    /**
+     * Schedule the periodic task that executes after the initial delay, and then repeats with the period until
+     * {@link Timeout#cancel() cancelled}
+     *
+     * @param task         the task
+     * @param initialDelay the initial delay
+     * @param period       the period
+     * @param unit         the {@link TimeUnit} of delay and period
+     * @return the {@link Timeout} of task
+     * @throws IllegalArgumentException if the period is not positive
+     * @throws IllegalStateException    if current timing wheel was closed
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit)
+            throws IllegalArgumentException, IllegalStateException {
+        if (period < 1) {
+            throw new IllegalArgumentException("The period must be positive : " + period);
+        }
+        return schedule(task, initialDelay, unit.toNanos(period), unit);
+    }
+
+    private Timeout schedule(Runnable task, long delay, long periodNanos, TimeUnit unit) throws IllegalStateException {
+        if (task == null) {
+            throw new NullPointerException("The task must not be null");
+        }
+        if (!running) {
+            throw new IllegalStateException(getClass().getSimpleName() + " was closed");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0L, delay));
+        Task timeout = new Task(task, deadline, periodNanos);
+        pendingTasks.incrementAndGet();
+        scheduledTasks.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the approximate number of tasks that are not expired or cancelled
+     */
+    public int getPendingTasks() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * Stop the ticker thread, the pending tasks will be discarded
+     * <p>
+     * If current thread is interrupted, it will stop waiting and restore the interrupted status.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+        try {
+            ticker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get the default shared {@link TimingWheel} with the {@link #DEFAULT_TICK_MILLIS default tick}
+     *
+     * @return non-null
+     */
+    public static TimingWheel getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private void tick() {
+        while (running) {
+            long nextTickTime = startTime + (currentTick + 1) * tickNanos;
+            long waitNanos = nextTickTime - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                continue;
+            }
+            // catch up all elapsed ticks
+            long elapsedTick = (System.nanoTime() - startTime) / tickNanos;
+            while (currentTick < elapsedTick && running) {
+                currentTick++;
+                transferScheduledTasks();
+                removeCancelledTasks();
+                cascade();
+                expire(wheels[0][(int) (currentTick & WHEEL_MASK)]);
+            }
+        }
+    }
+
+    private void transferScheduledTasks() {
+        Task task;
+        while ((task = scheduledTasks.poll()) != null) {
+            if (task.state == Task.INIT) {
+                add(task, true);
+            }
+        }
+    }
+
+    private void removeCancelledTasks() {
+        Task task;
+        while ((task = cancelledTasks.poll()) != null) {
+            Bucket bucket = task.bucket;
+            if (bucket != null) {
+                bucket.remove(task);
+            }
+        }
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * WHEEL_BITS;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            Bucket bucket = wheels[level][(int) ((currentTick >>> shift) & WHEEL_MASK)];
+            Task task;
+            while ((task = bucket.poll()) != null) {
+                add(task, true);
+            }
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        Task task;
+        while ((task = bucket.poll()) != null) {
+            task.expire();
+        }
+    }
+
+    /**
+     * Add the task into the bucket
+     *
+     * @param task        the task
+     * @param expireIfDue expire the task immediately if it's due, or defer it to the next tick
+     */
+    private void add(Task task, boolean expireIfDue) {
+        long deadlineTick = (task.deadline - startTime + tickNanos - 1) / tickNanos;
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0) { // expired
+            if (expireIfDue) {
+                task.expire();
+                return;
+            }
+            deadlineTick = currentTick + 1;
+            delta = 1;
+        }
+        if (delta >= MAX_TICKS) { // beyond the range, cascade again later
+            deadlineTick = currentTick + MAX_TICKS - 1;
+            delta = MAX_TICKS - 1;
+        }
+        int level = 0;
+        while (delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        wheels[level][index].add(task);
+    }
+
+    /**
+     * The handle of the scheduled task
+     */
+    public interface Timeout {
+
+        /**
+         * Cancel the task, it won't be executed anymore
+         *
+         * @return <code>true</code> if cancelled, <code>false</code> if it was cancelled or expired
+         */
+        boolean cancel();
+
+        /**
+         * @return <code>true</code> if the task was cancelled
+         */
+        boolean isCancelled();
+
+        /**
+         * @return <code>true</code> if the one-shot task was expired
+         */
+        boolean isExpired();
+    }
+
+    private class Task implements Timeout {
+
+        static final int INIT = 0;
+
+        static final int CANCELLED = 1;
+
+        static final int EXPIRED = 2;
+
+        private final Runnable runnable;
+
+        private final long periodNanos;
+
+        private long deadline;
+
+        volatile int state = INIT;
+
+        // the linked list of bucket, only accessed by the ticker thread
+        private Bucket bucket;
+
+        private Task prev;
+
+        private Task next;
+
+        Task(Runnable runnable, long deadline, long periodNanos) {
+            this.runnable = runnable;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE_UPDATER.compareAndSet(this, INIT, CANCELLED)) {
+                pendingTasks.decrementAndGet();
+                cancelledTasks.offer(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        void expire() {
+            boolean periodic = periodNanos > 0;
+            if (!periodic && !STATE_UPDATER.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            if (periodic && state != INIT) {
+                return;
+            }
+            if (!periodic) {
+                pendingTasks.decrementAndGet();
+            }
+            try {
+                runnable.run();
+            } catch (Throwable e) {
+                logger.error("Failed to execute the task : {}", runnable, e);
+            }
+            if (periodic && state == INIT) {
+                deadline += periodNanos;
+                // no recursion if the periodic task falls behind
+                add(this, false);
+            }
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<Task> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+    /**
+     * The doubly linked list of {@link Task tasks}
+     */
+    private static class Bucket {
+
+        private Task head;
+
+        private Task tail;
+
+        void add(Task task) {
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail == null) {
+                head = task;
+            } else {
+                tail.next = task;
+            }
+            tail = task;
+        }
+
+        Task poll() {
+            Task task = head;
+            if (task != null) {
+                remove(task);
+            }
+            return task;
+        }
+
+        void remove(Task task) {
+            if (task.bucket != this) {
+                return;
+            }
+            Task prev = task.prev;
+            Task next = task.next;
+            if (prev == null) {
+                head = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                tail = prev;
+            } else {
+                next.prev = prev;
+            }
+            task.bucket = null;
+            task.prev = null;
+            task.next = null;
+        }
+    }
+
+    private static class DefaultHolder {
+
+        private static final TimingWheel INSTANCE = new TimingWheel();
+    }
+}
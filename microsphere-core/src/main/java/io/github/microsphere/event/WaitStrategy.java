@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The strategy of waiting for the available slots or events in the lock-free structures of {@link EventDispatcher}
+ *
+ * @see RingBufferEventDispatcher
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+
+    /**
+     * Busy spin, the lowest latency with a dedicated core per waiting thread
+     */
+    BUSY_SPIN {
+        @Override
+        public int idle(int counter) {
+            return counter + 1;
+        }
+    },
+
+    /**
+     * Spin for a while, then {@link Thread#yield() yield} the CPU
+     */
+    YIELD {
+        @Override
+        public int idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return counter + 1;
+            }
+            Thread.yield();
+            return counter;
+        }
+    },
+
+    /**
+     * Spin, then yield, finally {@link LockSupport#parkNanos(long) park} the waiting thread, the lowest CPU usage
+     */
+    PARK {
+        @Override
+        public int idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return counter + 1;
+            } else if (counter < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+                return counter + 1;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+            return counter;
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+
+    private static final int YIELD_TRIES = 100;
+
+    private static final long PARK_NANOS = 1000L;
+
+    /**
+     * Wait once while the condition is not satisfied
+     *
+     * @param counter the times of waiting that starts with <code>0</code> for a new waiting loop
+     * @return the counter for the next waiting
+     */
+    public abstract int idle(int counter);
+}
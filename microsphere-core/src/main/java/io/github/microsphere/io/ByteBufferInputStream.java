@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The {@link InputStream} reads from the remaining content of {@link ByteBuffer} without copying
+ * (No ThreadSafe without synchronization)
+ *
+ * @see ByteBuffer
+ * @see ByteBufferOutputStream
+ * @since 1.0.0
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer the {@link ByteBuffer} to read, its position will be advanced
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? (buffer.get() & 0xff) : -1;
+    }
+
+    @Override
+    public int read(byte b[], int off, int len) {
+        if (b == null) {
+            throw new NullPointerException();
+        } else if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        int size = Math.min(len, buffer.remaining());
+        buffer.get(b, off, size);
+        return size;
+    }
+
+    @Override
+    public long skip(long n) {
+        int size = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + size);
+        return size;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.io;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The {@link OutputStream} writes into the {@link ByteBuffer} directly, e.g. the direct or memory-mapped buffer
+ * (No ThreadSafe without synchronization)
+ *
+ * @see ByteBuffer
+ * @see ByteBufferInputStream
+ * @since 1.0.0
+ */
+public class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer the {@link ByteBuffer} to write, its position will be advanced
+     */
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @throws BufferOverflowException if the buffer has no space
+     */
+    @Override
+    public void write(int b) throws BufferOverflowException {
+        buffer.put((byte) b);
+    }
+
+    /**
+     * @throws BufferOverflowException if the buffer has no enough space
+     */
+    @Override
+    public void write(byte b[], int off, int len) throws BufferOverflowException {
+        buffer.put(b, off, len);
+    }
+}
@@ -0,0 +1,718 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static io.github.microsphere.misc.UnsafeUtils.unsafe;
+
+/**
+ * The typed handle of the elements in the array {@link Field}, the offset of field, the base offset and the index
+ * scale of array are resolved once by {@link sun.misc.Unsafe}, the operations are allocation-free and do not look
+ * up the field again, so that it could be used in the hot loops.
+ * <p>
+ * The component type of array is checked before each operation, and the index is checked against the length of
+ * array, the target object is ignored if the field is static.
+ *
+ * @see UnsafeUtils#arrayRef(Class, String)
+ * @see FieldRef
+ * @since 1.0.0
+ */
+public final class ArrayRef {
+
+    private final FieldRef fieldRef;
+
+    private final Class<?> componentType;
+
+    private final boolean isVolatile;
+
+    /**
+     * {@link sun.misc.Unsafe#arrayBaseOffset(Class)}
+     */
+    private final long baseOffset;
+
+    /**
+     * The shift of {@link sun.misc.Unsafe#arrayIndexScale(Class)}, which is a power of 2
+     */
+    private final int indexShift;
+
+    ArrayRef(FieldRef fieldRef) throws IllegalArgumentException {
+        Class<?> arrayType = fieldRef.getType();
+        if (!arrayType.isArray()) {
+            throw new IllegalArgumentException("The field is not an array : " + fieldRef.getField());
+        }
+        this.fieldRef = fieldRef;
+        this.componentType = arrayType.getComponentType();
+        this.isVolatile = Modifier.isVolatile(fieldRef.getField().getModifiers());
+        this.baseOffset = unsafe.arrayBaseOffset(arrayType);
+        this.indexShift = Integer.numberOfTrailingZeros(unsafe.arrayIndexScale(arrayType));
+    }
+
+    /**
+     * @return the {@link FieldRef} of array field
+     */
+    public FieldRef getFieldRef() {
+        return fieldRef;
+    }
+
+    /**
+     * @return the component type of array
+     */
+    public Class<?> getComponentType() {
+        return componentType;
+    }
+
+    /**
+     * Get the length of array
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the length of array
+     * @throws NullPointerException if the array is <code>null</code>
+     */
+    public int length(Object object) throws NullPointerException {
+        return Array.getLength(array(object, componentType.isPrimitive() ? componentType : Object.class));
+    }
+
+    /**
+     * Calculate the offset of the element at the index, which is not checked against the length of array
+     *
+     * @param index the index
+     * @return the offset
+     */
+    public long offset(int index) {
+        return baseOffset + ((long) index << indexShift);
+    }
+
+    /**
+     * Get the <code>boolean</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>boolean</code> element
+     */
+    public boolean getBoolean(Object object, int index) {
+        boolean[] array = (boolean[]) array(object, boolean.class);
+        return unsafe.getBoolean(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>boolean</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>boolean</code> element
+     */
+    public boolean getBooleanVolatile(Object object, int index) {
+        boolean[] array = (boolean[]) array(object, boolean.class);
+        return unsafe.getBooleanVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>boolean</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>boolean</code> element
+     */
+    public void putBoolean(Object object, int index, boolean value) {
+        boolean[] array = (boolean[]) array(object, boolean.class);
+        unsafe.putBoolean(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>boolean</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>boolean</code> element
+     */
+    public void putBooleanVolatile(Object object, int index, boolean value) {
+        boolean[] array = (boolean[]) array(object, boolean.class);
+        unsafe.putBooleanVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Get the <code>byte</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>byte</code> element
+     */
+    public byte getByte(Object object, int index) {
+        byte[] array = (byte[]) array(object, byte.class);
+        return unsafe.getByte(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>byte</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>byte</code> element
+     */
+    public byte getByteVolatile(Object object, int index) {
+        byte[] array = (byte[]) array(object, byte.class);
+        return unsafe.getByteVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>byte</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>byte</code> element
+     */
+    public void putByte(Object object, int index, byte value) {
+        byte[] array = (byte[]) array(object, byte.class);
+        unsafe.putByte(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>byte</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>byte</code> element
+     */
+    public void putByteVolatile(Object object, int index, byte value) {
+        byte[] array = (byte[]) array(object, byte.class);
+        unsafe.putByteVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Get the <code>short</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>short</code> element
+     */
+    public short getShort(Object object, int index) {
+        short[] array = (short[]) array(object, short.class);
+        return unsafe.getShort(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>short</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>short</code> element
+     */
+    public short getShortVolatile(Object object, int index) {
+        short[] array = (short[]) array(object, short.class);
+        return unsafe.getShortVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>short</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>short</code> element
+     */
+    public void putShort(Object object, int index, short value) {
+        short[] array = (short[]) array(object, short.class);
+        unsafe.putShort(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>short</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>short</code> element
+     */
+    public void putShortVolatile(Object object, int index, short value) {
+        short[] array = (short[]) array(object, short.class);
+        unsafe.putShortVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Get the <code>char</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>char</code> element
+     */
+    public char getChar(Object object, int index) {
+        char[] array = (char[]) array(object, char.class);
+        return unsafe.getChar(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>char</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>char</code> element
+     */
+    public char getCharVolatile(Object object, int index) {
+        char[] array = (char[]) array(object, char.class);
+        return unsafe.getCharVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>char</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>char</code> element
+     */
+    public void putChar(Object object, int index, char value) {
+        char[] array = (char[]) array(object, char.class);
+        unsafe.putChar(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>char</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>char</code> element
+     */
+    public void putCharVolatile(Object object, int index, char value) {
+        char[] array = (char[]) array(object, char.class);
+        unsafe.putCharVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Get the <code>int</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>int</code> element
+     */
+    public int getInt(Object object, int index) {
+        int[] array = (int[]) array(object, int.class);
+        return unsafe.getInt(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>int</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>int</code> element
+     */
+    public int getIntVolatile(Object object, int index) {
+        int[] array = (int[]) array(object, int.class);
+        return unsafe.getIntVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>int</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>int</code> element
+     */
+    public void putInt(Object object, int index, int value) {
+        int[] array = (int[]) array(object, int.class);
+        unsafe.putInt(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>int</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>int</code> element
+     */
+    public void putIntVolatile(Object object, int index, int value) {
+        int[] array = (int[]) array(object, int.class);
+        unsafe.putIntVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>int</code> element of the array field at the index (sequential writing), which is not
+     * guaranteed to be visible to the other threads immediately
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>int</code> element
+     */
+    public void putOrderedInt(Object object, int index, int value) {
+        int[] array = (int[]) array(object, int.class);
+        unsafe.putOrderedInt(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Atomically set the <code>int</code> element of the array field at the index if the current element
+     * equals the expected one
+     *
+     * @param object   the target object, or <code>null</code> if the field is static
+     * @param index    the index
+     * @param expected the expected element
+     * @param value    the new element
+     * @return <code>true</code> if set successfully
+     */
+    public boolean compareAndSwapInt(Object object, int index, int expected, int value) {
+        int[] array = (int[]) array(object, int.class);
+        return unsafe.compareAndSwapInt(array, offset(index, array.length), expected, value);
+    }
+
+    /**
+     * Atomically set the <code>int</code> element of the array field at the index and return the previous one
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the new element
+     * @return the previous element
+     */
+    public int getAndSetInt(Object object, int index, int value) {
+        int[] array = (int[]) array(object, int.class);
+        return unsafe.getAndSetInt(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Atomically add the delta to the <code>int</code> element of the array field at the index and return the
+     * previous one
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param delta  the delta to add
+     * @return the previous element
+     */
+    public int getAndAddInt(Object object, int index, int delta) {
+        int[] array = (int[]) array(object, int.class);
+        return unsafe.getAndAddInt(array, offset(index, array.length), delta);
+    }
+
+    /**
+     * Get the <code>long</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>long</code> element
+     */
+    public long getLong(Object object, int index) {
+        long[] array = (long[]) array(object, long.class);
+        return unsafe.getLong(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>long</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>long</code> element
+     */
+    public long getLongVolatile(Object object, int index) {
+        long[] array = (long[]) array(object, long.class);
+        return unsafe.getLongVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>long</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>long</code> element
+     */
+    public void putLong(Object object, int index, long value) {
+        long[] array = (long[]) array(object, long.class);
+        unsafe.putLong(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>long</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>long</code> element
+     */
+    public void putLongVolatile(Object object, int index, long value) {
+        long[] array = (long[]) array(object, long.class);
+        unsafe.putLongVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>long</code> element of the array field at the index (sequential writing), which is not
+     * guaranteed to be visible to the other threads immediately
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>long</code> element
+     */
+    public void putOrderedLong(Object object, int index, long value) {
+        long[] array = (long[]) array(object, long.class);
+        unsafe.putOrderedLong(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Atomically set the <code>long</code> element of the array field at the index if the current element
+     * equals the expected one
+     *
+     * @param object   the target object, or <code>null</code> if the field is static
+     * @param index    the index
+     * @param expected the expected element
+     * @param value    the new element
+     * @return <code>true</code> if set successfully
+     */
+    public boolean compareAndSwapLong(Object object, int index, long expected, long value) {
+        long[] array = (long[]) array(object, long.class);
+        return unsafe.compareAndSwapLong(array, offset(index, array.length), expected, value);
+    }
+
+    /**
+     * Atomically set the <code>long</code> element of the array field at the index and return the previous one
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the new element
+     * @return the previous element
+     */
+    public long getAndSetLong(Object object, int index, long value) {
+        long[] array = (long[]) array(object, long.class);
+        return unsafe.getAndSetLong(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Atomically add the delta to the <code>long</code> element of the array field at the index and return the
+     * previous one
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param delta  the delta to add
+     * @return the previous element
+     */
+    public long getAndAddLong(Object object, int index, long delta) {
+        long[] array = (long[]) array(object, long.class);
+        return unsafe.getAndAddLong(array, offset(index, array.length), delta);
+    }
+
+    /**
+     * Get the <code>float</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>float</code> element
+     */
+    public float getFloat(Object object, int index) {
+        float[] array = (float[]) array(object, float.class);
+        return unsafe.getFloat(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>float</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>float</code> element
+     */
+    public float getFloatVolatile(Object object, int index) {
+        float[] array = (float[]) array(object, float.class);
+        return unsafe.getFloatVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>float</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>float</code> element
+     */
+    public void putFloat(Object object, int index, float value) {
+        float[] array = (float[]) array(object, float.class);
+        unsafe.putFloat(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>float</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>float</code> element
+     */
+    public void putFloatVolatile(Object object, int index, float value) {
+        float[] array = (float[]) array(object, float.class);
+        unsafe.putFloatVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Get the <code>double</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>double</code> element
+     */
+    public double getDouble(Object object, int index) {
+        double[] array = (double[]) array(object, double.class);
+        return unsafe.getDouble(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>double</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>double</code> element
+     */
+    public double getDoubleVolatile(Object object, int index) {
+        double[] array = (double[]) array(object, double.class);
+        return unsafe.getDoubleVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>double</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>double</code> element
+     */
+    public void putDouble(Object object, int index, double value) {
+        double[] array = (double[]) array(object, double.class);
+        unsafe.putDouble(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Set the <code>double</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>double</code> element
+     */
+    public void putDoubleVolatile(Object object, int index, double value) {
+        double[] array = (double[]) array(object, double.class);
+        unsafe.putDoubleVolatile(array, offset(index, array.length), value);
+    }
+
+    /**
+     * Get the <code>Object</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>Object</code> element
+     */
+    public Object getObject(Object object, int index) {
+        Object[] array = (Object[]) array(object, Object.class);
+        return unsafe.getObject(array, offset(index, array.length));
+    }
+
+    /**
+     * Get the <code>Object</code> element of the array field at the index with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @return the <code>Object</code> element
+     */
+    public Object getObjectVolatile(Object object, int index) {
+        Object[] array = (Object[]) array(object, Object.class);
+        return unsafe.getObjectVolatile(array, offset(index, array.length));
+    }
+
+    /**
+     * Set the <code>Object</code> element of the array field at the index
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>Object</code> element
+     */
+    public void putObject(Object object, int index, Object value) {
+        Object[] array = (Object[]) array(object, Object.class);
+        unsafe.putObject(array, offset(index, array.length), checkElement(array, value));
+    }
+
+    /**
+     * Set the <code>Object</code> element of the array field at the index with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>Object</code> element
+     */
+    public void putObjectVolatile(Object object, int index, Object value) {
+        Object[] array = (Object[]) array(object, Object.class);
+        unsafe.putObjectVolatile(array, offset(index, array.length), checkElement(array, value));
+    }
+
+    /**
+     * Set the <code>Object</code> element of the array field at the index (sequential writing), which is not
+     * guaranteed to be visible to the other threads immediately
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the <code>Object</code> element
+     */
+    public void putOrderedObject(Object object, int index, Object value) {
+        Object[] array = (Object[]) array(object, Object.class);
+        unsafe.putOrderedObject(array, offset(index, array.length), checkElement(array, value));
+    }
+
+    /**
+     * Atomically set the <code>Object</code> element of the array field at the index if the current element
+     * is the expected one
+     *
+     * @param object   the target object, or <code>null</code> if the field is static
+     * @param index    the index
+     * @param expected the expected element
+     * @param value    the new element
+     * @return <code>true</code> if set successfully
+     */
+    public boolean compareAndSwapObject(Object object, int index, Object expected, Object value) {
+        Object[] array = (Object[]) array(object, Object.class);
+        return unsafe.compareAndSwapObject(array, offset(index, array.length), expected, checkElement(array, value));
+    }
+
+    /**
+     * Atomically set the <code>Object</code> element of the array field at the index and return the previous one
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param index  the index
+     * @param value  the new element
+     * @return the previous element
+     */
+    public Object getAndSetObject(Object object, int index, Object value) {
+        Object[] array = (Object[]) array(object, Object.class);
+        return unsafe.getAndSetObject(array, offset(index, array.length), checkElement(array, value));
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayRef{" + fieldRef.getField() + ", baseOffset=" + baseOffset + ", indexScale="
+                + (1 << indexShift) + "}";
+    }
+
+    private Object array(Object object, Class<?> expectedType) {
+        if (expectedType == Object.class ? componentType.isPrimitive() : componentType != expectedType) {
+            throw new IllegalArgumentException("The component type " + expectedType.getName()
+                    + " does not match the array field : " + fieldRef.getField());
+        }
+        Object base = fieldRef.readableBase(object, Object.class);
+        long fieldOffset = fieldRef.getOffset();
+        Object array = isVolatile ? unsafe.getObjectVolatile(base, fieldOffset) : unsafe.getObject(base, fieldOffset);
+        if (array == null) {
+            throw new NullPointerException("The array is null : " + fieldRef.getField());
+        }
+        return array;
+    }
+
+    private long offset(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return baseOffset + ((long) index << indexShift);
+    }
+
+    private static Object checkElement(Object[] array, Object value) {
+        if (value != null && !array.getClass().getComponentType().isInstance(value)) {
+            throw new ArrayStoreException(value.getClass().getName());
+        }
+        return value;
+    }
+}
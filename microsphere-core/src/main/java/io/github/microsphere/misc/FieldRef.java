@@ -0,0 +1,617 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static io.github.microsphere.misc.UnsafeUtils.unsafe;
+
+/**
+ * The typed handle of {@link Field} whose offset is resolved once by {@link sun.misc.Unsafe}, the operations are
+ * allocation-free and do not look up the field again, so that it could be used in the hot loops.
+ * <p>
+ * The type of field and the target object are checked before each operation, the target object is ignored if the
+ * field is static. The static final field is read-only.
+ *
+ * @see UnsafeUtils#fieldRef(Class, String)
+ * @since 1.0.0
+ */
+public final class FieldRef {
+
+    private final Field field;
+
+    private final Class<?> type;
+
+    private final Class<?> declaringClass;
+
+    /**
+     * The base of static field, or <code>null</code> if the field is not static
+     */
+    private final Object staticBase;
+
+    private final long offset;
+
+    private final boolean writable;
+
+    FieldRef(Field field) {
+        int modifiers = field.getModifiers();
+        this.field = field;
+        this.type = field.getType();
+        this.declaringClass = field.getDeclaringClass();
+        if (Modifier.isStatic(modifiers)) {
+            UnsafeUtils.ensureClassInitialized(declaringClass);
+            this.staticBase = unsafe.staticFieldBase(field);
+            this.offset = unsafe.staticFieldOffset(field);
+            this.writable = !Modifier.isFinal(modifiers);
+        } else {
+            this.staticBase = null;
+            this.offset = unsafe.objectFieldOffset(field);
+            this.writable = true;
+        }
+    }
+
+    /**
+     * @return the {@link Field}
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return the type of {@link Field}
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the offset of field, which is relative to the base of static field if the field is static
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return <code>true</code> if the field is static
+     */
+    public boolean isStatic() {
+        return staticBase != null;
+    }
+
+    /**
+     * Get the <code>boolean</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>boolean</code> value
+     */
+    public boolean getBoolean(Object object) {
+        return unsafe.getBoolean(readableBase(object, boolean.class), offset);
+    }
+
+    /**
+     * Get the <code>boolean</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>boolean</code> value
+     */
+    public boolean getBooleanVolatile(Object object) {
+        return unsafe.getBooleanVolatile(readableBase(object, boolean.class), offset);
+    }
+
+    /**
+     * Set the <code>boolean</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>boolean</code> value
+     */
+    public void putBoolean(Object object, boolean value) {
+        unsafe.putBoolean(writableBase(object, boolean.class), offset, value);
+    }
+
+    /**
+     * Set the <code>boolean</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>boolean</code> value
+     */
+    public void putBooleanVolatile(Object object, boolean value) {
+        unsafe.putBooleanVolatile(writableBase(object, boolean.class), offset, value);
+    }
+
+    /**
+     * Get the <code>byte</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>byte</code> value
+     */
+    public byte getByte(Object object) {
+        return unsafe.getByte(readableBase(object, byte.class), offset);
+    }
+
+    /**
+     * Get the <code>byte</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>byte</code> value
+     */
+    public byte getByteVolatile(Object object) {
+        return unsafe.getByteVolatile(readableBase(object, byte.class), offset);
+    }
+
+    /**
+     * Set the <code>byte</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>byte</code> value
+     */
+    public void putByte(Object object, byte value) {
+        unsafe.putByte(writableBase(object, byte.class), offset, value);
+    }
+
+    /**
+     * Set the <code>byte</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>byte</code> value
+     */
+    public void putByteVolatile(Object object, byte value) {
+        unsafe.putByteVolatile(writableBase(object, byte.class), offset, value);
+    }
+
+    /**
+     * Get the <code>short</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>short</code> value
+     */
+    public short getShort(Object object) {
+        return unsafe.getShort(readableBase(object, short.class), offset);
+    }
+
+    /**
+     * Get the <code>short</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>short</code> value
+     */
+    public short getShortVolatile(Object object) {
+        return unsafe.getShortVolatile(readableBase(object, short.class), offset);
+    }
+
+    /**
+     * Set the <code>short</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>short</code> value
+     */
+    public void putShort(Object object, short value) {
+        unsafe.putShort(writableBase(object, short.class), offset, value);
+    }
+
+    /**
+     * Set the <code>short</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>short</code> value
+     */
+    public void putShortVolatile(Object object, short value) {
+        unsafe.putShortVolatile(writableBase(object, short.class), offset, value);
+    }
+
+    /**
+     * Get the <code>char</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>char</code> value
+     */
+    public char getChar(Object object) {
+        return unsafe.getChar(readableBase(object, char.class), offset);
+    }
+
+    /**
+     * Get the <code>char</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>char</code> value
+     */
+    public char getCharVolatile(Object object) {
+        return unsafe.getCharVolatile(readableBase(object, char.class), offset);
+    }
+
+    /**
+     * Set the <code>char</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>char</code> value
+     */
+    public void putChar(Object object, char value) {
+        unsafe.putChar(writableBase(object, char.class), offset, value);
+    }
+
+    /**
+     * Set the <code>char</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>char</code> value
+     */
+    public void putCharVolatile(Object object, char value) {
+        unsafe.putCharVolatile(writableBase(object, char.class), offset, value);
+    }
+
+    /**
+     * Get the <code>int</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>int</code> value
+     */
+    public int getInt(Object object) {
+        return unsafe.getInt(readableBase(object, int.class), offset);
+    }
+
+    /**
+     * Get the <code>int</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>int</code> value
+     */
+    public int getIntVolatile(Object object) {
+        return unsafe.getIntVolatile(readableBase(object, int.class), offset);
+    }
+
+    /**
+     * Set the <code>int</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>int</code> value
+     */
+    public void putInt(Object object, int value) {
+        unsafe.putInt(writableBase(object, int.class), offset, value);
+    }
+
+    /**
+     * Set the <code>int</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>int</code> value
+     */
+    public void putIntVolatile(Object object, int value) {
+        unsafe.putIntVolatile(writableBase(object, int.class), offset, value);
+    }
+
+    /**
+     * Set the <code>int</code> value to field (sequential writing), which is not guaranteed to be visible to the
+     * other threads immediately
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>int</code> value
+     */
+    public void putOrderedInt(Object object, int value) {
+        unsafe.putOrderedInt(writableBase(object, int.class), offset, value);
+    }
+
+    /**
+     * Atomically set the <code>int</code> value to field if the current value equals the expected one
+     *
+     * @param object   the target object, or <code>null</code> if the field is static
+     * @param expected the expected value
+     * @param value    the new value
+     * @return <code>true</code> if set successfully
+     */
+    public boolean compareAndSwapInt(Object object, int expected, int value) {
+        return unsafe.compareAndSwapInt(writableBase(object, int.class), offset, expected, value);
+    }
+
+    /**
+     * Atomically set the <code>int</code> value to field and return the previous value
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the new value
+     * @return the previous value
+     */
+    public int getAndSetInt(Object object, int value) {
+        return unsafe.getAndSetInt(writableBase(object, int.class), offset, value);
+    }
+
+    /**
+     * Atomically add the delta to the <code>int</code> value of field and return the previous value
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param delta  the delta to add
+     * @return the previous value
+     */
+    public int getAndAddInt(Object object, int delta) {
+        return unsafe.getAndAddInt(writableBase(object, int.class), offset, delta);
+    }
+
+    /**
+     * Get the <code>long</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>long</code> value
+     */
+    public long getLong(Object object) {
+        return unsafe.getLong(readableBase(object, long.class), offset);
+    }
+
+    /**
+     * Get the <code>long</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>long</code> value
+     */
+    public long getLongVolatile(Object object) {
+        return unsafe.getLongVolatile(readableBase(object, long.class), offset);
+    }
+
+    /**
+     * Set the <code>long</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>long</code> value
+     */
+    public void putLong(Object object, long value) {
+        unsafe.putLong(writableBase(object, long.class), offset, value);
+    }
+
+    /**
+     * Set the <code>long</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>long</code> value
+     */
+    public void putLongVolatile(Object object, long value) {
+        unsafe.putLongVolatile(writableBase(object, long.class), offset, value);
+    }
+
+    /**
+     * Set the <code>long</code> value to field (sequential writing), which is not guaranteed to be visible to the
+     * other threads immediately
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>long</code> value
+     */
+    public void putOrderedLong(Object object, long value) {
+        unsafe.putOrderedLong(writableBase(object, long.class), offset, value);
+    }
+
+    /**
+     * Atomically set the <code>long</code> value to field if the current value equals the expected one
+     *
+     * @param object   the target object, or <code>null</code> if the field is static
+     * @param expected the expected value
+     * @param value    the new value
+     * @return <code>true</code> if set successfully
+     */
+    public boolean compareAndSwapLong(Object object, long expected, long value) {
+        return unsafe.compareAndSwapLong(writableBase(object, long.class), offset, expected, value);
+    }
+
+    /**
+     * Atomically set the <code>long</code> value to field and return the previous value
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the new value
+     * @return the previous value
+     */
+    public long getAndSetLong(Object object, long value) {
+        return unsafe.getAndSetLong(writableBase(object, long.class), offset, value);
+    }
+
+    /**
+     * Atomically add the delta to the <code>long</code> value of field and return the previous value
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param delta  the delta to add
+     * @return the previous value
+     */
+    public long getAndAddLong(Object object, long delta) {
+        return unsafe.getAndAddLong(writableBase(object, long.class), offset, delta);
+    }
+
+    /**
+     * Get the <code>float</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>float</code> value
+     */
+    public float getFloat(Object object) {
+        return unsafe.getFloat(readableBase(object, float.class), offset);
+    }
+
+    /**
+     * Get the <code>float</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>float</code> value
+     */
+    public float getFloatVolatile(Object object) {
+        return unsafe.getFloatVolatile(readableBase(object, float.class), offset);
+    }
+
+    /**
+     * Set the <code>float</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>float</code> value
+     */
+    public void putFloat(Object object, float value) {
+        unsafe.putFloat(writableBase(object, float.class), offset, value);
+    }
+
+    /**
+     * Set the <code>float</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>float</code> value
+     */
+    public void putFloatVolatile(Object object, float value) {
+        unsafe.putFloatVolatile(writableBase(object, float.class), offset, value);
+    }
+
+    /**
+     * Get the <code>double</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>double</code> value
+     */
+    public double getDouble(Object object) {
+        return unsafe.getDouble(readableBase(object, double.class), offset);
+    }
+
+    /**
+     * Get the <code>double</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>double</code> value
+     */
+    public double getDoubleVolatile(Object object) {
+        return unsafe.getDoubleVolatile(readableBase(object, double.class), offset);
+    }
+
+    /**
+     * Set the <code>double</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>double</code> value
+     */
+    public void putDouble(Object object, double value) {
+        unsafe.putDouble(writableBase(object, double.class), offset, value);
+    }
+
+    /**
+     * Set the <code>double</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>double</code> value
+     */
+    public void putDoubleVolatile(Object object, double value) {
+        unsafe.putDoubleVolatile(writableBase(object, double.class), offset, value);
+    }
+
+    /**
+     * Get the <code>Object</code> value of field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>Object</code> value
+     */
+    public Object getObject(Object object) {
+        return unsafe.getObject(readableBase(object, Object.class), offset);
+    }
+
+    /**
+     * Get the <code>Object</code> value of field with the volatile load semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @return the <code>Object</code> value
+     */
+    public Object getObjectVolatile(Object object) {
+        return unsafe.getObjectVolatile(readableBase(object, Object.class), offset);
+    }
+
+    /**
+     * Set the <code>Object</code> value to field
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>Object</code> value
+     */
+    public void putObject(Object object, Object value) {
+        unsafe.putObject(writableBase(object, Object.class), offset, checkValue(value));
+    }
+
+    /**
+     * Set the <code>Object</code> value to field with the volatile store semantics
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>Object</code> value
+     */
+    public void putObjectVolatile(Object object, Object value) {
+        unsafe.putObjectVolatile(writableBase(object, Object.class), offset, checkValue(value));
+    }
+
+    /**
+     * Set the <code>Object</code> value to field (sequential writing), which is not guaranteed to be visible to the
+     * other threads immediately
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the <code>Object</code> value
+     */
+    public void putOrderedObject(Object object, Object value) {
+        unsafe.putOrderedObject(writableBase(object, Object.class), offset, checkValue(value));
+    }
+
+    /**
+     * Atomically set the <code>Object</code> value to field if the current value is the expected one
+     *
+     * @param object   the target object, or <code>null</code> if the field is static
+     * @param expected the expected value
+     * @param value    the new value
+     * @return <code>true</code> if set successfully
+     */
+    public boolean compareAndSwapObject(Object object, Object expected, Object value) {
+        return unsafe.compareAndSwapObject(writableBase(object, Object.class), offset, expected, checkValue(value));
+    }
+
+    /**
+     * Atomically set the <code>Object</code> value to field and return the previous value
+     *
+     * @param object the target object, or <code>null</code> if the field is static
+     * @param value  the new value
+     * @return the previous value
+     */
+    public Object getAndSetObject(Object object, Object value) {
+        return unsafe.getAndSetObject(writableBase(object, Object.class), offset, checkValue(value));
+    }
+
+    @Override
+    public String toString() {
+        return "FieldRef{" + field + ", offset=" + offset + "}";
+    }
+
+    Object readableBase(Object object, Class<?> expectedType) {
+        if (expectedType == Object.class ? type.isPrimitive() : type != expectedType) {
+            throw new IllegalArgumentException("The type " + expectedType.getName()
+                    + " does not match the field : " + field);
+        }
+        if (staticBase != null) {
+            return staticBase;
+        }
+        if (!declaringClass.isInstance(object)) {
+            if (object == null) {
+                throw new NullPointerException("The object must not be null : " + field);
+            }
+            throw new IllegalArgumentException("The object of " + object.getClass().getName()
+                    + " does not declare the field : " + field);
+        }
+        return object;
+    }
+
+    private Object writableBase(Object object, Class<?> expectedType) {
+        if (!writable) {
+            throw new UnsupportedOperationException("The static final field can't be modified : " + field);
+        }
+        return readableBase(object, expectedType);
+    }
+
+    private Object checkValue(Object value) {
+        if (value != null && !type.isInstance(value)) {
+            throw new IllegalArgumentException("The value of " + value.getClass().getName()
+                    + " does not match the field : " + field);
+        }
+        return value;
+    }
+}
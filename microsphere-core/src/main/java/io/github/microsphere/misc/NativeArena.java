@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github.microsphere.misc.NativeBuffer.assertCapacity;
+import static io.github.microsphere.misc.UnsafeUtils.unsafe;
+
+/**
+ * The arena of off-heap memory, which allocates the {@link NativeBuffer buffers} from the chunks by bumping the
+ * pointer, the buffers are aligned to 8 bytes and zeroed. All memory is released at once when the arena is
+ * {@link #close() closed}, and all buffers allocated by the arena are closed too, so that the lots of buffers with
+ * the same lifecycle, e.g. the lookup tables, do not need to be released one by one.
+ * <p>
+ * The buffer larger than the chunk is allocated in a dedicated chunk. The arena is thread-safe for allocating, but
+ * closing requires the quiescence : the buffers are invalidated before the memory is released, while the access being
+ * in flight in the other threads may still touch the released memory, so the arena must be closed after all accesses
+ * to its' buffers have completed.
+ *
+ * @see NativeBuffer
+ * @see NativeMemory
+ * @since 1.0.0
+ */
+public final class NativeArena implements AutoCloseable {
+
+    /**
+     * The default size of chunk : 1 MB
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 20;
+
+    private static final long ALIGNMENT = 8;
+
+    private final long chunkSize;
+
+    private final NativeMemory.Releaser releaser;
+
+    private final List<NativeBuffer> buffers = new ArrayList<>();
+
+    /**
+     * The address of the next buffer in current chunk
+     */
+    private long position;
+
+    /**
+     * The limit address of current chunk
+     */
+    private long limit;
+
+    private long allocatedBytes;
+
+    private boolean closed;
+
+    public NativeArena() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public NativeArena(long chunkSize) throws IllegalArgumentException {
+        if (chunkSize < ALIGNMENT) {
+            throw new IllegalArgumentException("The size of chunk must not be less than " + ALIGNMENT + " : " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.releaser = NativeMemory.track(this);
+    }
+
+    /**
+     * Allocate the zeroed {@link NativeBuffer} from the arena
+     *
+     * @param capacity the capacity in bytes
+     * @return non-null
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @throws IllegalStateException    if the arena is closed
+     * @throws OutOfMemoryError         if the memory can't be allocated
+     */
+    public synchronized NativeBuffer allocate(long capacity) throws IllegalArgumentException, IllegalStateException,
+            OutOfMemoryError {
+        assertCapacity(capacity);
+        if (closed) {
+            throw new IllegalStateException("The arena is closed");
+        }
+        long size = (capacity + ALIGNMENT - 1) & -ALIGNMENT;
+        long address;
+        if (size > chunkSize) {
+            address = releaser.reserve(size);
+        } else {
+            if (size > limit - position) {
+                // the rest of current chunk is abandoned
+                position = releaser.reserve(chunkSize);
+                limit = position + chunkSize;
+            }
+            address = position;
+            position += size;
+        }
+        unsafe.setMemory(address, capacity, (byte) 0);
+        allocatedBytes += capacity;
+        NativeBuffer buffer = new NativeBuffer(address, capacity, this);
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * @return the size of chunk
+     */
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return the bytes of buffers allocated by the arena
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return the bytes of chunks reserved by the arena
+     */
+    public long getReservedBytes() {
+        return releaser.getBytes();
+    }
+
+    /**
+     * @return <code>true</code> if closed
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Close the arena, all buffers allocated by the arena are closed, and all memory is released. No buffer of the
+     * arena may be accessed by the other threads concurrently.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (NativeBuffer buffer : buffers) {
+            buffer.invalidate();
+        }
+        buffers.clear();
+        releaser.release();
+    }
+
+    @Override
+    public String toString() {
+        return "NativeArena{chunkSize=" + chunkSize + ", closed=" + closed + "}";
+    }
+}
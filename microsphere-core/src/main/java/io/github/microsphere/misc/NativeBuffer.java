@@ -0,0 +1,435 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import static io.github.microsphere.misc.UnsafeUtils.BYTE_ARRAY_BASE_OFFSET;
+import static io.github.microsphere.misc.UnsafeUtils.INT_ARRAY_BASE_OFFSET;
+import static io.github.microsphere.misc.UnsafeUtils.LONG_ARRAY_BASE_OFFSET;
+import static io.github.microsphere.misc.UnsafeUtils.unsafe;
+
+/**
+ * The bounds-checked buffer of the off-heap memory, the primitive values are read and written at the absolute
+ * indexes in the native byte order.
+ * <p>
+ * The buffer is either allocated by {@link NativeMemory#allocate(long)}, which owns the memory released by
+ * {@link #close()}, or by {@link NativeArena#allocate(long)}, whose memory is released when the arena is closed. The
+ * buffer is not thread-safe for closing : the closing only makes the subsequent accesses fail, but the access being
+ * in flight may still touch the released memory, so the buffer (or its' arena) must be closed after all accesses
+ * from the other threads have completed.
+ *
+ * @see NativeMemory
+ * @see NativeArena
+ * @since 1.0.0
+ */
+public final class NativeBuffer implements AutoCloseable {
+
+    private final long capacity;
+
+    /**
+     * The owner arena, or <code>null</code> if the buffer owns the memory
+     */
+    private final NativeArena arena;
+
+    /**
+     * The releaser of memory, or <code>null</code> if the buffer is allocated by the arena
+     */
+    private final NativeMemory.Releaser releaser;
+
+    /**
+     * The address of memory, or 0 if closed, it's volatile to publish the closing to the other threads
+     */
+    private volatile long address;
+
+    NativeBuffer(long capacity) throws IllegalArgumentException, OutOfMemoryError {
+        assertCapacity(capacity);
+        this.capacity = capacity;
+        this.arena = null;
+        this.releaser = NativeMemory.track(this);
+        try {
+            this.address = releaser.reserve(capacity);
+        } catch (OutOfMemoryError e) {
+            releaser.release();
+            throw e;
+        }
+        unsafe.setMemory(address, capacity, (byte) 0);
+    }
+
+    NativeBuffer(long address, long capacity, NativeArena arena) {
+        this.capacity = capacity;
+        this.arena = arena;
+        this.releaser = null;
+        this.address = address;
+    }
+
+    /**
+     * @return the capacity in bytes
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the address of memory
+     * @throws IllegalStateException if closed
+     */
+    public long address() throws IllegalStateException {
+        return offset(0, 0);
+    }
+
+    /**
+     * @return <code>true</code> if the buffer is closed or its' arena is closed
+     */
+    public boolean isClosed() {
+        return address == 0;
+    }
+
+    /**
+     * Get the <code>byte</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>byte</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public byte getByte(long index) {
+        return unsafe.getByte(offset(index, 1));
+    }
+
+    /**
+     * Put the <code>byte</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>byte</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putByte(long index, byte value) {
+        unsafe.putByte(offset(index, 1), value);
+    }
+
+    /**
+     * Get the <code>short</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>short</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public short getShort(long index) {
+        return unsafe.getShort(offset(index, 2));
+    }
+
+    /**
+     * Put the <code>short</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>short</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putShort(long index, short value) {
+        unsafe.putShort(offset(index, 2), value);
+    }
+
+    /**
+     * Get the <code>char</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>char</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public char getChar(long index) {
+        return unsafe.getChar(offset(index, 2));
+    }
+
+    /**
+     * Put the <code>char</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>char</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putChar(long index, char value) {
+        unsafe.putChar(offset(index, 2), value);
+    }
+
+    /**
+     * Get the <code>int</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>int</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getInt(long index) {
+        return unsafe.getInt(offset(index, 4));
+    }
+
+    /**
+     * Put the <code>int</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>int</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putInt(long index, int value) {
+        unsafe.putInt(offset(index, 4), value);
+    }
+
+    /**
+     * Get the <code>long</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>long</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public long getLong(long index) {
+        return unsafe.getLong(offset(index, 8));
+    }
+
+    /**
+     * Put the <code>long</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>long</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putLong(long index, long value) {
+        unsafe.putLong(offset(index, 8), value);
+    }
+
+    /**
+     * Get the <code>float</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>float</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public float getFloat(long index) {
+        return unsafe.getFloat(offset(index, 4));
+    }
+
+    /**
+     * Put the <code>float</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>float</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putFloat(long index, float value) {
+        unsafe.putFloat(offset(index, 4), value);
+    }
+
+    /**
+     * Get the <code>double</code> value at the index
+     *
+     * @param index the index in bytes
+     * @return the <code>double</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public double getDouble(long index) {
+        return unsafe.getDouble(offset(index, 8));
+    }
+
+    /**
+     * Put the <code>double</code> value at the index
+     *
+     * @param index the index in bytes
+     * @param value the <code>double</code> value
+     * @throws IllegalStateException     if closed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public void putDouble(long index, double value) {
+        unsafe.putDouble(offset(index, 8), value);
+    }
+
+    /**
+     * Copy the bytes from the array
+     *
+     * @param index    the index of buffer
+     * @param src      the source array
+     * @param srcIndex the index of source array
+     * @param length   the count of bytes
+     * @throws IndexOutOfBoundsException if the range is out of the buffer or the array
+     */
+    public void copyFrom(long index, byte[] src, int srcIndex, int length) throws IndexOutOfBoundsException {
+        long offset = offset(index, length);
+        checkRange(src.length, srcIndex, length);
+        unsafe.copyMemory(src, BYTE_ARRAY_BASE_OFFSET + (long) srcIndex, null, offset, length);
+    }
+
+    /**
+     * Copy the bytes to the array
+     *
+     * @param index    the index of buffer
+     * @param dst      the destination array
+     * @param dstIndex the index of destination array
+     * @param length   the count of bytes
+     * @throws IndexOutOfBoundsException if the range is out of the buffer or the array
+     */
+    public void copyTo(long index, byte[] dst, int dstIndex, int length) throws IndexOutOfBoundsException {
+        long offset = offset(index, length);
+        checkRange(dst.length, dstIndex, length);
+        unsafe.copyMemory(null, offset, dst, BYTE_ARRAY_BASE_OFFSET + (long) dstIndex, length);
+    }
+
+    /**
+     * Copy the <code>int</code> values from the array
+     *
+     * @param index    the index of buffer in bytes
+     * @param src      the source array
+     * @param srcIndex the index of source array
+     * @param length   the count of values
+     * @throws IndexOutOfBoundsException if the range is out of the buffer or the array
+     */
+    public void copyFrom(long index, int[] src, int srcIndex, int length) throws IndexOutOfBoundsException {
+        long offset = offset(index, (long) length << 2);
+        checkRange(src.length, srcIndex, length);
+        unsafe.copyMemory(src, INT_ARRAY_BASE_OFFSET + ((long) srcIndex << 2), null, offset, (long) length << 2);
+    }
+
+    /**
+     * Copy the <code>int</code> values to the array
+     *
+     * @param index    the index of buffer in bytes
+     * @param dst      the destination array
+     * @param dstIndex the index of destination array
+     * @param length   the count of values
+     * @throws IndexOutOfBoundsException if the range is out of the buffer or the array
+     */
+    public void copyTo(long index, int[] dst, int dstIndex, int length) throws IndexOutOfBoundsException {
+        long offset = offset(index, (long) length << 2);
+        checkRange(dst.length, dstIndex, length);
+        unsafe.copyMemory(null, offset, dst, INT_ARRAY_BASE_OFFSET + ((long) dstIndex << 2), (long) length << 2);
+    }
+
+    /**
+     * Copy the <code>long</code> values from the array
+     *
+     * @param index    the index of buffer in bytes
+     * @param src      the source array
+     * @param srcIndex the index of source array
+     * @param length   the count of values
+     * @throws IndexOutOfBoundsException if the range is out of the buffer or the array
+     */
+    public void copyFrom(long index, long[] src, int srcIndex, int length) throws IndexOutOfBoundsException {
+        long offset = offset(index, (long) length << 3);
+        checkRange(src.length, srcIndex, length);
+        unsafe.copyMemory(src, LONG_ARRAY_BASE_OFFSET + ((long) srcIndex << 3), null, offset, (long) length << 3);
+    }
+
+    /**
+     * Copy the <code>long</code> values to the array
+     *
+     * @param index    the index of buffer in bytes
+     * @param dst      the destination array
+     * @param dstIndex the index of destination array
+     * @param length   the count of values
+     * @throws IndexOutOfBoundsException if the range is out of the buffer or the array
+     */
+    public void copyTo(long index, long[] dst, int dstIndex, int length) throws IndexOutOfBoundsException {
+        long offset = offset(index, (long) length << 3);
+        checkRange(dst.length, dstIndex, length);
+        unsafe.copyMemory(null, offset, dst, LONG_ARRAY_BASE_OFFSET + ((long) dstIndex << 3), (long) length << 3);
+    }
+
+    /**
+     * Copy the bytes from the other buffer, the ranges could be overlapped if the buffers are same
+     *
+     * @param index    the index of buffer
+     * @param src      the source buffer
+     * @param srcIndex the index of source buffer
+     * @param length   the count of bytes
+     * @throws IndexOutOfBoundsException if the range is out of the buffers
+     */
+    public void copyFrom(long index, NativeBuffer src, long srcIndex, long length) throws IndexOutOfBoundsException {
+        long offset = offset(index, length);
+        unsafe.copyMemory(src.offset(srcIndex, length), offset, length);
+    }
+
+    /**
+     * Set the bytes to the value
+     *
+     * @param index  the index of buffer
+     * @param length the count of bytes
+     * @param value  the value
+     * @throws IndexOutOfBoundsException if the range is out of the buffer
+     */
+    public void fill(long index, long length, byte value) throws IndexOutOfBoundsException {
+        unsafe.setMemory(offset(index, length), length, value);
+    }
+
+    /**
+     * Close the buffer, the memory is released if the buffer owns it, or it's released by the arena
+     */
+    @Override
+    public void close() {
+        if (address == 0) {
+            return;
+        }
+        address = 0;
+        if (releaser != null) {
+            releaser.release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NativeBuffer{capacity=" + capacity + ", closed=" + isClosed()
+                + (arena == null ? "" : ", arena=" + arena) + "}";
+    }
+
+    /**
+     * Invalidate the buffer when its' arena is closed
+     */
+    void invalidate() {
+        address = 0;
+    }
+
+    static void assertCapacity(long capacity) throws IllegalArgumentException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive : " + capacity);
+        }
+    }
+
+    private long offset(long index, long length) throws IllegalStateException, IndexOutOfBoundsException {
+        long address = this.address;
+        if (address == 0) {
+            throw new IllegalStateException("The buffer is closed");
+        }
+        if (index < 0 || length < 0 || index > capacity - length) {
+            throw new IndexOutOfBoundsException("index : " + index + ", length : " + length
+                    + ", capacity : " + capacity);
+        }
+        return address + index;
+    }
+
+    private static void checkRange(int arrayLength, int index, int length) throws IndexOutOfBoundsException {
+        if (index < 0 || length < 0 || index > arrayLength - length) {
+            throw new IndexOutOfBoundsException("index : " + index + ", length : " + length
+                    + ", array length : " + arrayLength);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.microsphere.misc.UnsafeUtils.unsafe;
+
+/**
+ * The off-heap memory utility class based on {@link sun.misc.Unsafe#allocateMemory(long)} and
+ * {@link sun.misc.Unsafe#freeMemory(long)}, the memory is out of the Java heap, so that it is not scanned or moved by
+ * the garbage collector, e.g. the large and long-lived lookup tables.
+ * <p>
+ * The memory is tracked by the {@link PhantomReference phantom references} of its' owners, the {@link NativeBuffer}
+ * or {@link NativeArena}. If the owner is collected by the garbage collector without being closed, the memory is
+ * counted as a leak and logged by the daemon thread, but it's never released : the owner may become unreachable while
+ * its' memory is still being accessed, and Java 8 has no <code>Reference.reachabilityFence</code> to prevent it, so
+ * releasing the memory on the garbage collection path could cause the use-after-free. The usages are counted for
+ * the monitoring.
+ *
+ * @see NativeBuffer
+ * @see NativeArena
+ * @since 1.0.0
+ */
+public abstract class NativeMemory {
+
+    private static final Logger logger = LoggerFactory.getLogger(NativeMemory.class);
+
+    private static final AtomicLong usedBytes = new AtomicLong();
+
+    private static final AtomicLong allocationCount = new AtomicLong();
+
+    private static final AtomicLong releaseCount = new AtomicLong();
+
+    private static final AtomicLong leakCount = new AtomicLong();
+
+    private static final AtomicLong leakedBytes = new AtomicLong();
+
+    private static final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+
+    /**
+     * The {@link Releaser releasers} must be reachable until they are enqueued
+     */
+    private static final Set<Releaser> releasers = ConcurrentHashMap.newKeySet();
+
+    static {
+        Thread leakDetector = new Thread(NativeMemory::detectLeaks, "NativeMemory-LeakDetector");
+        leakDetector.setDaemon(true);
+        leakDetector.start();
+    }
+
+    private NativeMemory() {
+    }
+
+    /**
+     * Allocate the zeroed {@link NativeBuffer} which owns the memory exclusively, it must be
+     * {@link NativeBuffer#close() closed} to release the memory.
+     *
+     * @param capacity the capacity in bytes
+     * @return non-null
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @throws OutOfMemoryError         if the memory can't be allocated
+     */
+    public static NativeBuffer allocate(long capacity) throws IllegalArgumentException, OutOfMemoryError {
+        return new NativeBuffer(capacity);
+    }
+
+    /**
+     * @return the bytes of memory in use, including the leaked ones
+     */
+    public static long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * @return the total count of memory blocks allocated
+     */
+    public static long getAllocationCount() {
+        return allocationCount.get();
+    }
+
+    /**
+     * @return the total count of memory blocks released by closing
+     */
+    public static long getReleaseCount() {
+        return releaseCount.get();
+    }
+
+    /**
+     * @return the total count of memory blocks leaked, whose owners were collected by the garbage collector without
+     * being closed
+     */
+    public static long getLeakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * @return the total bytes of memory leaked, whose owners were collected by the garbage collector without being
+     * closed
+     */
+    public static long getLeakedBytes() {
+        return leakedBytes.get();
+    }
+
+    /**
+     * Track the memory of the owner
+     *
+     * @param owner the owner of memory
+     * @return the {@link Releaser} of memory
+     */
+    static Releaser track(Object owner) {
+        Releaser releaser = new Releaser(owner);
+        releasers.add(releaser);
+        return releaser;
+    }
+
+    private static void detectLeaks() {
+        while (true) {
+            try {
+                Reference<?> reference = referenceQueue.remove();
+                ((Releaser) reference).leak();
+            } catch (InterruptedException e) {
+                // ignore, the daemon thread is alive until the JVM exits
+            } catch (Throwable e) {
+                logger.error("Failed to report the leaked native memory", e);
+            }
+        }
+    }
+
+    /**
+     * The releaser of the memory blocks of an owner, which is enqueued if the owner is phantom reachable
+     */
+    static final class Releaser extends PhantomReference<Object> {
+
+        private final String ownerType;
+
+        private long[] addresses = new long[1];
+
+        private int count;
+
+        private long bytes;
+
+        private boolean released;
+
+        private Releaser(Object owner) {
+            super(owner, referenceQueue);
+            this.ownerType = owner.getClass().getSimpleName();
+        }
+
+        /**
+         * Allocate the memory block which is not zeroed
+         *
+         * @param size the size in bytes
+         * @return the address of memory
+         * @throws IllegalStateException if released
+         * @throws OutOfMemoryError      if the memory can't be allocated
+         */
+        synchronized long reserve(long size) throws IllegalStateException, OutOfMemoryError {
+            if (released) {
+                throw new IllegalStateException("The native memory has been released");
+            }
+            long address = unsafe.allocateMemory(size);
+            if (count == addresses.length) {
+                addresses = Arrays.copyOf(addresses, count << 1);
+            }
+            addresses[count++] = address;
+            bytes += size;
+            usedBytes.addAndGet(size);
+            allocationCount.incrementAndGet();
+            return address;
+        }
+
+        /**
+         * @return the bytes of memory reserved, or 0 if released
+         */
+        synchronized long getBytes() {
+            return released ? 0 : bytes;
+        }
+
+        /**
+         * Release all memory blocks once
+         */
+        synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            for (int i = 0; i < count; i++) {
+                unsafe.freeMemory(addresses[i]);
+            }
+            usedBytes.addAndGet(-bytes);
+            releaseCount.addAndGet(count);
+            releasers.remove(this);
+            clear();
+        }
+
+        /**
+         * Report the memory blocks as leaked once the owner is collected without being closed, the memory is not
+         * released, because it may be still accessed by the code that the owner is unreachable from.
+         */
+        synchronized void leak() {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (count > 0) {
+                leakCount.addAndGet(count);
+                leakedBytes.addAndGet(bytes);
+                logger.warn("The native memory[size : {} bytes] of {} was not closed before the garbage collection, " +
+                        "it will not be released", bytes, ownerType);
+            }
+            releasers.remove(this);
+            clear();
+        }
+    }
+}
@@ -5,17 +5,20 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 import sun.misc.Unsafe;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-import static io.github.microsphere.reflect.ReflectionUtils.assertArrayIndex;
-import static io.github.microsphere.reflect.ReflectionUtils.assertFieldMatchType;
-
 /**
  * {@link Unsafe} Utility class <p/> <b> Take case to  use those utility methods in order to the stability fo
  * JVM </b>
+ * <p>
+ * The accessors of non-static field by name check the field before each operation : {@link NullPointerException} if
+ * the object is <code>null</code> or the field is not found, {@link IllegalArgumentException} if the field is static
+ * or its' type does not match, and {@link UnsupportedOperationException} if the final field is modified. The field is
+ * looked up in the cache per invocation, the hot paths should hold the {@link #fieldRef(Class, String) FieldRef}.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @version 1.0.0
@@ -117,9 +120,14 @@ public abstract class UnsafeUtils {
     static final int OBJECT_ARRAY_INDEX_SCALE;
 
     /**
-     * Offset Cache,
+     * The cache of {@link FieldRef} by the field name per class
+     */
+    private final static ClassValue<ConcurrentMap<String, FieldRef>> fieldRefsCache = newCache();
+
+    /**
+     * The cache of {@link ArrayRef} by the field name per class
      */
-    private final static ConcurrentMap<String, Long> offsetCache = new ConcurrentHashMap<>();
+    private final static ClassValue<ConcurrentMap<String, ArrayRef>> arrayRefsCache = newCache();
 
     static {
         try {
@@ -161,6 +169,30 @@ public abstract class UnsafeUtils {
         }
     }
 
+    /**
+     * Get the {@link Unsafe} instance
+     *
+     * @return non-null
+     */
+    public static Unsafe getUnsafe() {
+        return unsafe;
+    }
+
+    /**
+     * Ensure the specified class is initialized, which replaces {@link Unsafe#ensureClassInitialized(Class)} that has
+     * been removed since JDK 22
+     *
+     * @param type the target type
+     * @throws IllegalArgumentException if the class can't be initialized by its' name, e.g. the hidden class
+     */
+    public static void ensureClassInitialized(Class<?> type) throws IllegalArgumentException {
+        try {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("The class can't be initialized : " + type.getName(), e);
+        }
+    }
+
     /**
      * Calculate Array Index Offset
      *
@@ -267,14 +299,15 @@ public abstract class UnsafeUtils {
         return arrayIndexOffset(index, OBJECT_ARRAY_BASE_OFFSET, OBJECT_ARRAY_INDEX_SCALE);
     }
 
-
     /**
      * Create Offset Cache Key
      *
      * @param type      the target type
      * @param fieldName the name of {@link Field}
      * @return The cache key of offset
+     * @deprecated the offsets are cached by {@link FieldRef} per class, use {@link #fieldRef(Class, String)} instead
      */
+    @Deprecated
     protected static String createOffsetCacheKey(Class<?> type, String fieldName) {
         StringBuilder keyBuilder = new StringBuilder(type.getName()).append("#").append(fieldName);
         return keyBuilder.toString();
@@ -285,23 +318,26 @@ public abstract class UnsafeUtils {
      *
      * @param type      the target type
      * @param fieldName the name of {@link Field}
-     * @return Offset
+     * @return Offset, or <code>null</code> if the {@link FieldRef} of field has not been resolved
+     * @deprecated the offsets are cached by {@link FieldRef} per class, use {@link #fieldRef(Class, String)} instead
      */
+    @Deprecated
     protected static Long getOffsetFromCache(Class<?> type, String fieldName) {
-        String key = createOffsetCacheKey(type, fieldName);
-        return offsetCache.get(key);
+        FieldRef fieldRef = fieldRefsCache.get(type).get(fieldName);
+        return fieldRef == null ? null : fieldRef.getOffset();
     }
 
     /**
-     * Save offset to cache
+     * Save offset to cache, the offset is resolved by the {@link FieldRef} of field rather than the argument
      *
      * @param type      the target type
      * @param fieldName the name of {@link Field}
      * @param offset    offset
+     * @deprecated the offsets are cached by {@link FieldRef} per class, use {@link #fieldRef(Class, String)} instead
      */
+    @Deprecated
     protected static void putOffsetFromCache(Class<?> type, String fieldName, long offset) {
-        String key = createOffsetCacheKey(type, fieldName);
-        offsetCache.putIfAbsent(key, offset);
+        findFieldRef(type, fieldName);
     }
 
 
@@ -314,9 +350,7 @@ public abstract class UnsafeUtils {
      * @return the <code>long<code> value
      */
     public static long getLongFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        long offset = longArrayIndexOffset(index);
-        return unsafe.getLongVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getLongVolatile(object, index);
     }
 
     /**
@@ -328,10 +362,7 @@ public abstract class UnsafeUtils {
      * @return the <code>int<code> value
      */
     public static int getIntFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = intArrayIndexOffset(index);
-        return unsafe.getIntVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getIntVolatile(object, index);
     }
 
     /**
@@ -343,10 +374,7 @@ public abstract class UnsafeUtils {
      * @return the <code>short<code> value
      */
     public static short getShortFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = shortArrayIndexOffset(index);
-        return unsafe.getShortVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getShortVolatile(object, index);
     }
 
     /**
@@ -358,10 +386,7 @@ public abstract class UnsafeUtils {
      * @return the <code>byte<code> value
      */
     public static byte getByteFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = byteArrayIndexOffset(index);
-        return unsafe.getByteVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getByteVolatile(object, index);
     }
 
     /**
@@ -373,10 +398,7 @@ public abstract class UnsafeUtils {
      * @return the <code>boolean<code> value
      */
     public static boolean getBooleanFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = booleanArrayIndexOffset(index);
-        return unsafe.getBooleanVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getBooleanVolatile(object, index);
     }
 
     /**
@@ -388,10 +410,7 @@ public abstract class UnsafeUtils {
      * @return the <code>double<code> value
      */
     public static double getDoubleFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = doubleArrayIndexOffset(index);
-        return unsafe.getDoubleVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getDoubleVolatile(object, index);
     }
 
     /**
@@ -403,10 +422,7 @@ public abstract class UnsafeUtils {
      * @return the target index
      */
     public static float getFloatFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = floatArrayIndexOffset(index);
-        return unsafe.getFloatVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getFloatVolatile(object, index);
     }
 
     /**
@@ -420,10 +436,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static char getCharFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = charArrayIndexOffset(index);
-        return unsafe.getCharVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getCharVolatile(object, index);
     }
 
     /**
@@ -437,10 +450,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static Object getObjectFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = objectArrayIndexOffset(index);
-        return unsafe.getObjectVolatile(array, offset);
+        return arrayRef(object.getClass(), fieldName).getObjectVolatile(object, index);
     }
 
 
@@ -452,9 +462,7 @@ public abstract class UnsafeUtils {
      * @param value     double value
      */
     public static void putDouble(Object object, String fieldName, double value) {
-        assertFieldMatchType(object, fieldName, double.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putDouble(object, offset, value);
+        writableFieldRef(object, fieldName).putDouble(object, value);
     }
 
     /**
@@ -465,9 +473,7 @@ public abstract class UnsafeUtils {
      * @param value     float value
      */
     public static void putFloat(Object object, String fieldName, float value) {
-        assertFieldMatchType(object, fieldName, float.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putFloat(object, offset, value);
+        writableFieldRef(object, fieldName).putFloat(object, value);
     }
 
     /**
@@ -478,9 +484,7 @@ public abstract class UnsafeUtils {
      * @param value     short value
      */
     public static void putShort(Object object, String fieldName, short value) {
-        assertFieldMatchType(object, fieldName, short.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putShort(object, offset, value);
+        writableFieldRef(object, fieldName).putShort(object, value);
     }
 
     /**
@@ -491,9 +495,7 @@ public abstract class UnsafeUtils {
      * @param value     byte value
      */
     public static void putByte(Object object, String fieldName, byte value) {
-        assertFieldMatchType(object, fieldName, byte.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putByte(object, offset, value);
+        writableFieldRef(object, fieldName).putByte(object, value);
     }
 
     /**
@@ -504,9 +506,7 @@ public abstract class UnsafeUtils {
      * @param value     boolean value
      */
     public static void putBoolean(Object object, String fieldName, boolean value) {
-        assertFieldMatchType(object, fieldName, boolean.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putBoolean(object, offset, value);
+        writableFieldRef(object, fieldName).putBoolean(object, value);
     }
 
     /**
@@ -517,9 +517,7 @@ public abstract class UnsafeUtils {
      * @param value     char value
      */
     public static void putChar(Object object, String fieldName, char value) {
-        assertFieldMatchType(object, fieldName, char.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putChar(object, offset, value);
+        writableFieldRef(object, fieldName).putChar(object, value);
     }
 
     /**
@@ -530,9 +528,7 @@ public abstract class UnsafeUtils {
      * @param value     Object value
      */
     public static void putObject(Object object, String fieldName, Object value) {
-        assertFieldMatchType(object, fieldName, Object.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putObject(object, offset, value);
+        writableFieldRef(object, fieldName).putObject(object, value);
     }
 
     /**
@@ -543,9 +539,7 @@ public abstract class UnsafeUtils {
      * @param value     long value
      */
     public static void putLong(Object object, String fieldName, long value) {
-        assertFieldMatchType(object, fieldName, long.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putLong(object, offset, value);
+        writableFieldRef(object, fieldName).putLong(object, value);
     }
 
 
@@ -557,9 +551,7 @@ public abstract class UnsafeUtils {
      * @param value     int value
      */
     public static void putInt(Object object, String fieldName, int value) {
-        assertFieldMatchType(object, fieldName, int.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putInt(object, offset, value);
+        writableFieldRef(object, fieldName).putInt(object, value);
     }
 
     /**
@@ -570,9 +562,7 @@ public abstract class UnsafeUtils {
      * @param value     int value
      */
     public static void putOrderedInt(Object object, String fieldName, int value) {
-        assertFieldMatchType(object, fieldName, int.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putOrderedInt(object, offset, value);
+        writableFieldRef(object, fieldName).putOrderedInt(object, value);
     }
 
     /**
@@ -583,9 +573,7 @@ public abstract class UnsafeUtils {
      * @param value     long value
      */
     public static void putOrderedLong(Object object, String fieldName, long value) {
-        assertFieldMatchType(object, fieldName, long.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putOrderedLong(object, offset, value);
+        writableFieldRef(object, fieldName).putOrderedLong(object, value);
     }
 
     /**
@@ -596,9 +584,7 @@ public abstract class UnsafeUtils {
      * @param value     Object value
      */
     public static void putOrderedObject(Object object, String fieldName, Object value) {
-        assertFieldMatchType(object, fieldName, Object.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putOrderedObject(object, offset, value);
+        writableFieldRef(object, fieldName).putOrderedObject(object, value);
     }
 
     /**
@@ -609,9 +595,7 @@ public abstract class UnsafeUtils {
      * @param value     double value
      */
     public static void putDoubleVolatile(Object object, String fieldName, double value) {
-        assertFieldMatchType(object, fieldName, double.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putDoubleVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putDoubleVolatile(object, value);
     }
 
     /**
@@ -622,9 +606,7 @@ public abstract class UnsafeUtils {
      * @param value     float value
      */
     public static void putFloatVolatile(Object object, String fieldName, float value) {
-        assertFieldMatchType(object, fieldName, float.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putFloatVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putFloatVolatile(object, value);
     }
 
     /**
@@ -635,9 +617,7 @@ public abstract class UnsafeUtils {
      * @param value     short value
      */
     public static void putShortVolatile(Object object, String fieldName, short value) {
-        assertFieldMatchType(object, fieldName, short.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putShortVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putShortVolatile(object, value);
     }
 
     /**
@@ -648,9 +628,7 @@ public abstract class UnsafeUtils {
      * @param value     byte value
      */
     public static void putByteVolatile(Object object, String fieldName, byte value) {
-        assertFieldMatchType(object, fieldName, byte.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putByteVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putByteVolatile(object, value);
     }
 
     /**
@@ -661,9 +639,7 @@ public abstract class UnsafeUtils {
      * @param value     boolean value
      */
     public static void putBooleanVolatile(Object object, String fieldName, boolean value) {
-        assertFieldMatchType(object, fieldName, boolean.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putBooleanVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putBooleanVolatile(object, value);
     }
 
     /**
@@ -674,9 +650,7 @@ public abstract class UnsafeUtils {
      * @param value     char value
      */
     public static void putCharVolatile(Object object, String fieldName, char value) {
-        assertFieldMatchType(object, fieldName, char.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putCharVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putCharVolatile(object, value);
     }
 
     /**
@@ -687,9 +661,7 @@ public abstract class UnsafeUtils {
      * @param value     Object value
      */
     public static void putObjectVolatile(Object object, String fieldName, Object value) {
-        assertFieldMatchType(object, fieldName, Object.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putObjectVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putObjectVolatile(object, value);
     }
 
     /**
@@ -700,9 +672,7 @@ public abstract class UnsafeUtils {
      * @param value     long value
      */
     public static void putLongVolatile(Object object, String fieldName, long value) {
-        assertFieldMatchType(object, fieldName, long.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putLongVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putLongVolatile(object, value);
     }
 
     /**
@@ -713,9 +683,7 @@ public abstract class UnsafeUtils {
      * @param value     int value
      */
     public static void putIntVolatile(Object object, String fieldName, int value) {
-        assertFieldMatchType(object, fieldName, int.class);
-        long offset = getObjectFieldOffset(object, fieldName);
-        unsafe.putIntVolatile(object, offset, value);
+        writableFieldRef(object, fieldName).putIntVolatile(object, value);
     }
 
 
@@ -730,10 +698,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putLongIntoArrayVolatile(Object object, String fieldName, int index, long value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        ReflectionUtils.assertArrayIndex(array, index);
-        long offset = longArrayIndexOffset(index);
-        unsafe.putLongVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putLongVolatile(object, index, value);
     }
 
     /**
@@ -747,10 +712,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putOrderedLongIntoArray(Object object, String fieldName, int index, long value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = longArrayIndexOffset(index);
-        unsafe.putOrderedLong(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putOrderedLong(object, index, value);
     }
 
     /**
@@ -764,10 +726,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putIntIntoArrayVolatile(Object object, String fieldName, int index, int value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = intArrayIndexOffset(index);
-        unsafe.putIntVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putIntVolatile(object, index, value);
     }
 
     /**
@@ -781,10 +740,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putOrderedIntIntoArray(Object object, String fieldName, int index, int value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = intArrayIndexOffset(index);
-        unsafe.putOrderedInt(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putOrderedInt(object, index, value);
     }
 
     /**
@@ -798,10 +754,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putShortIntoArrayVolatile(Object object, String fieldName, int index, short value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = shortArrayIndexOffset(index);
-        unsafe.putShortVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putShortVolatile(object, index, value);
     }
 
     /**
@@ -815,10 +768,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putByteIntoArrayVolatile(Object object, String fieldName, int index, byte value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = byteArrayIndexOffset(index);
-        unsafe.putByteVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putByteVolatile(object, index, value);
     }
 
     /**
@@ -832,10 +782,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putBooleanIntoArrayVolatile(Object object, String fieldName, int index, boolean value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = booleanArrayIndexOffset(index);
-        unsafe.putBooleanVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putBooleanVolatile(object, index, value);
     }
 
     /**
@@ -849,10 +796,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putDoubleIntoArrayVolatile(Object object, String fieldName, int index, double value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = doubleArrayIndexOffset(index);
-        unsafe.putDoubleVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putDoubleVolatile(object, index, value);
     }
 
     /**
@@ -866,10 +810,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putFloatIntoArrayVolatile(Object object, String fieldName, int index, float value) throws IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = floatArrayIndexOffset(index);
-        unsafe.putFloatVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putFloatVolatile(object, index, value);
     }
 
     /**
@@ -883,10 +824,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putCharIntoArrayVolatile(Object object, String fieldName, int index, char value) throws IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = charArrayIndexOffset(index);
-        unsafe.putCharVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putCharVolatile(object, index, value);
     }
 
     /**
@@ -900,10 +838,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putObjectIntoArrayVolatile(Object object, String fieldName, int index, Object value) throws IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = objectArrayIndexOffset(index);
-        unsafe.putObjectVolatile(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putObjectVolatile(object, index, value);
     }
 
 
@@ -918,10 +853,7 @@ public abstract class UnsafeUtils {
      * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
      */
     public static void putOrderedObjectIntoArray(Object object, String fieldName, int index, Object value) throws IllegalAccessException {
-        Object array = FieldUtils.readDeclaredField(object, fieldName, true);
-        assertArrayIndex(array, index);
-        long offset = objectArrayIndexOffset(index);
-        unsafe.putOrderedObject(array, offset, value);
+        arrayRef(object.getClass(), fieldName).putOrderedObject(object, index, value);
     }
 
     /**
@@ -932,8 +864,7 @@ public abstract class UnsafeUtils {
      * @return Object value
      */
     public static Object getObject(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getObject(object, offset);
+        return objectFieldRef(object, fieldName).getObject(object);
     }
 
     /**
@@ -944,8 +875,7 @@ public abstract class UnsafeUtils {
      * @return long value
      */
     public static long getLong(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getLong(object, offset);
+        return objectFieldRef(object, fieldName).getLong(object);
     }
 
     /**
@@ -956,8 +886,7 @@ public abstract class UnsafeUtils {
      * @return double value
      */
     public static double getDouble(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getDouble(object, offset);
+        return objectFieldRef(object, fieldName).getDouble(object);
     }
 
     /**
@@ -968,8 +897,7 @@ public abstract class UnsafeUtils {
      * @return float value
      */
     public static float getFloat(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getFloat(object, offset);
+        return objectFieldRef(object, fieldName).getFloat(object);
     }
 
     /**
@@ -980,8 +908,7 @@ public abstract class UnsafeUtils {
      * @return short value
      */
     public static short getShort(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getShort(object, offset);
+        return objectFieldRef(object, fieldName).getShort(object);
     }
 
     /**
@@ -992,8 +919,7 @@ public abstract class UnsafeUtils {
      * @return byte value
      */
     public static byte getByte(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getByte(object, offset);
+        return objectFieldRef(object, fieldName).getByte(object);
     }
 
     /**
@@ -1004,8 +930,7 @@ public abstract class UnsafeUtils {
      * @return boolean value
      */
     public static boolean getBoolean(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getBoolean(object, offset);
+        return objectFieldRef(object, fieldName).getBoolean(object);
     }
 
     /**
@@ -1016,8 +941,7 @@ public abstract class UnsafeUtils {
      * @return char value
      */
     public static char getChar(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getChar(object, offset);
+        return objectFieldRef(object, fieldName).getChar(object);
     }
 
     /**
@@ -1028,8 +952,7 @@ public abstract class UnsafeUtils {
      * @return int value
      */
     public static int getInt(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getInt(object, offset);
+        return objectFieldRef(object, fieldName).getInt(object);
     }
 
     /**
@@ -1040,8 +963,7 @@ public abstract class UnsafeUtils {
      * @return Object value
      */
     public static Object getObjectVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getObjectVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getObjectVolatile(object);
     }
 
     /**
@@ -1052,8 +974,7 @@ public abstract class UnsafeUtils {
      * @return long value
      */
     public static long getLongVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getLongVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getLongVolatile(object);
     }
 
     /**
@@ -1064,8 +985,7 @@ public abstract class UnsafeUtils {
      * @return double value
      */
     public static double getDoubleVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getDoubleVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getDoubleVolatile(object);
     }
 
     /**
@@ -1076,8 +996,7 @@ public abstract class UnsafeUtils {
      * @return float value
      */
     public static float getFloatVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getFloatVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getFloatVolatile(object);
     }
 
     /**
@@ -1088,8 +1007,7 @@ public abstract class UnsafeUtils {
      * @return short value
      */
     public static short getShortVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getShortVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getShortVolatile(object);
     }
 
     /**
@@ -1100,8 +1018,7 @@ public abstract class UnsafeUtils {
      * @return byte value
      */
     public static byte getByteVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getByteVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getByteVolatile(object);
     }
 
     /**
@@ -1112,8 +1029,7 @@ public abstract class UnsafeUtils {
      * @return boolean value
      */
     public static boolean getBooleanVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getBooleanVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getBooleanVolatile(object);
     }
 
     /**
@@ -1124,8 +1040,7 @@ public abstract class UnsafeUtils {
      * @return char value
      */
     public static char getCharVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getCharVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getCharVolatile(object);
     }
 
     /**
@@ -1136,8 +1051,151 @@ public abstract class UnsafeUtils {
      * @return int value
      */
     public static int getIntVolatile(Object object, String fieldName) {
-        long offset = getObjectFieldOffset(object, fieldName);
-        return unsafe.getIntVolatile(object, offset);
+        return objectFieldRef(object, fieldName).getIntVolatile(object);
+    }
+
+    /**
+     * Get the int value of the field of the specified object in the opaque mode,
+     * it's the volatile load on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return int value
+     */
+    public static int getIntOpaque(Object object, String fieldName) {
+        return objectFieldRef(object, fieldName).getIntVolatile(object);
+    }
+
+    /**
+     * Sets the given int value to the field of the specified object in the opaque mode,
+     * it's the ordered store on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putIntOpaque(Object object, String fieldName, int value) {
+        writableFieldRef(object, fieldName).putOrderedInt(object, value);
+    }
+
+    /**
+     * Get the int value of the field of the specified object in the acquire mode,
+     * it's the volatile load on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return int value
+     */
+    public static int getIntAcquire(Object object, String fieldName) {
+        return objectFieldRef(object, fieldName).getIntVolatile(object);
+    }
+
+    /**
+     * Sets the given int value to the field of the specified object in the release mode,
+     * it's the ordered store on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putIntRelease(Object object, String fieldName, int value) {
+        writableFieldRef(object, fieldName).putOrderedInt(object, value);
+    }
+
+    /**
+     * Get the long value of the field of the specified object in the opaque mode,
+     * it's the volatile load on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return long value
+     */
+    public static long getLongOpaque(Object object, String fieldName) {
+        return objectFieldRef(object, fieldName).getLongVolatile(object);
+    }
+
+    /**
+     * Sets the given long value to the field of the specified object in the opaque mode,
+     * it's the ordered store on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putLongOpaque(Object object, String fieldName, long value) {
+        writableFieldRef(object, fieldName).putOrderedLong(object, value);
+    }
+
+    /**
+     * Get the long value of the field of the specified object in the acquire mode,
+     * it's the volatile load on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return long value
+     */
+    public static long getLongAcquire(Object object, String fieldName) {
+        return objectFieldRef(object, fieldName).getLongVolatile(object);
+    }
+
+    /**
+     * Sets the given long value to the field of the specified object in the release mode,
+     * it's the ordered store on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putLongRelease(Object object, String fieldName, long value) {
+        writableFieldRef(object, fieldName).putOrderedLong(object, value);
+    }
+
+    /**
+     * Get the Object value of the field of the specified object in the opaque mode,
+     * it's the volatile load on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return Object value
+     */
+    public static Object getObjectOpaque(Object object, String fieldName) {
+        return objectFieldRef(object, fieldName).getObjectVolatile(object);
+    }
+
+    /**
+     * Sets the given Object value to the field of the specified object in the opaque mode,
+     * it's the ordered store on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putObjectOpaque(Object object, String fieldName, Object value) {
+        writableFieldRef(object, fieldName).putOrderedObject(object, value);
+    }
+
+    /**
+     * Get the Object value of the field of the specified object in the acquire mode,
+     * it's the volatile load on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return Object value
+     */
+    public static Object getObjectAcquire(Object object, String fieldName) {
+        return objectFieldRef(object, fieldName).getObjectVolatile(object);
+    }
+
+    /**
+     * Sets the given Object value to the field of the specified object in the release mode,
+     * it's the ordered store on Java 8
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putObjectRelease(Object object, String fieldName, Object value) {
+        writableFieldRef(object, fieldName).putOrderedObject(object, value);
     }
 
     /**
@@ -1150,15 +1208,7 @@ public abstract class UnsafeUtils {
      * @throws NullPointerException     If any argument is <code>null</code>
      */
     protected static long getObjectFieldOffset(Object object, String fieldName) throws IllegalArgumentException, NullPointerException {
-        Class<?> type = object.getClass();
-        Long offsetFromCache = getOffsetFromCache(type, fieldName);
-        if (offsetFromCache != null) {
-            return offsetFromCache;
-        }
-        Field field = FieldUtils.getField(type, fieldName, true);
-        long offset = unsafe.objectFieldOffset(field);
-        putOffsetFromCache(type, fieldName, offset);
-        return offset;
+        return objectFieldRef(object, fieldName).getOffset();
     }
 
     /**
@@ -1169,7 +1219,128 @@ public abstract class UnsafeUtils {
      * @return offset
      */
     public static long getStaticFieldOffset(Class<?> type, String fieldName) {
-        Field field = FieldUtils.getField(type, fieldName, true);
-        return unsafe.staticFieldOffset(field);
+        FieldRef fieldRef = findFieldRef(type, fieldName);
+        if (fieldRef == null) {
+            throw new NullPointerException("The field [name : " + fieldName + "] is not found in " + type);
+        }
+        if (!fieldRef.isStatic()) {
+            throw new IllegalArgumentException("The field is not static : " + fieldRef.getField());
+        }
+        return fieldRef.getOffset();
+    }
+
+    /**
+     * Get the {@link FieldRef} of the field in the specified type or its' super types, which is resolved once and
+     * cached, so that it could be obtained once and used repeatedly without looking up the offset.
+     *
+     * @param type      the target type
+     * @param fieldName the name of {@link Field}
+     * @return non-null
+     * @throws IllegalArgumentException If the field is not found
+     * @throws NullPointerException     If any argument is <code>null</code>
+     */
+    public static FieldRef fieldRef(Class<?> type, String fieldName) throws IllegalArgumentException, NullPointerException {
+        FieldRef fieldRef = findFieldRef(type, fieldName);
+        if (fieldRef == null) {
+            throw new IllegalArgumentException("The field [name : " + fieldName + "] is not found in " + type);
+        }
+        return fieldRef;
+    }
+
+    /**
+     * Get the {@link ArrayRef} of the array field in the specified type or its' super types, which is resolved once
+     * and cached, so that it could be obtained once and used repeatedly without looking up the offsets.
+     *
+     * @param type      the target type
+     * @param fieldName the name of array {@link Field}
+     * @return non-null
+     * @throws IllegalArgumentException If the field is not found or is not an array
+     * @throws NullPointerException     If any argument is <code>null</code>
+     */
+    public static ArrayRef arrayRef(Class<?> type, String fieldName) throws IllegalArgumentException, NullPointerException {
+        ConcurrentMap<String, ArrayRef> arrayRefs = arrayRefsCache.get(type);
+        ArrayRef arrayRef = arrayRefs.get(fieldName);
+        if (arrayRef == null) {
+            arrayRef = new ArrayRef(fieldRef(type, fieldName));
+            ArrayRef previous = arrayRefs.putIfAbsent(fieldName, arrayRef);
+            if (previous != null) {
+                arrayRef = previous;
+            }
+        }
+        return arrayRef;
+    }
+
+    /**
+     * Ensures that loads before the fence will not be reordered with loads and stores after the fence
+     *
+     * @see Unsafe#loadFence()
+     */
+    public static void loadFence() {
+        unsafe.loadFence();
+    }
+
+    /**
+     * Ensures that loads and stores before the fence will not be reordered with stores after the fence
+     *
+     * @see Unsafe#storeFence()
+     */
+    public static void storeFence() {
+        unsafe.storeFence();
+    }
+
+    /**
+     * Ensures that loads and stores before the fence will not be reordered with loads and stores after the fence
+     *
+     * @see Unsafe#fullFence()
+     */
+    public static void fullFence() {
+        unsafe.fullFence();
+    }
+
+    private static FieldRef objectFieldRef(Object object, String fieldName) throws IllegalArgumentException, NullPointerException {
+        FieldRef fieldRef = findFieldRef(object.getClass(), fieldName);
+        if (fieldRef == null) {
+            throw new NullPointerException("The field [name : " + fieldName + "] is not found in " + object.getClass());
+        }
+        if (fieldRef.isStatic()) {
+            throw new IllegalArgumentException("The field is static : " + fieldRef.getField());
+        }
+        return fieldRef;
+    }
+
+    private static FieldRef writableFieldRef(Object object, String fieldName) throws IllegalArgumentException,
+            NullPointerException, UnsupportedOperationException {
+        FieldRef fieldRef = objectFieldRef(object, fieldName);
+        if (Modifier.isFinal(fieldRef.getField().getModifiers())) {
+            throw new UnsupportedOperationException("The final field can't be modified : " + fieldRef.getField());
+        }
+        return fieldRef;
+    }
+
+    private static FieldRef findFieldRef(Class<?> type, String fieldName) {
+
+        ConcurrentMap<String, FieldRef> fieldRefs = fieldRefsCache.get(type);
+        FieldRef fieldRef = fieldRefs.get(fieldName);
+        if (fieldRef == null) {
+            Field field = FieldUtils.getField(type, fieldName, true);
+            if (field == null) {
+                return null;
+            }
+            fieldRef = new FieldRef(field);
+            FieldRef previous = fieldRefs.putIfAbsent(fieldName, fieldRef);
+            if (previous != null) {
+                fieldRef = previous;
+            }
+        }
+        return fieldRef;
+    }
+
+    private static <V> ClassValue<ConcurrentMap<String, V>> newCache() {
+        return new ClassValue<ConcurrentMap<String, V>>() {
+            @Override
+            protected ConcurrentMap<String, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
     }
 }
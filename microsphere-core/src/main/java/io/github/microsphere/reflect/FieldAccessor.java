@@ -0,0 +1,672 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import java.lang.reflect.Field;
+
+import static io.github.microsphere.reflect.MemberUtils.isStatic;
+
+/**
+ * The accessor of {@link Field} which is resolved once and could be used repeatedly without the access checks of
+ * {@link Field}, the primitive values are read and written by the methods like {@link #getInt(Object)} and
+ * {@link #setInt(Object, int)} without boxing.
+ * <p>
+ * The values are widened as same as {@link Field}, e.g. {@link #getLong(Object)} reads the field of type
+ * <code>int</code>, {@link #setInt(Object, int)} writes the field of type <code>long</code>. The instance is
+ * ignored if the field is static. The accessor is backed by the offset of {@link sun.misc.Unsafe} if supported,
+ * or {@link java.lang.invoke.MethodHandle MethodHandles} otherwise. On Java 9+, the non-final field is accessed by
+ * <code>VarHandle</code> rather than {@link sun.misc.Unsafe}.
+ *
+ * @see FieldUtils#getFieldAccessor(Class, String)
+ * @see Field
+ * @since 1.0.0
+ */
+public abstract class FieldAccessor {
+
+    static final int BOOLEAN = 0;
+
+    static final int BYTE = 1;
+
+    static final int CHAR = 2;
+
+    static final int SHORT = 3;
+
+    static final int INT = 4;
+
+    static final int LONG = 5;
+
+    static final int FLOAT = 6;
+
+    static final int DOUBLE = 7;
+
+    static final int OBJECT = 8;
+
+    final Field field;
+
+    final Class<?> type;
+
+    final int kind;
+
+    private final Class<?> declaringClass;
+
+    private final boolean isStatic;
+
+    /**
+     * The target of static field, which is used as the instance
+     */
+    private final Object staticTarget;
+
+    private final boolean writable;
+
+    FieldAccessor(Field field, Object staticTarget, boolean writable) {
+        this.field = field;
+        this.type = field.getType();
+        this.kind = kindOf(type);
+        this.declaringClass = field.getDeclaringClass();
+        this.isStatic = isStatic(field);
+        this.staticTarget = staticTarget;
+        this.writable = writable;
+    }
+
+    /**
+     * Create the {@link FieldAccessor} of the specified {@link Field}, which will be made accessible
+     *
+     * @param field {@link Field}
+     * @return non-null
+     * @throws IllegalArgumentException if the field is <code>null</code> or can't be accessed
+     */
+    public static FieldAccessor of(Field field) throws IllegalArgumentException {
+        if (field == null) {
+            throw new IllegalArgumentException("The field must not be null");
+        }
+        try {
+            field.setAccessible(true);
+            return FieldAccessorFactory.create(field);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("The field can't be accessed : " + field, e);
+        }
+    }
+
+    /**
+     * Get the value of field, the primitive value is boxed
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param <T>      the field type
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public <T> T get(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        Object value;
+        switch (kind) {
+            case BOOLEAN:
+                value = getBooleanValue(target);
+                break;
+            case BYTE:
+                value = getByteValue(target);
+                break;
+            case CHAR:
+                value = getCharValue(target);
+                break;
+            case SHORT:
+                value = getShortValue(target);
+                break;
+            case INT:
+                value = getIntValue(target);
+                break;
+            case LONG:
+                value = getLongValue(target);
+                break;
+            case FLOAT:
+                value = getFloatValue(target);
+                break;
+            case DOUBLE:
+                value = getDoubleValue(target);
+                break;
+            default:
+                value = getObjectValue(target);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Get the value of field of type <code>boolean</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public boolean getBoolean(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        if (kind == BOOLEAN) {
+            return getBooleanValue(target);
+        }
+        throw typeMismatch(boolean.class);
+    }
+
+    /**
+     * Get the value of field of type <code>byte</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public byte getByte(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        if (kind == BYTE) {
+            return getByteValue(target);
+        }
+        throw typeMismatch(byte.class);
+    }
+
+    /**
+     * Get the value of field of type <code>char</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public char getChar(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        if (kind == CHAR) {
+            return getCharValue(target);
+        }
+        throw typeMismatch(char.class);
+    }
+
+    /**
+     * Get the value of field of type <code>short</code> or widened from <code>byte</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public short getShort(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        switch (kind) {
+            case SHORT:
+                return getShortValue(target);
+            case BYTE:
+                return getByteValue(target);
+            default:
+                throw typeMismatch(short.class);
+        }
+    }
+
+    /**
+     * Get the value of field of type <code>int</code> or widened from <code>char</code>, <code>short</code> and
+     * <code>byte</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public int getInt(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        switch (kind) {
+            case INT:
+                return getIntValue(target);
+            case CHAR:
+                return getCharValue(target);
+            case SHORT:
+                return getShortValue(target);
+            case BYTE:
+                return getByteValue(target);
+            default:
+                throw typeMismatch(int.class);
+        }
+    }
+
+    /**
+     * Get the value of field of type <code>long</code> or widened from the integral types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public long getLong(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        switch (kind) {
+            case LONG:
+                return getLongValue(target);
+            case INT:
+                return getIntValue(target);
+            case CHAR:
+                return getCharValue(target);
+            case SHORT:
+                return getShortValue(target);
+            case BYTE:
+                return getByteValue(target);
+            default:
+                throw typeMismatch(long.class);
+        }
+    }
+
+    /**
+     * Get the value of field of type <code>float</code> or widened from the integral types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public float getFloat(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        switch (kind) {
+            case FLOAT:
+                return getFloatValue(target);
+            case LONG:
+                return getLongValue(target);
+            case INT:
+                return getIntValue(target);
+            case CHAR:
+                return getCharValue(target);
+            case SHORT:
+                return getShortValue(target);
+            case BYTE:
+                return getByteValue(target);
+            default:
+                throw typeMismatch(float.class);
+        }
+    }
+
+    /**
+     * Get the value of field of type <code>double</code> or widened from the other numeric types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @return the value of field
+     * @throws IllegalArgumentException if the instance is not an instance of the declaring class or the field type
+     *                                  does not match
+     * @throws NullPointerException     if the instance is <code>null</code> and the field is not static
+     */
+    public double getDouble(Object instance) throws IllegalArgumentException, NullPointerException {
+        Object target = target(instance);
+        switch (kind) {
+            case DOUBLE:
+                return getDoubleValue(target);
+            case FLOAT:
+                return getFloatValue(target);
+            case LONG:
+                return getLongValue(target);
+            case INT:
+                return getIntValue(target);
+            case CHAR:
+                return getCharValue(target);
+            case SHORT:
+                return getShortValue(target);
+            case BYTE:
+                return getByteValue(target);
+            default:
+                throw typeMismatch(double.class);
+        }
+    }
+
+    /**
+     * Set the value of field, the primitive value is unboxed and widened
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the type of
+     *                                       value does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void set(Object instance, Object value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        if (kind == OBJECT) {
+            Object target = writableTarget(instance);
+            if (value != null && !type.isInstance(value)) {
+                throw typeMismatch(value.getClass());
+            }
+            setObjectValue(target, value);
+        } else if (value instanceof Integer) {
+            setInt(instance, (Integer) value);
+        } else if (value instanceof Long) {
+            setLong(instance, (Long) value);
+        } else if (value instanceof Double) {
+            setDouble(instance, (Double) value);
+        } else if (value instanceof Boolean) {
+            setBoolean(instance, (Boolean) value);
+        } else if (value instanceof Character) {
+            setChar(instance, (Character) value);
+        } else if (value instanceof Byte) {
+            setByte(instance, (Byte) value);
+        } else if (value instanceof Short) {
+            setShort(instance, (Short) value);
+        } else if (value instanceof Float) {
+            setFloat(instance, (Float) value);
+        } else {
+            writableTarget(instance);
+            throw typeMismatch(value == null ? null : value.getClass());
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>boolean</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setBoolean(Object instance, boolean value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        if (kind == BOOLEAN) {
+            setBooleanValue(target, value);
+        } else {
+            throw typeMismatch(boolean.class);
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>byte</code> or the wider numeric types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setByte(Object instance, byte value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        switch (kind) {
+            case BYTE:
+                setByteValue(target, value);
+                break;
+            case SHORT:
+                setShortValue(target, value);
+                break;
+            default:
+                setWidenedInt(target, value, byte.class);
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>char</code> or the wider numeric types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setChar(Object instance, char value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        if (kind == CHAR) {
+            setCharValue(target, value);
+        } else {
+            setWidenedInt(target, value, char.class);
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>short</code> or the wider numeric types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setShort(Object instance, short value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        if (kind == SHORT) {
+            setShortValue(target, value);
+        } else {
+            setWidenedInt(target, value, short.class);
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>int</code> or the wider numeric types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setInt(Object instance, int value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        setWidenedInt(writableTarget(instance), value, int.class);
+    }
+
+    /**
+     * Set the value of field of type <code>long</code> or the wider numeric types
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setLong(Object instance, long value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        switch (kind) {
+            case LONG:
+                setLongValue(target, value);
+                break;
+            case FLOAT:
+                setFloatValue(target, value);
+                break;
+            case DOUBLE:
+                setDoubleValue(target, value);
+                break;
+            default:
+                throw typeMismatch(long.class);
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>float</code> or <code>double</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setFloat(Object instance, float value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        switch (kind) {
+            case FLOAT:
+                setFloatValue(target, value);
+                break;
+            case DOUBLE:
+                setDoubleValue(target, value);
+                break;
+            default:
+                throw typeMismatch(float.class);
+        }
+    }
+
+    /**
+     * Set the value of field of type <code>double</code>
+     *
+     * @param instance the instance, or <code>null</code> if the field is static
+     * @param value    the value of field
+     * @throws IllegalArgumentException      if the instance is not an instance of the declaring class or the field
+     *                                       type does not match
+     * @throws NullPointerException          if the instance is <code>null</code> and the field is not static
+     * @throws UnsupportedOperationException if the field is static and final
+     */
+    public void setDouble(Object instance, double value) throws IllegalArgumentException, NullPointerException,
+            UnsupportedOperationException {
+        Object target = writableTarget(instance);
+        if (kind == DOUBLE) {
+            setDoubleValue(target, value);
+        } else {
+            throw typeMismatch(double.class);
+        }
+    }
+
+    /**
+     * @return the {@link Field}
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return the type of {@link Field}
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return <code>true</code> if the field could be set, the static final field is read-only
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + field + "}";
+    }
+
+    abstract boolean getBooleanValue(Object target);
+
+    abstract byte getByteValue(Object target);
+
+    abstract char getCharValue(Object target);
+
+    abstract short getShortValue(Object target);
+
+    abstract int getIntValue(Object target);
+
+    abstract long getLongValue(Object target);
+
+    abstract float getFloatValue(Object target);
+
+    abstract double getDoubleValue(Object target);
+
+    abstract Object getObjectValue(Object target);
+
+    abstract void setBooleanValue(Object target, boolean value);
+
+    abstract void setByteValue(Object target, byte value);
+
+    abstract void setCharValue(Object target, char value);
+
+    abstract void setShortValue(Object target, short value);
+
+    abstract void setIntValue(Object target, int value);
+
+    abstract void setLongValue(Object target, long value);
+
+    abstract void setFloatValue(Object target, float value);
+
+    abstract void setDoubleValue(Object target, double value);
+
+    abstract void setObjectValue(Object target, Object value);
+
+    private void setWidenedInt(Object target, int value, Class<?> valueType) {
+        switch (kind) {
+            case INT:
+                setIntValue(target, value);
+                break;
+            case LONG:
+                setLongValue(target, value);
+                break;
+            case FLOAT:
+                setFloatValue(target, value);
+                break;
+            case DOUBLE:
+                setDoubleValue(target, value);
+                break;
+            default:
+                throw typeMismatch(valueType);
+        }
+    }
+
+    private Object target(Object instance) {
+        if (isStatic) {
+            return staticTarget;
+        }
+        if (!declaringClass.isInstance(instance)) {
+            if (instance == null) {
+                throw new NullPointerException("The instance must not be null : " + field);
+            }
+            throw new IllegalArgumentException("The instance of " + instance.getClass().getName()
+                    + " does not declare the field : " + field);
+        }
+        return instance;
+    }
+
+    private Object writableTarget(Object instance) {
+        if (!writable) {
+            throw new UnsupportedOperationException("The field can't be set : " + field);
+        }
+        return target(instance);
+    }
+
+    private IllegalArgumentException typeMismatch(Class<?> valueType) {
+        return new IllegalArgumentException("The type " + (valueType == null ? null : valueType.getName())
+                + " does not match the field : " + field);
+    }
+
+    private static int kindOf(Class<?> type) {
+        if (boolean.class.equals(type)) {
+            return BOOLEAN;
+        } else if (byte.class.equals(type)) {
+            return BYTE;
+        } else if (char.class.equals(type)) {
+            return CHAR;
+        } else if (short.class.equals(type)) {
+            return SHORT;
+        } else if (int.class.equals(type)) {
+            return INT;
+        } else if (long.class.equals(type)) {
+            return LONG;
+        } else if (float.class.equals(type)) {
+            return FLOAT;
+        } else if (double.class.equals(type)) {
+            return DOUBLE;
+        }
+        return OBJECT;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import java.lang.reflect.Field;
+
+/**
+ * The factory of {@link FieldAccessor}, which is replaced by the variant backed by <code>VarHandle</code> on Java 9+
+ *
+ * @see FieldAccessor#of(Field)
+ * @since 1.0.0
+ */
+final class FieldAccessorFactory {
+
+    private FieldAccessorFactory() {
+    }
+
+    /**
+     * Create the {@link FieldAccessor} backed by {@link UnsafeFieldAccessor the offset of Unsafe} if supported, or
+     * {@link MethodHandleFieldAccessor} otherwise
+     *
+     * @param field the accessible {@link Field}
+     * @return non-null
+     * @throws IllegalAccessException if the field can't be read
+     */
+    static FieldAccessor create(Field field) throws IllegalAccessException {
+        FieldAccessor accessor = UnsafeFieldAccessor.create(field);
+        return accessor == null ? MethodHandleFieldAccessor.create(field) : accessor;
+    }
+}
@@ -18,6 +18,9 @@ package io.github.microsphere.reflect;
 
 import java.lang.reflect.Field;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 import static io.github.microsphere.lang.function.Predicates.and;
@@ -31,6 +34,17 @@ import static io.github.microsphere.reflect.ReflectionUtils.execute;
  */
 public abstract class FieldUtils {
 
+    /**
+     * The cache of {@link FieldAccessor field accessors} by the field name per class, including the absent ones
+     */
+    private static final ClassValue<ConcurrentMap<String, Optional<FieldAccessor>>> fieldAccessorsCache =
+            new ClassValue<ConcurrentMap<String, Optional<FieldAccessor>>>() {
+                @Override
+                protected ConcurrentMap<String, Optional<FieldAccessor>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private FieldUtils() {
     }
 
@@ -42,7 +56,7 @@ public abstract class FieldUtils {
      * @return null if not found
      */
     public static Field findField(Class<?> klass, String fieldName) {
-        if (Object.class.equals(klass)) {
+        if (klass == null || Object.class.equals(klass)) {
             return null;
         }
         Field field = null;
@@ -68,6 +82,32 @@ public abstract class FieldUtils {
         return and(predicates).test(field) ? field : null;
     }
 
+    /**
+     * Get the {@link FieldAccessor} of the {@link #findField(Class, String) found field}, which is created once and
+     * cached, so that it could be obtained once and used repeatedly.
+     *
+     * @param klass     {@link Class class} to find
+     * @param fieldName the name of {@link Field field}
+     * @return null if not found
+     * @throws IllegalArgumentException if the field can't be accessed
+     */
+    public static FieldAccessor getFieldAccessor(Class<?> klass, String fieldName) throws IllegalArgumentException {
+        if (klass == null || fieldName == null) {
+            return null;
+        }
+        ConcurrentMap<String, Optional<FieldAccessor>> fieldAccessors = fieldAccessorsCache.get(klass);
+        Optional<FieldAccessor> fieldAccessor = fieldAccessors.get(fieldName);
+        if (fieldAccessor == null) {
+            Field field = findField(klass, fieldName);
+            fieldAccessor = Optional.ofNullable(field == null ? null : FieldAccessor.of(field));
+            Optional<FieldAccessor> previous = fieldAccessors.putIfAbsent(fieldName, fieldAccessor);
+            if (previous != null) {
+                fieldAccessor = previous;
+            }
+        }
+        return fieldAccessor.orElse(null);
+    }
+
     /**
      * Get {@link Field} Value
      *
@@ -77,7 +117,8 @@ public abstract class FieldUtils {
      * @return {@link Field} Value
      */
     public static <T> T getFieldValue(Object object, String fieldName) {
-        return (T) getFieldValue(object, fieldName, null);
+        FieldAccessor fieldAccessor = getFieldAccessor(object.getClass(), fieldName);
+        return fieldAccessor == null ? null : fieldAccessor.get(object);
     }
 
     /**
@@ -104,8 +145,9 @@ public abstract class FieldUtils {
      * @return {@link Field} Value
      */
     public static <T> T getFieldValue(Object object, String fieldName, Class<T> fieldType) {
-        Field field = findField(object.getClass(), fieldName, f -> Objects.equals(fieldType, f.getType()));
-        return getFieldValue(object, field);
+        FieldAccessor fieldAccessor = getFieldAccessor(object.getClass(), fieldName);
+        return fieldAccessor != null && Objects.equals(fieldType, fieldAccessor.getType()) ?
+                fieldAccessor.get(object) : null;
     }
 
     /**
@@ -116,8 +158,8 @@ public abstract class FieldUtils {
      * @return <code>null</code> if <code>field</code> is <code>null</code> or get failed
      */
     public static <T> T getStaticFieldValue(Class<?> klass, String fieldName) {
-        Field field = findField(klass, fieldName);
-        return getStaticFieldValue(field);
+        FieldAccessor fieldAccessor = getFieldAccessor(klass, fieldName);
+        return fieldAccessor == null ? null : fieldAccessor.get(null);
     }
 
     /**
@@ -152,10 +194,12 @@ public abstract class FieldUtils {
      * @param klass      the class declared the field
      * @param fieldName  the name of {@link Field}
      * @param fieldValue the value of {@link Field}
+     * @throws NullPointerException if the field is not found
+     * @throws RuntimeException     wraps the {@link IllegalAccessException} if the field can't be modified, e.g. the
+     *                              static final field
      */
     public static void setStaticFieldValue(Class<?> klass, String fieldName, Object fieldValue) {
-        Field field = findField(klass, fieldName);
-        setFieldValue(null, field, fieldValue);
+        setFieldValue(getFieldAccessor(klass, fieldName), klass, fieldName, null, fieldValue);
     }
 
     /**
@@ -164,10 +208,13 @@ public abstract class FieldUtils {
      * @param object     the object whose field should be modified
      * @param fieldName  the name of {@link Field}
      * @param fieldValue the value of {@link Field}
+     * @throws NullPointerException if the field is not found
+     * @throws RuntimeException     wraps the {@link IllegalAccessException} if the field can't be modified, e.g. the
+     *                              static final field
      */
     public static void setFieldValue(Object object, String fieldName, Object fieldValue) {
-        Field field = findField(object.getClass(), fieldName);
-        setFieldValue(object, field, fieldValue);
+        Class<?> klass = object.getClass();
+        setFieldValue(getFieldAccessor(klass, fieldName), klass, fieldName, object, fieldValue);
     }
 
     /**
@@ -182,4 +229,16 @@ public abstract class FieldUtils {
             f.set(object, fieldValue);
         });
     }
+
+    private static void setFieldValue(FieldAccessor fieldAccessor, Class<?> klass, String fieldName, Object object,
+                                      Object fieldValue) {
+        if (fieldAccessor == null) {
+            throw new NullPointerException("The field [name : " + fieldName + "] is not found in " + klass);
+        }
+        if (!fieldAccessor.isWritable()) {
+            throw new RuntimeException(new IllegalAccessException("The field can't be modified : "
+                    + fieldAccessor.getField()));
+        }
+        fieldAccessor.set(object, fieldValue);
+    }
 }
@@ -59,4 +59,14 @@ public interface MemberUtils {
         return member != null && Modifier.isPublic(member.getModifiers());
     }
 
+    /**
+     * check the specified {@link Member member} is final or not ?
+     *
+     * @param member {@link Member} instance, e.g, {@link Constructor}, {@link Method} or {@link Field}
+     * @return Iff <code>member</code> is final one, return <code>true</code>, or <code>false</code>
+     */
+    static boolean isFinal(Member member) {
+        return member != null && Modifier.isFinal(member.getModifiers());
+    }
+
 }
\ No newline at end of file
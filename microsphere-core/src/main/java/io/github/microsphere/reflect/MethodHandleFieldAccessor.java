@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import static io.github.microsphere.reflect.MemberUtils.isFinal;
+import static io.github.microsphere.reflect.MemberUtils.isStatic;
+
+/**
+ * {@link FieldAccessor} backed by the getter and setter {@link MethodHandle MethodHandles} of {@link Field}, which
+ * is used if the field does not have the offset of {@link sun.misc.Unsafe}, or the handles of the access modes of
+ * <code>VarHandle</code> on Java 9+
+ *
+ * @see MethodHandles.Lookup#unreflectGetter(Field)
+ * @see MethodHandles.Lookup#unreflectSetter(Field)
+ * @since 1.0.0
+ */
+final class MethodHandleFieldAccessor extends FieldAccessor {
+
+    /**
+     * The getter of type (Object)T, T is the field type or Object if the field is not primitive
+     */
+    private final MethodHandle getter;
+
+    /**
+     * The setter of type (Object, T)void, or <code>null</code> if the field is read-only
+     */
+    private final MethodHandle setter;
+
+    private MethodHandleFieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        super(field, null, setter != null);
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Create the {@link MethodHandleFieldAccessor}, the final field is read-only if its' setter is not allowed,
+     * e.g. the static field or the field of record and hidden class
+     *
+     * @param field {@link Field}
+     * @return non-null
+     * @throws IllegalAccessException if the field can't be read
+     */
+    static MethodHandleFieldAccessor create(Field field) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = lookup.unreflectGetter(field);
+        MethodHandle setter = null;
+        if (!(isStatic(field) && isFinal(field))) {
+            try {
+                setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                if (!isFinal(field)) {
+                    throw e;
+                }
+            }
+        }
+        return create(field, getter, setter);
+    }
+
+    /**
+     * Create the {@link MethodHandleFieldAccessor} of the getter and setter, which take the instance as the first
+     * argument unless the field is static
+     *
+     * @param field  {@link Field}
+     * @param getter the getter of {@link Field}
+     * @param setter the setter of {@link Field}, or <code>null</code> if the field is read-only
+     * @return non-null
+     */
+    static MethodHandleFieldAccessor create(Field field, MethodHandle getter, MethodHandle setter) {
+        Class<?> type = field.getType();
+        Class<?> valueType = type.isPrimitive() ? type : Object.class;
+        if (isStatic(field)) {
+            getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            setter = setter == null ? null : MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+        getter = getter.asType(MethodType.methodType(valueType, Object.class));
+        setter = setter == null ? null : setter.asType(MethodType.methodType(void.class, Object.class, valueType));
+        return new MethodHandleFieldAccessor(field, getter, setter);
+    }
+
+    @Override
+    boolean getBooleanValue(Object target) {
+        try {
+            return (boolean) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    byte getByteValue(Object target) {
+        try {
+            return (byte) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    char getCharValue(Object target) {
+        try {
+            return (char) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    short getShortValue(Object target) {
+        try {
+            return (short) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    int getIntValue(Object target) {
+        try {
+            return (int) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    long getLongValue(Object target) {
+        try {
+            return (long) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    float getFloatValue(Object target) {
+        try {
+            return (float) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    double getDoubleValue(Object target) {
+        try {
+            return (double) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    Object getObjectValue(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setBooleanValue(Object target, boolean value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setByteValue(Object target, byte value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setCharValue(Object target, char value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setShortValue(Object target, short value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setIntValue(Object target, int value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setLongValue(Object target, long value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setFloatValue(Object target, float value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setDoubleValue(Object target, double value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void setObjectValue(Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new UndeclaredThrowableException(e);
+    }
+}
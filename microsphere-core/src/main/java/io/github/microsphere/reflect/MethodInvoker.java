@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import static io.github.microsphere.reflect.MemberUtils.isStatic;
+import static java.lang.invoke.MethodType.methodType;
+import static org.apache.commons.lang3.ArrayUtils.EMPTY_OBJECT_ARRAY;
+
+/**
+ * The invoker of {@link Method} backed by {@link MethodHandle}, which is resolved once and could be invoked
+ * repeatedly without the access checks and the argument adaption of {@link Method#invoke(Object, Object...)}, the
+ * array of arguments is usually eliminated once the invocation is inlined.
+ * <p>
+ * The invoker of static method ignores the instance. The arguments are unboxed or cast to the parameter types, the
+ * exceptions thrown by the method are rethrown directly if they are unchecked, or wrapped by
+ * {@link UndeclaredThrowableException} otherwise.
+ *
+ * @see MethodUtils#getMethodInvoker(Class, String, Class[])
+ * @see MethodHandle
+ * @since 1.0.0
+ */
+public final class MethodInvoker {
+
+    /**
+     * The handle of type (Throwable)Object that throws {@link InvocationTargetException} wrapping the argument
+     */
+    private static final MethodHandle THROW_INVOCATION_TARGET_EXCEPTION;
+
+    static {
+        try {
+            THROW_INVOCATION_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(MethodInvoker.class,
+                    "throwInvocationTargetException", methodType(Object.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Method method;
+
+    private final int parameterCount;
+
+    /**
+     * The handle of type (Object, Object...)Object, the instance is ignored if the method is static
+     */
+    private final MethodHandle handle;
+
+    /**
+     * The handle of type (Object, Object...)Object that wraps the exceptions thrown by the method into
+     * {@link InvocationTargetException}
+     */
+    private final MethodHandle invoker;
+
+    /**
+     * The {@link #invoker} of type (Object, Object[])Object for the methods with more than 4 parameters
+     */
+    private final MethodHandle spreader;
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.parameterCount = method.getParameterCount();
+        MethodType type = MethodType.genericMethodType(parameterCount + 1);
+        this.handle = adapt(handle, type);
+        this.invoker = adapt(wrapTargetException(handle), type);
+        this.spreader = this.invoker.asSpreader(Object[].class, parameterCount);
+    }
+
+    private MethodHandle adapt(MethodHandle handle, MethodType type) {
+        if (isStatic(method)) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    /**
+     * The exceptions thrown by the target handle are wrapped, rather than the ones thrown by the argument adaption
+     */
+    private static MethodHandle wrapTargetException(MethodHandle target) {
+        MethodType type = target.type();
+        MethodHandle handler = THROW_INVOCATION_TARGET_EXCEPTION.asType(methodType(type.returnType(), Throwable.class));
+        handler = MethodHandles.dropArguments(handler, 1, type.parameterList());
+        return MethodHandles.catchException(target, Throwable.class, handler);
+    }
+
+    private static Object throwInvocationTargetException(Throwable e) throws InvocationTargetException {
+        throw new InvocationTargetException(e);
+    }
+
+    /**
+     * Create the {@link MethodInvoker} of the specified {@link Method}, which will be made accessible
+     *
+     * @param method {@link Method}
+     * @return non-null
+     * @throws IllegalArgumentException if the method is <code>null</code> or can't be accessed
+     */
+    public static MethodInvoker of(Method method) throws IllegalArgumentException {
+        if (method == null) {
+            throw new IllegalArgumentException("The method must not be null");
+        }
+        try {
+            method.setAccessible(true);
+            // the varargs method takes the trailing array as is, as same as Method#invoke does
+            return new MethodInvoker(method, MethodHandles.lookup().unreflect(method).asFixedArity());
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("The method can't be accessed : " + method, e);
+        }
+    }
+
+    /**
+     * Invoke the method
+     *
+     * @param instance  the instance, or <code>null</code> if the method is static
+     * @param arguments the arguments, <code>null</code> means no argument
+     * @param <T>       the return type, the void method returns <code>null</code>
+     * @return the result of method
+     * @throws IllegalArgumentException     if the count of arguments does not match
+     * @throws ClassCastException           if the instance or the argument can't be cast
+     * @throws NullPointerException         if the instance is <code>null</code> for non-static method or the
+     *                                      argument is <code>null</code> for the primitive parameter
+     * @throws UndeclaredThrowableException if the method throws the checked exception
+     */
+    public <T> T invoke(Object instance, Object... arguments) throws IllegalArgumentException, ClassCastException,
+            NullPointerException, UndeclaredThrowableException {
+        try {
+            return invokeTarget(instance, arguments);
+        } catch (InvocationTargetException e) {
+            Throwable targetException = e.getTargetException();
+            if (targetException instanceof RuntimeException) {
+                throw (RuntimeException) targetException;
+            }
+            if (targetException instanceof Error) {
+                throw (Error) targetException;
+            }
+            throw new UndeclaredThrowableException(targetException);
+        }
+    }
+
+    /**
+     * Invoke the method as {@link Method#invoke(Object, Object...)} does, the exceptions thrown by the method are
+     * wrapped by {@link InvocationTargetException}
+     *
+     * @param instance  the instance, or <code>null</code> if the method is static
+     * @param arguments the arguments, <code>null</code> means no argument
+     * @param <T>       the return type, the void method returns <code>null</code>
+     * @return the result of method
+     * @throws IllegalArgumentException  if the count of arguments does not match
+     * @throws ClassCastException        if the instance or the argument can't be cast
+     * @throws NullPointerException      if the instance is <code>null</code> for non-static method or the
+     *                                   argument is <code>null</code> for the primitive parameter
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    <T> T invokeTarget(Object instance, Object... arguments) throws IllegalArgumentException, ClassCastException,
+            NullPointerException, InvocationTargetException {
+        Object[] values = arguments == null ? EMPTY_OBJECT_ARRAY : arguments;
+        if (values.length != parameterCount) {
+            throw new IllegalArgumentException("The count of arguments must be " + parameterCount + " : " + method);
+        }
+        try {
+            Object result;
+            // the handle is invoked exactly without spreading the arguments if the count is small
+            switch (parameterCount) {
+                case 0:
+                    result = invoker.invokeExact(instance);
+                    break;
+                case 1:
+                    result = invoker.invokeExact(instance, values[0]);
+                    break;
+                case 2:
+                    result = invoker.invokeExact(instance, values[0], values[1]);
+                    break;
+                case 3:
+                    result = invoker.invokeExact(instance, values[0], values[1], values[2]);
+                    break;
+                case 4:
+                    result = invoker.invokeExact(instance, values[0], values[1], values[2], values[3]);
+                    break;
+                default:
+                    result = spreader.invokeExact(instance, values);
+            }
+            return (T) result;
+        } catch (RuntimeException | Error | InvocationTargetException e) {
+            throw e;
+        } catch (Throwable e) {
+            // never happens, all exceptions of the method are wrapped
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * @return the {@link Method}
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Get the {@link MethodHandle} of type (Object, Object...)Object, the first argument is the instance. The handle
+     * stored in the <code>static final</code> field is a constant that could be inlined as the direct call by the JIT
+     * compiler, while the invocations of {@link MethodInvoker} could not.
+     *
+     * @return non-null
+     */
+    public MethodHandle getMethodHandle() {
+        return handle;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInvoker{" + method + "}";
+    }
+}
@@ -20,9 +20,14 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import java.lang.reflect.Method;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 import static io.github.microsphere.constants.SymbolConstants.COMMA_CHAR;
@@ -38,7 +43,7 @@ import static io.github.microsphere.util.ClassUtils.getTypes;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.apache.commons.lang3.ArrayUtils.EMPTY_CLASS_ARRAY;
-import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 /**
  * The Java Reflection {@link Method} Utility class
@@ -48,10 +53,19 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
  */
 public abstract class MethodUtils {
 
+    /**
+     * The cache of resolved {@link Method methods} per declaring class, including the absent ones
+     */
+    private static final ClassValue<ConcurrentMap<MethodKey, Optional<Method>>> methodsCache = newCache();
+
+    /**
+     * The cache of {@link MethodInvoker method invokers} per declaring class, including the absent ones
+     */
+    private static final ClassValue<ConcurrentMap<MethodKey, Optional<MethodInvoker>>> methodInvokersCache = newCache();
+
     private MethodUtils() {
     }
 
-
     /**
      * Create an instance of {@link Predicate} for {@link Method} to exclude the specified declared class
      *
@@ -78,7 +92,7 @@ public abstract class MethodUtils {
         }
 
         // All declared classes
-        List<Class<?>> declaredClasses = new LinkedList<>();
+        List<Class<?>> declaredClasses = new ArrayList<>();
         // Add the top declaring class
         declaredClasses.add(declaringClass);
         // If the super classes are resolved, all them into declaredClasses
@@ -87,7 +101,7 @@ public abstract class MethodUtils {
         }
 
         // All methods
-        List<Method> allMethods = new LinkedList<>();
+        List<Method> allMethods = new ArrayList<>();
 
         for (Class<?> classToSearch : declaredClasses) {
             Method[] methods = publicOnly ? classToSearch.getMethods() : classToSearch.getDeclaredMethods();
@@ -160,7 +174,9 @@ public abstract class MethodUtils {
     }
 
     /**
-     * Find the {@link Method} by the the specified type, method name and parameter types
+     * Find the {@link Method} by the the specified type, method name and parameter types, the result is cached, and
+     * a copy of the cached one is returned, so that it's safe to be changed by the caller, e.g.
+     * {@link Method#setAccessible(boolean)}
      *
      * @param type           the target type
      * @param methodName     the method name
@@ -168,14 +184,34 @@ public abstract class MethodUtils {
      * @return if not found, return <code>null</code>
      */
     public static Method findMethod(Class type, String methodName, Class<?>... parameterTypes) {
-        Method method = null;
-        try {
-            if (type != null && isNotEmpty(methodName)) {
-                method = type.getDeclaredMethod(methodName, parameterTypes);
-            }
-        } catch (NoSuchMethodException e) {
+        if (type == null || isEmpty(methodName)) {
+            return null;
+        }
+        Method method = getCached(methodsCache, type, methodName, parameterTypes, MethodUtils::resolveMethod);
+        // Class#getDeclaredMethod returns a new copy each time
+        return method == null ? null : resolveMethod(type, new MethodKey(method.getName(), method.getParameterTypes()));
+    }
+
+    /**
+     * Get the {@link MethodInvoker} of the {@link #findMethod(Class, String, Class[]) found method}, which is
+     * created once and cached, so that it could be obtained once and invoked repeatedly.
+     *
+     * @param type           the target type
+     * @param methodName     the method name
+     * @param parameterTypes the parameter types
+     * @return if not found, return <code>null</code>
+     * @throws IllegalArgumentException if the method can't be accessed
+     */
+    public static MethodInvoker getMethodInvoker(Class<?> type, String methodName, Class<?>... parameterTypes)
+            throws IllegalArgumentException {
+        if (type == null || isEmpty(methodName)) {
+            return null;
         }
-        return method;
+        return getCached(methodInvokersCache, type, methodName, parameterTypes, (declaringClass, key) -> {
+            // the copy of method is made accessible, the cached one is not changed
+            Method method = resolveMethod(declaringClass, key);
+            return method == null ? null : MethodInvoker.of(method);
+        });
     }
 
     /**
@@ -207,16 +243,15 @@ public abstract class MethodUtils {
 
     public static <T> T invokeMethod(Object instance, Class<?> type, String methodName, Object... parameters) {
         Class[] parameterTypes = getTypes(parameters);
-        Method method = findMethod(type, methodName, parameterTypes);
+        MethodInvoker invoker = getMethodInvoker(type, methodName, parameterTypes);
         T value = null;
 
-        if (method == null) {
+        if (invoker == null) {
             throw new IllegalStateException(String.format("cannot find method %s,class: %s", methodName, type.getName()));
         }
 
         try {
-            method.setAccessible(true);
-            value = (T) method.invoke(instance, parameters);
+            value = invoker.invokeTarget(instance, parameters);
         } catch (Exception e) {
             throw new IllegalArgumentException(e);
         }
@@ -368,4 +403,75 @@ public abstract class MethodUtils {
 
         return signatureBuilder.toString();
     }
+
+    private static Method resolveMethod(Class<?> type, MethodKey key) {
+        try {
+            return type.getDeclaredMethod(key.name, key.parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static <V> V getCached(ClassValue<ConcurrentMap<MethodKey, Optional<V>>> cache, Class<?> type,
+                                   String methodName, Class<?>[] parameterTypes,
+                                   BiFunction<Class<?>, MethodKey, V> resolver) {
+        ConcurrentMap<MethodKey, Optional<V>> values = cache.get(type);
+        MethodKey key = new MethodKey(methodName, parameterTypes == null ? EMPTY_CLASS_ARRAY : parameterTypes);
+        Optional<V> value = values.get(key);
+        if (value == null) {
+            // the parameter types of key are copied in case they are changed by the caller
+            key = new MethodKey(methodName, key.parameterTypes.clone());
+            value = Optional.ofNullable(resolver.apply(type, key));
+            Optional<V> previous = values.putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return value.orElse(null);
+    }
+
+    private static <V> ClassValue<ConcurrentMap<MethodKey, V>> newCache() {
+        return new ClassValue<ConcurrentMap<MethodKey, V>>() {
+            @Override
+            protected ConcurrentMap<MethodKey, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * The key of method in the declaring class
+     */
+    private static final class MethodKey {
+
+        private final String name;
+
+        private final Class<?>[] parameterTypes;
+
+        private final int hashCode;
+
+        private MethodKey(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey that = (MethodKey) o;
+            return hashCode == that.hashCode && name.equals(that.name)
+                    && Arrays.equals(parameterTypes, that.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -18,12 +18,15 @@ package io.github.microsphere.reflect;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -49,6 +52,49 @@ public abstract class TypeUtils {
 
     public static final Predicate<Class<?>> NON_OBJECT_TYPE_FILTER = t -> !Objects.equals(Object.class, t);
 
+    /**
+     * The cache of all generic super classes per raw class
+     */
+    private static final ClassValue<List<ParameterizedType>> genericSuperClassesCache = new ClassValue<List<ParameterizedType>>() {
+        @Override
+        protected List<ParameterizedType> computeValue(Class<?> type) {
+            return resolveAllGenericSuperClasses(type);
+        }
+    };
+
+    /**
+     * The cache of all generic interfaces per raw class
+     */
+    private static final ClassValue<List<ParameterizedType>> genericInterfacesCache = new ClassValue<List<ParameterizedType>>() {
+        @Override
+        protected List<ParameterizedType> computeValue(Class<?> type) {
+            return resolveAllGenericInterfaces(type);
+        }
+    };
+
+    /**
+     * The cache of all generic types(including super classes and interfaces) per raw class
+     */
+    private static final ClassValue<List<ParameterizedType>> genericTypesCache = new ClassValue<List<ParameterizedType>>() {
+        @Override
+        protected List<ParameterizedType> computeValue(Class<?> type) {
+            List<ParameterizedType> allGenericTypes = new ArrayList<>();
+            allGenericTypes.addAll(getAllGenericSuperClasses(type));
+            allGenericTypes.addAll(getAllGenericInterfaces(type));
+            return unmodifiableList(allGenericTypes);
+        }
+    };
+
+    /**
+     * The cache of actual type arguments per raw class and the interface class
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, List<Class<?>>>> actualTypeArgumentsCache = new ClassValue<ConcurrentMap<Class<?>, List<Class<?>>>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, List<Class<?>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public static boolean isParameterizedType(Type type) {
         return type instanceof ParameterizedType;
     }
@@ -77,7 +123,24 @@ public abstract class TypeUtils {
         return (Class<T>) findActualTypeArguments(type, interfaceClass).get(index);
     }
 
+    /**
+     * Find the actual type arguments of the interface class from the specified type, the result is cached per raw
+     * class of type.
+     *
+     * @param type           the specified type
+     * @param interfaceClass the generic interface class
+     * @return non-null read-only {@link List}
+     */
     public static List<Class<?>> findActualTypeArguments(Type type, Class<?> interfaceClass) {
+        Class<?> rawClass = getRawClass(type);
+        if (rawClass == null || interfaceClass == null) {
+            return emptyList();
+        }
+        return actualTypeArgumentsCache.get(rawClass).computeIfAbsent(interfaceClass,
+                t -> resolveActualTypeArguments(rawClass, t));
+    }
+
+    private static List<Class<?>> resolveActualTypeArguments(Class<?> type, Class<?> interfaceClass) {
 
         List<Class<?>> actualTypeArguments = new LinkedList<>();
 
@@ -96,7 +159,7 @@ public abstract class TypeUtils {
             }
         });
 
-        return unmodifiableList(actualTypeArguments);
+        return unmodifiableList(new ArrayList<>(actualTypeArguments));
     }
 
     /**
@@ -130,13 +193,13 @@ public abstract class TypeUtils {
      * @return non-null read-only {@link List}
      */
     public static List<ParameterizedType> getAllGenericTypes(Type type, Predicate<ParameterizedType>... typeFilters) {
-        List<ParameterizedType> allGenericTypes = new LinkedList<>();
-        // Add generic super classes
-        allGenericTypes.addAll(getAllGenericSuperClasses(type, typeFilters));
-        // Add generic super interfaces
-        allGenericTypes.addAll(getAllGenericInterfaces(type, typeFilters));
-        // wrap unmodifiable object
-        return unmodifiableList(allGenericTypes);
+        Class<?> rawClass = getRawClass(type);
+
+        if (rawClass == null) {
+            return emptyList();
+        }
+
+        return filterCached(genericTypesCache.get(rawClass), typeFilters);
     }
 
     /**
@@ -154,15 +217,7 @@ public abstract class TypeUtils {
             return emptyList();
         }
 
-        List<Class<?>> allTypes = new LinkedList<>();
-        // Add current class
-        allTypes.add(rawClass);
-        // Add all super classes
-        allTypes.addAll(getAllSuperClasses(rawClass, NON_OBJECT_TYPE_FILTER));
-
-        List<ParameterizedType> allGenericSuperClasses = allTypes.stream().map(Class::getGenericSuperclass).filter(TypeUtils::isParameterizedType).map(ParameterizedType.class::cast).collect(Collectors.toList());
-
-        return unmodifiableList(filterAll(allGenericSuperClasses, typeFilters));
+        return filterCached(genericSuperClassesCache.get(rawClass), typeFilters);
     }
 
     /**
@@ -180,6 +235,24 @@ public abstract class TypeUtils {
             return emptyList();
         }
 
+        return filterCached(genericInterfacesCache.get(rawClass), typeFilters);
+    }
+
+    private static List<ParameterizedType> resolveAllGenericSuperClasses(Class<?> rawClass) {
+
+        List<Class<?>> allTypes = new LinkedList<>();
+        // Add current class
+        allTypes.add(rawClass);
+        // Add all super classes
+        allTypes.addAll(getAllSuperClasses(rawClass, NON_OBJECT_TYPE_FILTER));
+
+        List<ParameterizedType> allGenericSuperClasses = allTypes.stream().map(Class::getGenericSuperclass).filter(TypeUtils::isParameterizedType).map(ParameterizedType.class::cast).collect(Collectors.toList());
+
+        return unmodifiableList(allGenericSuperClasses);
+    }
+
+    private static List<ParameterizedType> resolveAllGenericInterfaces(Class<?> rawClass) {
+
         List<Class<?>> allTypes = new LinkedList<>();
         // Add current class
         allTypes.add(rawClass);
@@ -190,7 +263,18 @@ public abstract class TypeUtils {
 
         List<ParameterizedType> allGenericInterfaces = allTypes.stream().map(Class::getGenericInterfaces).map(Arrays::asList).flatMap(Collection::stream).filter(TypeUtils::isParameterizedType).map(ParameterizedType.class::cast).collect(toList());
 
-        return unmodifiableList(filterAll(allGenericInterfaces, typeFilters));
+        return unmodifiableList(allGenericInterfaces);
+    }
+
+    /**
+     * Filter the cached generic types, the cached {@link List} is shared if no filter is present
+     */
+    private static List<ParameterizedType> filterCached(List<ParameterizedType> genericTypes,
+                                                        Predicate<ParameterizedType>... typeFilters) {
+        if (typeFilters == null || typeFilters.length == 0) {
+            return genericTypes;
+        }
+        return unmodifiableList(filterAll(genericTypes, typeFilters));
     }
 
     public static String getClassName(Type type) {
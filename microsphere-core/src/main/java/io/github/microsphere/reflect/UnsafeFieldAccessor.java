@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import io.github.microsphere.misc.UnsafeUtils;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+
+import static io.github.microsphere.reflect.MemberUtils.isFinal;
+import static io.github.microsphere.reflect.MemberUtils.isStatic;
+import static java.lang.reflect.Modifier.isVolatile;
+
+/**
+ * {@link FieldAccessor} backed by the offset of {@link Unsafe}, the volatile field is accessed with the volatile
+ * semantics as same as {@link Field}
+ *
+ * @see Unsafe#objectFieldOffset(Field)
+ * @see Unsafe#staticFieldOffset(Field)
+ * @since 1.0.0
+ */
+final class UnsafeFieldAccessor extends FieldAccessor {
+
+    /**
+     * {@link Unsafe} or <code>null</code> if not supported
+     */
+    private static final Unsafe unsafe = getUnsafe();
+
+    private final long offset;
+
+    private final boolean isVolatile;
+
+    private UnsafeFieldAccessor(Field field, Object staticBase, long offset) {
+        super(field, staticBase, !(isStatic(field) && isFinal(field)));
+        this.offset = offset;
+        this.isVolatile = isVolatile(field.getModifiers());
+    }
+
+    /**
+     * Create the {@link UnsafeFieldAccessor}
+     *
+     * @param field {@link Field}
+     * @return <code>null</code> if {@link Unsafe} is not supported, or the field does not have the offset, e.g.
+     * the field of record or hidden class
+     */
+    static UnsafeFieldAccessor create(Field field) {
+        if (unsafe == null) {
+            return null;
+        }
+        try {
+            if (isStatic(field)) {
+                UnsafeUtils.ensureClassInitialized(field.getDeclaringClass());
+                return new UnsafeFieldAccessor(field, unsafe.staticFieldBase(field), unsafe.staticFieldOffset(field));
+            }
+            return new UnsafeFieldAccessor(field, null, unsafe.objectFieldOffset(field));
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    boolean getBooleanValue(Object target) {
+        return isVolatile ? unsafe.getBooleanVolatile(target, offset) : unsafe.getBoolean(target, offset);
+    }
+
+    @Override
+    byte getByteValue(Object target) {
+        return isVolatile ? unsafe.getByteVolatile(target, offset) : unsafe.getByte(target, offset);
+    }
+
+    @Override
+    char getCharValue(Object target) {
+        return isVolatile ? unsafe.getCharVolatile(target, offset) : unsafe.getChar(target, offset);
+    }
+
+    @Override
+    short getShortValue(Object target) {
+        return isVolatile ? unsafe.getShortVolatile(target, offset) : unsafe.getShort(target, offset);
+    }
+
+    @Override
+    int getIntValue(Object target) {
+        return isVolatile ? unsafe.getIntVolatile(target, offset) : unsafe.getInt(target, offset);
+    }
+
+    @Override
+    long getLongValue(Object target) {
+        return isVolatile ? unsafe.getLongVolatile(target, offset) : unsafe.getLong(target, offset);
+    }
+
+    @Override
+    float getFloatValue(Object target) {
+        return isVolatile ? unsafe.getFloatVolatile(target, offset) : unsafe.getFloat(target, offset);
+    }
+
+    @Override
+    double getDoubleValue(Object target) {
+        return isVolatile ? unsafe.getDoubleVolatile(target, offset) : unsafe.getDouble(target, offset);
+    }
+
+    @Override
+    Object getObjectValue(Object target) {
+        return isVolatile ? unsafe.getObjectVolatile(target, offset) : unsafe.getObject(target, offset);
+    }
+
+    @Override
+    void setBooleanValue(Object target, boolean value) {
+        if (isVolatile) {
+            unsafe.putBooleanVolatile(target, offset, value);
+        } else {
+            unsafe.putBoolean(target, offset, value);
+        }
+    }
+
+    @Override
+    void setByteValue(Object target, byte value) {
+        if (isVolatile) {
+            unsafe.putByteVolatile(target, offset, value);
+        } else {
+            unsafe.putByte(target, offset, value);
+        }
+    }
+
+    @Override
+    void setCharValue(Object target, char value) {
+        if (isVolatile) {
+            unsafe.putCharVolatile(target, offset, value);
+        } else {
+            unsafe.putChar(target, offset, value);
+        }
+    }
+
+    @Override
+    void setShortValue(Object target, short value) {
+        if (isVolatile) {
+            unsafe.putShortVolatile(target, offset, value);
+        } else {
+            unsafe.putShort(target, offset, value);
+        }
+    }
+
+    @Override
+    void setIntValue(Object target, int value) {
+        if (isVolatile) {
+            unsafe.putIntVolatile(target, offset, value);
+        } else {
+            unsafe.putInt(target, offset, value);
+        }
+    }
+
+    @Override
+    void setLongValue(Object target, long value) {
+        if (isVolatile) {
+            unsafe.putLongVolatile(target, offset, value);
+        } else {
+            unsafe.putLong(target, offset, value);
+        }
+    }
+
+    @Override
+    void setFloatValue(Object target, float value) {
+        if (isVolatile) {
+            unsafe.putFloatVolatile(target, offset, value);
+        } else {
+            unsafe.putFloat(target, offset, value);
+        }
+    }
+
+    @Override
+    void setDoubleValue(Object target, double value) {
+        if (isVolatile) {
+            unsafe.putDoubleVolatile(target, offset, value);
+        } else {
+            unsafe.putDouble(target, offset, value);
+        }
+    }
+
+    @Override
+    void setObjectValue(Object target, Object value) {
+        if (isVolatile) {
+            unsafe.putObjectVolatile(target, offset, value);
+        } else {
+            unsafe.putObject(target, offset, value);
+        }
+    }
+
+    private static Unsafe getUnsafe() {
+        try {
+            return UnsafeUtils.getUnsafe();
+        } catch (Throwable e) { // UnsafeUtils can't be initialized
+            return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * The read-only {@link CharSequence} view of the US-ASCII (or UTF-8) encoded bytes, each byte is presented as the
+ * <code>char</code> without decoding, so that the parsers on {@link CharSequence} could work on the raw bytes
+ * directly. The bytes beyond US-ASCII are presented as the characters those never match the digits or the letters.
+ * <p>
+ * The view does not copy the bytes, the changes of the underlying bytes are visible, and the position of the
+ * {@link ByteBuffer} is never changed.
+ *
+ * @see ParseUtils
+ * @since 1.0.0
+ */
+public final class AsciiSequence implements CharSequence {
+
+    private final byte[] array;
+
+    private final ByteBuffer buffer;
+
+    private final int offset;
+
+    private final int length;
+
+    private AsciiSequence(byte[] array, ByteBuffer buffer, int offset, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Create the view of the whole bytes
+     *
+     * @param bytes the bytes
+     * @return non-null
+     */
+    public static AsciiSequence of(byte[] bytes) {
+        return of(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Create the view of the range of bytes
+     *
+     * @param bytes  the bytes
+     * @param offset the start offset
+     * @param length the length of range
+     * @return non-null
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static AsciiSequence of(byte[] bytes, int offset, int length) throws IndexOutOfBoundsException {
+        checkRange(offset, length, bytes.length);
+        return new AsciiSequence(bytes, null, offset, length);
+    }
+
+    /**
+     * Create the view of the remaining bytes of {@link ByteBuffer}, from its position to its limit. The heap buffer
+     * is accessed by its backing array, the direct one by the absolute gets.
+     *
+     * @param buffer the {@link ByteBuffer}
+     * @return non-null
+     */
+    public static AsciiSequence of(ByteBuffer buffer) {
+        int position = buffer.position();
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            return new AsciiSequence(buffer.array(), null, buffer.arrayOffset() + position, length);
+        }
+        return new AsciiSequence(null, buffer, position, length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        byte b = array != null ? array[offset + index] : buffer.get(offset + index);
+        return (char) (b & 0xFF);
+    }
+
+    @Override
+    public AsciiSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new AsciiSequence(array, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, ISO_8859_1);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, ISO_8859_1);
+    }
+
+    private static void checkRange(int offset, int length, int capacity) {
+        if (offset < 0 || length < 0 || offset > capacity - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", capacity " + capacity);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+/**
+ * The utility class parses the java.time values from the range of {@link CharSequence}. The common ISO-8601 shapes,
+ * such as "2007-12-03", "2007-12-03T10:15:30.123" and "2007-12-03T10:15:30+01:00", are parsed by hand without the
+ * parsing machinery of {@link DateTimeFormatter}, the others fall back to the ISO formatters, so that the results and
+ * the errors are same as the ones of {@link DateTimeFormatter}.
+ * <p>
+ * The {@link DateTimeFormatter formatters} of patterns are compiled once and {@link #getFormatter(String) cached}.
+ *
+ * @see DateTimeFormatter
+ * @since 1.0.0
+ */
+public abstract class DateTimeParseUtils {
+
+    private static final long INVALID = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private static final long NANOS_PER_SECOND = 1000_000_000L;
+
+    private static final long NANOS_PER_MILLI = 1000_000L;
+
+    /**
+     * The days from 0000-03-01 to 1970-01-01
+     */
+    private static final long DAYS_0000_TO_1970 = 719468L;
+
+    private static final int[] DAYS_OF_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static final int[] NANOS_SCALES = {100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100,
+            10, 1};
+
+    private static final ConcurrentMap<String, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    /**
+     * Get the {@link DateTimeFormatter} of pattern, which is compiled once and cached, the patterns are supposed to
+     * be a limited set of configurations.
+     *
+     * @param pattern the pattern
+     * @return non-null
+     * @throws IllegalArgumentException if the pattern is invalid
+     * @see DateTimeFormatter#ofPattern(String)
+     */
+    public static DateTimeFormatter getFormatter(String pattern) throws IllegalArgumentException {
+        if (pattern == null) {
+            throw new IllegalArgumentException("The pattern must not be null");
+        }
+        return formatters.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * Parse the {@link LocalDate} as {@link DateTimeFormatter#ISO_LOCAL_DATE} does, "yyyy-MM-dd" is parsed by hand
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return non-null
+     * @throws DateTimeParseException    if the range can't be parsed
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static LocalDate parseLocalDate(CharSequence source, int start, int end) throws DateTimeParseException,
+            IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        if (end - start == 10) {
+            int date = parseDate(source, start);
+            if (date >= 0) {
+                return LocalDate.of(year(date), month(date), day(date));
+            }
+        }
+        return LocalDate.parse(source.subSequence(start, end), ISO_LOCAL_DATE);
+    }
+
+    /**
+     * Parse the {@link LocalDateTime} as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does,
+     * "yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]" is parsed by hand
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return non-null
+     * @throws DateTimeParseException    if the range can't be parsed
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence source, int start, int end)
+            throws DateTimeParseException, IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        int date = parseDateAndSeparator(source, start, end);
+        if (date >= 0) {
+            long nanoOfDay = parseTime(source, start + 11, end, false);
+            if (nanoOfDay != INVALID) {
+                return LocalDateTime.of(LocalDate.of(year(date), month(date), day(date)),
+                        LocalTime.ofNanoOfDay(nanoOfDay));
+            }
+        }
+        return LocalDateTime.parse(source.subSequence(start, end), ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Parse the {@link OffsetDateTime} as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} does,
+     * "yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]" followed by "Z" or "+HH:mm" is parsed by hand
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return non-null
+     * @throws DateTimeParseException    if the range can't be parsed
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static OffsetDateTime parseOffsetDateTime(CharSequence source, int start, int end)
+            throws DateTimeParseException, IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        int date = parseDateAndSeparator(source, start, end);
+        if (date >= 0) {
+            int offsetStart = findOffset(source, start + 11, end);
+            long nanoOfDay = parseTime(source, start + 11, offsetStart, false);
+            long offsetSeconds = parseOffset(source, offsetStart, end);
+            if (nanoOfDay != INVALID && offsetSeconds != INVALID) {
+                return OffsetDateTime.of(LocalDate.of(year(date), month(date), day(date)),
+                        LocalTime.ofNanoOfDay(nanoOfDay), ZoneOffset.ofTotalSeconds((int) offsetSeconds));
+            }
+        }
+        return OffsetDateTime.parse(source.subSequence(start, end), ISO_OFFSET_DATE_TIME);
+    }
+
+    /**
+     * Parse the {@link Instant} as {@link DateTimeFormatter#ISO_INSTANT} does, "yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]Z"
+     * is parsed by hand. The offsets other than "Z" are left to {@link DateTimeFormatter#ISO_INSTANT} of the running
+     * JDK, which rejects them before Java 9.
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return non-null
+     * @throws DateTimeParseException    if the range can't be parsed
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static Instant parseInstant(CharSequence source, int start, int end) throws DateTimeParseException,
+            IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        int date = parseDateAndSeparator(source, start, end);
+        if (date >= 0 && source.charAt(end - 1) == 'Z') {
+            long nanoOfDay = parseTime(source, start + 11, end - 1, true);
+            if (nanoOfDay != INVALID) {
+                long epochSecond = toEpochDay(date) * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+                return Instant.ofEpochSecond(epochSecond, nanoOfDay % NANOS_PER_SECOND);
+            }
+        }
+        return ISO_INSTANT.parse(source.subSequence(start, end), Instant::from);
+    }
+
+    /**
+     * Parse the milliseconds from the epoch of 1970-01-01T00:00:00Z as
+     * {@link #parseInstant(CharSequence, int, int)} does, the common shapes are parsed without any allocation.
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the milliseconds from the epoch
+     * @throws DateTimeParseException    if the range can't be parsed
+     * @throws ArithmeticException       if the milliseconds overflow <code>long</code>
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static long parseEpochMillis(CharSequence source, int start, int end) throws DateTimeParseException,
+            ArithmeticException, IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        int date = parseDateAndSeparator(source, start, end);
+        if (date >= 0 && source.charAt(end - 1) == 'Z') {
+            long nanoOfDay = parseTime(source, start + 11, end - 1, true);
+            if (nanoOfDay != INVALID) {
+                long epochSecond = toEpochDay(date) * SECONDS_PER_DAY;
+                // the years of 4 digits never overflow
+                return epochSecond * 1000L + nanoOfDay / NANOS_PER_MILLI;
+            }
+        }
+        return parseInstant(source, start, end).toEpochMilli();
+    }
+
+    /**
+     * Parse "yyyy-MM-dd" followed by 'T' and at least "HH:mm"
+     *
+     * @return the packed date or -1 if invalid
+     */
+    private static int parseDateAndSeparator(CharSequence source, int start, int end) {
+        if (end - start < 16) {
+            return -1;
+        }
+        char separator = source.charAt(start + 10);
+        return separator == 'T' || separator == 't' ? parseDate(source, start) : -1;
+    }
+
+    /**
+     * Parse "yyyy-MM-dd"
+     *
+     * @return the packed date : year << 9 | month << 5 | day, or -1 if invalid
+     */
+    private static int parseDate(CharSequence source, int start) {
+        int year = parseDigits(source, start, 4);
+        int month = parseDigits(source, start + 5, 2);
+        int day = parseDigits(source, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || source.charAt(start + 4) != '-'
+                || source.charAt(start + 7) != '-' || day > lengthOfMonth(year, month)) {
+            return -1;
+        }
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Parse "HH:mm[:ss[.SSSSSSSSS]]" exactly
+     *
+     * @param secondRequired whether the second is required
+     * @return the nano of day or {@link #INVALID}
+     */
+    private static long parseTime(CharSequence source, int start, int end, boolean secondRequired) {
+        int length = end - start;
+        if ((length != 5 || secondRequired) && length != 8 && (length < 10 || length > 18)) {
+            return INVALID;
+        }
+        int hour = parseDigits(source, start, 2);
+        int minute = parseDigits(source, start + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || source.charAt(start + 2) != ':') {
+            return INVALID;
+        }
+        long seconds = hour * 3600L + minute * 60L;
+        if (length == 5) {
+            return seconds * NANOS_PER_SECOND;
+        }
+        int second = parseDigits(source, start + 6, 2);
+        if (second < 0 || second > 59 || source.charAt(start + 5) != ':') {
+            return INVALID;
+        }
+        long nanos = (seconds + second) * NANOS_PER_SECOND;
+        if (length == 8) {
+            return nanos;
+        }
+        int digits = length - 9;
+        int fraction = parseDigits(source, start + 9, digits);
+        if (fraction < 0 || source.charAt(start + 8) != '.') {
+            return INVALID;
+        }
+        return nanos + (long) fraction * NANOS_SCALES[digits - 1];
+    }
+
+    /**
+     * Find the start of offset, which is 'Z', '+' or '-'
+     *
+     * @return the index of offset, or <code>end</code> if not found
+     */
+    private static int findOffset(CharSequence source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == 'Z' || c == '+' || c == '-') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Parse "Z" or "+HH:mm" exactly
+     *
+     * @return the total seconds of offset or {@link #INVALID}
+     */
+    private static long parseOffset(CharSequence source, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            return source.charAt(start) == 'Z' ? 0 : INVALID;
+        }
+        if (length != 6) {
+            return INVALID;
+        }
+        char sign = source.charAt(start);
+        int hours = parseDigits(source, start + 1, 2);
+        int minutes = parseDigits(source, start + 4, 2);
+        if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0 || minutes > 59
+                || source.charAt(start + 3) != ':') {
+            return INVALID;
+        }
+        int seconds = hours * 3600 + minutes * 60;
+        if (seconds > 18 * 3600) {
+            return INVALID;
+        }
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    /**
+     * Parse the ASCII digits
+     *
+     * @return the non-negative value or -1 if any character is not a digit
+     */
+    private static int parseDigits(CharSequence source, int start, int length) {
+        int value = 0;
+        for (int i = start, end = start + length; i < end; i++) {
+            int digit = source.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * The days from the epoch of the packed date, the algorithm of the days from the civil date
+     */
+    private static long toEpochDay(int date) {
+        int month = month(date);
+        int year = month <= 2 ? year(date) - 1 : year(date);
+        int era = Math.floorDiv(year, 400);
+        int yearOfEra = year - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day(date) - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2 && (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+        }
+        return DAYS_OF_MONTH[month - 1];
+    }
+
+    private static int year(int date) {
+        return date >>> 9;
+    }
+
+    private static int month(int date) {
+        return (date >>> 5) & 0xF;
+    }
+
+    private static int day(int date) {
+        return date & 0x1F;
+    }
+
+    private static void checkRange(CharSequence source, int start, int end) throws IndexOutOfBoundsException {
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import java.util.UUID;
+
+/**
+ * The utility class parses the primitive values and {@link UUID} from the range of {@link CharSequence} without
+ * creating the intermediate {@link String} or boxed values.
+ *
+ * @since 1.0.0
+ */
+public abstract class ParseUtils {
+
+    /**
+     * The max mantissa that could be represented exactly by <code>double</code>
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * The powers of ten that could be represented exactly by <code>double</code>
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parse the decimal <code>int</code> as {@link Integer#parseInt(String)} does
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the <code>int</code> value
+     * @throws NumberFormatException     if the range does not contain a parsable <code>int</code>
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static int parseInt(CharSequence source, int start, int end) throws NumberFormatException,
+            IndexOutOfBoundsException {
+        long value = parseLong(source, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return (int) value;
+    }
+
+    /**
+     * Parse the decimal <code>long</code> as {@link Long#parseLong(String)} does
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the <code>long</code> value
+     * @throws NumberFormatException     if the range does not contain a parsable <code>long</code>
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static long parseLong(CharSequence source, int start, int end) throws NumberFormatException,
+            IndexOutOfBoundsException {
+        return parseLong(source, start, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static long parseLong(CharSequence source, int start, int end, long minValue, long maxValue) {
+        checkRange(source, start, end);
+        int index = start;
+        boolean negative = false;
+        char first = source.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++index == end) {
+                throw forInputString(source, start, end);
+            }
+        }
+        // accumulate negatively in order to reach the min value
+        long limit = negative ? minValue : -maxValue;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        while (index < end) {
+            int digit = source.charAt(index++) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw forInputString(source, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw forInputString(source, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parse the <code>double</code> as {@link Double#parseDouble(String)} does, the decimal values with at most 15
+     * significant digits and small exponents are parsed without allocation, the others fall back to
+     * {@link Double#parseDouble(String)}.
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the <code>double</code> value
+     * @throws NumberFormatException     if the range does not contain a parsable <code>double</code>
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static double parseDouble(CharSequence source, int start, int end) throws NumberFormatException,
+            IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        int index = start;
+        boolean negative = false;
+        char c = source.charAt(index);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean dot = false;
+        for (; index < end; index++) {
+            c = source.charAt(index);
+            if (c >= '0' && c <= '9') {
+                if (mantissa >= MAX_EXACT_MANTISSA / 10) {
+                    return fallbackParseDouble(source, start, end);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (dot) {
+                    exponent--;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return fallbackParseDouble(source, start, end);
+        }
+        if (index < end) {
+            if (c != 'e' && c != 'E' || ++index == end) {
+                return fallbackParseDouble(source, start, end);
+            }
+            c = source.charAt(index);
+            boolean negativeExponent = c == '-';
+            if ((c == '-' || c == '+') && ++index == end) {
+                return fallbackParseDouble(source, start, end);
+            }
+            int explicitExponent = 0;
+            for (; index < end && explicitExponent < 1000; index++) {
+                int digit = source.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    return fallbackParseDouble(source, start, end);
+                }
+                explicitExponent = explicitExponent * 10 + digit;
+            }
+            if (index < end) {
+                return fallbackParseDouble(source, start, end);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0.0d;
+        } else if (exponent >= 0 && exponent < EXACT_POWERS_OF_TEN.length) {
+            value = mantissa * EXACT_POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < EXACT_POWERS_OF_TEN.length) {
+            value = mantissa / EXACT_POWERS_OF_TEN[-exponent];
+        } else {
+            return fallbackParseDouble(source, start, end);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse the <code>boolean</code> as {@link Boolean#parseBoolean(String)} does, the range represents
+     * <code>true</code> if it's equal to "true" ignoring case
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the <code>boolean</code> value
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static boolean parseBoolean(CharSequence source, int start, int end) throws IndexOutOfBoundsException {
+        if (source == null) {
+            return false;
+        }
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+        }
+        if (end - start != 4) {
+            return false;
+        }
+        // ASCII only : setting the 0x20 bit turns the upper-case letters into the lower-case ones
+        return (source.charAt(start) | 0x20) == 't'
+                && (source.charAt(start + 1) | 0x20) == 'r'
+                && (source.charAt(start + 2) | 0x20) == 'u'
+                && (source.charAt(start + 3) | 0x20) == 'e';
+    }
+
+    /**
+     * Parse the {@link UUID} as {@link UUID#fromString(String)} does, the canonical 36-characters form is parsed
+     * without allocating the intermediate {@link String}, the others fall back to {@link UUID#fromString(String)}.
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the {@link UUID}
+     * @throws IllegalArgumentException  if the range does not contain a parsable {@link UUID}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static UUID parseUUID(CharSequence source, int start, int end) throws IllegalArgumentException,
+            IndexOutOfBoundsException {
+        checkRange(source, start, end);
+        if (end - start != 36 || source.charAt(start + 8) != '-' || source.charAt(start + 13) != '-'
+                || source.charAt(start + 18) != '-' || source.charAt(start + 23) != '-') {
+            return UUID.fromString(source.subSequence(start, end).toString());
+        }
+        long mostSigBits = parseHex(source, start, start + 8);
+        mostSigBits = (mostSigBits << 16) | parseHex(source, start + 9, start + 13);
+        mostSigBits = (mostSigBits << 16) | parseHex(source, start + 14, start + 18);
+        long leastSigBits = parseHex(source, start + 19, start + 23);
+        leastSigBits = (leastSigBits << 48) | parseHex(source, start + 24, end);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long parseHex(CharSequence source, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(source.charAt(i), 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid UUID string: " + source);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static double fallbackParseDouble(CharSequence source, int start, int end) {
+        return Double.parseDouble(source.subSequence(start, end).toString());
+    }
+
+    private static void checkRange(CharSequence source, int start, int end) throws NumberFormatException,
+            IndexOutOfBoundsException {
+        if (source == null) {
+            throw new NumberFormatException("null");
+        }
+        if (start < 0 || end > source.length() || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + source.length());
+        }
+        if (start == end) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+    }
+
+    private static NumberFormatException forInputString(CharSequence source, int start, int end) {
+        return new NumberFormatException("For input string: \"" + source.subSequence(start, end) + "\"");
+    }
+}
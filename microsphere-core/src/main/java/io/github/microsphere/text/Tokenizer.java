@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The streaming tokenizer splits the {@link CharSequence} by the delimiters without creating the intermediate
+ * array or substrings, the tokens are handed over as the ranges of source.
+ * <p>
+ * The adjacent delimiters are treated as one, thus the empty tokens are skipped unless they are quoted. If the quote
+ * character is enabled, the delimiters between quotes are the part of token. If the escape character is enabled,
+ * the character following it is taken literally. The tokens containing the escaped characters or the partial quotes
+ * are copied into a reused buffer, the others are the ranges of source.
+ * <p>
+ * The instance is immutable and thread-safe.
+ *
+ * @since 1.0.0
+ */
+public class Tokenizer {
+
+    /**
+     * The character that disables the quoting or escaping
+     */
+    public static final char NONE = '\0';
+
+    /**
+     * The default delimiter
+     */
+    public static final char DEFAULT_DELIMITER = ',';
+
+    /**
+     * The default {@link Tokenizer} splits by comma without quoting or escaping
+     */
+    public static final Tokenizer DEFAULT = new Tokenizer(String.valueOf(DEFAULT_DELIMITER), NONE, NONE);
+
+    private final String delimiters;
+
+    private final char delimiter;
+
+    private final char quote;
+
+    private final char escape;
+
+    /**
+     * @param delimiters the delimiter characters
+     * @param quote      the quote character, {@link #NONE} disables the quoting
+     * @param escape     the escape character, {@link #NONE} disables the escaping
+     * @throws IllegalArgumentException if <code>delimiters</code> is empty or overlaps the quote or escape character
+     */
+    public Tokenizer(String delimiters, char quote, char escape) throws IllegalArgumentException {
+        if (delimiters == null || delimiters.isEmpty()) {
+            throw new IllegalArgumentException("The delimiters must not be empty");
+        }
+        if ((quote != NONE && delimiters.indexOf(quote) > -1) || (escape != NONE && delimiters.indexOf(escape) > -1)) {
+            throw new IllegalArgumentException("The delimiters must not contain the quote or escape character");
+        }
+        if (quote != NONE && quote == escape) {
+            throw new IllegalArgumentException("The quote character must not be the escape character");
+        }
+        this.delimiters = delimiters;
+        this.delimiter = delimiters.length() == 1 ? delimiters.charAt(0) : NONE;
+        this.quote = quote;
+        this.escape = escape;
+    }
+
+    /**
+     * The handler of token
+     */
+    @FunctionalInterface
+    public interface TokenHandler {
+
+        /**
+         * Handle the token, the source may be a reused buffer that is only valid during the invocation
+         *
+         * @param source the source of token
+         * @param start  the start index of token, inclusive
+         * @param end    the end index of token, exclusive
+         */
+        void onToken(CharSequence source, int start, int end);
+    }
+
+    /**
+     * Count the tokens without copying
+     *
+     * @param source the source
+     * @return the number of tokens
+     */
+    public int count(CharSequence source) {
+        return source == null ? 0 : scan(source, null);
+    }
+
+    /**
+     * Split the source into tokens, each of them is handed over to the handler in order
+     *
+     * @param source  the source
+     * @param handler {@link TokenHandler}
+     * @return the number of tokens
+     */
+    public int tokenize(CharSequence source, TokenHandler handler) {
+        return source == null ? 0 : scan(source, handler);
+    }
+
+    /**
+     * Split the source into the {@link String} tokens
+     *
+     * @param source the source
+     * @return non-null
+     */
+    public String[] split(CharSequence source) {
+        List<String> tokens = new ArrayList<>(count(source));
+        tokenize(source, (s, start, end) -> tokens.add(s.subSequence(start, end).toString()));
+        return tokens.toArray(new String[0]);
+    }
+
+    private int scan(CharSequence source, TokenHandler handler) {
+        if (quote == NONE && escape == NONE) {
+            return scanPlain(source, handler);
+        }
+        int length = source.length();
+        int tokens = 0;
+        int index = 0;
+        StringBuilder buffer = null;
+        while (index < length) {
+            // skip the adjacent delimiters
+            while (index < length && isDelimiter(source.charAt(index))) {
+                index++;
+            }
+            if (index == length) {
+                break;
+            }
+            // the content of token is a range of source until it's discontinuous
+            int contentStart = index;
+            int contentEnd = index;
+            boolean buffered = false;
+            boolean quoted = false;
+            boolean hasQuote = false;
+            for (; index < length; index++) {
+                char c = source.charAt(index);
+                int from = index;
+                if (c == escape && escape != NONE && index + 1 < length) {
+                    from = ++index;
+                } else if (c == quote && quote != NONE) {
+                    quoted = !quoted;
+                    hasQuote = true;
+                    if (contentStart == contentEnd && !buffered) {
+                        contentStart = contentEnd = index + 1;
+                    }
+                    continue;
+                } else if (!quoted && isDelimiter(c)) {
+                    break;
+                }
+                if (handler == null) {
+                    continue;
+                }
+                if (buffered) {
+                    buffer.append(source.charAt(from));
+                } else if (contentEnd == from || contentStart == contentEnd) {
+                    if (contentStart == contentEnd) {
+                        contentStart = from;
+                    }
+                    contentEnd = from + 1;
+                } else {
+                    if (buffer == null) {
+                        buffer = new StringBuilder();
+                    }
+                    buffer.setLength(0);
+                    buffer.append(source, contentStart, contentEnd).append(source.charAt(from));
+                    buffered = true;
+                }
+            }
+            if (handler == null) {
+                tokens++;
+            } else if (buffered) {
+                tokens++;
+                handler.onToken(buffer, 0, buffer.length());
+            } else if (contentStart < contentEnd || hasQuote) {
+                tokens++;
+                handler.onToken(source, contentStart, contentEnd);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Scan the tokens without quoting and escaping, each of them is a range of source
+     */
+    private int scanPlain(CharSequence source, TokenHandler handler) {
+        int length = source.length();
+        int tokens = 0;
+        int start = 0;
+        for (int index = 0; index < length; index++) {
+            if (isDelimiter(source.charAt(index))) {
+                if (start < index) {
+                    tokens++;
+                    if (handler != null) {
+                        handler.onToken(source, start, index);
+                    }
+                }
+                start = index + 1;
+            }
+        }
+        if (start < length) {
+            tokens++;
+            if (handler != null) {
+                handler.onToken(source, start, length);
+            }
+        }
+        return tokens;
+    }
+
+    private boolean isDelimiter(char c) {
+        return delimiter != NONE ? c == delimiter : delimiters.indexOf(c) > -1;
+    }
+
+    public String getDelimiters() {
+        return delimiters;
+    }
+
+    public char getQuote() {
+        return quote;
+    }
+
+    public char getEscape() {
+        return escape;
+    }
+}
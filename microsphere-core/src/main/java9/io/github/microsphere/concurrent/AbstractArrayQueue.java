@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * The abstract bounded queue backed by a pre-allocated array whose capacity is a power of 2. The producer and
+ * consumer indices are {@link Sequence padded sequences}, and the elements are published by the ordered stores, so
+ * that no node is allocated per element.
+ * <p>
+ * The empty slot is <code>null</code>, hence the <code>null</code> element is not permitted. The {@link #iterator()}
+ * is weakly consistent, and {@link #poll()}, {@link #peek()}, {@link #drain(Consumer, int)} and {@link #clear()} must
+ * only be invoked by the consumer thread.
+ * <p>
+ * This is the Java 9+ variant of the multi-release JAR, the elements are accessed by the {@link VarHandle} with the
+ * acquire/release semantics instead of <code>sun.misc.Unsafe</code>.
+ *
+ * @param <E> the type of elements
+ * @see SpscArrayQueue
+ * @see MpscArrayQueue
+ * @since 1.0.0
+ */
+public abstract class AbstractArrayQueue<E> extends AbstractQueue<E> {
+
+    /**
+     * The maximum capacity of queue
+     */
+    public static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] buffer;
+
+    final int mask;
+
+    final Sequence producerIndex = new Sequence();
+
+    final Sequence consumerIndex = new Sequence();
+
+    /**
+     * @param capacity the capacity of queue, it will be rounded up to the power of 2
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or exceeds {@link #MAXIMUM_CAPACITY}
+     */
+    protected AbstractArrayQueue(int capacity) throws IllegalArgumentException {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be in [1, " + MAXIMUM_CAPACITY + "] : " + capacity);
+        }
+        int size = roundUpToPowerOfTwo(capacity);
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Drain the available elements in batch, which must only be invoked by the consumer thread
+     *
+     * @param consumer the {@link Consumer} of elements
+     * @param limit    the max number of elements to be drained
+     * @return the number of drained elements
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        int count = 0;
+        E element;
+        while (count < limit && (element = poll()) != null) {
+            count++;
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+    /**
+     * @return the capacity of queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return the approximate number of elements in the queue
+     */
+    @Override
+    public int size() {
+        long after = consumerIndex.get();
+        long before;
+        long producer;
+        do {
+            before = after;
+            producer = producerIndex.get();
+            after = consumerIndex.get();
+        } while (before != after);
+        long size = producer - after;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex.get() >= producerIndex.get();
+    }
+
+    /**
+     * The weakly consistent iterator traverses the elements between the consumer and producer indices at the time
+     * of creation, it never throws {@link java.util.ConcurrentModificationException}. The elements consumed or
+     * produced after the creation may or may not be reflected, and the {@link Iterator#remove()} is not supported.
+     *
+     * @return non-null
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{capacity=" + capacity() + ", size=" + size() + "}";
+    }
+
+    final int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    /**
+     * Load the element at the index with the acquire semantics
+     *
+     * @param index the index of slot
+     * @return the element, or <code>null</code> if the slot is empty
+     */
+    @SuppressWarnings("unchecked")
+    final E loadElement(int index) {
+        return (E) ELEMENTS.getAcquire(buffer, index);
+    }
+
+    /**
+     * Store the element at the index with the release semantics
+     *
+     * @param index   the index of slot
+     * @param element the element, or <code>null</code> to release the slot
+     */
+    final void storeElement(int index, Object element) {
+        ELEMENTS.setRelease(buffer, index, element);
+    }
+
+    static void checkElement(Object element) throws NullPointerException {
+        if (element == null) {
+            throw new NullPointerException("The element must not be null");
+        }
+    }
+
+    static int roundUpToPowerOfTwo(int value) {
+        int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+
+    private final class Itr implements Iterator<E> {
+
+        private final long limit;
+
+        private long cursor;
+
+        private E next;
+
+        Itr() {
+            long consumer = consumerIndex.get();
+            long producer = producerIndex.get();
+            this.cursor = consumer;
+            // the slots beyond the capacity have been overwritten
+            this.limit = Math.min(producer, consumer + capacity());
+            advance();
+        }
+
+        /**
+         * Advance to the next non-empty slot, the slot is empty if it's consumed or not published yet
+         */
+        private void advance() {
+            E element = null;
+            while (element == null && cursor < limit) {
+                element = loadElement(index(cursor++));
+            }
+            this.next = element;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            E element = next;
+            if (element == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return element;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * The sequence of <code>long</code> value is padded to fill the cache line on both sides, so that the adjacent
+ * sequences which are updated by the different threads, e.g. the producer and the consumer indices, do not share
+ * the same cache line.
+ * <p>
+ * The {@link #set(long)} is an ordered store that is cheaper than {@link #setVolatile(long)}, it's sufficient when
+ * the sequence is only written by a single thread.
+ * <p>
+ * This is the Java 9+ variant of the multi-release JAR, the value is accessed by the {@link VarHandle} in the
+ * <code>static final</code> field instead of <code>sun.misc.Unsafe</code>, which is a constant to the JIT compiler.
+ *
+ * @see VarHandle
+ * @since 1.0.0
+ */
+public class Sequence extends SequenceRhsPadding {
+
+    /**
+     * Create a {@link Sequence} starting from <code>0</code>
+     */
+    public Sequence() {
+        this(0L);
+    }
+
+    /**
+     * @param initialValue the initial value
+     */
+    public Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+     * @return the value with the volatile semantics
+     */
+    public long get() {
+        return (long) VALUE.getVolatile(this);
+    }
+
+    /**
+     * @return the value without any memory ordering, it may be stale
+     */
+    public long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    /**
+     * Set the value with an ordered store that is not reordered with the prior stores
+     *
+     * @param value the new value
+     */
+    public void set(long value) {
+        VALUE.setRelease(this, value);
+    }
+
+    /**
+     * Set the value with the volatile semantics
+     *
+     * @param value the new value
+     */
+    public void setVolatile(long value) {
+        VALUE.setVolatile(this, value);
+    }
+
+    /**
+     * Set the value atomically if the current value equals to <code>expected</code>
+     *
+     * @param expected the expected value
+     * @param value    the new value
+     * @return <code>true</code> if set
+     */
+    public boolean compareAndSet(long expected, long value) {
+        return VALUE.compareAndSet(this, expected, value);
+    }
+
+    /**
+     * @param value the new value
+     * @return the value before set
+     */
+    public long getAndSet(long value) {
+        return (long) VALUE.getAndSet(this, value);
+    }
+
+    /**
+     * @return the value after increment
+     */
+    public long incrementAndGet() {
+        return addAndGet(1L);
+    }
+
+    /**
+     * @param delta the value to add
+     * @return the value after addition
+     */
+    public long addAndGet(long delta) {
+        return (long) VALUE.getAndAdd(this, delta) + delta;
+    }
+
+    /**
+     * @param delta the value to add
+     * @return the value before addition
+     */
+    public long getAndAdd(long delta) {
+        return (long) VALUE.getAndAdd(this, delta);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
+
+abstract class SequenceLhsPadding {
+
+    long p01, p02, p03, p04, p05, p06, p07;
+
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SequenceValue extends SequenceLhsPadding {
+
+    static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    volatile long value;
+}
+
+abstract class SequenceRhsPadding extends SequenceValue {
+
+    long p21, p22, p23, p24, p25, p26, p27;
+
+    long p30, p31, p32, p33, p34, p35, p36, p37;
+}
@@ -0,0 +1,1701 @@
+package io.github.microsphere.misc;
+
+import io.github.microsphere.reflect.ReflectionUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import sun.misc.Unsafe;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.AccessController;
+import java.security.PrivilegedExceptionAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.invoke.VarHandle.AccessMode.GET;
+import static java.lang.invoke.VarHandle.AccessMode.GET_ACQUIRE;
+import static java.lang.invoke.VarHandle.AccessMode.GET_OPAQUE;
+import static java.lang.invoke.VarHandle.AccessMode.GET_VOLATILE;
+import static java.lang.invoke.VarHandle.AccessMode.SET;
+import static java.lang.invoke.VarHandle.AccessMode.SET_OPAQUE;
+import static java.lang.invoke.VarHandle.AccessMode.SET_RELEASE;
+import static java.lang.invoke.VarHandle.AccessMode.SET_VOLATILE;
+
+/**
+ * {@link Unsafe} Utility class <p/> <b> Take case to  use those utility methods in order to the stability fo
+ * JVM </b>
+ * <p>
+ * The accessors of non-static field by name check the field before each operation : {@link NullPointerException} if
+ * the object is <code>null</code> or the field is not found, {@link IllegalArgumentException} if the field is static
+ * or its' type does not match, and {@link UnsupportedOperationException} if the final field is modified. The field is
+ * looked up in the cache per invocation, the hot paths should hold the {@link #fieldRef(Class, String) FieldRef}.
+ * <p>
+ * This is the Java 9+ variant of the multi-release JAR, the field accessors by name are backed by the
+ * {@link VarHandle VarHandles} instead of {@link Unsafe}, the access modes are mapped as : plain to
+ * {@link AccessMode#GET GET}/{@link AccessMode#SET SET}, ordered to {@link AccessMode#SET_RELEASE SET_RELEASE},
+ * volatile to {@link AccessMode#GET_VOLATILE GET_VOLATILE}/{@link AccessMode#SET_VOLATILE SET_VOLATILE}, and the
+ * opaque and acquire/release accessors to their own modes. The {@link VarHandle} of field is resolved once per class
+ * and field name by {@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}, and its' access modes are
+ * cached as the {@link MethodHandle MethodHandles} of the erased types, which are invoked exactly. The cached handles
+ * are not the constants of JIT compiler, so the accessors by name are slower than the ones of {@link Unsafe}, the hot
+ * paths should use the <code>static final</code> {@link VarHandle} instead. The field is checked as same as the Java 8
+ * variant, the offsets, {@link FieldRef} and {@link ArrayRef} are still backed by {@link Unsafe}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @version 1.0.0
+ * @see UnsafeUtils
+ * @since 1.0.0
+ */
+public abstract class UnsafeUtils {
+
+    final static Unsafe unsafe;
+
+    /**
+     * <code>long</code> Array base index
+     */
+    static final int LONG_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>int</code> Array base index
+     */
+    static final int INT_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>short</code> Array base index
+     */
+    static final int SHORT_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>byte</code> Array base index
+     */
+    static final int BYTE_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>boolean</code> Array base index
+     */
+    static final int BOOLEAN_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>double</code> Array base index
+     */
+    static final int DOUBLE_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>float</code> Array base index
+     */
+    static final int FLOAT_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>char</code> Array base index
+     */
+    static final int CHAR_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>java.lang.Object</code> Array base index
+     */
+    static final int OBJECT_ARRAY_BASE_OFFSET;
+
+    /**
+     * <code>long</code> Array Index scale
+     */
+    static final int LONG_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>int</code> Array Index scale
+     */
+    static final int INT_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>short</code> Array Index scale
+     */
+    static final int SHORT_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>byte</code> Array Index scale
+     */
+    static final int BYTE_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>boolean</code> Array Index scale
+     */
+    static final int BOOLEAN_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>double</code> Array Index scale
+     */
+    static final int DOUBLE_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>float</code> Array Index scale
+     */
+    static final int FLOAT_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>char</code> Array Index scale
+     */
+    static final int CHAR_ARRAY_INDEX_SCALE;
+
+    /**
+     * <code>java.lang.Object</code> Array Index scale
+     */
+    static final int OBJECT_ARRAY_INDEX_SCALE;
+
+    private static final VarHandle LONG_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final VarHandle INT_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final VarHandle SHORT_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(short[].class);
+
+    private static final VarHandle BYTE_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private static final VarHandle BOOLEAN_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(boolean[].class);
+
+    private static final VarHandle DOUBLE_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private static final VarHandle FLOAT_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(float[].class);
+
+    private static final VarHandle CHAR_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(char[].class);
+
+    private static final VarHandle OBJECT_ARRAY_ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * The cache of {@link FieldHandle} by the field name per class
+     */
+    private final static ClassValue<ConcurrentMap<String, FieldHandle>> fieldHandlesCache = newCache();
+
+    /**
+     * The cache of {@link FieldRef} by the field name per class
+     */
+    private final static ClassValue<ConcurrentMap<String, FieldRef>> fieldRefsCache = newCache();
+
+    /**
+     * The cache of {@link ArrayRef} by the field name per class
+     */
+    private final static ClassValue<ConcurrentMap<String, ArrayRef>> arrayRefsCache = newCache();
+
+    static {
+        try {
+            final PrivilegedExceptionAction<Unsafe> action = new PrivilegedExceptionAction<Unsafe>() {
+                public Unsafe run() throws Exception {
+                    Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+                    theUnsafe.setAccessible(true);
+                    return (Unsafe) theUnsafe.get(null);
+                }
+            };
+
+            unsafe = AccessController.doPrivileged(action);
+
+            if (unsafe == null) {
+                throw new NullPointerException();
+            }
+
+            LONG_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(long[].class);
+            INT_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(int[].class);
+            SHORT_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(short[].class);
+            BYTE_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(byte[].class);
+            BOOLEAN_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(boolean[].class);
+            DOUBLE_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(double[].class);
+            FLOAT_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(float[].class);
+            CHAR_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(char[].class);
+            OBJECT_ARRAY_BASE_OFFSET = unsafe.arrayBaseOffset(Object[].class);
+
+            LONG_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(long[].class);
+            INT_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(int[].class);
+            SHORT_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(short[].class);
+            BYTE_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(byte[].class);
+            BOOLEAN_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(boolean[].class);
+            DOUBLE_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(double[].class);
+            FLOAT_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(float[].class);
+            CHAR_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(char[].class);
+            OBJECT_ARRAY_INDEX_SCALE = unsafe.arrayIndexScale(Object[].class);
+        } catch (Exception e) {
+            throw new UnsupportedOperationException("Current JVM does not support sun.misc.Unsafe");
+        }
+    }
+
+    /**
+     * Get the {@link Unsafe} instance
+     *
+     * @return non-null
+     */
+    public static Unsafe getUnsafe() {
+        return unsafe;
+    }
+
+    /**
+     * Ensure the specified class is initialized, which replaces {@link Unsafe#ensureClassInitialized(Class)} that has
+     * been removed since JDK 22
+     *
+     * @param type the target type
+     * @throws IllegalArgumentException if the class can't be initialized by its' name, e.g. the hidden class
+     */
+    public static void ensureClassInitialized(Class<?> type) throws IllegalArgumentException {
+        try {
+            Class.forName(type.getName(), true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("The class can't be initialized : " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Calculate Array Index Offset
+     *
+     * @param index      Index
+     * @param baseOffset {@link Unsafe#arrayBaseOffset(Class)}
+     * @param indexScale {@link Unsafe#arrayIndexScale(Class)}
+     * @return
+     * @see java.util.concurrent.atomic.AtomicIntegerArray
+     */
+    protected static long arrayIndexOffset(int index, long baseOffset, long indexScale) {
+        if (index < 0)
+            throw new IndexOutOfBoundsException("index " + index);
+        return baseOffset + (long) index * indexScale;
+    }
+
+
+    /**
+     * Calculate the <code>long<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long longArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, LONG_ARRAY_BASE_OFFSET, LONG_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate <code>int<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long intArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, INT_ARRAY_BASE_OFFSET, INT_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate the <code>short<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long shortArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, SHORT_ARRAY_BASE_OFFSET, SHORT_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate the relative offset of Array Index of type <code>byte<code>
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long byteArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, BYTE_ARRAY_BASE_OFFSET, BYTE_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate <code>boolean<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long booleanArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, BOOLEAN_ARRAY_BASE_OFFSET, BOOLEAN_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate the relative offset of Array Index of type <code>double<code>
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long doubleArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, DOUBLE_ARRAY_BASE_OFFSET, DOUBLE_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate <code>float<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long floatArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, FLOAT_ARRAY_BASE_OFFSET, FLOAT_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate <code>char<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long charArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, CHAR_ARRAY_BASE_OFFSET, CHAR_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Calculate <code>java.lang.Object<code> type Array Index the relative offset
+     *
+     * @param index Array Index
+     * @return the relative offset
+     */
+    protected static long objectArrayIndexOffset(int index) {
+        return arrayIndexOffset(index, OBJECT_ARRAY_BASE_OFFSET, OBJECT_ARRAY_INDEX_SCALE);
+    }
+
+    /**
+     * Create Offset Cache Key
+     *
+     * @param type      the target type
+     * @param fieldName the name of {@link Field}
+     * @return The cache key of offset
+     * @deprecated the offsets are cached by {@link FieldRef} per class, use {@link #fieldRef(Class, String)} instead
+     */
+    @Deprecated
+    protected static String createOffsetCacheKey(Class<?> type, String fieldName) {
+        StringBuilder keyBuilder = new StringBuilder(type.getName()).append("#").append(fieldName);
+        return keyBuilder.toString();
+    }
+
+    /**
+     * Get Offset in cache
+     *
+     * @param type      the target type
+     * @param fieldName the name of {@link Field}
+     * @return Offset, or <code>null</code> if the {@link FieldRef} of field has not been resolved
+     * @deprecated the offsets are cached by {@link FieldRef} per class, use {@link #fieldRef(Class, String)} instead
+     */
+    @Deprecated
+    protected static Long getOffsetFromCache(Class<?> type, String fieldName) {
+        FieldRef fieldRef = fieldRefsCache.get(type).get(fieldName);
+        return fieldRef == null ? null : fieldRef.getOffset();
+    }
+
+    /**
+     * Save offset to cache, the offset is resolved by the {@link FieldRef} of field rather than the argument
+     *
+     * @param type      the target type
+     * @param fieldName the name of {@link Field}
+     * @param offset    offset
+     * @deprecated the offsets are cached by {@link FieldRef} per class, use {@link #fieldRef(Class, String)} instead
+     */
+    @Deprecated
+    protected static void putOffsetFromCache(Class<?> type, String fieldName, long offset) {
+        findFieldRef(type, fieldName);
+    }
+
+
+    /**
+     * Get the <code>long<code> value of the target Index in the Array field of the object
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>long<code> value
+     */
+    public static long getLongFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (long) LONG_ARRAY_ELEMENTS.getVolatile((long[]) array(object, fieldName, long.class), index);
+    }
+
+    /**
+     * Get the value of the target Index in the object Array field
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>int<code> value
+     */
+    public static int getIntFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (int) INT_ARRAY_ELEMENTS.getVolatile((int[]) array(object, fieldName, int.class), index);
+    }
+
+    /**
+     * Get the <code>short<code> value of the target Index in the Array field of the object
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>short<code> value
+     */
+    public static short getShortFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (short) SHORT_ARRAY_ELEMENTS.getVolatile((short[]) array(object, fieldName, short.class), index);
+    }
+
+    /**
+     * Get the <code>byte<code> value of the target Index in the object Array field
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>byte<code> value
+     */
+    public static byte getByteFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (byte) BYTE_ARRAY_ELEMENTS.getVolatile((byte[]) array(object, fieldName, byte.class), index);
+    }
+
+    /**
+     * Get the <code>boolean<code> value of the target Index in the Array field of the object
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>boolean<code> value
+     */
+    public static boolean getBooleanFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (boolean) BOOLEAN_ARRAY_ELEMENTS.getVolatile((boolean[]) array(object, fieldName, boolean.class), index);
+    }
+
+    /**
+     * Get the <code>double<code> value of the target Index in the Array field of the object
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>double<code> value
+     */
+    public static double getDoubleFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (double) DOUBLE_ARRAY_ELEMENTS.getVolatile((double[]) array(object, fieldName, double.class), index);
+    }
+
+    /**
+     * Get the <code>float<code> value of the target Index in the object Array field
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the target index
+     */
+    public static float getFloatFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (float) FLOAT_ARRAY_ELEMENTS.getVolatile((float[]) array(object, fieldName, float.class), index);
+    }
+
+    /**
+     * Get the <code>char<code> value of the target Index in the object Array field
+     *
+     * @param object    Object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>char<code> value
+     * @throws IllegalArgumentException       See {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static char getCharFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return (char) CHAR_ARRAY_ELEMENTS.getVolatile((char[]) array(object, fieldName, char.class), index);
+    }
+
+    /**
+     * Get the <code>java.lang.Object<code> value of the target Index in the object Array field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @return the <code>java.lang.Object<code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static Object getObjectFromArrayVolatile(Object object, String fieldName, int index) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        return OBJECT_ARRAY_ELEMENTS.getVolatile((Object[]) array(object, fieldName, Object.class), index);
+    }
+
+
+    /**
+     * Sets the given double value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     double value
+     */
+    public static void putDouble(Object object, String fieldName, double value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given float value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     float value
+     */
+    public static void putFloat(Object object, String fieldName, float value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given short value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     short value
+     */
+    public static void putShort(Object object, String fieldName, short value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given byte value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     byte value
+     */
+    public static void putByte(Object object, String fieldName, byte value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given boolean value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     boolean value
+     */
+    public static void putBoolean(Object object, String fieldName, boolean value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given char value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     char value
+     */
+    public static void putChar(Object object, String fieldName, char value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given Object value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putObject(Object object, String fieldName, Object value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given long value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putLong(Object object, String fieldName, long value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+
+    /**
+     * Sets the given int value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putInt(Object object, String fieldName, int value) {
+        putValue(object, fieldName, AccessMode.SET, value);
+    }
+
+    /**
+     * Sets the given int value to the field of the specified object (ensures writing order)
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putOrderedInt(Object object, String fieldName, int value) {
+        putValue(object, fieldName, AccessMode.SET_RELEASE, value);
+    }
+
+    /**
+     * Sets the given long value to the field of the specified object (ensures writing order)
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putOrderedLong(Object object, String fieldName, long value) {
+        putValue(object, fieldName, AccessMode.SET_RELEASE, value);
+    }
+
+    /**
+     * Set the given Object value to the field of the specified object (ensure write order)
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putOrderedObject(Object object, String fieldName, Object value) {
+        putValue(object, fieldName, AccessMode.SET_RELEASE, value);
+    }
+
+    /**
+     * Sets the given double value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     double value
+     */
+    public static void putDoubleVolatile(Object object, String fieldName, double value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given float value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     float value
+     */
+    public static void putFloatVolatile(Object object, String fieldName, float value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given short value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     short value
+     */
+    public static void putShortVolatile(Object object, String fieldName, short value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given byte value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     byte value
+     */
+    public static void putByteVolatile(Object object, String fieldName, byte value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given boolean value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     boolean value
+     */
+    public static void putBooleanVolatile(Object object, String fieldName, boolean value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given char value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     char value
+     */
+    public static void putCharVolatile(Object object, String fieldName, char value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given Object value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putObjectVolatile(Object object, String fieldName, Object value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given long value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putLongVolatile(Object object, String fieldName, long value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+    /**
+     * Sets the given int value to the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putIntVolatile(Object object, String fieldName, int value) {
+        putValue(object, fieldName, AccessMode.SET_VOLATILE, value);
+    }
+
+
+    /**
+     * Sets the given <code>long<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>long</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putLongIntoArrayVolatile(Object object, String fieldName, int index, long value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        LONG_ARRAY_ELEMENTS.setVolatile((long[]) array(object, fieldName, long.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>long<code> value to the fields of the specified object (sequential writing)
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>long</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putOrderedLongIntoArray(Object object, String fieldName, int index, long value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        LONG_ARRAY_ELEMENTS.setRelease((long[]) array(object, fieldName, long.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>int<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>int</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putIntIntoArrayVolatile(Object object, String fieldName, int index, int value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        INT_ARRAY_ELEMENTS.setVolatile((int[]) array(object, fieldName, int.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>int<code> value to a field of the specified object (sequential writing)
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>int</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putOrderedIntIntoArray(Object object, String fieldName, int index, int value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        INT_ARRAY_ELEMENTS.setRelease((int[]) array(object, fieldName, int.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>short<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>short</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putShortIntoArrayVolatile(Object object, String fieldName, int index, short value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        SHORT_ARRAY_ELEMENTS.setVolatile((short[]) array(object, fieldName, short.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>byte<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>byte</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putByteIntoArrayVolatile(Object object, String fieldName, int index, byte value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        BYTE_ARRAY_ELEMENTS.setVolatile((byte[]) array(object, fieldName, byte.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>boolean<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>boolean</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putBooleanIntoArrayVolatile(Object object, String fieldName, int index, boolean value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        BOOLEAN_ARRAY_ELEMENTS.setVolatile((boolean[]) array(object, fieldName, boolean.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>double<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>double</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putDoubleIntoArrayVolatile(Object object, String fieldName, int index, double value) throws IllegalArgumentException, ArrayIndexOutOfBoundsException, IllegalAccessException {
+        DOUBLE_ARRAY_ELEMENTS.setVolatile((double[]) array(object, fieldName, double.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>float<code> value to the field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>float</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putFloatIntoArrayVolatile(Object object, String fieldName, int index, float value) throws IllegalAccessException {
+        FLOAT_ARRAY_ELEMENTS.setVolatile((float[]) array(object, fieldName, float.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>char<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>char</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putCharIntoArrayVolatile(Object object, String fieldName, int index, char value) throws IllegalAccessException {
+        CHAR_ARRAY_ELEMENTS.setVolatile((char[]) array(object, fieldName, char.class), index, value);
+    }
+
+    /**
+     * Sets the given <code>java.lang.Object<code> value to a field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>java.lang.Object</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putObjectIntoArrayVolatile(Object object, String fieldName, int index, Object value) throws IllegalAccessException {
+        OBJECT_ARRAY_ELEMENTS.setVolatile((Object[]) array(object, fieldName, Object.class), index, value);
+    }
+
+
+    /**
+     * Sets the given <code>java.lang.Object<code> value to the fields of the specified object (sequential writing)
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param index     the index
+     * @param value     <code>java.lang.Object</code> value
+     * @throws IllegalArgumentException       see {@link ReflectionUtils#assertArrayType(Object)}
+     * @throws ArrayIndexOutOfBoundsException If <code>index<code> is less than 0, or greater than or equal to the Array length
+     */
+    public static void putOrderedObjectIntoArray(Object object, String fieldName, int index, Object value) throws IllegalAccessException {
+        OBJECT_ARRAY_ELEMENTS.setRelease((Object[]) array(object, fieldName, Object.class), index, value);
+    }
+
+    /**
+     * Get the Object value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return Object value
+     */
+    public static Object getObject(Object object, String fieldName) {
+        return objectValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the long value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return long value
+     */
+    public static long getLong(Object object, String fieldName) {
+        return longValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the double value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return double value
+     */
+    public static double getDouble(Object object, String fieldName) {
+        return doubleValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the float value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return float value
+     */
+    public static float getFloat(Object object, String fieldName) {
+        return floatValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the short value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return short value
+     */
+    public static short getShort(Object object, String fieldName) {
+        return shortValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the byte value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return byte value
+     */
+    public static byte getByte(Object object, String fieldName) {
+        return byteValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the boolean value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return boolean value
+     */
+    public static boolean getBoolean(Object object, String fieldName) {
+        return booleanValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the char value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return char value
+     */
+    public static char getChar(Object object, String fieldName) {
+        return charValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the int value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return int value
+     */
+    public static int getInt(Object object, String fieldName) {
+        return intValue(object, fieldName, AccessMode.GET);
+    }
+
+    /**
+     * Get the Object value of the specified object <code>volatile<code> field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return Object value
+     */
+    public static Object getObjectVolatile(Object object, String fieldName) {
+        return objectValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the long value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return long value
+     */
+    public static long getLongVolatile(Object object, String fieldName) {
+        return longValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the double value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return double value
+     */
+    public static double getDoubleVolatile(Object object, String fieldName) {
+        return doubleValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the float value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return float value
+     */
+    public static float getFloatVolatile(Object object, String fieldName) {
+        return floatValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the short value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return short value
+     */
+    public static short getShortVolatile(Object object, String fieldName) {
+        return shortValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the byte value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return byte value
+     */
+    public static byte getByteVolatile(Object object, String fieldName) {
+        return byteValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the boolean value of the specified object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return boolean value
+     */
+    public static boolean getBooleanVolatile(Object object, String fieldName) {
+        return booleanValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the char value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return char value
+     */
+    public static char getCharVolatile(Object object, String fieldName) {
+        return charValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the int value of the <code>volatile<code> field of the specified object
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return int value
+     */
+    public static int getIntVolatile(Object object, String fieldName) {
+        return intValue(object, fieldName, AccessMode.GET_VOLATILE);
+    }
+
+    /**
+     * Get the int value of the field of the specified object in the opaque mode,
+     * see {@link VarHandle#getOpaque(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return int value
+     */
+    public static int getIntOpaque(Object object, String fieldName) {
+        return intValue(object, fieldName, AccessMode.GET_OPAQUE);
+    }
+
+    /**
+     * Sets the given int value to the field of the specified object in the opaque mode,
+     * see {@link VarHandle#setOpaque(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putIntOpaque(Object object, String fieldName, int value) {
+        putValue(object, fieldName, AccessMode.SET_OPAQUE, value);
+    }
+
+    /**
+     * Get the int value of the field of the specified object in the acquire mode,
+     * see {@link VarHandle#getAcquire(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return int value
+     */
+    public static int getIntAcquire(Object object, String fieldName) {
+        return intValue(object, fieldName, AccessMode.GET_ACQUIRE);
+    }
+
+    /**
+     * Sets the given int value to the field of the specified object in the release mode,
+     * see {@link VarHandle#setRelease(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     int value
+     */
+    public static void putIntRelease(Object object, String fieldName, int value) {
+        putValue(object, fieldName, AccessMode.SET_RELEASE, value);
+    }
+
+    /**
+     * Get the long value of the field of the specified object in the opaque mode,
+     * see {@link VarHandle#getOpaque(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return long value
+     */
+    public static long getLongOpaque(Object object, String fieldName) {
+        return longValue(object, fieldName, AccessMode.GET_OPAQUE);
+    }
+
+    /**
+     * Sets the given long value to the field of the specified object in the opaque mode,
+     * see {@link VarHandle#setOpaque(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putLongOpaque(Object object, String fieldName, long value) {
+        putValue(object, fieldName, AccessMode.SET_OPAQUE, value);
+    }
+
+    /**
+     * Get the long value of the field of the specified object in the acquire mode,
+     * see {@link VarHandle#getAcquire(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return long value
+     */
+    public static long getLongAcquire(Object object, String fieldName) {
+        return longValue(object, fieldName, AccessMode.GET_ACQUIRE);
+    }
+
+    /**
+     * Sets the given long value to the field of the specified object in the release mode,
+     * see {@link VarHandle#setRelease(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     long value
+     */
+    public static void putLongRelease(Object object, String fieldName, long value) {
+        putValue(object, fieldName, AccessMode.SET_RELEASE, value);
+    }
+
+    /**
+     * Get the Object value of the field of the specified object in the opaque mode,
+     * see {@link VarHandle#getOpaque(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return Object value
+     */
+    public static Object getObjectOpaque(Object object, String fieldName) {
+        return objectValue(object, fieldName, AccessMode.GET_OPAQUE);
+    }
+
+    /**
+     * Sets the given Object value to the field of the specified object in the opaque mode,
+     * see {@link VarHandle#setOpaque(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putObjectOpaque(Object object, String fieldName, Object value) {
+        putValue(object, fieldName, AccessMode.SET_OPAQUE, value);
+    }
+
+    /**
+     * Get the Object value of the field of the specified object in the acquire mode,
+     * see {@link VarHandle#getAcquire(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return Object value
+     */
+    public static Object getObjectAcquire(Object object, String fieldName) {
+        return objectValue(object, fieldName, AccessMode.GET_ACQUIRE);
+    }
+
+    /**
+     * Sets the given Object value to the field of the specified object in the release mode,
+     * see {@link VarHandle#setRelease(Object...)}
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @param value     Object value
+     */
+    public static void putObjectRelease(Object object, String fieldName, Object value) {
+        putValue(object, fieldName, AccessMode.SET_RELEASE, value);
+    }
+
+    /**
+     * get the offset of the object field
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return offset
+     * @throws IllegalArgumentException If the class is null, or the field name is blank or empty or is matched at multiple places in the inheritance hierarchy
+     * @throws NullPointerException     If any argument is <code>null</code>
+     */
+    protected static long getObjectFieldOffset(Object object, String fieldName) throws IllegalArgumentException, NullPointerException {
+        return objectFieldRef(object, fieldName).getOffset();
+    }
+
+    /**
+     * Get the offset of a class static field
+     *
+     * @param type      the target type
+     * @param fieldName the name of {@link Field}
+     * @return offset
+     */
+    public static long getStaticFieldOffset(Class<?> type, String fieldName) {
+        FieldRef fieldRef = findFieldRef(type, fieldName);
+        if (fieldRef == null) {
+            throw new NullPointerException("The field [name : " + fieldName + "] is not found in " + type);
+        }
+        if (!fieldRef.isStatic()) {
+            throw new IllegalArgumentException("The field is not static : " + fieldRef.getField());
+        }
+        return fieldRef.getOffset();
+    }
+
+    /**
+     * Get the {@link FieldRef} of the field in the specified type or its' super types, which is resolved once and
+     * cached, so that it could be obtained once and used repeatedly without looking up the offset.
+     *
+     * @param type      the target type
+     * @param fieldName the name of {@link Field}
+     * @return non-null
+     * @throws IllegalArgumentException If the field is not found
+     * @throws NullPointerException     If any argument is <code>null</code>
+     */
+    public static FieldRef fieldRef(Class<?> type, String fieldName) throws IllegalArgumentException, NullPointerException {
+        FieldRef fieldRef = findFieldRef(type, fieldName);
+        if (fieldRef == null) {
+            throw new IllegalArgumentException("The field [name : " + fieldName + "] is not found in " + type);
+        }
+        return fieldRef;
+    }
+
+    /**
+     * Get the {@link ArrayRef} of the array field in the specified type or its' super types, which is resolved once
+     * and cached, so that it could be obtained once and used repeatedly without looking up the offsets.
+     *
+     * @param type      the target type
+     * @param fieldName the name of array {@link Field}
+     * @return non-null
+     * @throws IllegalArgumentException If the field is not found or is not an array
+     * @throws NullPointerException     If any argument is <code>null</code>
+     */
+    public static ArrayRef arrayRef(Class<?> type, String fieldName) throws IllegalArgumentException, NullPointerException {
+        ConcurrentMap<String, ArrayRef> arrayRefs = arrayRefsCache.get(type);
+        ArrayRef arrayRef = arrayRefs.get(fieldName);
+        if (arrayRef == null) {
+            arrayRef = new ArrayRef(fieldRef(type, fieldName));
+            ArrayRef previous = arrayRefs.putIfAbsent(fieldName, arrayRef);
+            if (previous != null) {
+                arrayRef = previous;
+            }
+        }
+        return arrayRef;
+    }
+
+    /**
+     * Ensures that loads before the fence will not be reordered with loads and stores after the fence
+     *
+     * @see VarHandle#acquireFence()
+     */
+    public static void loadFence() {
+        VarHandle.acquireFence();
+    }
+
+    /**
+     * Ensures that loads and stores before the fence will not be reordered with stores after the fence
+     *
+     * @see VarHandle#releaseFence()
+     */
+    public static void storeFence() {
+        VarHandle.releaseFence();
+    }
+
+    /**
+     * Ensures that loads and stores before the fence will not be reordered with loads and stores after the fence
+     *
+     * @see VarHandle#fullFence()
+     */
+    public static void fullFence() {
+        VarHandle.fullFence();
+    }
+
+    private static FieldRef objectFieldRef(Object object, String fieldName) throws IllegalArgumentException, NullPointerException {
+        FieldRef fieldRef = findFieldRef(object.getClass(), fieldName);
+        if (fieldRef == null) {
+            throw new NullPointerException("The field [name : " + fieldName + "] is not found in " + object.getClass());
+        }
+        if (fieldRef.isStatic()) {
+            throw new IllegalArgumentException("The field is static : " + fieldRef.getField());
+        }
+        return fieldRef;
+    }
+
+    private static int intValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (int) fieldHandle(object, fieldName).reader(int.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static long longValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (long) fieldHandle(object, fieldName).reader(long.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static short shortValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (short) fieldHandle(object, fieldName).reader(short.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static byte byteValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (byte) fieldHandle(object, fieldName).reader(byte.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static boolean booleanValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (boolean) fieldHandle(object, fieldName).reader(boolean.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static double doubleValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (double) fieldHandle(object, fieldName).reader(double.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static float floatValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (float) fieldHandle(object, fieldName).reader(float.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static char charValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (char) fieldHandle(object, fieldName).reader(char.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static Object objectValue(Object object, String fieldName, AccessMode mode) {
+        try {
+            return (Object) fieldHandle(object, fieldName).reader(Object.class, mode).invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, int value) {
+        try {
+            fieldHandle(object, fieldName).writer(int.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, long value) {
+        try {
+            fieldHandle(object, fieldName).writer(long.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, short value) {
+        try {
+            fieldHandle(object, fieldName).writer(short.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, byte value) {
+        try {
+            fieldHandle(object, fieldName).writer(byte.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, boolean value) {
+        try {
+            fieldHandle(object, fieldName).writer(boolean.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, double value) {
+        try {
+            fieldHandle(object, fieldName).writer(double.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, float value) {
+        try {
+            fieldHandle(object, fieldName).writer(float.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, char value) {
+        try {
+            fieldHandle(object, fieldName).writer(char.class, mode).invokeExact(object, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static void putValue(Object object, String fieldName, AccessMode mode, Object value) {
+        FieldHandle fieldHandle = fieldHandle(object, fieldName);
+        MethodHandle writer = fieldHandle.writer(Object.class, mode);
+        try {
+            writer.invokeExact(object, fieldHandle.checkValue(value));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Get the {@link FieldHandle} of the non-static field in the class of object or its' super types
+     *
+     * @param object    the target object
+     * @param fieldName the name of {@link Field}
+     * @return non-null
+     * @throws IllegalArgumentException If the field is static
+     * @throws NullPointerException     If the object is <code>null</code> or the field is not found
+     */
+    private static FieldHandle fieldHandle(Object object, String fieldName) throws IllegalArgumentException,
+            NullPointerException {
+        FieldHandle fieldHandle = findFieldHandle(object.getClass(), fieldName);
+        if (fieldHandle == null) {
+            throw new NullPointerException("The field [name : " + fieldName + "] is not found in " + object.getClass());
+        }
+        if (fieldHandle.isStatic) {
+            throw new IllegalArgumentException("The field is static : " + fieldHandle.field);
+        }
+        return fieldHandle;
+    }
+
+    /**
+     * Get the array of the field in the class of object or its' super types, as same as {@link ArrayRef}
+     *
+     * @param object        the target object
+     * @param fieldName     the name of array {@link Field}
+     * @param componentType the expected component type, {@link Object} matches any non-primitive type
+     * @return non-null
+     * @throws IllegalArgumentException If the field is not found or is not the array of expected component type
+     * @throws NullPointerException     If the object or the array is <code>null</code>
+     */
+    private static Object array(Object object, String fieldName, Class<?> componentType)
+            throws IllegalArgumentException, NullPointerException {
+        FieldHandle fieldHandle = findFieldHandle(object.getClass(), fieldName);
+        if (fieldHandle == null) {
+            throw new IllegalArgumentException("The field [name : " + fieldName + "] is not found in " + object.getClass());
+        }
+        return fieldHandle.array(object, componentType);
+    }
+
+    private static FieldHandle findFieldHandle(Class<?> type, String fieldName) {
+        ConcurrentMap<String, FieldHandle> fieldHandles = fieldHandlesCache.get(type);
+        FieldHandle fieldHandle = fieldHandles.get(fieldName);
+        return fieldHandle == null ? resolveFieldHandle(fieldHandles, type, fieldName) : fieldHandle;
+    }
+
+    private static FieldHandle resolveFieldHandle(ConcurrentMap<String, FieldHandle> fieldHandles, Class<?> type,
+                                                  String fieldName) {
+        Field field = FieldUtils.getField(type, fieldName, true);
+        if (field == null) {
+            return null;
+        }
+        FieldHandle fieldHandle = new FieldHandle(field);
+        FieldHandle previous = fieldHandles.putIfAbsent(fieldName, fieldHandle);
+        return previous == null ? fieldHandle : previous;
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        // never happens, the access modes only throw the unchecked exceptions
+        return new UndeclaredThrowableException(e);
+    }
+
+    private static FieldRef findFieldRef(Class<?> type, String fieldName) {
+
+        ConcurrentMap<String, FieldRef> fieldRefs = fieldRefsCache.get(type);
+        FieldRef fieldRef = fieldRefs.get(fieldName);
+        if (fieldRef == null) {
+            Field field = FieldUtils.getField(type, fieldName, true);
+            if (field == null) {
+                return null;
+            }
+            fieldRef = new FieldRef(field);
+            FieldRef previous = fieldRefs.putIfAbsent(fieldName, fieldRef);
+            if (previous != null) {
+                fieldRef = previous;
+            }
+        }
+        return fieldRef;
+    }
+
+    /**
+     * The handle of field resolved by {@link VarHandle} once, whose access modes are adapted to the
+     * {@link MethodHandle MethodHandles} of the erased types taking the object as the first argument, the object is
+     * ignored if the field is static. The field is checked as same as {@link FieldRef} and {@link ArrayRef}.
+     */
+    private static final class FieldHandle {
+
+        /**
+         * The access modes of the accessors by name
+         */
+        private static final AccessMode[] ACCESS_MODES = {GET, SET, GET_VOLATILE, SET_VOLATILE, GET_OPAQUE,
+                SET_OPAQUE, GET_ACQUIRE, SET_RELEASE};
+
+        private final Field field;
+
+        private final Class<?> type;
+
+        private final boolean isStatic;
+
+        private final boolean isFinal;
+
+        private final boolean isVolatile;
+
+        private final MethodHandle[] methodHandles = new MethodHandle[AccessMode.values().length];
+
+        FieldHandle(Field field) throws IllegalArgumentException {
+            int modifiers = field.getModifiers();
+            this.field = field;
+            this.type = field.getType();
+            this.isStatic = Modifier.isStatic(modifiers);
+            this.isFinal = Modifier.isFinal(modifiers);
+            this.isVolatile = Modifier.isVolatile(modifiers);
+            VarHandle varHandle;
+            try {
+                varHandle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflectVarHandle(field);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalArgumentException("The field can't be accessed by VarHandle : " + field, e);
+            }
+            for (AccessMode mode : ACCESS_MODES) {
+                // the write modes of final field are not supported
+                if (varHandle.isAccessModeSupported(mode)) {
+                    MethodHandle methodHandle = varHandle.toMethodHandle(mode);
+                    if (isStatic) {
+                        methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+                    }
+                    methodHandles[mode.ordinal()] = methodHandle.asType(methodHandle.type().erase());
+                }
+            }
+        }
+
+        MethodHandle reader(Class<?> expectedType, AccessMode mode) throws IllegalArgumentException {
+            checkType(expectedType);
+            return methodHandles[mode.ordinal()];
+        }
+
+        MethodHandle writer(Class<?> expectedType, AccessMode mode) throws IllegalArgumentException,
+                UnsupportedOperationException {
+            if (isFinal) {
+                throw new UnsupportedOperationException("The final field can't be modified : " + field);
+            }
+            checkType(expectedType);
+            return methodHandles[mode.ordinal()];
+        }
+
+        Object checkValue(Object value) throws IllegalArgumentException {
+            if (value != null && !type.isInstance(value)) {
+                throw new IllegalArgumentException("The value of " + value.getClass().getName()
+                        + " does not match the field : " + field);
+            }
+            return value;
+        }
+
+        Object array(Object object, Class<?> componentType) throws IllegalArgumentException, NullPointerException {
+            Class<?> actualComponentType = type.getComponentType();
+            if (actualComponentType == null) {
+                throw new IllegalArgumentException("The field is not an array : " + field);
+            }
+            if (componentType == Object.class ? actualComponentType.isPrimitive() : actualComponentType != componentType) {
+                throw new IllegalArgumentException("The component type " + componentType.getName()
+                        + " does not match the array field : " + field);
+            }
+            Object array;
+            try {
+                array = (Object) methodHandles[(isVolatile ? GET_VOLATILE : GET).ordinal()].invokeExact(object);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+            if (array == null) {
+                throw new NullPointerException("The array is null : " + field);
+            }
+            return array;
+        }
+
+        private void checkType(Class<?> expectedType) throws IllegalArgumentException {
+            if (expectedType == Object.class ? type.isPrimitive() : type != expectedType) {
+                throw new IllegalArgumentException("The type " + expectedType.getName()
+                        + " does not match the field : " + field);
+            }
+        }
+    }
+
+    private static <V> ClassValue<ConcurrentMap<String, V>> newCache() {
+        return new ClassValue<ConcurrentMap<String, V>>() {
+            @Override
+            protected ConcurrentMap<String, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+}
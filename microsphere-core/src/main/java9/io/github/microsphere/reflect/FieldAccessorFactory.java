@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+
+import static io.github.microsphere.reflect.MemberUtils.isFinal;
+import static java.lang.reflect.Modifier.isVolatile;
+
+/**
+ * The factory of {@link FieldAccessor} for Java 9+, the non-final field is accessed by the {@link VarHandle} of
+ * {@link MethodHandles.Lookup#unreflectVarHandle(Field)} rather than {@link sun.misc.Unsafe}, the volatile field is
+ * accessed with the volatile semantics as same as {@link Field}.
+ * <p>
+ * The access modes are adapted into the {@link MethodHandleFieldAccessor}, whose handles are invoked exactly, while
+ * the {@link VarHandle} held by the instance rather than the <code>static final</code> field could not. The final
+ * field is read-only by {@link VarHandle}, so it's accessed by the getter and setter of {@link Field} as before.
+ *
+ * @see FieldAccessor#of(Field)
+ * @see MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)
+ * @since 1.0.0
+ */
+final class FieldAccessorFactory {
+
+    private FieldAccessorFactory() {
+    }
+
+    /**
+     * Create the {@link FieldAccessor} backed by {@link VarHandle}, or the getter and setter of the final field
+     *
+     * @param field the accessible {@link Field}
+     * @return non-null
+     * @throws IllegalAccessException if the field can't be read
+     */
+    static FieldAccessor create(Field field) throws IllegalAccessException {
+        if (isFinal(field)) {
+            return MethodHandleFieldAccessor.create(field);
+        }
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+        VarHandle varHandle = lookup.unreflectVarHandle(field);
+        boolean isVolatile = isVolatile(field.getModifiers());
+        return MethodHandleFieldAccessor.create(field,
+                varHandle.toMethodHandle(isVolatile ? AccessMode.GET_VOLATILE : AccessMode.GET),
+                varHandle.toMethodHandle(isVolatile ? AccessMode.SET_VOLATILE : AccessMode.SET));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link MpscArrayQueue} Test
+ *
+ * @since 1.0.0
+ */
+public class MpscArrayQueueTest {
+
+    @Test
+    public void testOfferAndPoll() {
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(2);
+        assertEquals(2, queue.capacity());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertFalse(queue.offer("c"));
+        assertEquals(2, queue.size());
+
+        assertEquals("a", queue.peek());
+        assertEquals("a", queue.poll());
+        assertTrue(queue.offer("c"));
+        assertEquals("b", queue.poll());
+        assertEquals("c", queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testIterator() {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+        assertFalse(queue.iterator().hasNext());
+
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+        queue.poll();
+        queue.offer(4);
+        assertEquals(asList(1, 2, 3, 4), new ArrayList<>(queue));
+        assertTrue(queue.contains(4));
+
+        // weakly consistent
+        Iterator<Integer> iterator = queue.iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        queue.poll();
+        queue.poll();
+        // the next element has been read ahead
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertEquals(Integer.valueOf(4), iterator.next());
+        assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfferNull() {
+        new MpscArrayQueue<>(2).offer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new MpscArrayQueue<>(AbstractArrayQueue.MAXIMUM_CAPACITY + 1);
+    }
+
+    @Test
+    public void testConcurrency() throws InterruptedException {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(32);
+        int producers = 4;
+        int count = 20000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    while (!queue.offer(producer * count + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // the elements of each producer must be consumed in order
+        int[] expected = new int[producers];
+        for (int received = 0; received < producers * count; ) {
+            Integer element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = element / count;
+            assertEquals(expected[producer]++, element % count);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < producers; i++) {
+            assertEquals(count, expected[i]);
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link Sequence} Test
+ *
+ * @since 1.0.0
+ */
+public class SequenceTest {
+
+    @Test
+    public void test() {
+        Sequence sequence = new Sequence();
+        assertEquals(0L, sequence.get());
+
+        sequence.set(3L);
+        assertEquals(3L, sequence.get());
+        assertEquals(3L, sequence.getPlain());
+
+        sequence.setVolatile(5L);
+        assertEquals(5L, sequence.get());
+
+        assertTrue(sequence.compareAndSet(5L, 7L));
+        assertFalse(sequence.compareAndSet(5L, 9L));
+        assertEquals(7L, sequence.get());
+
+        assertEquals(8L, sequence.incrementAndGet());
+        assertEquals(10L, sequence.addAndGet(2L));
+        assertEquals(10L, sequence.getAndAdd(-10L));
+        assertEquals(0L, sequence.getAndSet(1L));
+        assertEquals("1", sequence.toString());
+
+        assertEquals(-1L, new Sequence(-1L).get());
+    }
+}
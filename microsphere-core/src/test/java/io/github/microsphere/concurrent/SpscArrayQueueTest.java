@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link SpscArrayQueue} Test
+ *
+ * @since 1.0.0
+ */
+public class SpscArrayQueueTest {
+
+    @Test
+    public void testOfferAndPoll() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+        assertEquals(4, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+        assertEquals(Integer.valueOf(0), queue.peek());
+
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+
+        List<Integer> elements = new ArrayList<>();
+        assertEquals(2, queue.drain(elements::add, 2));
+        assertEquals(asList(1, 2), elements);
+        assertEquals(2, queue.size());
+
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertEquals("SpscArrayQueue{capacity=4, size=0}", queue.toString());
+    }
+
+    @Test
+    public void testIterator() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(4);
+        assertFalse(queue.iterator().hasNext());
+
+        for (int i = 0; i < 4; i++) {
+            queue.offer(i);
+        }
+        queue.poll();
+        queue.offer(4);
+        assertEquals(asList(1, 2, 3, 4), new ArrayList<>(queue));
+        assertTrue(queue.contains(4));
+
+        // weakly consistent
+        Iterator<Integer> iterator = queue.iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        queue.poll();
+        queue.poll();
+        // the next element has been read ahead
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertEquals(Integer.valueOf(4), iterator.next());
+        assertFalse(iterator.hasNext());
+        try {
+            iterator.next();
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfferNull() {
+        new SpscArrayQueue<>(2).offer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new SpscArrayQueue<>(0);
+    }
+
+    @Test
+    public void testConcurrency() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(64);
+        int count = 100000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < count; ) {
+            Integer element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+            } else {
+                assertEquals(i++, element.intValue());
+            }
+        }
+        producer.join();
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ByteArrayConverter} Test
+ *
+ * @since 1.0.0
+ */
+public class ByteArrayConverterTest {
+
+    @Test
+    public void testConvert() {
+        assertEquals(Integer.valueOf(-123), new ByteArrayToIntegerConverter().convert(bytes("-123")));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), new ByteArrayToLongConverter().convert(bytes("9223372036854775807")));
+        assertEquals(Double.valueOf(1.5), new ByteArrayToDoubleConverter().convert(bytes("1.5")));
+        assertEquals(Boolean.TRUE, new ByteArrayToBooleanConverter().convert(bytes("TRUE")));
+        assertEquals(Boolean.FALSE, new ByteArrayToBooleanConverter().convert(bytes("1")));
+        assertEquals(Duration.ofSeconds(90), new ByteArrayToDurationConverter().convert(bytes("PT1M30S")));
+        UUID uuid = UUID.randomUUID();
+        assertEquals(uuid, new ByteArrayToUUIDConverter().convert(bytes(uuid.toString())));
+    }
+
+    @Test
+    public void testConvertRange() {
+        ByteArrayToIntegerConverter converter = new ByteArrayToIntegerConverter();
+        byte[] bytes = bytes("1,22,333");
+        assertEquals(Integer.valueOf(1), converter.convert(bytes, 0, 1));
+        assertEquals(Integer.valueOf(22), converter.convert(bytes, 2, 2));
+        assertEquals(Integer.valueOf(333), converter.convert(bytes, 5, 3));
+        assertNull(converter.convert(bytes, 1, 0));
+        assertNull(converter.convert(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convert(bytes, 5, 4));
+        assertThrows(NumberFormatException.class, () -> converter.convert(bytes, 0, 2));
+    }
+
+    @Test
+    public void testEnum() {
+        ByteArrayToEnumConverter<TimeUnit> converter = new ByteArrayToEnumConverter<>(TimeUnit.class);
+        assertSame(TimeUnit.SECONDS, converter.convert(bytes("SECONDS")));
+        assertSame(TimeUnit.class, converter.getTargetType());
+        assertThrows(IllegalArgumentException.class, () -> converter.convert(bytes("seconds")));
+        assertThrows(IllegalArgumentException.class, () -> new ByteArrayToEnumConverter(Thread.class));
+    }
+
+    @Test
+    public void testRegistry() {
+        ConverterRegistry registry = new ConverterRegistry(getClass().getClassLoader());
+        Converter<byte[], Integer> converter = registry.getConverter(byte[].class, Integer.class);
+        assertTrue(converter instanceof ByteArrayToIntegerConverter);
+        assertEquals(byte[].class, converter.getSourceType());
+        assertTrue(registry.getConverter(byte[].class, UUID.class) instanceof ByteArrayToUUIDConverter);
+
+        registry.register(new ByteArrayToEnumConverter<>(TimeUnit.class));
+        assertSame(TimeUnit.DAYS, registry.getConverter(byte[].class, TimeUnit.class).convert(bytes("DAYS")));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(US_ASCII);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ByteBufferConverter} Test
+ *
+ * @since 1.0.0
+ */
+public class ByteBufferConverterTest {
+
+    @Test
+    public void testConvert() {
+        for (boolean direct : new boolean[]{false, true}) {
+            assertEquals(Integer.valueOf(-123), new ByteBufferToIntegerConverter().convert(buffer("-123", direct)));
+            assertEquals(Long.valueOf(42), new ByteBufferToLongConverter().convert(buffer("42", direct)));
+            assertEquals(Double.valueOf(0.25), new ByteBufferToDoubleConverter().convert(buffer("0.25", direct)));
+            assertEquals(Boolean.TRUE, new ByteBufferToBooleanConverter().convert(buffer("true", direct)));
+            assertEquals(Duration.ofMillis(1500), new ByteBufferToDurationConverter().convert(buffer("PT1.5S", direct)));
+            UUID uuid = UUID.randomUUID();
+            assertEquals(uuid, new ByteBufferToUUIDConverter().convert(buffer(uuid.toString(), direct)));
+            assertSame(TimeUnit.HOURS, new ByteBufferToEnumConverter<>(TimeUnit.class).convert(buffer("HOURS", direct)));
+        }
+    }
+
+    @Test
+    public void testConvertRemaining() {
+        ByteBufferToIntegerConverter converter = new ByteBufferToIntegerConverter();
+        for (boolean direct : new boolean[]{false, true}) {
+            ByteBuffer buffer = buffer("1,22,333", direct);
+            buffer.position(2).limit(4);
+            assertEquals(Integer.valueOf(22), converter.convert(buffer));
+            assertEquals(2, buffer.position());
+            buffer.position(4);
+            assertNull(converter.convert(buffer));
+            assertThrows(NumberFormatException.class, () -> converter.convert(buffer("1,", direct)));
+        }
+        assertNull(converter.convert(null));
+    }
+
+    @Test
+    public void testConvertIfPossible() {
+        ByteBuffer buffer = buffer("123", true);
+        assertEquals(Long.valueOf(123), Converter.convertIfPossible(buffer, Long.class));
+        assertTrue(new ByteBufferToLongConverter().accept(ByteBuffer.class, Long.class));
+    }
+
+    private static ByteBuffer buffer(String value, boolean direct) {
+        byte[] bytes = value.getBytes(US_ASCII);
+        if (direct) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return buffer;
+        }
+        return ByteBuffer.wrap(bytes);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static io.github.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConversionGraph} Test
+ *
+ * @since 1.0.0
+ */
+public class ConversionGraphTest {
+
+    private final ConverterRegistry registry = new ConverterRegistry(getClassLoader());
+
+    @Test
+    public void testFindConverter() {
+        ConversionGraph graph = registry.getConversionGraph();
+
+        Converter<HashMap, String> converter = graph.findConverter(HashMap.class, String.class);
+        assertTrue(converter instanceof CompositeConverter);
+        assertEquals(2, ((CompositeConverter) converter).getConverters().size());
+        assertEquals(HashMap.class, converter.getSourceType());
+        assertEquals(String.class, converter.getTargetType());
+
+        Map<String, String> map = new HashMap<>();
+        map.put("a", "1");
+        assertTrue(converter.convert(new HashMap<>(map)).contains("a=1"));
+
+        assertEquals(StringToIntegerConverter.class, graph.findConverter(String.class, Integer.class).getClass());
+        assertNull(graph.findConverter(Thread.class, Integer.class));
+        assertNull(graph.findConverter(null, Integer.class));
+    }
+
+    @Test
+    public void testFindArrayConverter() {
+        ConversionGraph graph = registry.getConversionGraph();
+        Converter<String, Integer[]> converter = graph.findConverter(String.class, Integer[].class);
+        assertArrayEquals(new Integer[]{1, 2, 3}, converter.convert("1,2,3"));
+
+        CompositeConverter<Properties, Integer[]> compositeConverter =
+                (CompositeConverter) graph.findConverter(Properties.class, Integer[].class);
+        assertEquals(2, compositeConverter.getConverters().size());
+    }
+
+    @Test
+    public void testMaxHops() {
+        ConversionGraph graph = new ConversionGraph(registry.getConverters(), registry.getMultiValueConverters(), 1);
+        assertNull(graph.findConverter(HashMap.class, String.class));
+        assertThrows(IllegalArgumentException.class, () -> new ConversionGraph(registry.getConverters(),
+                registry.getMultiValueConverters(), 0));
+    }
+
+    @Test
+    public void testGetTransitiveConverter() {
+        Converter<HashMap, String> converter = registry.getTransitiveConverter(HashMap.class, String.class);
+        assertSame(converter, registry.getTransitiveConverter(HashMap.class, String.class));
+        assertSame(registry.getConverter(String.class, Integer.class), registry.getTransitiveConverter(String.class, Integer.class));
+        assertNull(registry.getTransitiveConverter(Thread.class, Integer.class));
+    }
+}
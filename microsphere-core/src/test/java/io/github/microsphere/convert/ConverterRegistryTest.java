@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import io.github.microsphere.convert.multiple.StringToArrayConverter;
+import io.github.microsphere.convert.multiple.StringToListConverter;
+import io.github.microsphere.convert.multiple.MultiValueConverter;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static io.github.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConverterRegistry} Test
+ *
+ * @since 1.0.0
+ */
+public class ConverterRegistryTest {
+
+    @Test
+    public void testGetInstance() {
+        ConverterRegistry registry = ConverterRegistry.getInstance(getClassLoader());
+        assertSame(registry, ConverterRegistry.getInstance(getClassLoader()));
+        assertSame(registry, ConverterRegistry.invalidate(getClassLoader()));
+        assertNotSame(registry, ConverterRegistry.getInstance(getClassLoader()));
+
+        // the registry of ClassLoader that could be unloaded
+        ClassLoader classLoader = new URLClassLoader(new URL[0], getClassLoader());
+        registry = ConverterRegistry.getInstance(classLoader);
+        assertSame(registry, ConverterRegistry.getInstance(classLoader));
+        assertSame(registry, ConverterRegistry.invalidate(classLoader));
+        assertNull(ConverterRegistry.invalidate(classLoader));
+    }
+
+    @Test
+    public void testGetConverterWithoutServices() {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        // no service is visible
+        thread.setContextClassLoader(new URLClassLoader(new URL[0], null));
+        try {
+            assertThrows(IllegalArgumentException.class, () -> Converter.getConverter(String.class, Integer.class));
+            assertThrows(IllegalArgumentException.class, () -> MultiValueConverter.find(String.class, List.class));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+        assertEquals(StringToIntegerConverter.class, Converter.getConverter(String.class, Integer.class).getClass());
+        assertNull(Converter.getConverter(Integer.class, Thread.class));
+    }
+
+    @Test
+    public void testGetConverter() {
+        ConverterRegistry registry = new ConverterRegistry(getClassLoader());
+        Converter<String, Integer> converter = registry.getConverter(String.class, Integer.class);
+        assertEquals(StringToIntegerConverter.class, converter.getClass());
+        assertSame(converter, registry.getConverter(String.class, Integer.class));
+        assertNull(registry.getConverter(Integer.class, Thread.class));
+        assertNull(registry.getConverter(null, Integer.class));
+
+        assertEquals(StringToArrayConverter.class, registry.getMultiValueConverter(String.class, String[].class).getClass());
+        assertEquals(StringToListConverter.class, registry.getMultiValueConverter(String.class, List.class).getClass());
+        assertNull(registry.getMultiValueConverter(String.class, Thread.class));
+    }
+
+    @Test
+    public void testRegister() {
+        ConverterRegistry registry = new ConverterRegistry();
+        assertTrue(registry.getConverters().isEmpty());
+        assertNull(registry.getConverter(String.class, Integer.class));
+
+        StringToIntegerConverter converter = new StringToIntegerConverter();
+        registry.register(converter);
+        assertSame(converter, registry.getConverter(String.class, Integer.class));
+
+        registry.register(new StringToIntegerConverter() {
+            @Override
+            public int getPriority() {
+                return MAX_PRIORITY;
+            }
+        });
+        assertNotSame(converter, registry.getConverter(String.class, Integer.class));
+        assertEquals(2, registry.getConverters().size());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static io.github.microsphere.convert.Converters.convertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link Converters} Test
+ *
+ * @since 1.0.0
+ */
+public class ConvertersTest {
+
+    private static final int SIZE = 10000;
+
+    private ForkJoinPool pool;
+
+    private String[] column;
+
+    @BeforeEach
+    public void init() {
+        pool = new ForkJoinPool(4);
+        column = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            column[i] = String.valueOf(i);
+        }
+    }
+
+    @AfterEach
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testConvertAll() {
+        Integer[] values = convertAll(column, Integer.class, pool, 100);
+        assertEquals(SIZE, values.length);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i, values[i].intValue());
+        }
+        assertArrayEquals(new Long[]{1L, null}, convertAll(new String[]{"1", null}, Long.class));
+        assertEquals(0, convertAll(new String[0], Double.class).length);
+    }
+
+    @Test
+    public void testConvertAllWithIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> convertAll(column, Thread.class));
+        assertThrows(IllegalArgumentException.class, () -> convertAll(column, int.class));
+        assertThrows(IllegalArgumentException.class, () -> convertAll(null, Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> convertAll(column, Integer.class, pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> convertAll(column, new int[SIZE - 1]));
+        assertThrows(IllegalArgumentException.class, () -> convertAll(column, new long[SIZE], null, 100));
+        assertThrows(IllegalArgumentException.class, () -> convertAll(column, new double[SIZE], pool, 0));
+    }
+
+    @Test
+    public void testConvertAllToPrimitiveArrays() {
+        int[] ints = new int[SIZE];
+        convertAll(column, ints, pool, 100);
+        long[] longs = new long[SIZE];
+        convertAll(column, longs, pool, 100);
+        double[] doubles = new double[SIZE];
+        convertAll(column, doubles, pool, 100);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i, ints[i]);
+            assertEquals(i, longs[i]);
+            assertEquals(i, doubles[i]);
+        }
+        assertThrows(NumberFormatException.class, () -> convertAll(new String[]{"a"}, new int[1]));
+        assertThrows(NumberFormatException.class, () -> convertAll(new String[]{null}, new long[1]));
+
+        assertArrayEquals(new int[]{1, 2}, convertValues(new String[]{"1", "2"}, new int[2]));
+        assertArrayEquals(new long[]{1L, 2L}, convertValues(new String[]{"1", "2"}, new long[2]));
+        assertArrayEquals(new double[]{1D, 2D}, convertValues(new String[]{"1", "2"}, new double[2]));
+    }
+
+    private static int[] convertValues(String[] column, int[] values) {
+        convertAll(column, values);
+        return values;
+    }
+
+    private static long[] convertValues(String[] column, long[] values) {
+        convertAll(column, values);
+        return values;
+    }
+
+    private static double[] convertValues(String[] column, double[] values) {
+        convertAll(column, values);
+        return values;
+    }
+}
@@ -51,4 +51,12 @@ public class StringToDoubleConverterTest {
             converter.convert("ttt");
         });
     }
+
+    @Test
+    public void testConvertToDouble() {
+        assertEquals(1.5d, converter.convertToDouble("a1.5b", 1, 4));
+        assertEquals(1e-5d, converter.convertToDouble("1E-5"));
+        assertEquals(0.1d, converter.convertToDouble("0.1"));
+        assertThrows(NumberFormatException.class, () -> converter.convertToDouble("1e"));
+    }
 }
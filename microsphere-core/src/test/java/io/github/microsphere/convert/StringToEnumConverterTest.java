@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import io.github.microsphere.text.AsciiSequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link StringToEnumConverter} Test
+ *
+ * @since 1.0.0
+ */
+public class StringToEnumConverterTest {
+
+    enum Letter {
+        a, A, Bb, \u00C4pfel
+    }
+
+    @Test
+    public void testConvert() {
+        StringToEnumConverter<TimeUnit> converter = new StringToEnumConverter<>(TimeUnit.class);
+        assertEquals(String.class, converter.getSourceType());
+        assertEquals(TimeUnit.class, converter.getTargetType());
+        for (TimeUnit timeUnit : TimeUnit.values()) {
+            assertSame(timeUnit, converter.convert(timeUnit.name()));
+            assertSame(timeUnit, converter.convert(timeUnit.name().toLowerCase()));
+        }
+        assertNull(converter.convert(""));
+        assertNull(converter.convert(null));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("SECOND"));
+        assertThrows(IllegalArgumentException.class, () -> new StringToEnumConverter(Thread.class));
+    }
+
+    @Test
+    public void testConvertRange() {
+        StringToEnumConverter<TimeUnit> converter = new StringToEnumConverter<>(TimeUnit.class);
+        assertSame(TimeUnit.HOURS, converter.convert("[hours]", 1, 6));
+        assertSame(TimeUnit.DAYS, converter.convert(AsciiSequence.of("x=Days".getBytes(US_ASCII)), 2, 6));
+        assertNull(converter.find("hours", 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convert("hours", 2, 6));
+    }
+
+    @Test
+    public void testCaseSensitive() {
+        StringToEnumConverter<TimeUnit> converter = new StringToEnumConverter<>(TimeUnit.class, false);
+        assertSame(TimeUnit.SECONDS, converter.convert("SECONDS"));
+        assertNull(converter.find("seconds", 0, 7));
+    }
+
+    @Test
+    public void testExactMatchPrecedence() {
+        StringToEnumConverter<Letter> converter = new StringToEnumConverter<>(Letter.class);
+        assertSame(Letter.a, converter.convert("a"));
+        assertSame(Letter.A, converter.convert("A"));
+        assertSame(Letter.Bb, converter.convert("BB"));
+        assertSame(Letter.\u00C4pfel, converter.convert("\u00E4PFEL"));
+    }
+
+    @Test
+    public void testAliases() {
+        Map<String, TimeUnit> aliases = new HashMap<>();
+        aliases.put("s", TimeUnit.SECONDS);
+        aliases.put("ms", TimeUnit.MILLISECONDS);
+        StringToEnumConverter<TimeUnit> converter = new StringToEnumConverter<>(TimeUnit.class, true, aliases);
+        assertSame(TimeUnit.SECONDS, converter.convert("S"));
+        assertSame(TimeUnit.MILLISECONDS, converter.convert("ms"));
+        assertSame(TimeUnit.DAYS, converter.convert("days"));
+
+        aliases.put("DAYS", TimeUnit.HOURS);
+        assertThrows(IllegalArgumentException.class, () -> new StringToEnumConverter<>(TimeUnit.class, true, aliases));
+        aliases.remove("DAYS");
+        aliases.put("", TimeUnit.HOURS);
+        assertThrows(IllegalArgumentException.class, () -> new StringToEnumConverter<>(TimeUnit.class, true, aliases));
+    }
+
+    @Test
+    public void testManyAliases() {
+        Random random = new Random(1L);
+        TimeUnit[] timeUnits = TimeUnit.values();
+        Map<String, TimeUnit> aliases = new HashMap<>();
+        while (aliases.size() < 2000) {
+            String alias = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+            aliases.put(alias, timeUnits[random.nextInt(timeUnits.length)]);
+        }
+        StringToEnumConverter<TimeUnit> converter = new StringToEnumConverter<>(TimeUnit.class, true, aliases);
+        for (Map.Entry<String, TimeUnit> alias : aliases.entrySet()) {
+            assertSame(alias.getValue(), converter.convert(alias.getKey().toUpperCase()));
+        }
+        for (int i = 0; i < 1000; i++) {
+            String value = "-" + i;
+            assertNull(converter.find(value, 0, value.length()));
+        }
+    }
+
+    @Test
+    public void testRegistry() {
+        ConverterRegistry registry = new ConverterRegistry();
+        Converter<String, TimeUnit> converter = registry.getConverter(String.class, TimeUnit.class);
+        assertTrue(converter instanceof StringToEnumConverter);
+        assertSame(converter, registry.getConverter(String.class, TimeUnit.class));
+        assertSame(TimeUnit.MINUTES, Converter.convertIfPossible("minutes", TimeUnit.class));
+    }
+}
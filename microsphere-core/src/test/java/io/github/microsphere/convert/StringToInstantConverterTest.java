@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link StringToInstantConverter} Test
+ *
+ * @since 1.0.0
+ */
+public class StringToInstantConverterTest {
+
+    private final StringToInstantConverter converter = new StringToInstantConverter();
+
+    @Test
+    public void testConvert() {
+        assertEquals(Instant.parse("2007-12-03T10:15:30.123Z"), converter.convert("2007-12-03T10:15:30.123Z"));
+        assertEquals(Instant.ofEpochMilli(1700000000123L), converter.convert("1700000000123"));
+        assertEquals(Instant.ofEpochMilli(-1L), converter.convert("-1"));
+        assertNull(converter.convert(""));
+        assertNull(converter.convert(null));
+        assertThrows(DateTimeParseException.class, () -> converter.convert("99999999999999999999"));
+        assertThrows(DateTimeParseException.class, () -> converter.convert("2007-12-03"));
+    }
+
+    @Test
+    public void testConvertToEpochMillis() {
+        String value = "[2007-12-03T10:15:30.123+01:00]";
+        assertEquals(Instant.parse("2007-12-03T09:15:30.123Z").toEpochMilli(),
+                converter.convertToEpochMillis(value, 1, value.length() - 1));
+        assertEquals(123L, converter.convertToEpochMillis("123"));
+    }
+
+    @Test
+    public void testConvertWithPattern() {
+        assertEquals(Instant.parse("2024-01-01T10:00:00Z"),
+                new StringToInstantConverter("yyyyMMdd HH:mm").convert("20240101 10:00"));
+        assertEquals(Instant.parse("2024-01-01T02:00:00Z"),
+                new StringToInstantConverter("yyyyMMdd HH:mm", ZoneId.of("Asia/Shanghai")).convert("20240101 10:00"));
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z").toEpochMilli(),
+                new StringToInstantConverter("yyyyMMddHHmm").convertToEpochMillis("202401010000"));
+        assertThrows(IllegalArgumentException.class, () -> new StringToInstantConverter("yyyy", null));
+    }
+}
@@ -51,4 +51,12 @@ public class StringToIntegerConverterTest {
             converter.convert("ttt");
         });
     }
+
+    @Test
+    public void testConvertToInt() {
+        assertEquals(123, converter.convertToInt("a123b", 1, 4));
+        assertEquals(-1, converter.convertToInt("-1"));
+        assertThrows(NumberFormatException.class, () -> converter.convertToInt("2147483648"));
+        assertThrows(NumberFormatException.class, () -> converter.convertToInt(""));
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link StringToLocalDateConverter} Test
+ *
+ * @since 1.0.0
+ */
+public class StringToLocalDateConverterTest {
+
+    @Test
+    public void testConvert() {
+        StringToLocalDateConverter converter = new StringToLocalDateConverter();
+        assertEquals(LocalDate.parse("2024-02-29"), converter.convert("2024-02-29"));
+        assertNull(converter.convert(""));
+        assertThrows(DateTimeParseException.class, () -> converter.convert("2023-02-29"));
+    }
+
+    @Test
+    public void testConvertWithPattern() {
+        StringToLocalDateConverter converter = new StringToLocalDateConverter("yyyyMMdd");
+        assertEquals(LocalDate.of(2024, 2, 29), converter.convert("20240229"));
+        assertThrows(IllegalArgumentException.class, () -> new StringToLocalDateConverter("yyyyQQQQQQ"));
+    }
+}
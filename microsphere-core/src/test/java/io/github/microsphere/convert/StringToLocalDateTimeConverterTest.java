@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.convert;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link StringToLocalDateTimeConverter} Test
+ *
+ * @since 1.0.0
+ */
+public class StringToLocalDateTimeConverterTest {
+
+    @Test
+    public void testConvert() {
+        StringToLocalDateTimeConverter converter = new StringToLocalDateTimeConverter();
+        assertEquals(LocalDateTime.parse("2007-12-03T10:15:30.5"), converter.convert("2007-12-03T10:15:30.5"));
+        assertNull(converter.convert(""));
+        assertThrows(DateTimeParseException.class, () -> converter.convert("2007-12-03T25:00"));
+    }
+
+    @Test
+    public void testConvertWithPattern() {
+        StringToLocalDateTimeConverter converter = new StringToLocalDateTimeConverter("yyyy/MM/dd HH:mm");
+        assertEquals(LocalDateTime.of(2007, 12, 3, 10, 15), converter.convert("2007/12/03 10:15"));
+        assertThrows(IllegalArgumentException.class, () -> new StringToLocalDateTimeConverter("yyyyQQQQQQ"));
+    }
+}
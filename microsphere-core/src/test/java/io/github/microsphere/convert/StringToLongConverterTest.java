@@ -51,4 +51,12 @@ public class StringToLongConverterTest {
             converter.convert("ttt");
         });
     }
+
+    @Test
+    public void testConvertToLong() {
+        assertEquals(123L, converter.convertToLong("a123b", 1, 4));
+        assertEquals(Long.MIN_VALUE, converter.convertToLong("-9223372036854775808"));
+        assertThrows(NumberFormatException.class, () -> converter.convertToLong("1L"));
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convertToLong("1", 0, 2));
+    }
 }
@@ -56,6 +56,14 @@ public class StringToArrayConverterTest {
         assertNull(converter.convert(null, Integer[].class, null));
     }
 
+    @Test
+    public void testConvertToPrimitiveArray() {
+        assertTrue(deepEquals(new int[]{1, 2, 3}, converter.convert("1,2,3", int[].class, int.class)));
+        assertTrue(deepEquals(new long[]{1L, -2L}, converter.convert("1,-2", long[].class, long.class)));
+        assertTrue(deepEquals(new double[]{1.5d, 2d}, converter.convert("1.5,2", double[].class, double.class)));
+        assertTrue(deepEquals(new boolean[]{true, false}, converter.convert("true,false", boolean[].class, boolean.class)));
+    }
+
     @Test
     public void testGetSourceType() {
         assertEquals(String.class, converter.getSourceType());
@@ -16,6 +16,7 @@
  */
 package io.github.microsphere.convert.multiple;
 
+import io.github.microsphere.text.Tokenizer;
 import io.github.microsphere.util.CollectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,6 +104,18 @@ public class StringToListConverterTest {
         assertNull(converter.convert("", Collection.class, null));
     }
 
+    @Test
+    public void testConvertWithTokenizer() {
+        StringToListConverter converter = new StringToListConverter();
+        Tokenizer tokenizer = new Tokenizer(";", '"', '\\');
+
+        List result = (List) converter.convert("\"a;b\";c\\;d", tokenizer, List.class, String.class);
+        assertEquals(asList("a;b", "c;d"), result);
+
+        result = (List) converter.convert("1;2", tokenizer, List.class, Long.class);
+        assertEquals(asList(1L, 2L), result);
+    }
+
     @Test
     public void testGetSourceType() {
         assertEquals(String.class, converter.getSourceType());
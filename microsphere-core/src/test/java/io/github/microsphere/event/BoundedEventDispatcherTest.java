@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BoundedEventDispatcher} Test
+ *
+ * @since 1.0.0
+ */
+public class BoundedEventDispatcherTest {
+
+    @Test
+    public void testBlock() throws InterruptedException {
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(4, 2, OverflowPolicy.BLOCK);
+        KeyedEventListener listener = new KeyedEventListener(null);
+        dispatcher.addEventListener(listener);
+        dispatch(dispatcher, 100);
+        dispatcher.close();
+        assertEquals(100, listener.events.get());
+        assertEquals(0, dispatcher.getDroppedEvents());
+    }
+
+    @Test
+    public void testDropNewest() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(4, 1, OverflowPolicy.DROP_NEWEST);
+        KeyedEventListener listener = new KeyedEventListener(latch);
+        dispatcher.addEventListener(listener);
+        dispatch(dispatcher, 100);
+        latch.countDown();
+        dispatcher.close();
+        assertEquals(100, listener.events.get() + dispatcher.getDroppedEvents());
+        assertTrue(dispatcher.getDroppedEvents() > 0);
+    }
+
+    @Test
+    public void testDropOldest() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(4, 1, OverflowPolicy.DROP_OLDEST);
+        KeyedEventListener listener = new KeyedEventListener(latch);
+        dispatcher.addEventListener(listener);
+        dispatch(dispatcher, 100);
+        latch.countDown();
+        dispatcher.close();
+        assertEquals(100, listener.events.get() + dispatcher.getDroppedEvents());
+        // the newest events are kept
+        assertEquals(99, listener.sequences.get(99 % 3).intValue());
+    }
+
+    @Test
+    public void testAbort() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(1, 1, OverflowPolicy.ABORT);
+        dispatcher.addEventListener(new KeyedEventListener(latch));
+        assertThrows(IllegalStateException.class, () -> dispatch(dispatcher, 100));
+        latch.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    public void testCallerRuns() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(1, 1, OverflowPolicy.CALLER_RUNS);
+        KeyedEventListener listener = new KeyedEventListener(latch);
+        dispatcher.addEventListener(listener);
+        latch.countDown();
+        dispatch(dispatcher, 100);
+        dispatcher.close();
+        assertEquals(100, listener.events.get());
+    }
+
+    @Test
+    public void testCoalesce() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(4, 1, OverflowPolicy.COALESCE);
+        KeyedEventListener listener = new KeyedEventListener(latch);
+        dispatcher.addEventListener(listener);
+        dispatch(dispatcher, 100);
+        latch.countDown();
+        dispatcher.close();
+        assertEquals(100, listener.events.get() + dispatcher.getCoalescedEvents());
+        // the latest events are handled
+        assertEquals(99, listener.sequences.get(0).intValue());
+        assertEquals(97, listener.sequences.get(1).intValue());
+        assertEquals(98, listener.sequences.get(2).intValue());
+    }
+
+    @Test
+    public void testCoalesceOnInterruptedProducer() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(1, 1, OverflowPolicy.COALESCE);
+        KeyedEventListener listener = new KeyedEventListener(latch);
+        dispatcher.addEventListener(listener);
+        dispatcher.dispatch(new KeyedEvent(0, 0));
+        while (dispatcher.getPendingEvents() > 0) { // wait for the worker taking the event
+            Thread.yield();
+        }
+        // fill the queue
+        dispatcher.dispatch(new KeyedEvent(1, 1));
+
+        Thread.currentThread().interrupt();
+        dispatcher.dispatch(new KeyedEvent(2, 2));
+        assertTrue(Thread.interrupted());
+        assertEquals(1, dispatcher.getDroppedEvents());
+
+        latch.countDown();
+        // the key of dropped event is released
+        dispatcher.dispatch(new KeyedEvent(2, 3));
+        dispatcher.close();
+        assertEquals(0, dispatcher.getCoalescedEvents());
+        assertEquals(3, listener.sequences.get(2).intValue());
+    }
+
+    @Test
+    public void testCloseWhileDispatching() throws InterruptedException {
+        BoundedEventDispatcher dispatcher = new BoundedEventDispatcher(4, 2, OverflowPolicy.BLOCK);
+        KeyedEventListener listener = new KeyedEventListener(null);
+        dispatcher.addEventListener(listener);
+        AtomicInteger dispatched = new AtomicInteger();
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                try {
+                    for (int sequence = 0; ; sequence++) {
+                        dispatcher.dispatch(new KeyedEvent(sequence % 3, sequence));
+                        dispatched.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    // closed
+                }
+            });
+            producers[i].start();
+        }
+        while (dispatched.get() < 100) {
+            Thread.yield();
+        }
+        dispatcher.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        // all accepted events have been handled
+        assertEquals(dispatched.get(), listener.events.get());
+    }
+
+    private void dispatch(EventDispatcher dispatcher, int events) {
+        for (int sequence = 0; sequence < events; sequence++) {
+            dispatcher.dispatch(new KeyedEvent(sequence % 3, sequence));
+        }
+    }
+
+    static class KeyedEvent extends Event implements Partitionable {
+
+        private final int key;
+
+        private final int sequence;
+
+        KeyedEvent(int key, int sequence) {
+            super(key);
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Object getPartitionKey() {
+            return key;
+        }
+    }
+
+    static class KeyedEventListener implements EventListener<KeyedEvent> {
+
+        private final CountDownLatch latch;
+
+        private final AtomicInteger events = new AtomicInteger();
+
+        private final Map<Integer, Integer> sequences = new ConcurrentHashMap<>();
+
+        KeyedEventListener(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void onEvent(KeyedEvent event) {
+            if (latch != null) {
+                try {
+                    // slow listener
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.incrementAndGet();
+            sequences.merge(event.key, event.sequence, Math::max);
+        }
+    }
+}
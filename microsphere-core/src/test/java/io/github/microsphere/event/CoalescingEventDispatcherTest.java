@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CoalescingEventDispatcher} Test
+ *
+ * @since 1.0.0
+ */
+public class CoalescingEventDispatcherTest {
+
+    private DirectEventDispatcher delegate;
+
+    private EchoEventListener listener;
+
+    @BeforeEach
+    public void init() {
+        delegate = new DirectEventDispatcher();
+        delegate.removeAllEventListeners();
+        listener = new EchoEventListener();
+    }
+
+    @AfterEach
+    public void destroy() {
+        delegate.removeAllEventListeners();
+    }
+
+    @Test
+    public void testDispatchEvent() {
+        CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(delegate, 1, TimeUnit.HOURS);
+        dispatcher.addEventListener(listener);
+        for (int i = 0; i < 10000; i++) {
+            dispatcher.dispatch(new KeyedEchoEvent(i % 3, i));
+        }
+        assertEquals(3, dispatcher.getPendingEvents());
+        assertEquals(9997, dispatcher.getCoalescedEvents());
+        assertEquals(0, listener.getEventOccurs());
+
+        dispatcher.close();
+        assertEquals(0, dispatcher.getPendingEvents());
+        assertEquals(3, listener.getEventOccurs());
+    }
+
+    @Test
+    public void testDispatchEventWithoutKey() {
+        CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(delegate, 1, TimeUnit.HOURS);
+        dispatcher.addEventListener(listener);
+        dispatcher.dispatch(new EchoEvent("Hello,World"));
+        assertEquals(1, listener.getEventOccurs());
+        dispatcher.close();
+    }
+
+    @Test
+    public void testMaxSizeAndMerger() {
+        CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(delegate, 1, TimeUnit.HOURS, 2,
+                event -> ((KeyedEchoEvent) event).key,
+                (previous, latest) -> new KeyedEchoEvent(((KeyedEchoEvent) latest).key,
+                        (Integer) previous.getSource() + (Integer) latest.getSource()));
+        dispatcher.addEventListener(listener);
+        dispatcher.dispatch(new KeyedEchoEvent(1, 1));
+        dispatcher.dispatch(new KeyedEchoEvent(1, 2));
+        assertEquals(1, dispatcher.getPendingEvents());
+        assertEquals(0, listener.getEventOccurs());
+        // reach the max size
+        dispatcher.dispatch(new KeyedEchoEvent(2, 3));
+        assertEquals(0, dispatcher.getPendingEvents());
+        assertEquals(2, listener.getEventOccurs());
+        dispatcher.close();
+    }
+
+    @Test
+    public void testDispatchOnClosed() {
+        CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(delegate, 1, TimeUnit.HOURS);
+        dispatcher.addEventListener(listener);
+        dispatcher.dispatch(new KeyedEchoEvent(1, 1));
+        dispatcher.close();
+        dispatcher.close();
+        assertEquals(1, listener.getEventOccurs());
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(new KeyedEchoEvent(1, 2)));
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(new EchoEvent("Hello,World")));
+        assertEquals(0, dispatcher.getPendingEvents());
+        assertEquals(1, listener.getEventOccurs());
+    }
+
+    @Test
+    public void testCloseWhileFlushing() throws InterruptedException {
+        SlowEventListener slowListener = new SlowEventListener();
+        CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(delegate, 1, TimeUnit.MILLISECONDS);
+        dispatcher.addEventListener(slowListener);
+        dispatcher.dispatch(new KeyedEchoEvent(1, 1));
+        slowListener.handling.await();
+        Thread closer = new Thread(dispatcher::close);
+        closer.start();
+        closer.join(100);
+        // close() waits for the scheduled flushing in progress
+        assertTrue(closer.isAlive());
+        slowListener.latch.countDown();
+        closer.join();
+        assertEquals(1, slowListener.events.get());
+    }
+
+    static class SlowEventListener implements EventListener<KeyedEchoEvent> {
+
+        private final CountDownLatch handling = new CountDownLatch(1);
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private final AtomicInteger events = new AtomicInteger();
+
+        @Override
+        public void onEvent(KeyedEchoEvent event) {
+            handling.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.incrementAndGet();
+        }
+    }
+
+    static class KeyedEchoEvent extends EchoEvent implements Partitionable {
+
+        private final int key;
+
+        KeyedEchoEvent(int key, int value) {
+            super(value);
+            this.key = key;
+        }
+
+        @Override
+        public Object getPartitionKey() {
+            return key;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -150,4 +152,68 @@ public class DirectEventDispatcherTest {
         assertEquals(2, echoEventListener.getEventOccurs());
         assertEquals(3, echoEventListener2.getEventOccurs());
     }
+
+    @Test
+    public void testDispatchEventAfterListenersChanged() {
+
+        // remove the listeners loaded by ServiceLoader
+        dispatcher.removeAllEventListeners();
+        dispatcher.addEventListener(echoEventListener);
+
+        // resolve the dispatch index for EchoEvent
+        dispatcher.dispatch(new EchoEvent("Hello,World"));
+        assertEquals(1, echoEventListener.getEventOccurs());
+
+        // the dispatch index must be reset after adding a listener
+        dispatcher.addEventListener(echoEventListener2);
+        dispatcher.dispatch(new EchoEvent("Hello,World"));
+        assertEquals(2, echoEventListener.getEventOccurs());
+        assertEquals(1, echoEventListener2.getEventOccurs());
+
+        // the dispatch index must be reset after removing a listener
+        dispatcher.removeEventListener(echoEventListener);
+        dispatcher.dispatch(new EchoEvent("Hello,World"));
+        assertEquals(2, echoEventListener.getEventOccurs());
+        assertEquals(2, echoEventListener2.getEventOccurs());
+    }
+
+    @Test
+    public void testEventDispatchObserver() {
+        dispatcher.removeAllEventListeners();
+        dispatcher.addEventListener(echoEventListener);
+
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger invocations = new AtomicInteger();
+        AtomicInteger completions = new AtomicInteger();
+        dispatcher.setEventDispatchObserver(new EventDispatchObserver() {
+            @Override
+            public void onExecute(Event event, long delayNanos) {
+                executions.incrementAndGet();
+            }
+
+            @Override
+            public void onListenerInvoked(EventListener<?> listener, Event event, long durationNanos, Throwable failure) {
+                assertEquals(echoEventListener, listener);
+                invocations.incrementAndGet();
+            }
+
+            @Override
+            public void onComplete(Event event) {
+                completions.incrementAndGet();
+            }
+        });
+
+        dispatcher.dispatch(new EchoEvent("Hello,World"));
+        assertEquals(1, echoEventListener.getEventOccurs());
+        assertEquals(1, executions.get());
+        assertEquals(1, invocations.get());
+        assertEquals(1, completions.get());
+        assertEquals(0, dispatcher.getPendingEvents());
+
+        // disable the instrumentation
+        dispatcher.setEventDispatchObserver(null);
+        dispatcher.dispatch(new EchoEvent("Hello,World"));
+        assertEquals(2, echoEventListener.getEventOccurs());
+        assertEquals(1, executions.get());
+    }
 }
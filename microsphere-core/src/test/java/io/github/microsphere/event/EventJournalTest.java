@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link EventJournal} Test
+ *
+ * @since 1.0.0
+ */
+public class EventJournalTest {
+
+    private static final int SEGMENT_SIZE = 4 * 1024;
+
+    private File directory;
+
+    @BeforeEach
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("event-journal").toFile();
+    }
+
+    @AfterEach
+    public void destroy() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Test
+    public void testAppendAndReplay() throws IOException {
+        try (EventJournal journal = newJournal()) {
+            assertEquals(0, journal.getFirstOffset());
+            assertEquals(0, journal.getNextOffset());
+            long offset = 0;
+            for (int i = 0; i < 10; i++) {
+                assertEquals(journal.getNextOffset(), offset = journal.append(new EchoEvent("event-" + i)));
+            }
+            assertTrue(journal.getNextOffset() > offset);
+
+            List<Object> sources = new ArrayList<>();
+            assertEquals(journal.getNextOffset(), journal.replay(0, event -> sources.add(event.getSource())));
+            assertEquals(10, sources.size());
+            assertEquals("event-0", sources.get(0));
+            assertEquals("event-9", sources.get(9));
+
+            sources.clear();
+            journal.replay(offset, event -> sources.add(event.getSource()));
+            assertEquals(1, sources.size());
+            assertEquals("event-9", sources.get(0));
+        }
+    }
+
+    @Test
+    public void testRollSegments() throws IOException {
+        int events = 200;
+        try (EventJournal journal = newJournal()) {
+            for (int i = 0; i < events; i++) {
+                journal.append(new EchoEvent("event-" + i));
+            }
+            List<Object> sources = new ArrayList<>();
+            journal.replay(0, event -> sources.add(event.getSource()));
+            assertEquals(events, sources.size());
+            assertEquals("event-" + (events - 1), sources.get(events - 1));
+        }
+        assertTrue(directory.list().length > 1);
+    }
+
+    @Test
+    public void testRecover() throws IOException {
+        long nextOffset;
+        try (EventJournal journal = newJournal()) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(new EchoEvent("event-" + i));
+            }
+            nextOffset = journal.getNextOffset();
+        }
+
+        try (EventJournal journal = newJournal()) {
+            assertEquals(nextOffset, journal.getNextOffset());
+            journal.append(new EchoEvent("recovered"));
+            List<Object> sources = new ArrayList<>();
+            journal.replay(nextOffset, event -> sources.add(event.getSource()));
+            assertEquals(1, sources.size());
+            assertEquals("recovered", sources.get(0));
+        }
+    }
+
+    @Test
+    public void testReplaySkipsCorruptedRecord() throws IOException {
+        try (EventJournal journal = newJournal()) {
+            long corruptedOffset = 0;
+            for (int i = 0; i < 5; i++) {
+                long offset = journal.append(new EchoEvent("event-" + i));
+                if (i == 3) {
+                    corruptedOffset = offset;
+                }
+            }
+            File segment = new File(directory, String.format("%020d%s", 0, EventJournal.SEGMENT_FILE_SUFFIX));
+            try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+                long position = corruptedOffset + 16;
+                file.seek(position);
+                int value = file.read();
+                file.seek(position);
+                file.write(value ^ 0xFF);
+            }
+            List<Object> sources = new ArrayList<>();
+            journal.replay(0, event -> sources.add(event.getSource()));
+            assertEquals(3, sources.size());
+            assertEquals("event-2", sources.get(2));
+        }
+    }
+
+    @Test
+    public void testAppendOnClosed() throws IOException {
+        EventJournal journal = newJournal();
+        journal.close();
+        journal.close();
+        assertThrows(IllegalStateException.class, () -> journal.append(new EchoEvent("closed")));
+    }
+
+    @Test
+    public void testSerializeEventWithoutSource() throws IOException {
+        // the source of event is transient in the Java serialized form
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            outputStream.writeObject(new EchoEvent(new Object()));
+        }
+    }
+
+    @Test
+    public void testAppendTooLargeEvent() throws IOException {
+        try (EventJournal journal = newJournal()) {
+            assertThrows(IllegalArgumentException.class, () -> journal.append(new EchoEvent(new byte[SEGMENT_SIZE])));
+        }
+    }
+
+    @Test
+    public void testAppendAndReplayApplicationEvent() throws IOException {
+        // the classes out of the default allow-list are rejected on appending rather than on replaying
+        try (EventJournal journal = new EventJournal(directory)) {
+            assertThrows(InvalidClassException.class, () -> journal.append(new EchoEvent(new AtomicLong(1L))));
+            assertEquals(0, journal.getNextOffset());
+            journal.append(new EchoEvent("event"));
+            List<Object> sources = new ArrayList<>();
+            journal.replay(0, event -> sources.add(event.getSource()));
+            assertEquals(1, sources.size());
+            assertEquals("event", sources.get(0));
+        }
+        FileUtils.cleanDirectory(directory);
+
+        SerializableEventCodec codec = new SerializableEventCodec(className ->
+                SerializableEventCodec.DEFAULT_CLASS_NAME_FILTER.accept(className) || className.equals(AtomicLong.class.getName()));
+        try (EventJournal journal = new EventJournal(directory, SEGMENT_SIZE, codec, 16, 0)) {
+            journal.append(new EchoEvent(new AtomicLong(1L)));
+        }
+        try (EventJournal journal = new EventJournal(directory, SEGMENT_SIZE, codec, 16, 0)) {
+            List<Object> sources = new ArrayList<>();
+            journal.replay(0, event -> sources.add(event.getSource()));
+            assertEquals(1, sources.size());
+            assertEquals(1L, ((AtomicLong) sources.get(0)).get());
+        }
+    }
+
+    @Test
+    public void testJournalingEventDispatcher() throws IOException {
+        EchoEventListener listener = new EchoEventListener();
+        try (JournalingEventDispatcher dispatcher = new JournalingEventDispatcher(new DirectEventDispatcher(), newJournal())) {
+            dispatcher.removeAllEventListeners();
+            dispatcher.dispatch(new EchoEvent("Hello"));
+            dispatcher.dispatch(new EchoEvent("World"));
+            assertEquals(dispatcher.getJournal().getNextOffset(), dispatcher.replay(0, listener));
+        }
+        assertEquals(2, listener.getEventOccurs());
+    }
+
+    private EventJournal newJournal() throws IOException {
+        return new EventJournal(directory, SEGMENT_SIZE, SerializableEventCodec.INSTANCE, 16, 0);
+    }
+}
@@ -54,6 +54,35 @@ public class GenericEventListenerTest {
         assertEquals(value, listener.getEchoEvent().getSource());
     }
 
+    @Test
+    public void testOnEventWithSuperTypes() {
+        SuperTypeGenericEventListener superTypeListener = new SuperTypeGenericEventListener();
+        EchoEvent echoEvent = new EchoEvent("Hello,World");
+        superTypeListener.onEvent(echoEvent);
+        assertEquals(1, superTypeListener.echoEvents);
+        assertEquals(1, superTypeListener.events);
+
+        superTypeListener.onEvent(new Event("Test") {
+        });
+        assertEquals(1, superTypeListener.echoEvents);
+        assertEquals(2, superTypeListener.events);
+    }
+
+    class SuperTypeGenericEventListener extends GenericEventListener {
+
+        private int echoEvents;
+
+        private int events;
+
+        public void onEchoEvent(EchoEvent echoEvent) {
+            echoEvents++;
+        }
+
+        public void onAnyEvent(Event event) {
+            events++;
+        }
+    }
+
     class MyGenericEventListener extends GenericEventListener {
 
         private EchoEvent echoEvent;
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PartitionedEventDispatcher} Test
+ *
+ * @since 1.0.0
+ */
+public class PartitionedEventDispatcherTest {
+
+    private PartitionedEventDispatcher eventDispatcher;
+
+    private KeyedEventListener listener;
+
+    @BeforeEach
+    public void init() {
+        eventDispatcher = new PartitionedEventDispatcher(4, 16, OverflowPolicy.BLOCK);
+        listener = new KeyedEventListener();
+        eventDispatcher.addEventListener(listener);
+    }
+
+    @AfterEach
+    public void destroy() throws InterruptedException {
+        eventDispatcher.close();
+    }
+
+    @Test
+    public void testDispatchEventInOrder() throws InterruptedException {
+        for (int sequence = 0; sequence < 1000; sequence++) {
+            for (int key = 0; key < 10; key++) {
+                eventDispatcher.dispatch(new KeyedEvent(key, sequence));
+            }
+        }
+        eventDispatcher.close();
+
+        assertEquals(10, listener.sequences.size());
+        listener.sequences.forEach((key, sequences) -> {
+            assertEquals(1000, sequences.size());
+            for (int i = 0; i < sequences.size(); i++) {
+                assertEquals(i, sequences.get(i));
+            }
+        });
+    }
+
+    @Test
+    public void testGetLane() {
+        assertEquals(4, eventDispatcher.getLanes());
+        for (int key = 0; key < 100; key++) {
+            int lane = eventDispatcher.getLane(key);
+            assertTrue(lane >= 0 && lane < 4);
+            assertEquals(lane, eventDispatcher.getLane(key));
+        }
+        assertEquals(4, eventDispatcher.getQueueDepths().length);
+    }
+
+    @Test
+    public void testDropNewest() throws InterruptedException {
+        PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(1, 1, OverflowPolicy.DROP_NEWEST);
+        for (int sequence = 0; sequence < 100; sequence++) {
+            dispatcher.dispatch(new KeyedEvent(1, sequence));
+        }
+        dispatcher.close();
+        assertEquals(100, dispatcher.getDispatchedEvents(0) + dispatcher.getDroppedEvents(0));
+        assertEquals(0, dispatcher.getQueueDepth(0));
+    }
+
+    @Test
+    public void testCloseWhileDispatching() throws InterruptedException {
+        AtomicInteger dispatched = new AtomicInteger();
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            int key = i;
+            producers[i] = new Thread(() -> {
+                try {
+                    for (int sequence = 0; ; sequence++) {
+                        eventDispatcher.dispatch(new KeyedEvent(key, sequence));
+                        dispatched.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    // closed
+                }
+            });
+            producers[i].start();
+        }
+        while (dispatched.get() < 100) {
+            Thread.yield();
+        }
+        eventDispatcher.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        // all accepted events have been handled
+        assertEquals(dispatched.get(), listener.sequences.values().stream().mapToInt(List::size).sum());
+    }
+
+    static class KeyedEvent extends Event implements Partitionable {
+
+        private final int key;
+
+        private final int sequence;
+
+        KeyedEvent(int key, int sequence) {
+            super(key);
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Object getPartitionKey() {
+            return key;
+        }
+    }
+
+    static class KeyedEventListener implements EventListener<KeyedEvent> {
+
+        private final Map<Integer, List<Integer>> sequences = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(KeyedEvent event) {
+            // each key is handled by only one lane
+            sequences.computeIfAbsent(event.key, key -> new ArrayList<>()).add(event.sequence);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link RingBufferEventDispatcher} Test
+ *
+ * @since 1.0.0
+ */
+public class RingBufferEventDispatcherTest {
+
+    private RingBufferEventDispatcher eventDispatcher;
+
+    private AbstractEventListener listener;
+
+    @BeforeEach
+    public void init() {
+        eventDispatcher = new RingBufferEventDispatcher(8, 2, WaitStrategy.PARK);
+        eventDispatcher.removeAllEventListeners();
+        listener = new EchoEventListener();
+        eventDispatcher.addEventListener(listener);
+    }
+
+    @AfterEach
+    public void destroy() throws InterruptedException {
+        eventDispatcher.close();
+    }
+
+    @Test
+    public void testDispatchEvent() throws InterruptedException {
+        eventDispatcher.dispatch(new EchoEvent("Hello,World"));
+        eventDispatcher.close();
+        // event has been handled
+        assertEquals(1, listener.getEventOccurs());
+    }
+
+    @Test
+    public void testDispatchEventsFromMultipleProducers() throws InterruptedException {
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    eventDispatcher.dispatch(new EchoEvent(j));
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        eventDispatcher.close();
+        assertEquals(400, listener.getEventOccurs());
+        assertEquals(0, eventDispatcher.getPendingEvents());
+    }
+
+    @Test
+    public void testBufferSize() {
+        assertEquals(8, eventDispatcher.getBufferSize());
+        assertEquals(WaitStrategy.PARK, eventDispatcher.getWaitStrategy());
+    }
+
+    @Test
+    public void testDispatchAfterClosed() throws InterruptedException {
+        eventDispatcher.close();
+        assertThrows(IllegalStateException.class, () -> eventDispatcher.dispatch(new EchoEvent("Hello,World")));
+    }
+
+    @Test
+    public void testCloseWhileDispatching() throws InterruptedException {
+        AtomicInteger dispatched = new AtomicInteger();
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; ; j++) {
+                        eventDispatcher.dispatch(new EchoEvent(j));
+                        dispatched.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    // closed
+                }
+            });
+            producers[i].start();
+        }
+        while (dispatched.get() < 100) {
+            Thread.yield();
+        }
+        eventDispatcher.close();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        // all accepted events have been handled
+        assertEquals(dispatched.get(), listener.getEventOccurs());
+    }
+
+    @Test
+    public void testCloseOnInterrupted() {
+        Thread.currentThread().interrupt();
+        eventDispatcher.close();
+        assertTrue(Thread.interrupted());
+    }
+}
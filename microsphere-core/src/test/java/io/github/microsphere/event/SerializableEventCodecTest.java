@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SerializableEventCodec} Test
+ *
+ * @since 1.0.0
+ */
+public class SerializableEventCodecTest {
+
+    @Test
+    public void testEncodeAndDecode() throws IOException {
+        SerializableEventCodec codec = SerializableEventCodec.INSTANCE;
+        Event event = codec.decode(encode(codec, new EchoEvent("Hello,World")));
+        assertTrue(event instanceof EchoEvent);
+        assertEquals("Hello,World", event.getSource());
+
+        event = codec.decode(encode(codec, new EchoEvent(new int[][]{{1, 2}, {3}})));
+        assertArrayEquals(new int[]{1, 2}, ((int[][]) event.getSource())[0]);
+
+        event = codec.decode(encode(codec, new EchoEvent(new Long[]{1L})));
+        assertArrayEquals(new Long[]{1L}, (Long[]) event.getSource());
+    }
+
+    @Test
+    public void testDecodeNotAllowedClass() throws IOException {
+        SerializableEventCodec codec = SerializableEventCodec.INSTANCE;
+        SerializableEventCodec allowingCodec = new SerializableEventCodec(className -> true);
+        ByteBuffer buffer = encode(allowingCodec, new EchoEvent(new AtomicLong(1L)));
+        assertThrows(InvalidClassException.class, () -> codec.decode(buffer));
+
+        ByteBuffer arrayBuffer = encode(allowingCodec, new EchoEvent(new AtomicLong[]{new AtomicLong(1L)}));
+        assertThrows(InvalidClassException.class, () -> codec.decode(arrayBuffer));
+    }
+
+    @Test
+    public void testEncodeNotAllowedClass() {
+        SerializableEventCodec codec = SerializableEventCodec.INSTANCE;
+        assertThrows(InvalidClassException.class, () -> encode(codec, new EchoEvent(new AtomicLong(1L))));
+        assertThrows(InvalidClassException.class,
+                () -> encode(codec, new EchoEvent(new AtomicLong[]{new AtomicLong(1L)})));
+    }
+
+    @Test
+    public void testCustomClassNameFilter() throws IOException {
+        SerializableEventCodec codec = new SerializableEventCodec(className -> true);
+        Event event = codec.decode(encode(codec, new EchoEvent(new AtomicLong(1L))));
+        assertEquals(1L, ((AtomicLong) event.getSource()).get());
+
+        SerializableEventCodec rejectingCodec = new SerializableEventCodec(className -> false);
+        ByteBuffer buffer = encode(SerializableEventCodec.INSTANCE, new EchoEvent("Hello,World"));
+        assertThrows(InvalidClassException.class, () -> rejectingCodec.decode(buffer));
+        assertThrows(InvalidClassException.class, () -> encode(rejectingCodec, new EchoEvent("Hello,World")));
+
+        assertThrows(IllegalArgumentException.class, () -> new SerializableEventCodec(null));
+    }
+
+    private ByteBuffer encode(EventCodec codec, Event event) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        codec.encode(event, buffer);
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SharedMemoryEventPublisher} and {@link SharedMemoryEventSubscriber} Test
+ *
+ * @since 1.0.0
+ */
+public class SharedMemoryEventBridgeTest {
+
+    private File file;
+
+    private SharedMemoryEventPublisher publisher;
+
+    @BeforeEach
+    public void init() throws IOException {
+        file = Files.createTempFile("event-ring", ".ring").toFile();
+        publisher = new SharedMemoryEventPublisher(file, 1024, 256, SerializableEventCodec.INSTANCE);
+    }
+
+    @AfterEach
+    public void destroy() throws IOException {
+        publisher.close();
+        file.delete();
+    }
+
+    @Test
+    public void testPublishAndSubscribe() throws Exception {
+        DirectEventDispatcher eventDispatcher = new DirectEventDispatcher();
+        eventDispatcher.removeAllEventListeners();
+        EchoEventListener listener = new EchoEventListener();
+        eventDispatcher.addEventListener(listener);
+
+        int events = 100;
+        try (SharedMemoryEventSubscriber subscriber = new SharedMemoryEventSubscriber(file, eventDispatcher)) {
+            for (int i = 0; i < events; i++) {
+                assertTrue(publisher.publish(new EchoEvent(i)));
+            }
+            assertEquals(events, publisher.getSequence());
+            long deadline = System.currentTimeMillis() + 5000;
+            while (subscriber.getSequence() < events && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(events, subscriber.getSequence());
+            assertEquals(0, subscriber.getLostEvents());
+        }
+        assertEquals(events, listener.getEventOccurs());
+    }
+
+    @Test
+    public void testSkipTooLargeEvent() {
+        assertFalse(publisher.publish(new EchoEvent(new byte[256])));
+        assertEquals(1, publisher.getSkippedEvents());
+        assertEquals(1, publisher.getSequence());
+    }
+
+    @Test
+    public void testSingleWriter() {
+        assertThrows(IllegalStateException.class, () -> new SharedMemoryEventPublisher(file));
+    }
+
+    @Test
+    public void testMismatchedRingFile() throws IOException {
+        publisher.close();
+        assertThrows(IllegalArgumentException.class, () -> new SharedMemoryEventPublisher(file, 2048, 256,
+                SerializableEventCodec.INSTANCE));
+        publisher = new SharedMemoryEventPublisher(file, 1024, 256, SerializableEventCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TimingWheel} Test
+ *
+ * @since 1.0.0
+ */
+public class TimingWheelTest {
+
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    public void init() {
+        timingWheel = new TimingWheel();
+    }
+
+    @AfterEach
+    public void destroy() throws InterruptedException {
+        timingWheel.close();
+    }
+
+    @Test
+    public void testSchedule() throws InterruptedException {
+        int tasks = 100;
+        CountDownLatch latch = new CountDownLatch(tasks);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            // cross the buckets of the first and second levels
+            timingWheel.schedule(latch::countDown, i * 2, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos((tasks - 1) * 2));
+        assertEquals(0, timingWheel.getPendingTasks());
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        TimingWheel.Timeout timeout = timingWheel.schedule(executions::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        assertEquals(1, timingWheel.getPendingTasks());
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timingWheel.getPendingTasks());
+        Thread.sleep(100);
+        assertEquals(0, executions.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void testScheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        TimingWheel.Timeout timeout = timingWheel.scheduleAtFixedRate(latch::countDown, 0, 10, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(timeout.cancel());
+        assertThrows(IllegalArgumentException.class, () -> timingWheel.scheduleAtFixedRate(latch::countDown, 0, 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testDispatchWithDelay() throws InterruptedException {
+        EventDispatcher dispatcher = new DirectEventDispatcher();
+        dispatcher.removeAllEventListeners();
+        EchoEventListener listener = new EchoEventListener();
+        dispatcher.addEventListener(listener);
+        TimingWheel.Timeout timeout = dispatcher.dispatch(new EchoEvent("Hello,World"), 10, TimeUnit.MILLISECONDS);
+        assertEquals(0, listener.getEventOccurs());
+        Thread.sleep(200);
+        assertTrue(timeout.isExpired());
+        assertEquals(1, listener.getEventOccurs());
+    }
+
+    @Test
+    public void testDispatchWithDelayOutOfTicker() throws InterruptedException {
+        EventDispatcher dispatcher = new DirectEventDispatcher();
+        dispatcher.removeAllEventListeners();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        dispatcher.addEventListener(new EventListener<EchoEvent>() {
+            @Override
+            public void onEvent(EchoEvent event) {
+                threadName.set(Thread.currentThread().getName());
+                latch.countDown();
+            }
+        });
+        dispatcher.dispatch(new EchoEvent("Hello,World"), 10, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        // the ticker only hands off the dispatching
+        assertFalse(threadName.get().endsWith("-ticker"));
+    }
+
+    @Test
+    public void testScheduleAfterClosed() throws InterruptedException {
+        timingWheel.close();
+        assertThrows(IllegalStateException.class, () -> timingWheel.schedule(() -> {
+        }, 1, TimeUnit.MILLISECONDS));
+    }
+}
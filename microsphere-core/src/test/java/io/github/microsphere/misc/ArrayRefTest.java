@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import org.junit.Test;
+
+import static io.github.microsphere.misc.UnsafeUtils.arrayRef;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link ArrayRef} Test
+ *
+ * @since 1.0.0
+ */
+public class ArrayRefTest {
+
+    private static final Object[] VALUES = new String[2];
+
+    @Test
+    public void testArrayRef() {
+        ArrayRef arrayRef = arrayRef(Model.class, "longs");
+        assertSame(arrayRef, arrayRef(Model.class, "longs"));
+        assertEquals(long.class, arrayRef.getComponentType());
+        assertEquals(10, arrayRef.length(new Model()));
+        assertEquals(UnsafeUtils.longArrayIndexOffset(3), arrayRef.offset(3));
+
+        try {
+            arrayRef(Model.class, "count");
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            arrayRef(Model.class, "notFound");
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testIntAndLong() {
+        Model model = new Model();
+        ArrayRef ints = arrayRef(Model.class, "ints");
+        ints.putInt(model, 0, 1);
+        ints.putIntVolatile(model, 9, 9);
+        assertEquals(1, model.ints[0]);
+        assertEquals(9, ints.getInt(model, 9));
+        ints.putOrderedInt(model, 1, 2);
+        assertEquals(2, ints.getAndAddInt(model, 1, 3));
+        assertEquals(5, ints.getAndSetInt(model, 1, 6));
+        assertTrue(ints.compareAndSwapInt(model, 1, 6, 7));
+        assertFalse(ints.compareAndSwapInt(model, 1, 6, 8));
+        assertEquals(7, ints.getIntVolatile(model, 1));
+
+        ArrayRef longs = arrayRef(Model.class, "longs");
+        longs.putLong(model, 2, Long.MIN_VALUE);
+        assertEquals(Long.MIN_VALUE, model.longs[2]);
+        longs.putOrderedLong(model, 2, 1L);
+        assertEquals(1L, longs.getAndAddLong(model, 2, 1L));
+        assertTrue(longs.compareAndSwapLong(model, 2, 2L, 3L));
+        assertEquals(3L, longs.getAndSetLong(model, 2, 4L));
+        assertEquals(4L, longs.getLongVolatile(model, 2));
+    }
+
+    @Test
+    public void testOtherPrimitives() {
+        Model model = new Model();
+        arrayRef(Model.class, "booleans").putBooleanVolatile(model, 1, true);
+        assertTrue(model.booleans[1]);
+        arrayRef(Model.class, "bytes").putByte(model, 2, (byte) -1);
+        assertEquals(-1, arrayRef(Model.class, "bytes").getByteVolatile(model, 2));
+        arrayRef(Model.class, "shorts").putShortVolatile(model, 3, (short) 3);
+        assertEquals(3, arrayRef(Model.class, "shorts").getShort(model, 3));
+        arrayRef(Model.class, "chars").putChar(model, 4, 'c');
+        assertEquals('c', model.chars[4]);
+        arrayRef(Model.class, "floats").putFloat(model, 5, 1.5f);
+        assertEquals(1.5f, arrayRef(Model.class, "floats").getFloatVolatile(model, 5), 0f);
+        arrayRef(Model.class, "doubles").putDouble(model, 6, 2.5d);
+        assertEquals(2.5d, arrayRef(Model.class, "doubles").getDouble(model, 6), 0d);
+    }
+
+    @Test
+    public void testObject() {
+        Model model = new Model();
+        ArrayRef objects = arrayRef(Model.class, "objects");
+        objects.putObject(model, 0, "a");
+        assertEquals("a", objects.getObject(model, 0));
+        objects.putOrderedObject(model, 1, "b");
+        assertEquals("b", objects.getAndSetObject(model, 1, "c"));
+        assertTrue(objects.compareAndSwapObject(model, 1, model.objects[1], null));
+        assertNull(objects.getObjectVolatile(model, 1));
+
+        ArrayRef values = arrayRef(ArrayRefTest.class, "VALUES");
+        values.putObjectVolatile(null, 1, "d");
+        assertEquals("d", VALUES[1]);
+        try {
+            values.putObject(null, 0, 1);
+            fail();
+        } catch (ArrayStoreException e) {
+        }
+    }
+
+    @Test
+    public void testChecks() {
+        Model model = new Model();
+        ArrayRef ints = arrayRef(Model.class, "ints");
+        try {
+            ints.getInt(model, 10);
+            fail();
+        } catch (ArrayIndexOutOfBoundsException e) {
+        }
+        try {
+            ints.putInt(model, -1, 0);
+            fail();
+        } catch (ArrayIndexOutOfBoundsException e) {
+        }
+        try {
+            ints.getLong(model, 0);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        model.ints = null;
+        try {
+            ints.getInt(model, 0);
+            fail();
+        } catch (NullPointerException e) {
+        }
+    }
+
+    private static class Model {
+        private int count;
+        private long[] longs = new long[10];
+        private volatile int[] ints = new int[10];
+        private short[] shorts = new short[10];
+        private byte[] bytes = new byte[10];
+        private boolean[] booleans = new boolean[10];
+        private double[] doubles = new double[10];
+        private float[] floats = new float[10];
+        private char[] chars = new char[10];
+        private Object[] objects = new Object[10];
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import org.junit.Test;
+
+import static io.github.microsphere.misc.UnsafeUtils.fieldRef;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link FieldRef} Test
+ *
+ * @since 1.0.0
+ */
+public class FieldRefTest {
+
+    private static final String CONSTANT = "constant";
+
+    private static long sequence;
+
+    @Test
+    public void testFieldRef() {
+        FieldRef fieldRef = fieldRef(Model.class, "intValue");
+        assertSame(fieldRef, fieldRef(Model.class, "intValue"));
+        assertEquals(int.class, fieldRef.getType());
+        assertFalse(fieldRef.isStatic());
+        assertEquals(UnsafeUtils.getObjectFieldOffset(new Model(), "intValue"), fieldRef.getOffset());
+
+        // the field declared in the super class
+        assertEquals(fieldRef.getField(), fieldRef(SubModel.class, "intValue").getField());
+
+        try {
+            fieldRef(Model.class, "notFound");
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testIntAndLong() {
+        Model model = new SubModel();
+        FieldRef intRef = fieldRef(Model.class, "intValue");
+        intRef.putInt(model, 1);
+        assertEquals(1, model.intValue);
+        assertEquals(1, intRef.getInt(model));
+        intRef.putIntVolatile(model, 2);
+        assertEquals(2, intRef.getIntVolatile(model));
+        intRef.putOrderedInt(model, 3);
+        assertEquals(3, intRef.getAndAddInt(model, 2));
+        assertEquals(5, intRef.getAndSetInt(model, 6));
+        assertTrue(intRef.compareAndSwapInt(model, 6, 7));
+        assertFalse(intRef.compareAndSwapInt(model, 6, 8));
+        assertEquals(7, model.intValue);
+
+        FieldRef longRef = fieldRef(Model.class, "longValue");
+        longRef.putLong(model, Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, longRef.getLong(model));
+        longRef.putOrderedLong(model, 1L);
+        assertEquals(1L, longRef.getAndAddLong(model, 1L));
+        assertTrue(longRef.compareAndSwapLong(model, 2L, 3L));
+        assertEquals(3L, longRef.getAndSetLong(model, 4L));
+        assertEquals(4L, longRef.getLongVolatile(model));
+    }
+
+    @Test
+    public void testOtherPrimitives() {
+        Model model = new Model();
+        fieldRef(Model.class, "booleanValue").putBoolean(model, true);
+        assertTrue(model.booleanValue);
+        fieldRef(Model.class, "byteValue").putByteVolatile(model, (byte) 1);
+        assertEquals(1, fieldRef(Model.class, "byteValue").getByte(model));
+        fieldRef(Model.class, "shortValue").putShort(model, (short) 2);
+        assertEquals(2, fieldRef(Model.class, "shortValue").getShortVolatile(model));
+        fieldRef(Model.class, "charValue").putChar(model, 'c');
+        assertEquals('c', fieldRef(Model.class, "charValue").getChar(model));
+        fieldRef(Model.class, "floatValue").putFloat(model, 1.5f);
+        assertEquals(1.5f, fieldRef(Model.class, "floatValue").getFloat(model), 0f);
+        fieldRef(Model.class, "doubleValue").putDoubleVolatile(model, 2.5d);
+        assertEquals(2.5d, fieldRef(Model.class, "doubleValue").getDoubleVolatile(model), 0d);
+    }
+
+    @Test
+    public void testObject() {
+        Model model = new Model();
+        FieldRef objectRef = fieldRef(Model.class, "stringValue");
+        objectRef.putObject(model, "a");
+        assertEquals("a", objectRef.getObject(model));
+        objectRef.putOrderedObject(model, "b");
+        assertEquals("b", objectRef.getAndSetObject(model, "c"));
+        assertTrue(objectRef.compareAndSwapObject(model, model.stringValue, null));
+        assertNull(objectRef.getObjectVolatile(model));
+
+        try {
+            objectRef.putObject(model, 1);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testStatic() {
+        FieldRef sequenceRef = fieldRef(FieldRefTest.class, "sequence");
+        assertTrue(sequenceRef.isStatic());
+        sequenceRef.putLong(null, 10L);
+        assertEquals(10L, sequence);
+        assertEquals(10L, sequenceRef.getAndAddLong(this, 1L));
+        assertEquals(11L, sequence);
+        assertEquals(sequenceRef.getOffset(), UnsafeUtils.getStaticFieldOffset(FieldRefTest.class, "sequence"));
+
+        FieldRef constantRef = fieldRef(FieldRefTest.class, "CONSTANT");
+        assertSame(CONSTANT, constantRef.getObject(null));
+        try {
+            constantRef.putObject(null, "changed");
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void testChecks() {
+        FieldRef intRef = fieldRef(Model.class, "intValue");
+        try {
+            intRef.getLong(new Model());
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            intRef.getObject(new Model());
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            intRef.getInt("");
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        try {
+            intRef.putInt(null, 1);
+            fail();
+        } catch (NullPointerException e) {
+        }
+    }
+
+    private static class Model {
+        private long longValue;
+        private int intValue;
+        private short shortValue;
+        private byte byteValue;
+        private boolean booleanValue;
+        private float floatValue;
+        private volatile double doubleValue;
+        private char charValue;
+        private String stringValue;
+    }
+
+    private static class SubModel extends Model {
+    }
+}
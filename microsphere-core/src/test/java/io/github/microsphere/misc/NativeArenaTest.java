@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link NativeArena} Test
+ *
+ * @since 1.0.0
+ */
+public class NativeArenaTest {
+
+    @Test
+    public void testAllocate() {
+        long usedBytes = NativeMemory.getUsedBytes();
+        try (NativeArena arena = new NativeArena(64)) {
+            NativeBuffer first = arena.allocate(3);
+            NativeBuffer second = arena.allocate(8);
+            assertEquals(8, second.address() - first.address());
+            assertEquals(64, arena.getReservedBytes());
+
+            first.putByte(2, (byte) 1);
+            assertEquals(0L, second.getLong(0));
+
+            // the rest of chunk is not enough
+            NativeBuffer third = arena.allocate(56);
+            assertEquals(128, arena.getReservedBytes());
+            third.putLong(48, 1L);
+
+            // dedicated chunk
+            NativeBuffer large = arena.allocate(100);
+            assertEquals(232, arena.getReservedBytes());
+            assertEquals(167, arena.getAllocatedBytes());
+            assertEquals(usedBytes + 232, NativeMemory.getUsedBytes());
+
+            // the memory of buffer closed is released by the arena
+            first.close();
+            assertTrue(first.isClosed());
+            assertEquals(usedBytes + 232, NativeMemory.getUsedBytes());
+
+            arena.close();
+            assertTrue(large.isClosed());
+            assertTrue(second.isClosed());
+            assertEquals(0, arena.getReservedBytes());
+            assertEquals(usedBytes, NativeMemory.getUsedBytes());
+
+            try {
+                arena.allocate(8);
+                fail();
+            } catch (IllegalStateException e) {
+            }
+            try {
+                third.getLong(48);
+                fail();
+            } catch (IllegalStateException e) {
+            }
+        }
+    }
+
+    @Test
+    public void testLeak() throws InterruptedException {
+        long leakCount = NativeMemory.getLeakCount();
+        NativeArena arena = new NativeArena(64);
+        arena.allocate(8);
+        arena.allocate(128);
+        arena = null;
+        for (int i = 0; i < 100 && NativeMemory.getLeakCount() == leakCount; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertEquals(leakCount + 2, NativeMemory.getLeakCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        new NativeArena(4);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.misc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link NativeBuffer} Test
+ *
+ * @since 1.0.0
+ */
+public class NativeBufferTest {
+
+    @Test
+    public void testPrimitives() {
+        try (NativeBuffer buffer = NativeMemory.allocate(64)) {
+            assertEquals(64, buffer.capacity());
+            assertEquals(0L, buffer.getLong(56));
+
+            buffer.putByte(0, (byte) -1);
+            buffer.putShort(1, (short) 300);
+            buffer.putChar(3, 'c');
+            buffer.putInt(5, Integer.MIN_VALUE);
+            buffer.putLong(9, Long.MAX_VALUE);
+            buffer.putFloat(17, 1.5f);
+            buffer.putDouble(21, 2.5d);
+
+            assertEquals(-1, buffer.getByte(0));
+            assertEquals(300, buffer.getShort(1));
+            assertEquals('c', buffer.getChar(3));
+            assertEquals(Integer.MIN_VALUE, buffer.getInt(5));
+            assertEquals(Long.MAX_VALUE, buffer.getLong(9));
+            assertEquals(1.5f, buffer.getFloat(17), 0f);
+            assertEquals(2.5d, buffer.getDouble(21), 0d);
+        }
+    }
+
+    @Test
+    public void testBulkCopy() {
+        try (NativeBuffer buffer = NativeMemory.allocate(64); NativeBuffer other = NativeMemory.allocate(64)) {
+            byte[] bytes = {1, 2, 3, 4};
+            buffer.copyFrom(10, bytes, 1, 3);
+            byte[] copy = new byte[4];
+            buffer.copyTo(9, copy, 0, 4);
+            assertArrayEquals(new byte[]{0, 2, 3, 4}, copy);
+
+            int[] ints = {7, 8, 9};
+            buffer.copyFrom(16, ints, 0, 3);
+            assertEquals(8, buffer.getInt(20));
+            int[] intCopy = new int[3];
+            buffer.copyTo(16, intCopy, 0, 3);
+            assertArrayEquals(ints, intCopy);
+
+            long[] longs = {-1L, Long.MIN_VALUE};
+            buffer.copyFrom(32, longs, 0, 2);
+            long[] longCopy = new long[2];
+            buffer.copyTo(32, longCopy, 0, 2);
+            assertArrayEquals(longs, longCopy);
+
+            other.copyFrom(0, buffer, 32, 16);
+            assertEquals(Long.MIN_VALUE, other.getLong(8));
+
+            // overlapped
+            buffer.copyFrom(36, buffer, 32, 8);
+            assertEquals(-1L, buffer.getLong(36));
+
+            other.fill(0, 8, (byte) 1);
+            assertEquals(0x0101010101010101L, other.getLong(0));
+        }
+    }
+
+    @Test
+    public void testBounds() {
+        try (NativeBuffer buffer = NativeMemory.allocate(16)) {
+            assertOutOfBounds(() -> buffer.getByte(16));
+            assertOutOfBounds(() -> buffer.getByte(-1));
+            assertOutOfBounds(() -> buffer.getLong(9));
+            assertOutOfBounds(() -> buffer.putInt(13, 0));
+            assertOutOfBounds(() -> buffer.fill(8, 9, (byte) 0));
+            assertOutOfBounds(() -> buffer.copyFrom(0, new byte[4], 2, 3));
+            assertOutOfBounds(() -> buffer.copyTo(0, new long[4], 0, 3));
+            assertOutOfBounds(() -> buffer.getLong(Long.MAX_VALUE));
+            buffer.getLong(8);
+        }
+    }
+
+    @Test
+    public void testClose() {
+        long usedBytes = NativeMemory.getUsedBytes();
+        long releaseCount = NativeMemory.getReleaseCount();
+        NativeBuffer buffer = NativeMemory.allocate(128);
+        assertEquals(usedBytes + 128, NativeMemory.getUsedBytes());
+        assertFalse(buffer.isClosed());
+
+        buffer.close();
+        buffer.close();
+        assertTrue(buffer.isClosed());
+        assertEquals(usedBytes, NativeMemory.getUsedBytes());
+        assertEquals(releaseCount + 1, NativeMemory.getReleaseCount());
+
+        try {
+            buffer.getInt(0);
+            fail();
+        } catch (IllegalStateException e) {
+        }
+
+        try {
+            NativeMemory.allocate(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void testLeak() throws InterruptedException {
+        long leakCount = NativeMemory.getLeakCount();
+        long leakedBytes = NativeMemory.getLeakedBytes();
+        long usedBytes = NativeMemory.getUsedBytes();
+        NativeMemory.allocate(256);
+        for (int i = 0; i < 100 && NativeMemory.getLeakCount() == leakCount; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertEquals(leakCount + 1, NativeMemory.getLeakCount());
+        assertEquals(leakedBytes + 256, NativeMemory.getLeakedBytes());
+        // the leaked memory is not released
+        assertEquals(usedBytes + 256, NativeMemory.getUsedBytes());
+    }
+
+    private void assertOutOfBounds(Runnable runnable) {
+        try {
+            runnable.run();
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package io.github.microsphere.misc;
 
-import junit.framework.Assert;
-import junit.framework.TestCase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
 import sun.misc.Unsafe;
 
 /**
- * {@link UnsafeUtils} {@link TestCase}
+ * {@link UnsafeUtils} Test
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @version 1.0.0
@@ -17,10 +18,12 @@ public class UnsafeUtilTest {
 
     private Model model;
 
+    @Before
     public void setUp() throws Exception {
         model = new Model();
     }
 
+    @Test
     public void testStaticInit() throws Exception {
         Assert.assertNotNull(UnsafeUtils.unsafe);
         Unsafe unsafe = UnsafeUtils.unsafe;
@@ -48,6 +51,7 @@ public class UnsafeUtilTest {
 
     }
 
+    @Test
     public void testPutLongAndGetLong() throws Exception {
         String fieldName = "longValue";
         long value = Long.MAX_VALUE;
@@ -69,6 +73,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.longValue, returnValue);
     }
 
+    @Test
     public void testPutIntAndGetInt() throws Exception {
         String fieldName = "intValue";
         int value = 123;
@@ -90,6 +95,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.intValue, returnValue);
     }
 
+    @Test
     public void testPutShortAndGetShort() throws Exception {
         String fieldName = "shortValue";
         short value = Short.MAX_VALUE;
@@ -104,6 +110,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.shortValue, returnValue);
     }
 
+    @Test
     public void testPutByteAndGetByte() throws Exception {
         String fieldName = "byteValue";
         byte value = Byte.MAX_VALUE;
@@ -118,6 +125,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.byteValue, returnValue);
     }
 
+    @Test
     public void testPutBooleanAndGetBoolean() throws Exception {
         String fieldName = "booleanValue";
         boolean value = Boolean.TRUE;
@@ -132,6 +140,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.booleanValue, returnValue);
     }
 
+    @Test
     public void testPutDoubleAndGetDouble() throws Exception {
         String fieldName = "doubleValue";
         double value = Double.MAX_VALUE;
@@ -146,6 +155,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.doubleValue, returnValue);
     }
 
+    @Test
     public void testPutFloatAndGetFloat() throws Exception {
         String fieldName = "floatValue";
         float value = Float.MAX_VALUE;
@@ -160,6 +170,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.floatValue, returnValue);
     }
 
+    @Test
     public void testPutCharAndGetChar() throws Exception {
         String fieldName = "charValue";
         char value = '@';
@@ -175,6 +186,7 @@ public class UnsafeUtilTest {
 
     }
 
+    @Test
     public void testPutObjectAndGetObject() throws Exception {
         String fieldName = "stringValue";
         Object value = "Test text";
@@ -196,6 +208,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.stringValue, returnValue);
     }
 
+    @Test
     public void testPutLongIntoArrayVolatileAndGetLongFromArrayVolatile() throws Exception {
         String fieldName = "longArrayValue";
         long value = 123;
@@ -212,6 +225,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.longArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutIntIntoArrayVolatileAndGetIntFromArrayVolatile() throws Exception {
         String fieldName = "intArrayValue";
         int value = 123;
@@ -228,6 +242,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.intArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutShortIntoArrayVolatileAndGetShortFromArrayVolatile() throws Exception {
         String fieldName = "shortArrayValue";
         short value = 123;
@@ -238,6 +253,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.shortArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutByteIntoArrayVolatileAndGetByteFromArrayVolatile() throws Exception {
         String fieldName = "byteArrayValue";
         byte value = 123;
@@ -248,6 +264,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.byteArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutBooleanIntoArrayVolatileAndGetBooleanFromArrayVolatile() throws Exception {
         String fieldName = "booleanArrayValue";
         boolean value = Boolean.TRUE;
@@ -258,6 +275,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.booleanArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutDoubleIntoArrayVolatileAndGetDoubleFromArrayVolatile() throws Exception {
         String fieldName = "doubleArrayValue";
         double value = Double.MAX_VALUE;
@@ -268,6 +286,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.doubleArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutFloatIntoArrayVolatileAndGetFloatFromArrayVolatile() throws Exception {
         String fieldName = "floatArrayValue";
         float value = Float.MAX_VALUE;
@@ -278,6 +297,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.floatArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutCharIntoArrayVolatileAndGetCharFromArrayVolatile() throws Exception {
         String fieldName = "charArrayValue";
         char value = '@';
@@ -288,6 +308,7 @@ public class UnsafeUtilTest {
         Assert.assertEquals(model.charArrayValue[index], returnValue);
     }
 
+    @Test
     public void testPutObjectIntoArrayVolatileAndGetObjectFromArrayVolatile() throws Exception {
         String fieldName = "objectArrayValue";
         Object value = "Test";
@@ -304,9 +325,37 @@ public class UnsafeUtilTest {
 
     }
 
+    @Test
+    public void testOpaqueAndAcquireRelease() throws Exception {
+        UnsafeUtils.putIntOpaque(model, "intValue", 1);
+        Assert.assertEquals(1, UnsafeUtils.getIntOpaque(model, "intValue"));
+        UnsafeUtils.putIntRelease(model, "intValue", 2);
+        Assert.assertEquals(2, UnsafeUtils.getIntAcquire(model, "intValue"));
+        Assert.assertEquals(2, model.intValue);
+
+        UnsafeUtils.putLongOpaque(model, "longValue", 1L);
+        Assert.assertEquals(1L, UnsafeUtils.getLongOpaque(model, "longValue"));
+        UnsafeUtils.putLongRelease(model, "longValue", 2L);
+        Assert.assertEquals(2L, UnsafeUtils.getLongAcquire(model, "longValue"));
+        Assert.assertEquals(2L, model.longValue);
+
+        UnsafeUtils.putObjectOpaque(model, "stringValue", "a");
+        Assert.assertEquals("a", UnsafeUtils.getObjectOpaque(model, "stringValue"));
+        UnsafeUtils.putObjectRelease(model, "stringValue", "b");
+        Assert.assertEquals("b", UnsafeUtils.getObjectAcquire(model, "stringValue"));
+        Assert.assertEquals("b", model.stringValue);
+
+        try {
+            UnsafeUtils.getLongAcquire(model, "intValue");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     /**
      * 测试当存储更高范围类型的值，然后获取
      */
+    @Test
     public void tesPutOnInvalidTypeValue() throws Exception {
         String fieldName = "intValue";
         int value = Integer.MAX_VALUE;
@@ -344,6 +393,7 @@ public class UnsafeUtilTest {
     }
 
 
+    @Test
     public void testOnObjectIsNull() throws Exception {
         String fieldName = "aaaa";
         Object value = "value";
@@ -357,6 +407,7 @@ public class UnsafeUtilTest {
         Assert.assertNotNull(exception);
     }
 
+    @Test
     public void testOnIllegalArgumentException() throws Exception {
         String fieldName = "aaaa";
         Object value = "value";
@@ -370,6 +421,86 @@ public class UnsafeUtilTest {
         Assert.assertNotNull(exception);
     }
 
+    @Test
+    public void testGetOnInvalidType() throws Exception {
+        IllegalArgumentException exception = null;
+        try {
+            UnsafeUtils.getLong(model, "intValue");
+        } catch (IllegalArgumentException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+        Assert.assertTrue(exception.getMessage().contains("does not match"));
+
+        exception = null;
+        try {
+            UnsafeUtils.getObjectVolatile(model, "intValue");
+        } catch (IllegalArgumentException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+
+        exception = null;
+        try {
+            UnsafeUtils.putObject(model, "stringValue", 1);
+        } catch (IllegalArgumentException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+        Assert.assertTrue(exception.getMessage().contains("does not match"));
+    }
+
+    @Test
+    public void testPutOnFinalField() throws Exception {
+        UnsupportedOperationException exception = null;
+        try {
+            UnsafeUtils.putObject(model, "finalValue", "2");
+        } catch (UnsupportedOperationException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+        Assert.assertTrue(exception.getMessage().contains("finalValue"));
+        Assert.assertEquals("1", UnsafeUtils.getObject(model, "finalValue"));
+
+        exception = null;
+        try {
+            UnsafeUtils.putOrderedObject(model, "finalValue", "2");
+        } catch (UnsupportedOperationException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+        Assert.assertEquals("1", UnsafeUtils.getObjectVolatile(model, "finalValue"));
+    }
+
+    @Test
+    public void testOnArrayNotFound() throws Exception {
+        IllegalArgumentException exception = null;
+        try {
+            UnsafeUtils.getLongFromArrayVolatile(model, "aaaa", 1);
+        } catch (IllegalArgumentException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+
+        exception = null;
+        try {
+            UnsafeUtils.putIntIntoArrayVolatile(model, "longArrayValue", 1, 1);
+        } catch (IllegalArgumentException e) {
+            exception = e;
+        }
+        Assert.assertNotNull(exception);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedOffsetCache() throws Exception {
+        Assert.assertEquals(Model.class.getName() + "#offsetValue", UnsafeUtils.createOffsetCacheKey(Model.class, "offsetValue"));
+        Assert.assertNull(UnsafeUtils.getOffsetFromCache(Model.class, "offsetValue"));
+        UnsafeUtils.putOffsetFromCache(Model.class, "offsetValue", 0L);
+        Assert.assertEquals(Long.valueOf(UnsafeUtils.fieldRef(Model.class, "offsetValue").getOffset()),
+                UnsafeUtils.getOffsetFromCache(Model.class, "offsetValue"));
+    }
+
     private static class Model {
         private long longValue;
         private int intValue;
@@ -380,6 +511,8 @@ public class UnsafeUtilTest {
         private double doubleValue;
         private char charValue;
         private String stringValue;
+        private int offsetValue;
+        private final String finalValue = String.valueOf(1);
         private long[] longArrayValue = new long[10];
         private int[] intArrayValue = new int[10];
         private short[] shortArrayValue = new short[10];
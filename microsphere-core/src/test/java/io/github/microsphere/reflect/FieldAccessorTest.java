@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link FieldAccessor} Test
+ *
+ * @since 1.0.0
+ */
+public class FieldAccessorTest {
+
+    private static final String CONSTANT = "constant";
+
+    private static long counter = 1L;
+
+    @Test
+    public void testFieldAccessor() throws Exception {
+        // backed by Unsafe, or VarHandle on Java 9+
+        assertAccessors(FieldAccessor::of);
+    }
+
+    @Test
+    public void testUnsafeFieldAccessor() throws Exception {
+        assertTrue(UnsafeFieldAccessor.create(Data.class.getDeclaredField("i")) instanceof UnsafeFieldAccessor);
+        assertAccessors(UnsafeFieldAccessor::create);
+    }
+
+    @Test
+    public void testMethodHandleFieldAccessor() throws Exception {
+        assertAccessors(field -> {
+            field.setAccessible(true);
+            try {
+                return MethodHandleFieldAccessor.create(field);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        });
+    }
+
+    private void assertAccessors(Function<Field, FieldAccessor> factory) throws Exception {
+        Data data = new Data();
+
+        FieldAccessor accessor = factory.apply(Data.class.getDeclaredField("z"));
+        accessor.setBoolean(data, true);
+        assertTrue(accessor.getBoolean(data));
+        assertEquals(Boolean.TRUE, accessor.get(data));
+        assertTypeMismatch(() -> accessor.getInt(data));
+
+        FieldAccessor b = factory.apply(Data.class.getDeclaredField("b"));
+        b.setByte(data, (byte) -2);
+        assertEquals(-2, b.getByte(data));
+        assertEquals(-2, b.getShort(data));
+        assertEquals(-2, b.getInt(data));
+        assertEquals(-2L, b.getLong(data));
+        assertEquals(-2d, b.getDouble(data), 0d);
+        assertTypeMismatch(() -> b.getChar(data));
+        assertTypeMismatch(() -> b.setInt(data, 1));
+
+        FieldAccessor c = factory.apply(Data.class.getDeclaredField("c"));
+        c.set(data, 'x');
+        assertEquals('x', c.getChar(data));
+        assertEquals('x', c.getInt(data));
+        assertTypeMismatch(() -> c.getShort(data));
+        assertTypeMismatch(() -> c.setByte(data, (byte) 1));
+
+        FieldAccessor s = factory.apply(Data.class.getDeclaredField("s"));
+        s.setByte(data, (byte) 3);
+        assertEquals(3, s.getShort(data));
+        s.set(data, (short) 4);
+        assertEquals(Short.valueOf((short) 4), s.get(data));
+
+        FieldAccessor i = factory.apply(Data.class.getDeclaredField("i"));
+        i.setInt(data, 42);
+        assertEquals(42, data.i);
+        assertEquals(42, i.getInt(data));
+        assertEquals(42L, i.getLong(data));
+        assertEquals(42f, i.getFloat(data), 0f);
+        i.setChar(data, 'a');
+        assertEquals('a', i.getInt(data));
+        assertTypeMismatch(() -> i.setLong(data, 1L));
+        assertTypeMismatch(() -> i.set(data, "1"));
+        assertTypeMismatch(() -> i.set(data, null));
+
+        FieldAccessor j = factory.apply(Data.class.getDeclaredField("j"));
+        j.setInt(data, 7);
+        assertEquals(7L, j.getLong(data));
+        j.set(data, Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, data.j);
+        assertTypeMismatch(() -> j.getInt(data));
+
+        FieldAccessor f = factory.apply(Data.class.getDeclaredField("f"));
+        f.setLong(data, 5L);
+        assertEquals(5f, f.getFloat(data), 0f);
+        assertEquals(5d, f.getDouble(data), 0d);
+
+        FieldAccessor d = factory.apply(Data.class.getDeclaredField("d"));
+        d.setFloat(data, 1.5f);
+        assertEquals(1.5d, d.getDouble(data), 0d);
+        assertTypeMismatch(() -> d.getFloat(data));
+
+        FieldAccessor value = factory.apply(Data.class.getDeclaredField("value"));
+        value.set(data, "a");
+        assertEquals("a", value.get(data));
+        value.set(data, null);
+        assertNull(value.get(data));
+        assertTypeMismatch(() -> value.set(data, 1));
+        assertTypeMismatch(() -> value.getInt(data));
+
+        FieldAccessor id = factory.apply(Data.class.getDeclaredField("id"));
+        assertTrue(id.isWritable());
+        id.setInt(data, 9);
+        assertEquals(9, id.getInt(data));
+
+        try {
+            i.getInt(null);
+            fail();
+        } catch (NullPointerException e) {
+        }
+
+        try {
+            i.getInt("");
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+
+        FieldAccessor counter = factory.apply(FieldAccessorTest.class.getDeclaredField("counter"));
+        counter.setLong(null, counter.getLong(null) + 1);
+        assertEquals(2L, FieldAccessorTest.counter);
+        counter.setLong(this, 1L);
+        assertEquals(1L, FieldAccessorTest.counter);
+
+        FieldAccessor constant = factory.apply(FieldAccessorTest.class.getDeclaredField("CONSTANT"));
+        assertSame(CONSTANT, constant.get(null));
+        assertFalse(constant.isWritable());
+        try {
+            constant.set(null, "changed");
+            fail();
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    private void assertTypeMismatch(Runnable runnable) {
+        try {
+            runnable.run();
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("does not match"));
+        }
+    }
+
+    private static class Data {
+
+        private boolean z;
+
+        private byte b;
+
+        private char c;
+
+        private short s;
+
+        private int i;
+
+        private long j;
+
+        private float f;
+
+        private double d;
+
+        private String value;
+
+        private volatile int id;
+    }
+}
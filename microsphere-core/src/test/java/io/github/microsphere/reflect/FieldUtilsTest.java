@@ -19,13 +19,17 @@ package io.github.microsphere.reflect;
 import org.junit.Test;
 
 import static io.github.microsphere.reflect.FieldUtils.findField;
+import static io.github.microsphere.reflect.FieldUtils.getFieldAccessor;
 import static io.github.microsphere.reflect.FieldUtils.getFieldValue;
 import static io.github.microsphere.reflect.FieldUtils.getStaticFieldValue;
 import static io.github.microsphere.reflect.FieldUtils.setFieldValue;
 import static io.github.microsphere.reflect.FieldUtils.setStaticFieldValue;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * {@link FieldUtils} Test
@@ -35,6 +39,8 @@ import static org.junit.Assert.assertSame;
  */
 public class FieldUtilsTest {
 
+    private static final String CONSTANT = "constant";
+
     private static String value = "1";
 
     @Test
@@ -47,10 +53,27 @@ public class FieldUtilsTest {
         assertEquals(int.class, findField(klass, "count").getType());
     }
 
+    @Test
+    public void testGetFieldAccessor() {
+        FieldAccessor fieldAccessor = getFieldAccessor(StringBuilder.class, "count");
+        assertSame(fieldAccessor, getFieldAccessor(StringBuilder.class, "count"));
+        assertEquals(int.class, fieldAccessor.getType());
+        assertEquals(5, fieldAccessor.getInt(new StringBuilder("Hello")));
+        assertNull(getFieldAccessor(StringBuilder.class, "notFound"));
+        assertNull(getFieldAccessor(Runnable.class, "notFound"));
+    }
+
     @Test
     public void testGetFieldValue() {
         String value = "Hello,World";
         assertArrayEquals(value.toCharArray(), getFieldValue(value, "value", char[].class));
+
+        Integer number = 1;
+        assertEquals(number, getFieldValue(number, "value"));
+        assertEquals(number, getFieldValue(number, "value", int.class));
+        assertNull(getFieldValue(number, "value", long.class));
+        assertNull(getFieldValue(number, "notFound"));
+        assertEquals("default", getFieldValue(number, "notFound", "default"));
     }
 
     @Test
@@ -61,9 +84,10 @@ public class FieldUtilsTest {
 
     @Test
     public void testSetFieldValue() {
-        Integer value = 1;
-        setFieldValue(value, "value", 2);
-        assertEquals(value.intValue(), 2);
+        // the value is out of the Integer cache, or the cached one shared by the JVM would be modified
+        Integer value = 1000;
+        setFieldValue(value, "value", 2000);
+        assertEquals(value.intValue(), 2000);
     }
 
     @Test
@@ -71,4 +95,25 @@ public class FieldUtilsTest {
         setStaticFieldValue(getClass(), "value", "abc");
         assertEquals("abc", value);
     }
+
+    @Test(expected = NullPointerException.class)
+    public void testSetFieldValueOnNotFound() {
+        setFieldValue(1, "notFound", 2);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSetStaticFieldValueOnNotFound() {
+        setStaticFieldValue(getClass(), "notFound", "abc");
+    }
+
+    @Test
+    public void testSetStaticFieldValueOnFinal() {
+        try {
+            setStaticFieldValue(getClass(), "CONSTANT", "abc");
+            fail();
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof IllegalAccessException);
+        }
+        assertEquals("constant", getStaticFieldValue(getClass(), "CONSTANT"));
+    }
 }
@@ -18,10 +18,22 @@ package io.github.microsphere.reflect;
 
 import org.junit.Test;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 
+import static io.github.microsphere.reflect.MethodUtils.findMethod;
+import static io.github.microsphere.reflect.MethodUtils.getMethodInvoker;
 import static io.github.microsphere.reflect.MethodUtils.getSignature;
+import static io.github.microsphere.reflect.MethodUtils.invokeMethod;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * {@link MethodUtils} Test
@@ -51,4 +63,155 @@ public class MethodUtilsTest {
         assertEquals("io.github.microsphere.reflect.MethodUtils#findMethod(java.lang.Class,java.lang.String,java.lang.Class[])", getSignature(method));
 
     }
+
+    /**
+     * Test {@link MethodUtils#findMethod(Class, String, Class[])}
+     */
+    @Test
+    public void testFindMethod() {
+        Method method = findMethod(String.class, "indexOf", int.class, int.class);
+        assertEquals(method, findMethod(String.class, "indexOf", int.class, int.class));
+        assertEquals("indexOf", method.getName());
+
+        // the copy of cached method is returned
+        method.setAccessible(true);
+        assertNotSame(method, findMethod(String.class, "indexOf", int.class, int.class));
+        assertFalse(findMethod(String.class, "indexOf", int.class, int.class).isAccessible());
+
+        Class<?>[] parameterTypes = {int.class};
+        method = findMethod(String.class, "charAt", parameterTypes);
+        parameterTypes[0] = long.class;
+        assertEquals(method, findMethod(String.class, "charAt", int.class));
+        assertNull(findMethod(String.class, "charAt", parameterTypes));
+
+        assertNull(findMethod(String.class, "notFound"));
+        assertNull(findMethod(null, "charAt", int.class));
+        assertNull(findMethod(String.class, null));
+    }
+
+    /**
+     * Test {@link MethodUtils#getMethodInvoker(Class, String, Class[])}
+     */
+    @Test
+    public void testGetMethodInvoker() {
+        MethodInvoker invoker = getMethodInvoker(Data.class, "add", int.class, int.class);
+        assertSame(invoker, getMethodInvoker(Data.class, "add", int.class, int.class));
+        // the values are out of the Integer cache, which may be modified by the other tests
+        assertEquals(Integer.valueOf(3000), invoker.<Integer>invoke(null, 1000, 2000));
+        // the cached method is not made accessible
+        assertFalse(findMethod(Data.class, "add", int.class, int.class).isAccessible());
+
+        Data data = new Data();
+        invoker = getMethodInvoker(Data.class, "setValue", String.class);
+        assertNull(invoker.invoke(data, "a"));
+        assertEquals("a", getMethodInvoker(Data.class, "getValue").invoke(data));
+        assertEquals("a", getMethodInvoker(Data.class, "getValue").invoke(data, (Object[]) null));
+        assertEquals("a-1-2-3-4-5", getMethodInvoker(Data.class, "join", Object.class, Object.class, Object.class,
+                Object.class, Object.class).invoke(data, 1, 2, 3, 4, 5));
+
+        assertNull(getMethodInvoker(Data.class, "notFound"));
+
+        // the trailing array of varargs method is passed as is
+        MethodInvoker varargsInvoker = getMethodInvoker(Data.class, "concat", Object[].class);
+        Object[] values = {1, 2, 3};
+        assertEquals("a:3", varargsInvoker.invoke(data, new Object[]{values}));
+        try {
+            Object result = varargsInvoker.getMethodHandle().invokeExact((Object) data, (Object) values);
+            assertEquals("a:3", result);
+        } catch (Throwable e) {
+            fail(e.getMessage());
+        }
+        assertEquals(Integer.valueOf(3), getMethodInvoker(Data.class, "count", Object[].class)
+                .invoke(null, new Object[]{values}));
+
+        try {
+            invoker.invoke(data);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("setValue"));
+        }
+
+        try {
+            getMethodInvoker(Data.class, "fail", String.class).invoke(data, "state");
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("state", e.getMessage());
+        }
+
+        try {
+            getMethodInvoker(Data.class, "fail").invoke(data);
+            fail();
+        } catch (UndeclaredThrowableException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    /**
+     * Test {@link MethodUtils#invokeMethod(Object, String, Object...)}
+     */
+    @Test
+    public void testInvokeMethod() {
+        Data data = new Data();
+        invokeMethod(data, "setValue", "b");
+        assertEquals("b", invokeMethod(data, "getValue"));
+
+        try {
+            invokeMethod(data, "notFound");
+            fail();
+        } catch (IllegalStateException e) {
+        }
+
+        try {
+            invokeMethod(data, "fail");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(((InvocationTargetException) e.getCause()).getTargetException() instanceof IOException);
+        }
+
+        try {
+            invokeMethod(data, "fail", "state");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(((InvocationTargetException) e.getCause()).getTargetException() instanceof IllegalStateException);
+        }
+    }
+
+    private static class Data {
+
+        private String value;
+
+        private static int add(int a, int b) {
+            return a + b;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private void setValue(String value) {
+            this.value = value;
+        }
+
+        private String concat(Object... values) {
+            return value + ":" + values.length;
+        }
+
+        private static int count(Object... values) {
+            return values.length;
+        }
+
+        private String join(Object a, Object b, Object c, Object d, Object e) {
+            return value + "-" + a + "-" + b + "-" + c + "-" + d + "-" + e;
+        }
+
+        private void fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        private void fail() throws IOException {
+            throw new IOException();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.reflect;
+
+import io.github.microsphere.convert.Converter;
+import io.github.microsphere.convert.StringConverter;
+import io.github.microsphere.convert.StringToIntegerConverter;
+import org.junit.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+
+import static io.github.microsphere.reflect.TypeUtils.findActualTypeArgument;
+import static io.github.microsphere.reflect.TypeUtils.findActualTypeArguments;
+import static io.github.microsphere.reflect.TypeUtils.getAllGenericInterfaces;
+import static io.github.microsphere.reflect.TypeUtils.getAllGenericSuperClasses;
+import static io.github.microsphere.reflect.TypeUtils.getAllGenericTypes;
+import static io.github.microsphere.reflect.TypeUtils.getRawClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link TypeUtils} Test
+ *
+ * @since 1.0.0
+ */
+public class TypeUtilsTest {
+
+    @Test
+    public void testFindActualTypeArguments() {
+        List<Class<?>> actualTypeArguments = findActualTypeArguments(StringToIntegerConverter.class, Converter.class);
+        assertEquals(String.class, actualTypeArguments.get(0));
+        assertEquals(Integer.class, actualTypeArguments.get(1));
+        assertSame(actualTypeArguments, findActualTypeArguments(StringToIntegerConverter.class, Converter.class));
+
+        assertEquals(Integer.class, findActualTypeArgument(StringToIntegerConverter.class, StringConverter.class, 0));
+        assertTrue(findActualTypeArguments(String.class, Converter.class).isEmpty());
+        assertTrue(findActualTypeArguments(null, Converter.class).isEmpty());
+    }
+
+    @Test
+    public void testGetAllGenericTypes() {
+        List<ParameterizedType> genericTypes = getAllGenericTypes(StringToIntegerConverter.class);
+        assertSame(genericTypes, getAllGenericTypes(StringToIntegerConverter.class));
+        assertEquals(getAllGenericSuperClasses(StringToIntegerConverter.class).size()
+                + getAllGenericInterfaces(StringToIntegerConverter.class).size(), genericTypes.size());
+
+        List<ParameterizedType> converterTypes = getAllGenericTypes(StringToIntegerConverter.class,
+                t -> Converter.class.equals(getRawClass(t)));
+        assertEquals(1, converterTypes.size());
+    }
+
+    @Test
+    public void testGetAllGenericSuperClasses() {
+        assertTrue(getAllGenericSuperClasses(Converter.class).isEmpty());
+        assertSame(getAllGenericSuperClasses(StringToIntegerConverter.class),
+                getAllGenericSuperClasses(StringToIntegerConverter.class));
+    }
+
+    @Test
+    public void testGetAllGenericInterfaces() {
+        List<ParameterizedType> genericInterfaces = getAllGenericInterfaces(StringToIntegerConverter.class);
+        assertSame(genericInterfaces, getAllGenericInterfaces(StringToIntegerConverter.class));
+        assertTrue(genericInterfaces.stream().anyMatch(t -> StringConverter.class.equals(getRawClass(t))));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link AsciiSequence} Test
+ *
+ * @since 1.0.0
+ */
+public class AsciiSequenceTest {
+
+    private static final byte[] BYTES = "[12345]".getBytes(US_ASCII);
+
+    @Test
+    public void testArray() {
+        AsciiSequence sequence = AsciiSequence.of(BYTES, 1, 5);
+        assertEquals(5, sequence.length());
+        assertEquals('1', sequence.charAt(0));
+        assertEquals("12345", sequence.toString());
+        assertEquals("234", sequence.subSequence(1, 4).toString());
+        assertEquals(12345, ParseUtils.parseInt(sequence, 0, sequence.length()));
+    }
+
+    @Test
+    public void testByteBuffer() {
+        ByteBuffer heap = ByteBuffer.wrap(BYTES);
+        heap.position(1).limit(6);
+        ByteBuffer direct = ByteBuffer.allocateDirect(BYTES.length);
+        direct.put(BYTES).position(1).limit(6);
+        for (ByteBuffer buffer : new ByteBuffer[]{heap.slice(), direct, direct.asReadOnlyBuffer()}) {
+            int position = buffer.position();
+            AsciiSequence sequence = AsciiSequence.of(buffer);
+            assertEquals("12345", sequence.toString());
+            assertEquals("45", sequence.subSequence(3, 5).toString());
+            assertEquals(position, buffer.position());
+        }
+    }
+
+    @Test
+    public void testNonAscii() {
+        AsciiSequence sequence = AsciiSequence.of(new byte[]{(byte) 0xE4});
+        assertEquals('\u00E4', sequence.charAt(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        AsciiSequence.of(BYTES, 5, 3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCharAtOutOfBounds() {
+        AsciiSequence.of(BYTES, 1, 2).charAt(2);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import static io.github.microsphere.text.DateTimeParseUtils.getFormatter;
+import static io.github.microsphere.text.DateTimeParseUtils.parseEpochMillis;
+import static io.github.microsphere.text.DateTimeParseUtils.parseInstant;
+import static io.github.microsphere.text.DateTimeParseUtils.parseLocalDate;
+import static io.github.microsphere.text.DateTimeParseUtils.parseLocalDateTime;
+import static io.github.microsphere.text.DateTimeParseUtils.parseOffsetDateTime;
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link DateTimeParseUtils} Test
+ *
+ * @since 1.0.0
+ */
+public class DateTimeParseUtilsTest {
+
+    @Test
+    public void testParseLocalDate() {
+        String[] values = {"2007-12-03", "2024-02-29", "0000-01-01", "+12345-01-01"};
+        for (String value : values) {
+            assertEquals(LocalDate.parse(value), parseLocalDate(wrap(value), 1, value.length() + 1));
+        }
+        assertDateTimeParseException(() -> parseLocalDate("2023-02-29", 0, 10));
+        assertDateTimeParseException(() -> parseLocalDate("2023-13-01", 0, 10));
+        assertDateTimeParseException(() -> parseLocalDate("2023/01/01", 0, 10));
+    }
+
+    @Test
+    public void testParseLocalDateTime() {
+        String[] values = {"2007-12-03T10:15", "2007-12-03T10:15:30", "2007-12-03t10:15:30.1",
+                "2007-12-03T23:59:59.999999999"};
+        for (String value : values) {
+            assertEquals(LocalDateTime.parse(value), parseLocalDateTime(wrap(value), 1, value.length() + 1));
+        }
+        assertDateTimeParseException(() -> parseLocalDateTime("2007-12-03T24:00", 0, 16));
+        assertDateTimeParseException(() -> parseLocalDateTime("2007-12-03T10:15:3", 0, 18));
+    }
+
+    @Test
+    public void testParseOffsetDateTime() {
+        String[] values = {"2007-12-03T10:15Z", "2007-12-03T10:15:30+01:00", "2007-12-03T10:15:30.5-09:30",
+                "2007-12-03T10:15:30+01:00:30"};
+        for (String value : values) {
+            assertEquals(OffsetDateTime.parse(value), parseOffsetDateTime(wrap(value), 1, value.length() + 1));
+        }
+        assertDateTimeParseException(() -> parseOffsetDateTime("2007-12-03T10:15:30+19:00", 0, 25));
+        assertDateTimeParseException(() -> parseOffsetDateTime("2007-12-03T10:15:30", 0, 19));
+    }
+
+    @Test
+    public void testParseInstant() {
+        String[] values = {"2007-12-03T10:15:30Z", "1969-12-31T23:59:59.999Z", "1970-01-01T00:00:00.000000001Z",
+                "2007-12-03T23:59:60Z"};
+        for (String value : values) {
+            Instant instant = Instant.parse(value);
+            assertEquals(instant, parseInstant(wrap(value), 1, value.length() + 1));
+            assertEquals(instant.toEpochMilli(), parseEpochMillis(wrap(value), 1, value.length() + 1));
+        }
+        // the offsets are parsed as ISO_INSTANT of the running JDK does, which rejects them before Java 9
+        for (String value : new String[]{"2007-12-03T10:15:30+01:00", "2007-12-03T10:15:30+01:00:30"}) {
+            Instant instant;
+            try {
+                instant = ISO_INSTANT.parse(value, Instant::from);
+            } catch (DateTimeParseException e) {
+                assertDateTimeParseException(() -> parseInstant(value, 0, value.length()));
+                assertDateTimeParseException(() -> parseEpochMillis(value, 0, value.length()));
+                continue;
+            }
+            assertEquals(instant, parseInstant(value, 0, value.length()));
+            assertEquals(instant.toEpochMilli(), parseEpochMillis(value, 0, value.length()));
+        }
+        assertDateTimeParseException(() -> parseInstant("2007-12-03T10:15Z", 0, 17));
+        assertDateTimeParseException(() -> parseEpochMillis("2007-12-03", 0, 10));
+    }
+
+    @Test
+    public void testGetFormatter() {
+        assertSame(getFormatter("yyyyMMdd"), getFormatter("yyyyMMdd"));
+        try {
+            getFormatter("yyyy-MM-ddQQQQQQ");
+            fail("IllegalArgumentException is expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static String wrap(String value) {
+        return "[" + value + "]";
+    }
+
+    private void assertDateTimeParseException(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("DateTimeParseException is expected");
+        } catch (DateTimeParseException expected) {
+        }
+    }
+}
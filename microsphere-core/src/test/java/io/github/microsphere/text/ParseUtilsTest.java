@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static io.github.microsphere.text.ParseUtils.parseBoolean;
+import static io.github.microsphere.text.ParseUtils.parseDouble;
+import static io.github.microsphere.text.ParseUtils.parseInt;
+import static io.github.microsphere.text.ParseUtils.parseLong;
+import static io.github.microsphere.text.ParseUtils.parseUUID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link ParseUtils} Test
+ *
+ * @since 1.0.0
+ */
+public class ParseUtilsTest {
+
+    @Test
+    public void testParseInt() {
+        assertEquals(0, parseInt("0", 0, 1));
+        assertEquals(-123, parseInt("x-123x", 1, 5));
+        assertEquals(Integer.MAX_VALUE, parseInt("+2147483647", 0, 11));
+        assertEquals(Integer.MIN_VALUE, parseInt("-2147483648", 0, 11));
+        assertNumberFormatException(() -> parseInt("2147483648", 0, 10));
+        assertNumberFormatException(() -> parseInt("-", 0, 1));
+        assertNumberFormatException(() -> parseInt("1a", 0, 2));
+        assertNumberFormatException(() -> parseInt("", 0, 0));
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(Long.MAX_VALUE, parseLong("9223372036854775807", 0, 19));
+        assertEquals(Long.MIN_VALUE, parseLong("-9223372036854775808", 0, 20));
+        assertNumberFormatException(() -> parseLong("9223372036854775808", 0, 19));
+    }
+
+    @Test
+    public void testParseDouble() {
+        String[] values = {"0", "-0", "1.5", "-.5", "5.", "0.1", "0.3", "1e22", "1e23", "1E-5", "00001.2500e+01",
+                "9007199254740993", "4.9e-324", "1.7976931348623157e308", "NaN", "-Infinity", " 1 ", "1.5f"};
+        for (String value : values) {
+            assertEquals(value, Double.doubleToRawLongBits(Double.parseDouble(value)),
+                    Double.doubleToRawLongBits(parseDouble(value, 0, value.length())));
+        }
+        assertNumberFormatException(() -> parseDouble("1e", 0, 2));
+        assertNumberFormatException(() -> parseDouble("1e+", 0, 3));
+        assertNumberFormatException(() -> parseDouble(".", 0, 1));
+        assertNumberFormatException(() -> parseDouble("1.2.3", 0, 5));
+    }
+
+    @Test
+    public void testParseBoolean() {
+        assertTrue(parseBoolean("xTrUex", 1, 5));
+        assertFalse(parseBoolean("true1", 0, 5));
+        assertFalse(parseBoolean("yes", 0, 3));
+        assertFalse(parseBoolean(null, 0, 0));
+    }
+
+    @Test
+    public void testParseUUID() {
+        UUID uuid = UUID.randomUUID();
+        String value = "[" + uuid + "]";
+        assertEquals(uuid, parseUUID(value, 1, value.length() - 1));
+        assertEquals(uuid, parseUUID(uuid.toString().toUpperCase(), 0, 36));
+        assertEquals(UUID.fromString("1-2-3-4-5"), parseUUID("1-2-3-4-5", 0, 9));
+        try {
+            parseUUID("g" + uuid.toString().substring(1), 0, 36);
+            fail("IllegalArgumentException is expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private void assertNumberFormatException(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("NumberFormatException is expected");
+        } catch (NumberFormatException expected) {
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.text;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@link Tokenizer} Test
+ *
+ * @since 1.0.0
+ */
+public class TokenizerTest {
+
+    private final Tokenizer tokenizer = new Tokenizer(",;", '"', '\\');
+
+    @Test
+    public void testDefault() {
+        assertArrayEquals(new String[]{"a", "b", "c"}, Tokenizer.DEFAULT.split("a,b,,c,"));
+        assertArrayEquals(new String[0], Tokenizer.DEFAULT.split(",,"));
+        assertArrayEquals(new String[0], Tokenizer.DEFAULT.split(null));
+        assertEquals(3, Tokenizer.DEFAULT.count(",a,b,c"));
+    }
+
+    @Test
+    public void testTokenize() {
+        String source = "a,b;c";
+        List<CharSequence> sources = new ArrayList<>();
+        assertEquals(3, tokenizer.tokenize(source, (s, start, end) -> sources.add(s)));
+        // the plain tokens are the ranges of source
+        sources.forEach(s -> assertSame(source, s));
+    }
+
+    @Test
+    public void testQuoteAndEscape() {
+        assertSplit("\"a,b\",c", "a,b", "c");
+        assertSplit("a\\,b;c", "a,b", "c");
+        assertSplit("\"\",x", "", "x");
+        assertSplit("a\"\"b", "ab");
+        assertSplit("\"q\\\"q\"", "q\"q");
+        assertSplit("\"unterminated,x", "unterminated,x");
+        assertSplit("end\\", "end\\");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalDelimiters() {
+        new Tokenizer(",\"", '"', Tokenizer.NONE);
+    }
+
+    private void assertSplit(String source, String... tokens) {
+        assertEquals(asList(tokens), asList(tokenizer.split(source)));
+        assertEquals(tokens.length, tokenizer.count(source));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.micrometer.instrument.binder.event;
+
+import io.github.microsphere.event.AbstractEventDispatcher;
+import io.github.microsphere.event.Event;
+import io.github.microsphere.event.EventDispatchObserver;
+import io.github.microsphere.event.EventListener;
+import io.github.microsphere.micrometer.instrument.binder.AbstractMeterBinder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Micrometer Metrics for {@link AbstractEventDispatcher}, records the pending and in-flight events, the delay from
+ * dispatching to execution, and the invocations, latency and exceptions per {@link EventListener}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AbstractEventDispatcher
+ * @see EventDispatchObserver
+ * @since 1.0.0
+ */
+public class EventDispatcherMetrics extends AbstractMeterBinder implements EventDispatchObserver {
+
+    private final AbstractEventDispatcher dispatcher;
+
+    private final AtomicInteger inFlightEvents = new AtomicInteger();
+
+    private final ConcurrentMap<EventListener<?>, ListenerMeters> listenerMetersCache = new ConcurrentHashMap<>();
+
+    private MeterRegistry registry;
+
+    private Iterable<Tag> dispatcherTags;
+
+    private Timer delayTimer;
+
+    public EventDispatcherMetrics(AbstractEventDispatcher dispatcher) {
+        this(dispatcher, emptyList());
+    }
+
+    public EventDispatcherMetrics(AbstractEventDispatcher dispatcher, Iterable<Tag> tags) {
+        super(tags);
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    protected boolean supports(MeterRegistry registry) {
+        return dispatcher != null;
+    }
+
+    @Override
+    protected void doBindTo(MeterRegistry registry) throws Throwable {
+        this.registry = registry;
+        this.dispatcherTags = combine("dispatcher", dispatcher.getClass().getName());
+
+        Gauge.builder("event.dispatcher.pending", dispatcher, AbstractEventDispatcher::getPendingEvents)
+                .tags(dispatcherTags)
+                .description("The number of dispatched events waiting for the execution")
+                .strongReference(true)
+                .register(registry);
+
+        Gauge.builder("event.dispatcher.in-flight", inFlightEvents, AtomicInteger::get)
+                .tags(dispatcherTags)
+                .description("The number of events being executed")
+                .strongReference(true)
+                .register(registry);
+
+        this.delayTimer = Timer.builder("event.dispatcher.delay")
+                .tags(dispatcherTags)
+                .description("The delay from dispatching to execution")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        dispatcher.setEventDispatchObserver(this);
+    }
+
+    @Override
+    public void onExecute(Event event, long delayNanos) {
+        inFlightEvents.incrementAndGet();
+        delayTimer.record(delayNanos, NANOSECONDS);
+    }
+
+    @Override
+    public void onListenerInvoked(EventListener<?> listener, Event event, long durationNanos, Throwable failure) {
+        ListenerMeters listenerMeters = listenerMetersCache.computeIfAbsent(listener, this::createListenerMeters);
+        listenerMeters.timer.record(durationNanos, NANOSECONDS);
+        if (failure != null) {
+            listenerMeters.exceptions.increment();
+        }
+    }
+
+    @Override
+    public void onComplete(Event event) {
+        inFlightEvents.decrementAndGet();
+    }
+
+    /**
+     * @return the instrumented {@link AbstractEventDispatcher}
+     */
+    public AbstractEventDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    private ListenerMeters createListenerMeters(EventListener<?> listener) {
+        Iterable<Tag> tags = Tags.concat(dispatcherTags, "listener", listener.getClass().getName());
+
+        Timer timer = Timer.builder("event.listener.duration")
+                .tags(tags)
+                .description("The invocations and latency of event listener")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        Counter exceptions = Counter.builder("event.listener.exceptions")
+                .tags(tags)
+                .description("The exceptions thrown by event listener")
+                .register(registry);
+
+        return new ListenerMeters(timer, exceptions);
+    }
+
+    private static class ListenerMeters {
+
+        private final Timer timer;
+
+        private final Counter exceptions;
+
+        ListenerMeters(Timer timer, Counter exceptions) {
+            this.timer = timer;
+            this.exceptions = exceptions;
+        }
+    }
+}
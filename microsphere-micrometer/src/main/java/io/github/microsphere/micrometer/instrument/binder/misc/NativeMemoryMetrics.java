@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.micrometer.instrument.binder.misc;
+
+import io.github.microsphere.micrometer.instrument.binder.AbstractMeterBinder;
+import io.github.microsphere.misc.NativeMemory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Micrometer Metrics for {@link NativeMemory}, records the off-heap memory in use, the allocations, the releases and
+ * the leaks.
+ *
+ * @see NativeMemory
+ * @since 1.0.0
+ */
+public class NativeMemoryMetrics extends AbstractMeterBinder {
+
+    public NativeMemoryMetrics() {
+        this(emptyList());
+    }
+
+    public NativeMemoryMetrics(Iterable<Tag> tags) {
+        super(tags);
+    }
+
+    @Override
+    protected boolean supports(MeterRegistry registry) {
+        return true;
+    }
+
+    @Override
+    protected void doBindTo(MeterRegistry registry) throws Throwable {
+
+        Gauge.builder("native.memory.used", NativeMemory.class, type -> NativeMemory.getUsedBytes())
+                .tags(tags)
+                .description("The off-heap memory in use, including the leaked one")
+                .baseUnit(BaseUnits.BYTES)
+                .strongReference(true)
+                .register(registry);
+
+        FunctionCounter.builder("native.memory.allocations", NativeMemory.class, type -> NativeMemory.getAllocationCount())
+                .tags(tags)
+                .description("The memory blocks allocated")
+                .register(registry);
+
+        FunctionCounter.builder("native.memory.releases", NativeMemory.class, type -> NativeMemory.getReleaseCount())
+                .tags(tags)
+                .description("The memory blocks released by closing")
+                .register(registry);
+
+        FunctionCounter.builder("native.memory.leaks", NativeMemory.class, type -> NativeMemory.getLeakCount())
+                .tags(tags)
+                .description("The memory blocks leaked, whose owners were garbage collected without being closed")
+                .register(registry);
+
+        FunctionCounter.builder("native.memory.leaked", NativeMemory.class, type -> NativeMemory.getLeakedBytes())
+                .tags(tags)
+                .description("The memory leaked, whose owners were garbage collected without being closed")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.micrometer.instrument.binder.event;
+
+import io.github.microsphere.event.AbstractEventDispatcher;
+import io.github.microsphere.event.Event;
+import io.github.microsphere.event.EventListener;
+import io.github.microsphere.micrometer.instrument.binder.AbstractMetricsTest;
+import io.micrometer.core.instrument.Timer;
+import org.junit.Test;
+
+import static io.github.microsphere.event.EventDispatcher.DIRECT_EXECUTOR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@link EventDispatcherMetrics} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @since 1.0.0
+ */
+public class EventDispatcherMetricsTest extends AbstractMetricsTest<EventDispatcherMetrics> {
+
+    @Override
+    protected EventDispatcherMetrics createMetrics() {
+        AbstractEventDispatcher dispatcher = new AbstractEventDispatcher(DIRECT_EXECUTOR) {
+            @Override
+            protected void loadEventListenerInstances() {
+            }
+        };
+        return new EventDispatcherMetrics(dispatcher);
+    }
+
+    @Test
+    public void test() {
+        AbstractEventDispatcher dispatcher = metrics.getDispatcher();
+        assertSame(metrics, dispatcher.getEventDispatchObserver());
+
+        TestEventListener listener = new TestEventListener();
+        dispatcher.addEventListener(listener);
+        dispatcher.dispatch(new TestEvent("Hello,World"));
+        dispatcher.dispatch(new TestEvent("Hello,World"));
+
+        Timer timer = registry.find("event.listener.duration")
+                .tag("listener", TestEventListener.class.getName())
+                .timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+        assertEquals(2, registry.find("event.dispatcher.delay").timer().count());
+        assertEquals(0, registry.find("event.dispatcher.in-flight").gauge().value(), 0);
+        assertEquals(0, registry.find("event.dispatcher.pending").gauge().value(), 0);
+    }
+
+    static class TestEvent extends Event {
+
+        TestEvent(Object source) {
+            super(source);
+        }
+    }
+
+    static class TestEventListener implements EventListener<TestEvent> {
+
+        @Override
+        public void onEvent(TestEvent event) {
+        }
+    }
+}
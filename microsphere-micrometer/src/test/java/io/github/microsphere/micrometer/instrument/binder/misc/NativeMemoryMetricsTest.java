@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.microsphere.micrometer.instrument.binder.misc;
+
+import io.github.microsphere.micrometer.instrument.binder.AbstractMetricsTest;
+import io.github.microsphere.misc.NativeBuffer;
+import io.github.microsphere.misc.NativeMemory;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * {@link NativeMemoryMetrics} Test
+ *
+ * @since 1.0.0
+ */
+public class NativeMemoryMetricsTest extends AbstractMetricsTest<NativeMemoryMetrics> {
+
+    @Test
+    public void test() {
+        double usedBytes = registry.get("native.memory.used").gauge().value();
+        double allocations = registry.get("native.memory.allocations").functionCounter().count();
+        try (NativeBuffer buffer = NativeMemory.allocate(1024)) {
+            assertEquals(usedBytes + 1024, registry.get("native.memory.used").gauge().value(), 0d);
+            assertEquals(allocations + 1, registry.get("native.memory.allocations").functionCounter().count(), 0d);
+        }
+        assertEquals(usedBytes, registry.get("native.memory.used").gauge().value(), 0d);
+        assertEquals(0d, registry.get("native.memory.leaks").functionCounter().count(), 0d);
+    }
+}